@@ -0,0 +1,386 @@
+package org.schabi.newpipe.extractor;
+
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.channel.ChannelExtractor;
+import org.schabi.newpipe.extractor.comments.CommentsExtractor;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.kiosk.KioskExtractor;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.localization.ContentCountry;
+import org.schabi.newpipe.extractor.localization.Localization;
+import org.schabi.newpipe.extractor.playlist.PlaylistExtractor;
+import org.schabi.newpipe.extractor.search.SearchExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static org.schabi.newpipe.extractor.utils.Utils.UTF_8;
+
+/**
+ * A self-describing position in a list, used to resume the crawl of a list, possibly on another
+ * machine, without fetching its previous pages again.
+ *
+ * <p>
+ * Unlike a {@link Page}, a cursor contains everything needed to create the extractor of the
+ * list: the service, the type of the list, its link handler with its content and sort filters,
+ * and the localization and content country of the extractor. It also contains the number of
+ * items already crawled.
+ * </p>
+ *
+ * <p>
+ * Cursors are immutable and {@link Serializable serializable}. They can also be serialized into
+ * a compact binary form with {@link #toByteArray()} and read with {@link #fromByteArray(byte[])}.
+ * </p>
+ *
+ * @see StreamingService#getListExtractor(CrawlCursor)
+ * @see StreamingService#resume(CrawlCursor)
+ */
+public final class CrawlCursor implements Serializable {
+
+    /**
+     * The version of the binary form of cursors, written before their content.
+     */
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * The types of list which can be crawled with a cursor.
+     */
+    public enum ListType {
+        CHANNEL,
+        PLAYLIST,
+        COMMENTS,
+        SEARCH,
+        KIOSK
+    }
+
+    private final int serviceId;
+    @Nonnull
+    private final ListType listType;
+    @Nonnull
+    private final ListLinkHandler linkHandler;
+    @Nonnull
+    private final Localization localization;
+    @Nonnull
+    private final ContentCountry contentCountry;
+    @Nullable
+    private final Page nextPage;
+    private final long itemCount;
+
+    public CrawlCursor(final int serviceId,
+                       @Nonnull final ListType listType,
+                       @Nonnull final ListLinkHandler linkHandler,
+                       @Nonnull final Localization localization,
+                       @Nonnull final ContentCountry contentCountry,
+                       @Nullable final Page nextPage,
+                       final long itemCount) {
+        this.serviceId = serviceId;
+        this.listType = listType;
+        this.linkHandler = linkHandler;
+        this.localization = localization;
+        this.contentCountry = contentCountry;
+        this.nextPage = nextPage;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Create a cursor pointing to a page of the list of an extractor.
+     *
+     * @param extractor the extractor of the list
+     * @param nextPage  the next page to fetch, or {@code null} if the list has been crawled
+     *                  entirely
+     * @param itemCount the number of items already crawled
+     * @return a cursor pointing to the given page
+     * @throws IllegalArgumentException if the type of the extractor is not supported
+     */
+    @Nonnull
+    public static CrawlCursor of(@Nonnull final ListExtractor<?> extractor,
+                                 @Nullable final Page nextPage,
+                                 final long itemCount) {
+        final ListType listType;
+        if (extractor instanceof ChannelExtractor) {
+            listType = ListType.CHANNEL;
+        } else if (extractor instanceof PlaylistExtractor) {
+            listType = ListType.PLAYLIST;
+        } else if (extractor instanceof CommentsExtractor) {
+            listType = ListType.COMMENTS;
+        } else if (extractor instanceof SearchExtractor) {
+            listType = ListType.SEARCH;
+        } else if (extractor instanceof KioskExtractor) {
+            listType = ListType.KIOSK;
+        } else {
+            throw new IllegalArgumentException("Unsupported list extractor: "
+                    + extractor.getClass().getName());
+        }
+
+        return new CrawlCursor(extractor.getServiceId(), listType, extractor.getLinkHandler(),
+                extractor.getExtractorLocalization(), extractor.getExtractorContentCountry(),
+                nextPage, itemCount);
+    }
+
+    /**
+     * Get the cursor pointing to the next page of a page fetched with this cursor.
+     *
+     * @param page the page fetched with this cursor
+     * @return a cursor pointing to the next page of the given page, which counts its items
+     */
+    @Nonnull
+    public CrawlCursor advance(@Nonnull final InfoItemsPage<?> page) {
+        return new CrawlCursor(serviceId, listType, linkHandler, localization, contentCountry,
+                page.hasNextPage() ? page.getNextPage() : null,
+                itemCount + page.getItems().size());
+    }
+
+    public int getServiceId() {
+        return serviceId;
+    }
+
+    @Nonnull
+    public ListType getListType() {
+        return listType;
+    }
+
+    @Nonnull
+    public ListLinkHandler getLinkHandler() {
+        return linkHandler;
+    }
+
+    @Nonnull
+    public Localization getLocalization() {
+        return localization;
+    }
+
+    @Nonnull
+    public ContentCountry getContentCountry() {
+        return contentCountry;
+    }
+
+    /**
+     * @return the next page to fetch, or {@code null} if the list has been crawled entirely
+     */
+    @Nullable
+    public Page getNextPage() {
+        return nextPage;
+    }
+
+    /**
+     * @return whether there is a page to fetch with this cursor
+     */
+    public boolean hasNextPage() {
+        return Page.isValid(nextPage);
+    }
+
+    /**
+     * @return the number of items crawled before the {@link #getNextPage() next page}
+     */
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    /*//////////////////////////////////////////////////////////////////////////
+    // Binary form
+    //////////////////////////////////////////////////////////////////////////*/
+
+    /**
+     * Serialize this cursor into a compact binary form, which doesn't depend on the class
+     * structure like Java serialization does.
+     *
+     * @return the binary form of this cursor
+     */
+    @Nonnull
+    public byte[] toByteArray() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(serviceId);
+            writeString(out, listType.name());
+
+            writeString(out, linkHandler.getOriginalUrl());
+            writeString(out, linkHandler.getUrl());
+            writeString(out, linkHandler.getId());
+            writeStrings(out, linkHandler.getContentFilters());
+            writeString(out, linkHandler.getSortFilter());
+
+            writeString(out, localization.getLanguageCode());
+            writeString(out, localization.getCountryCode());
+            writeString(out, contentCountry.getCountryCode());
+
+            out.writeBoolean(nextPage != null);
+            if (nextPage != null) {
+                writeString(out, nextPage.getUrl());
+                writeString(out, nextPage.getId());
+                writeStrings(out, nextPage.getIds());
+                writeCookies(out, nextPage.getCookies());
+                writeBytes(out, nextPage.getBody());
+            }
+
+            out.writeLong(itemCount);
+        } catch (final IOException e) {
+            // Not thrown when writing into a byte array
+            throw new IllegalStateException("Could not write cursor", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read a cursor serialized with {@link #toByteArray()}.
+     *
+     * @param bytes the binary form of the cursor
+     * @return the cursor
+     * @throws ParsingException if the bytes are not a valid cursor
+     */
+    @Nonnull
+    public static CrawlCursor fromByteArray(@Nonnull final byte[] bytes)
+            throws ParsingException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new ParsingException("Unsupported cursor format version: " + version);
+            }
+            final int serviceId = in.readInt();
+            final ListType listType = ListType.valueOf(readRequiredString(in, "list type"));
+
+            final String originalUrl = readString(in);
+            final String url = readRequiredString(in, "URL");
+            final String id = readString(in);
+            final List<String> contentFilters = readStrings(in);
+            final String sortFilter = readString(in);
+            final ListLinkHandler linkHandler = new ListLinkHandler(originalUrl, url, id,
+                    contentFilters == null ? Collections.emptyList() : contentFilters,
+                    sortFilter);
+
+            final String languageCode = readRequiredString(in, "language code");
+            final String countryCode = readString(in);
+            final Localization localization = new Localization(languageCode,
+                    countryCode == null || countryCode.isEmpty() ? null : countryCode);
+            final ContentCountry contentCountry =
+                    new ContentCountry(readRequiredString(in, "content country"));
+
+            Page nextPage = null;
+            if (in.readBoolean()) {
+                nextPage = new Page(readString(in), readString(in), readStrings(in),
+                        readCookies(in), readBytes(in));
+            }
+
+            return new CrawlCursor(serviceId, listType, linkHandler, localization,
+                    contentCountry, nextPage, in.readLong());
+        } catch (final IOException | IllegalArgumentException e) {
+            throw new ParsingException("Could not read cursor", e);
+        }
+    }
+
+    private static void writeString(@Nonnull final DataOutputStream out,
+                                    @Nullable final String string) throws IOException {
+        writeBytes(out, string == null ? null : string.getBytes(UTF_8));
+    }
+
+    @Nullable
+    private static String readString(@Nonnull final DataInputStream in) throws IOException {
+        final byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+
+    @Nonnull
+    private static String readRequiredString(@Nonnull final DataInputStream in,
+                                             @Nonnull final String name)
+            throws IOException, ParsingException {
+        final String string = readString(in);
+        if (string == null) {
+            throw new ParsingException("Cursor without " + name);
+        }
+        return string;
+    }
+
+    private static void writeBytes(@Nonnull final DataOutputStream out,
+                                   @Nullable final byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Nullable
+    private static byte[] readBytes(@Nonnull final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        } else if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid length: " + length);
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeStrings(@Nonnull final DataOutputStream out,
+                                     @Nullable final List<String> strings) throws IOException {
+        if (strings == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(strings.size());
+        for (final String string : strings) {
+            writeString(out, string);
+        }
+    }
+
+    @Nullable
+    private static List<String> readStrings(@Nonnull final DataInputStream in)
+            throws IOException {
+        final int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        } else if (size < 0 || size > in.available()) {
+            throw new IOException("Invalid size: " + size);
+        }
+        final List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(readString(in));
+        }
+        return strings;
+    }
+
+    private static void writeCookies(@Nonnull final DataOutputStream out,
+                                     @Nullable final Map<String, String> cookies)
+            throws IOException {
+        if (cookies == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(cookies.size());
+        for (final Map.Entry<String, String> cookie : cookies.entrySet()) {
+            writeString(out, cookie.getKey());
+            writeString(out, cookie.getValue());
+        }
+    }
+
+    @Nullable
+    private static Map<String, String> readCookies(@Nonnull final DataInputStream in)
+            throws IOException {
+        final int size = in.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        } else if (size < 0 || size > in.available()) {
+            throw new IOException("Invalid size: " + size);
+        }
+        final Map<String, String> cookies = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            cookies.put(readString(in), readString(in));
+        }
+        return cookies;
+    }
+}
@@ -12,6 +12,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.util.Objects;
 
 public abstract class Extractor {
@@ -151,4 +152,14 @@ public abstract class Extractor {
     public TimeAgoParser getTimeAgoParser() {
         return getService().getTimeAgoParser(getExtractorLocalization());
     }
+
+    /**
+     * @param clock the clock giving the time the parsed dates are relative to
+     * @return a time ago parser for the localization of this extractor
+     * @see StreamingService#getTimeAgoParser(Localization, Clock)
+     */
+    @Nonnull
+    public TimeAgoParser getTimeAgoParser(@Nonnull final Clock clock) {
+        return getService().getTimeAgoParser(getExtractorLocalization(), clock);
+    }
 }
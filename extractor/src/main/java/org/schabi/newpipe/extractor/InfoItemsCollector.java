@@ -3,11 +3,14 @@ package org.schabi.newpipe.extractor;
 import org.schabi.newpipe.extractor.exceptions.FoundAdException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /*
  * Created by Christian Schabesberger on 12.02.17.
@@ -32,11 +35,31 @@ import java.util.List;
 public abstract class InfoItemsCollector<I extends InfoItem, E extends InfoItemExtractor>
         implements Collector<I, E> {
 
+    /**
+     * The number of extractors below which {@link #commitAll(List, ForkJoinPool)} commits items
+     * serially, which is also the maximum number of items committed by a single fork/join task.
+     */
+    public static final int PARALLEL_COMMIT_THRESHOLD = 8;
+
+    /**
+     * Constant used as the maximum number of items of collectors which don't have one.
+     */
+    public static final int NO_MAX_ITEMS = -1;
+
+    /**
+     * The items and errors of the item being committed by the current thread during a parallel
+     * batch commit, or {@code null} when the current thread is not committing an item of a batch.
+     */
+    private static final ThreadLocal<CommitBuffer> COMMIT_BUFFER = new ThreadLocal<>();
+
     private final List<I> itemList = new ArrayList<>();
     private final List<Throwable> errors = new ArrayList<>();
     private final int serviceId;
     @Nullable
     private final Comparator<I> comparator;
+    private int maxItems = NO_MAX_ITEMS;
+    @Nullable
+    private ForkJoinPool commitPool;
 
     /**
      * Create a new collector with no comparator / sorting function
@@ -79,7 +102,12 @@ public abstract class InfoItemsCollector<I extends InfoItem, E extends InfoItemE
      * @param error the error
      */
     protected void addError(final Exception error) {
-        errors.add(error);
+        final CommitBuffer buffer = COMMIT_BUFFER.get();
+        if (buffer != null && buffer.collector == this) {
+            buffer.errors.add(error);
+        } else {
+            errors.add(error);
+        }
     }
 
     /**
@@ -87,7 +115,12 @@ public abstract class InfoItemsCollector<I extends InfoItem, E extends InfoItemE
      * @param item the item
      */
     protected void addItem(final I item) {
-        itemList.add(item);
+        final CommitBuffer buffer = COMMIT_BUFFER.get();
+        if (buffer != null && buffer.collector == this) {
+            buffer.items.add(item);
+        } else {
+            itemList.add(item);
+        }
     }
 
     /**
@@ -98,8 +131,62 @@ public abstract class InfoItemsCollector<I extends InfoItem, E extends InfoItemE
         return serviceId;
     }
 
+    /**
+     * Set the maximum number of items of this collector.
+     *
+     * <p>
+     * Once this number of items has been collected, extractors {@link #commit(InfoItemExtractor)
+     * committed} are ignored, without extracting their item.
+     * </p>
+     *
+     * @param maxItems the maximum number of items, or {@link #NO_MAX_ITEMS}
+     */
+    public void setMaxItems(final int maxItems) {
+        if (maxItems < 0 && maxItems != NO_MAX_ITEMS) {
+            throw new IllegalArgumentException("Invalid maximum number of items: " + maxItems);
+        }
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * @return the maximum number of items of this collector, or {@link #NO_MAX_ITEMS}
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * @return whether the {@link #getMaxItems() maximum number of items} of this collector has
+     * been reached, in which case extractors committed are ignored
+     */
+    public boolean isFull() {
+        return maxItems != NO_MAX_ITEMS && itemList.size() >= maxItems;
+    }
+
+    /**
+     * Set the fork/join pool on which {@link #commitAll(List)} extracts items in parallel.
+     *
+     * @param commitPool the pool to use, or {@code null} to commit items serially on the
+     *                   calling thread, which is the default
+     */
+    public void setCommitPool(@Nullable final ForkJoinPool commitPool) {
+        this.commitPool = commitPool;
+    }
+
+    /**
+     * @return the fork/join pool on which {@link #commitAll(List)} extracts items in parallel,
+     * or {@code null} if items are committed serially
+     */
+    @Nullable
+    public ForkJoinPool getCommitPool() {
+        return commitPool;
+    }
+
     @Override
     public void commit(final E extractor) {
+        if (isFull()) {
+            return;
+        }
         try {
             addItem(extract(extractor));
         } catch (final FoundAdException ae) {
@@ -108,4 +195,117 @@ public abstract class InfoItemsCollector<I extends InfoItem, E extends InfoItemE
             addError(e);
         }
     }
+
+    /**
+     * Commit several extractors, extracting their items in parallel on the
+     * {@link #getCommitPool() commit pool} if one was set, or serially otherwise.
+     *
+     * @param extractors the extractors to commit
+     * @see #commitAll(List, ForkJoinPool)
+     */
+    public void commitAll(@Nonnull final List<? extends E> extractors) {
+        if (commitPool == null) {
+            extractors.forEach(this::commit);
+        } else {
+            commitAll(extractors, commitPool);
+        }
+    }
+
+    /**
+     * Commit several extractors, extracting their items in parallel on a fork/join pool.
+     *
+     * <p>
+     * The result is the same as {@link #commit(InfoItemExtractor) committing} each extractor one
+     * after the other: items and errors are added in the order of the extractors, ads are
+     * skipped and extraction errors are collected. Items are only added once all of them have
+     * been extracted, by the calling thread, so the collector must not be used by other threads
+     * during the call. The item extractors must not share state which is not thread-safe.
+     * </p>
+     *
+     * <p>
+     * Lists with less than {@link #PARALLEL_COMMIT_THRESHOLD} extractors and lists committed to
+     * collectors with a {@link #getMaxItems() maximum number of items} are committed serially on
+     * the calling thread, so that no more items than needed are extracted.
+     * </p>
+     *
+     * @param extractors the extractors to commit
+     * @param pool       the fork/join pool on which items are extracted
+     */
+    public void commitAll(@Nonnull final List<? extends E> extractors,
+                          @Nonnull final ForkJoinPool pool) {
+        if (extractors.size() < PARALLEL_COMMIT_THRESHOLD || maxItems != NO_MAX_ITEMS) {
+            extractors.forEach(this::commit);
+            return;
+        }
+
+        final List<CommitBuffer> buffers = new ArrayList<>(extractors.size());
+        for (int i = 0; i < extractors.size(); i++) {
+            buffers.add(new CommitBuffer(this));
+        }
+        pool.invoke(new CommitTask(extractors, buffers, 0, extractors.size()));
+
+        for (final CommitBuffer buffer : buffers) {
+            buffer.errors.forEach(this::addError);
+            for (final InfoItem item : buffer.items) {
+                // Only items of this collector are added to its buffers
+                @SuppressWarnings("unchecked") final I collectedItem = (I) item;
+                addItem(collectedItem);
+            }
+        }
+    }
+
+    /**
+     * Commit an extractor of a batch, buffering the item and the errors it adds to this
+     * collector.
+     */
+    private void commitToBuffer(@Nonnull final E extractor, @Nonnull final CommitBuffer buffer) {
+        final CommitBuffer previousBuffer = COMMIT_BUFFER.get();
+        COMMIT_BUFFER.set(buffer);
+        try {
+            commit(extractor);
+        } finally {
+            COMMIT_BUFFER.set(previousBuffer);
+        }
+    }
+
+    private static final class CommitBuffer {
+        private final InfoItemsCollector<?, ?> collector;
+        private final List<InfoItem> items = new ArrayList<>(1);
+        private final List<Exception> errors = new ArrayList<>(0);
+
+        private CommitBuffer(final InfoItemsCollector<?, ?> collector) {
+            this.collector = collector;
+        }
+    }
+
+    private final class CommitTask extends RecursiveAction {
+        private final List<? extends E> extractors;
+        private final List<CommitBuffer> buffers;
+        private final int start;
+        private final int end;
+
+        private CommitTask(final List<? extends E> extractors,
+                           final List<CommitBuffer> buffers,
+                           final int start,
+                           final int end) {
+            this.extractors = extractors;
+            this.buffers = buffers;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= PARALLEL_COMMIT_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    commitToBuffer(extractors.get(i), buffers.get(i));
+                }
+                return;
+            }
+
+            final int middle = (start + end) >>> 1;
+            invokeAll(new CommitTask(extractors, buffers, start, middle),
+                    new CommitTask(extractors, buffers, middle, end));
+        }
+    }
 }
@@ -6,8 +6,10 @@ import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 
 /**
@@ -31,6 +33,10 @@ public abstract class ListExtractor<R extends InfoItem> extends Extractor {
      */
     public static final long ITEM_COUNT_MORE_THAN_100 = -3;
 
+    private int maxItems = InfoItemsCollector.NO_MAX_ITEMS;
+    @Nullable
+    private ForkJoinPool commitPool;
+
     public ListExtractor(final StreamingService service, final ListLinkHandler linkHandler) {
         super(service, linkHandler);
     }
@@ -59,6 +65,60 @@ public abstract class ListExtractor<R extends InfoItem> extends Extractor {
         return (ListLinkHandler) super.getLinkHandler();
     }
 
+    /**
+     * Set the maximum number of items needed from the {@link #getInitialPage() initial page},
+     * e.g. to display a preview of the list.
+     *
+     * <p>
+     * This is a hint: extractors which support it stop extracting items once this number has
+     * been reached and return no next page in this case. Lists built with
+     * {@link org.schabi.newpipe.extractor.utils.ExtractorHelper#getItemsPageOrLogError(Info,
+     * ListExtractor)} never contain more items, even if the extractor doesn't support this hint.
+     * </p>
+     *
+     * @param maxItems the maximum number of items, or {@link InfoItemsCollector#NO_MAX_ITEMS}
+     */
+    public void setMaxItems(final int maxItems) {
+        if (maxItems < 0 && maxItems != InfoItemsCollector.NO_MAX_ITEMS) {
+            throw new IllegalArgumentException("Invalid maximum number of items: " + maxItems);
+        }
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * @return the maximum number of items needed from the initial page, or
+     * {@link InfoItemsCollector#NO_MAX_ITEMS}
+     * @see #setMaxItems(int)
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Set the fork/join pool on which items of large pages are extracted in parallel.
+     *
+     * <p>
+     * This is a hint: extractors which support it give this pool to their collectors, see
+     * {@link InfoItemsCollector#setCommitPool(ForkJoinPool)}. Items are extracted serially on
+     * the calling thread by default.
+     * </p>
+     *
+     * @param commitPool the pool to use, or {@code null} to extract items serially
+     */
+    public void setCommitPool(@Nullable final ForkJoinPool commitPool) {
+        this.commitPool = commitPool;
+    }
+
+    /**
+     * @return the fork/join pool on which items of large pages are extracted in parallel, or
+     * {@code null} if they are extracted serially
+     * @see #setCommitPool(ForkJoinPool)
+     */
+    @Nullable
+    public ForkJoinPool getCommitPool() {
+        return commitPool;
+    }
+
     /*//////////////////////////////////////////////////////////////////////////
     // Inner
     //////////////////////////////////////////////////////////////////////////*/
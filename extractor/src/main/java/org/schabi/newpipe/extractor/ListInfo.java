@@ -1,8 +1,24 @@
 package org.schabi.newpipe.extractor;
 
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+import org.schabi.newpipe.extractor.exceptions.UncheckedExtractionException;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public abstract class ListInfo<T extends InfoItem> extends Info {
     private List<T> relatedItems;
@@ -57,4 +73,101 @@ public abstract class ListInfo<T extends InfoItem> extends Info {
     public String getSortFilter() {
         return sortFilter;
     }
+
+    /**
+     * Get a sequential {@link Stream} over the items of all the pages of a list extractor,
+     * starting at its initial page.
+     *
+     * <p>
+     * Pages are fetched lazily, one after the other, when the items of the previous page have
+     * been consumed, using the given extractor only. Only the page being consumed is kept in
+     * memory, and no page is fetched anymore once the stream has been short-circuited, e.g. with
+     * {@link Stream#limit(long)} or {@link Stream#takeWhile(java.util.function.Predicate)}. If
+     * the extractor has not been fetched yet, it is fetched when the first item is requested.
+     * </p>
+     *
+     * <p>
+     * Exceptions thrown while fetching pages are wrapped into {@link UncheckedIOException}s and
+     * {@link UncheckedExtractionException}s, and end the stream.
+     * </p>
+     *
+     * @param extractor     the list extractor whose items are streamed, which must not be used
+     *                      by other threads while the stream is consumed
+     * @param limit         the maximum number of items of the stream, or a negative value to
+     *                      stream all items
+     * @param errorConsumer the consumer receiving the errors which happened while extracting
+     *                      the items of pages, as returned by {@link InfoItemsPage#getErrors()},
+     *                      or {@code null} to ignore them
+     * @return an ordered stream over the items of the list
+     */
+    @Nonnull
+    public static <T extends InfoItem> Stream<T> streamAllItems(
+            @Nonnull final ListExtractor<T> extractor,
+            final long limit,
+            @Nullable final Consumer<Throwable> errorConsumer) {
+        final Iterator<T> items = new Iterator<T>() {
+            private Iterator<T> currentPageItems = Collections.emptyIterator();
+            @Nullable
+            private Page nextPage = null;
+            private boolean started = false;
+
+            @Override
+            public boolean hasNext() {
+                while (!currentPageItems.hasNext()) {
+                    if (started && !Page.isValid(nextPage)) {
+                        return false;
+                    }
+                    final InfoItemsPage<T> page;
+                    try {
+                        if (started) {
+                            page = extractor.getPage(nextPage);
+                        } else {
+                            extractor.fetchPage();
+                            page = extractor.getInitialPage();
+                            started = true;
+                        }
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (final ExtractionException e) {
+                        throw new UncheckedExtractionException(e);
+                    }
+
+                    if (errorConsumer != null) {
+                        page.getErrors().forEach(errorConsumer);
+                    }
+                    nextPage = page.getNextPage();
+                    currentPageItems = page.getItems().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return currentPageItems.next();
+            }
+        };
+
+        final Stream<T> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(items,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+        return limit < 0 ? stream : stream.limit(limit);
+    }
+
+    /**
+     * Same as {@link #streamAllItems(ListExtractor, long, Consumer)}, ignoring the errors which
+     * happened while extracting items.
+     *
+     * @param extractor the list extractor whose items are streamed
+     * @param limit     the maximum number of items of the stream, or a negative value to stream
+     *                  all items
+     * @return an ordered stream over the items of the list
+     */
+    @Nonnull
+    public static <T extends InfoItem> Stream<T> streamAllItems(
+            @Nonnull final ListExtractor<T> extractor,
+            final long limit) {
+        return streamAllItems(extractor, limit, null);
+    }
 }
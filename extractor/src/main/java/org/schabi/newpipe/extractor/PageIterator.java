@@ -0,0 +1,319 @@
+package org.schabi.newpipe.extractor;
+
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+import org.schabi.newpipe.extractor.exceptions.UncheckedExtractionException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over the pages of a {@link ListExtractor}, fetching the next pages in the background
+ * while the current one is consumed.
+ *
+ * <p>
+ * As the {@link Page} of a page is only known once the previous page has been fetched, pages are
+ * fetched one after the other, on a single background task. At most {@code lookahead} pages are
+ * fetched before being returned by {@link #nextPage()}: the background task waits for pages to be
+ * consumed before fetching further ones.
+ * </p>
+ *
+ * <p>
+ * The {@link ListExtractor} must not be used by other threads while it is iterated. When the
+ * iteration starts at the initial page, the extractor is fetched by the background task before
+ * getting this page. When it starts at a given page, the extractor is not fetched: pages are only
+ * got with {@link ListExtractor#getPage(Page)}.
+ * </p>
+ *
+ * <p>
+ * Iterators must be {@link #close() closed} if they are not consumed until the end, in order to
+ * stop the background task. They can be closed from any thread, including while another thread is
+ * waiting for a page in {@link #nextPage()}.
+ * </p>
+ *
+ * @param <R> the info item type of the list extractor
+ */
+public final class PageIterator<R extends InfoItem> implements Closeable {
+
+    /**
+     * The number of pages fetched ahead when no lookahead is given.
+     */
+    public static final int DEFAULT_LOOKAHEAD = 1;
+
+    @Nonnull
+    private final ListExtractor<R> extractor;
+    @Nullable
+    private final Page startPage;
+    private final BlockingQueue<FetchResult<R>> fetchedPages = new LinkedBlockingQueue<>();
+    private final Semaphore lookaheadPermits;
+    @Nullable
+    private final Executor executor;
+    private final List<Throwable> itemErrors = new ArrayList<>();
+
+    private volatile boolean closed;
+    private boolean started;
+    private boolean hasNextPage = true;
+
+    /**
+     * Create an iterator over all the pages of a list extractor, starting at its initial page,
+     * with a lookahead of {@link #DEFAULT_LOOKAHEAD} page.
+     *
+     * <p>
+     * The background task is run on a new daemon thread.
+     * </p>
+     *
+     * @param extractor the list extractor to iterate over
+     */
+    public PageIterator(@Nonnull final ListExtractor<R> extractor) {
+        this(extractor, null, DEFAULT_LOOKAHEAD, null);
+    }
+
+    /**
+     * Create an iterator over the pages of a list extractor.
+     *
+     * @param extractor the list extractor to iterate over
+     * @param startPage the first page to fetch with {@link ListExtractor#getPage(Page)}, or
+     *                  {@code null} to start at {@link ListExtractor#getInitialPage()}
+     * @param lookahead the maximum number of pages fetched ahead of the ones consumed, which
+     *                  must be greater than 0
+     * @param executor  the {@link Executor} on which the background task is run, or {@code null}
+     *                  to run it on a new daemon thread
+     */
+    public PageIterator(@Nonnull final ListExtractor<R> extractor,
+                        @Nullable final Page startPage,
+                        final int lookahead,
+                        @Nullable final Executor executor) {
+        if (lookahead <= 0) {
+            throw new IllegalArgumentException("lookahead must be greater than 0: " + lookahead);
+        }
+        this.extractor = extractor;
+        this.startPage = startPage;
+        this.lookaheadPermits = new Semaphore(lookahead);
+        this.executor = executor;
+    }
+
+    /**
+     * @return whether there is a next page, i.e. whether no page has been returned yet or the
+     * last page returned has a next page
+     */
+    public boolean hasNextPage() {
+        return hasNextPage && !closed;
+    }
+
+    /**
+     * Get the next page, waiting for it to be fetched if needed.
+     *
+     * <p>
+     * The errors which happened while extracting items of the page are available with
+     * {@link InfoItemsPage#getErrors()}. If fetching the page failed, the exception thrown by the
+     * extractor is thrown and the iteration ends.
+     * </p>
+     *
+     * @return the next page
+     * @throws NoSuchElementException if there is no next page
+     * @throws CancellationException  if the iterator is {@link #close() closed} while waiting for
+     *                                the page
+     */
+    @Nonnull
+    public InfoItemsPage<R> nextPage() throws IOException, ExtractionException {
+        if (!hasNextPage()) {
+            throw new NoSuchElementException("No next page");
+        }
+        if (!started) {
+            // Only mark the task as started once it has been, so that it is started again by the
+            // next call if the executor rejected it
+            startFetching();
+            started = true;
+        }
+
+        final FetchResult<R> result;
+        try {
+            result = fetchedPages.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next page");
+        }
+        if (closed) {
+            hasNextPage = false;
+            throw new CancellationException("The iterator was closed");
+        }
+        lookaheadPermits.release();
+
+        if (result.page == null) {
+            hasNextPage = false;
+            if (result.exception instanceof IOException) {
+                throw (IOException) result.exception;
+            } else if (result.exception instanceof ExtractionException) {
+                throw (ExtractionException) result.exception;
+            } else if (result.exception instanceof RuntimeException) {
+                throw (RuntimeException) result.exception;
+            } else if (result.exception instanceof Error) {
+                throw (Error) result.exception;
+            }
+            throw new ExtractionException(result.exception);
+        }
+
+        hasNextPage = result.page.hasNextPage();
+        return result.page;
+    }
+
+    /**
+     * Get a {@link Spliterator} over the items of the pages not consumed yet.
+     *
+     * <p>
+     * The errors of the pages consumed by the spliterator are added to {@link #getItemErrors()}.
+     * Exceptions thrown while fetching pages are wrapped into {@link UncheckedIOException}s and
+     * {@link UncheckedExtractionException}s.
+     * </p>
+     *
+     * @return an ordered spliterator over the items of the remaining pages
+     */
+    @Nonnull
+    public Spliterator<R> itemSpliterator() {
+        final Iterator<R> items = new Iterator<R>() {
+            private Iterator<R> currentPageItems = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!currentPageItems.hasNext()) {
+                    if (!hasNextPage()) {
+                        return false;
+                    }
+                    final InfoItemsPage<R> page;
+                    try {
+                        page = nextPage();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (final ExtractionException e) {
+                        throw new UncheckedExtractionException(e);
+                    }
+                    itemErrors.addAll(page.getErrors());
+                    currentPageItems = page.getItems().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return currentPageItems.next();
+            }
+        };
+        return Spliterators.spliteratorUnknownSize(items,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return the errors of the pages whose items have been consumed with
+     * {@link #itemSpliterator()}
+     */
+    @Nonnull
+    public List<Throwable> getItemErrors() {
+        return itemErrors;
+    }
+
+    /**
+     * Stop fetching pages in the background. Pages already fetched are discarded, and a thread
+     * waiting for a page in {@link #nextPage()} gets a {@link CancellationException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Wake up the background task if it is waiting for pages to be consumed
+        lookaheadPermits.release();
+        fetchedPages.clear();
+        // Wake up the consumer if it is waiting for a page, as the background task does not add
+        // pages anymore
+        fetchedPages.add(new FetchResult<>(null, null));
+    }
+
+    private void startFetching() {
+        final Runnable task = this::fetchPages;
+        if (executor == null) {
+            final Thread thread = new Thread(task, "PageIterator-"
+                    + extractor.getService().getServiceInfo().getName());
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    private void fetchPages() {
+        // Whether the last page has been queued, after which the consumer doesn't wait for
+        // another result
+        boolean lastPageQueued = false;
+        Throwable failure = null;
+        try {
+            Page nextPage = startPage;
+            boolean first = true;
+            while (!closed) {
+                lookaheadPermits.acquire();
+                if (closed) {
+                    return;
+                }
+
+                final InfoItemsPage<R> page;
+                if (first && nextPage == null) {
+                    extractor.fetchPage();
+                    page = extractor.getInitialPage();
+                } else {
+                    page = extractor.getPage(nextPage);
+                }
+                first = false;
+
+                if (closed) {
+                    return;
+                }
+                fetchedPages.add(new FetchResult<>(page, null));
+                if (!page.hasNextPage()) {
+                    lastPageQueued = true;
+                    return;
+                }
+                nextPage = page.getNextPage();
+            }
+        } catch (final Throwable e) {
+            failure = e;
+        } finally {
+            // Always end the iteration of the consumer when the task stops before the last page,
+            // otherwise it would wait forever for the next page; close() already does it when
+            // the iterator is closed
+            if (!lastPageQueued && !closed) {
+                fetchedPages.add(new FetchResult<>(null, failure != null ? failure
+                        : new IllegalStateException("Pages are not fetched anymore")));
+            }
+        }
+    }
+
+    private static final class FetchResult<R extends InfoItem> {
+        @Nullable
+        private final InfoItemsPage<R> page;
+        @Nullable
+        private final Throwable exception;
+
+        private FetchResult(@Nullable final InfoItemsPage<R> page,
+                            @Nullable final Throwable exception) {
+            this.page = page;
+            this.exception = exception;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.schabi.newpipe.extractor.comments.CommentsExtractor;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.feed.FeedExtractor;
+import org.schabi.newpipe.extractor.kiosk.KioskExtractor;
 import org.schabi.newpipe.extractor.kiosk.KioskList;
 import org.schabi.newpipe.extractor.linkhandler.LinkHandler;
 import org.schabi.newpipe.extractor.linkhandler.LinkHandlerFactory;
@@ -24,6 +25,8 @@ import org.schabi.newpipe.extractor.suggestion.SuggestionExtractor;
 import org.schabi.newpipe.extractor.utils.Utils;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 
@@ -278,6 +281,86 @@ public abstract class StreamingService {
         return getCommentsExtractor(listLinkHandlerFactory.fromUrl(url));
     }
 
+    /*//////////////////////////////////////////////////////////////////////////
+    // Crawl cursors
+    //////////////////////////////////////////////////////////////////////////*/
+
+    /**
+     * Create the extractor of the list a {@link CrawlCursor} points to, with the localization and
+     * the content country of the cursor.
+     *
+     * <p>
+     * The extractor is not fetched: use {@link #resume(CrawlCursor)} to get the next page of the
+     * cursor directly.
+     * </p>
+     *
+     * @param cursor a cursor created with an extractor of this service
+     * @return a new extractor of the list of the cursor
+     * @throws ExtractionException if the cursor belongs to another service or if this service
+     *                             doesn't support the type of its list
+     */
+    public ListExtractor<? extends InfoItem> getListExtractor(final CrawlCursor cursor)
+            throws ExtractionException, IOException {
+        if (cursor.getServiceId() != serviceId) {
+            throw new ExtractionException("Cursor of service " + cursor.getServiceId()
+                    + " used with service " + serviceId);
+        }
+
+        final ListLinkHandler linkHandler = cursor.getLinkHandler();
+        final ListExtractor<? extends InfoItem> extractor;
+        switch (cursor.getListType()) {
+            case CHANNEL:
+                extractor = getChannelExtractor(linkHandler);
+                break;
+            case PLAYLIST:
+                extractor = getPlaylistExtractor(linkHandler);
+                break;
+            case COMMENTS:
+                extractor = getCommentsExtractor(linkHandler);
+                break;
+            case SEARCH:
+                extractor = getSearchExtractor(new SearchQueryHandler(linkHandler));
+                break;
+            case KIOSK:
+                final KioskExtractor<?> kioskExtractor = getKioskList().getExtractorByUrl(
+                        linkHandler.getUrl(), cursor.getNextPage(), cursor.getLocalization());
+                extractor = kioskExtractor;
+                break;
+            default:
+                extractor = null;
+                break;
+        }
+        if (extractor == null) {
+            throw new ExtractionException("Lists of type " + cursor.getListType()
+                    + " are not supported by service " + serviceId);
+        }
+
+        extractor.forceLocalization(cursor.getLocalization());
+        extractor.forceContentCountry(cursor.getContentCountry());
+        return extractor;
+    }
+
+    /**
+     * Get the page a {@link CrawlCursor} points to, without fetching the previous pages of its
+     * list.
+     *
+     * <p>
+     * Use {@link CrawlCursor#advance(ListExtractor.InfoItemsPage)} with the returned page to get
+     * the cursor of the following page.
+     * </p>
+     *
+     * @param cursor a cursor created with an extractor of this service, which
+     *               {@link CrawlCursor#hasNextPage() has a next page}
+     * @return the next page of the cursor
+     */
+    public ListExtractor.InfoItemsPage<? extends InfoItem> resume(final CrawlCursor cursor)
+            throws ExtractionException, IOException {
+        if (!cursor.hasNextPage()) {
+            throw new IllegalArgumentException("Cursor has no next page");
+        }
+        return getListExtractor(cursor).getPage(cursor.getNextPage());
+    }
+
     /*//////////////////////////////////////////////////////////////////////////
     // Utils
     //////////////////////////////////////////////////////////////////////////*/
@@ -380,7 +463,24 @@ public abstract class StreamingService {
      *                                  not present).
      */
     public TimeAgoParser getTimeAgoParser(final Localization localization) {
-        final TimeAgoParser targetParser = TimeAgoPatternsManager.getTimeAgoParserFor(localization);
+        return getTimeAgoParser(localization, Clock.systemUTC());
+    }
+
+    /**
+     * Get an instance of the time ago parser using the patterns related to the passed
+     * localization, which parses dates relative to the current time of the passed clock.
+     * <br><br>
+     * Passing the same clock to the parsers of a batch of items, or a fixed clock in tests, gives
+     * consistent results. The patterns are compiled once per localization, so getting a parser is
+     * cheap.
+     *
+     * @throws IllegalArgumentException if the localization is not supported (parsing patterns are
+     *                                  not present).
+     * @see #getTimeAgoParser(Localization)
+     */
+    public TimeAgoParser getTimeAgoParser(final Localization localization, final Clock clock) {
+        final TimeAgoParser targetParser =
+                TimeAgoPatternsManager.getTimeAgoParserFor(localization, clock);
 
         if (targetParser != null) {
             return targetParser;
@@ -390,7 +490,7 @@ public abstract class StreamingService {
             final Localization lessSpecificLocalization
                     = new Localization(localization.getLanguageCode());
             final TimeAgoParser lessSpecificParser
-                    = TimeAgoPatternsManager.getTimeAgoParserFor(lessSpecificLocalization);
+                    = TimeAgoPatternsManager.getTimeAgoParserFor(lessSpecificLocalization, clock);
 
             if (lessSpecificParser != null) {
                 return lessSpecificParser;
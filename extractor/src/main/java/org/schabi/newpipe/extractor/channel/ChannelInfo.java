@@ -11,6 +11,7 @@ import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 import org.schabi.newpipe.extractor.utils.ExtractorHelper;
 
 import java.io.IOException;
+import java.util.stream.Stream;
 
 /*
  * Created by Christian Schabesberger on 31.07.16.
@@ -55,6 +56,29 @@ public class ChannelInfo extends ListInfo<StreamInfoItem> {
         return getInfo(extractor);
     }
 
+    /**
+     * Get the info of a channel, with at most {@code maxItems} items.
+     *
+     * <p>
+     * If the maximum number of items is reached, the info has no next page.
+     * </p>
+     *
+     * @param service  the service of the channel
+     * @param url      the URL of the channel
+     * @param maxItems the maximum number of items of the info, e.g. to display a preview
+     * @return the info of the channel
+     * @see org.schabi.newpipe.extractor.ListExtractor#setMaxItems(int)
+     */
+    public static ChannelInfo getInfo(final StreamingService service,
+                                      final String url,
+                                      final int maxItems)
+            throws IOException, ExtractionException {
+        final ChannelExtractor extractor = service.getChannelExtractor(url);
+        extractor.setMaxItems(maxItems);
+        extractor.fetchPage();
+        return getInfo(extractor);
+    }
+
     public static InfoItemsPage<StreamInfoItem> getMoreItems(final StreamingService service,
                                                              final String url,
                                                              final Page page)
@@ -62,6 +86,24 @@ public class ChannelInfo extends ListInfo<StreamInfoItem> {
         return service.getChannelExtractor(url).getPage(page);
     }
 
+    /**
+     * Get a {@link Stream} over the items of all the pages of a channel, fetched lazily with a
+     * single extractor.
+     *
+     * @param service the service of the channel
+     * @param url     the URL of the channel
+     * @param limit   the maximum number of items of the stream, or a negative value to stream all
+     *                items
+     * @return an ordered stream over the items of the channel
+     * @see ListInfo#streamAllItems(org.schabi.newpipe.extractor.ListExtractor, long)
+     */
+    public static Stream<StreamInfoItem> streamAllItems(final StreamingService service,
+                                                     final String url,
+                                                     final long limit)
+            throws ExtractionException {
+        return streamAllItems(service.getChannelExtractor(url), limit);
+    }
+
     public static ChannelInfo getInfo(final ChannelExtractor extractor)
             throws IOException, ExtractionException {
 
@@ -1,10 +1,18 @@
 package org.schabi.newpipe.extractor.comments;
 
 import org.schabi.newpipe.extractor.ListExtractor;
+import org.schabi.newpipe.extractor.Page;
 import org.schabi.newpipe.extractor.StreamingService;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.utils.ConcurrentPageFetcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 
@@ -34,4 +42,77 @@ public abstract class CommentsExtractor extends ListExtractor<CommentsInfoItem>
     public String getName() throws ParsingException {
         return "Comments";
     }
+
+    /**
+     * Get all the replies of comments, fetching the replies of several comments concurrently.
+     *
+     * <p>
+     * The reply pages of each comment, i.e. its {@link CommentsInfoItem#getReplies() replies
+     * page} and all the pages following it, are fetched one after the other, while the replies
+     * of up to {@code maxConcurrentRequests} comments are fetched at the same time. Only direct
+     * replies are fetched: replies which have replies themselves can be passed again to this
+     * method to crawl deeper levels of comment trees.
+     * </p>
+     *
+     * <p>
+     * If the replies of a comment could not be fetched, the fetching of the other replies is
+     * cancelled and the exception is thrown.
+     * </p>
+     *
+     * @param comments              the comments whose replies are fetched; comments without
+     *                              replies are ignored
+     * @param maxConcurrentRequests the maximum number of comments whose replies are fetched at
+     *                              the same time
+     * @return a map containing, for each comment with replies, in the order of the given
+     * comments, a page with all its replies and the errors which happened while extracting them
+     */
+    @Nonnull
+    public Map<CommentsInfoItem, InfoItemsPage<CommentsInfoItem>> getAllReplies(
+            @Nonnull final List<CommentsInfoItem> comments,
+            final int maxConcurrentRequests) throws IOException, ExtractionException {
+        final List<CommentsInfoItem> commentsWithReplies = new ArrayList<>();
+        final List<Page> replyPages = new ArrayList<>();
+        for (final CommentsInfoItem comment : comments) {
+            if (Page.isValid(comment.getReplies())) {
+                commentsWithReplies.add(comment);
+                replyPages.add(comment.getReplies());
+            }
+        }
+
+        final List<InfoItemsPage<CommentsInfoItem>> replies = ConcurrentPageFetcher.fetchPages(
+                replyPages, this::getAllPagesFrom, maxConcurrentRequests);
+
+        final Map<CommentsInfoItem, InfoItemsPage<CommentsInfoItem>> repliesPerComment =
+                new LinkedHashMap<>();
+        for (int i = 0; i < commentsWithReplies.size(); i++) {
+            repliesPerComment.put(commentsWithReplies.get(i), replies.get(i));
+        }
+        return repliesPerComment;
+    }
+
+    /**
+     * Same as {@link #getAllReplies(List, int)}, fetching the replies of up to
+     * {@link ConcurrentPageFetcher#DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} comments at the same
+     * time.
+     */
+    @Nonnull
+    public Map<CommentsInfoItem, InfoItemsPage<CommentsInfoItem>> getAllReplies(
+            @Nonnull final List<CommentsInfoItem> comments)
+            throws IOException, ExtractionException {
+        return getAllReplies(comments,
+                ConcurrentPageFetcher.DEFAULT_MAXIMUM_CONCURRENT_REQUESTS);
+    }
+
+    @Nonnull
+    private InfoItemsPage<CommentsInfoItem> getAllPagesFrom(@Nonnull final Page firstPage)
+            throws IOException, ExtractionException {
+        final List<InfoItemsPage<CommentsInfoItem>> pages = new ArrayList<>();
+        InfoItemsPage<CommentsInfoItem> page = getPage(firstPage);
+        pages.add(page);
+        while (page.hasNextPage()) {
+            page = getPage(page.getNextPage());
+            pages.add(page);
+        }
+        return ConcurrentPageFetcher.mergePages(pages, null);
+    }
 }
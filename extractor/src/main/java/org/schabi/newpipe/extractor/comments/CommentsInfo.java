@@ -10,6 +10,10 @@ import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
 import org.schabi.newpipe.extractor.utils.ExtractorHelper;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public final class CommentsInfo extends ListInfo<CommentsInfoItem> {
 
@@ -79,6 +83,50 @@ public final class CommentsInfo extends ListInfo<CommentsInfoItem> {
         return service.getCommentsExtractor(url).getPage(page);
     }
 
+    /**
+     * Get a {@link Stream} over the items of all the pages of a comments section, fetched lazily
+     * with a single extractor.
+     *
+     * @param service the service of the comments section
+     * @param url     the URL of the comments section
+     * @param limit   the maximum number of items of the stream, or a negative value to stream all
+     *                items
+     * @return an ordered stream over the items of the comments section, which is empty if the
+     * service does not support comments
+     * @see ListInfo#streamAllItems(org.schabi.newpipe.extractor.ListExtractor, long)
+     */
+    public static Stream<CommentsInfoItem> streamAllItems(final StreamingService service,
+                                                          final String url,
+                                                          final long limit)
+            throws ExtractionException {
+        final CommentsExtractor commentsExtractor = service.getCommentsExtractor(url);
+        if (commentsExtractor == null) {
+            return Stream.empty();
+        }
+        return streamAllItems(commentsExtractor, limit);
+    }
+
+    /**
+     * Get all the replies of comments, fetching the replies of several comments concurrently.
+     *
+     * @param service  the service of the comments
+     * @param url      the URL of the comments section
+     * @param comments the comments whose replies are fetched
+     * @return the replies of each comment with replies, as returned by
+     * {@link CommentsExtractor#getAllReplies(List)}, which is empty if the service does not
+     * support comments
+     */
+    public static Map<CommentsInfoItem, InfoItemsPage<CommentsInfoItem>> getAllReplies(
+            final StreamingService service,
+            final String url,
+            final List<CommentsInfoItem> comments) throws IOException, ExtractionException {
+        final CommentsExtractor commentsExtractor = service.getCommentsExtractor(url);
+        if (commentsExtractor == null) {
+            return Collections.emptyMap();
+        }
+        return commentsExtractor.getAllReplies(comments);
+    }
+
     private transient CommentsExtractor commentsExtractor;
     private boolean commentsDisabled = false;
     private int commentsCount;
@@ -120,6 +120,9 @@ public final class CommentsInfoItemsCollector
 
     @Override
     public void commit(final CommentsInfoItemExtractor extractor) {
+        if (isFull()) {
+            return;
+        }
         try {
             addItem(extract(extractor));
         } catch (final Exception e) {
@@ -0,0 +1,23 @@
+package org.schabi.newpipe.extractor.exceptions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Wraps an {@link ExtractionException} with an unchecked exception.
+ *
+ * <p>
+ * It is thrown by APIs which cannot throw checked exceptions, such as {@link java.util.Iterator}s,
+ * {@link java.util.Spliterator}s and {@link java.util.stream.Stream}s of items.
+ * </p>
+ */
+public class UncheckedExtractionException extends RuntimeException {
+    public UncheckedExtractionException(@Nonnull final ExtractionException cause) {
+        super(cause);
+    }
+
+    @Nonnull
+    @Override
+    public synchronized ExtractionException getCause() {
+        return (ExtractionException) super.getCause();
+    }
+}
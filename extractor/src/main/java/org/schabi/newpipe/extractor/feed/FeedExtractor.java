@@ -2,16 +2,179 @@ package org.schabi.newpipe.extractor.feed;
 
 import org.schabi.newpipe.extractor.ListExtractor;
 import org.schabi.newpipe.extractor.StreamingService;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ReCaptchaException;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
 import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 /**
  * This class helps to extract items from lightweight feeds that the services may provide.
  * <p>
  * YouTube is an example of a service that has this alternative available.
+ * <p>
+ * Feeds can be downloaded conditionally: if the validators of a previous download are given
+ * with {@link #setValidators(String, String)} before fetching the page, services supporting it
+ * only download the feed if it changed, and {@link #isNotModified()} tells whether it did not.
+ * <p>
+ * Feeds can also be extracted incrementally: if the {@link FeedWatermark} of a previous
+ * extraction is given with {@link #setWatermark(FeedWatermark)} before fetching the page,
+ * services supporting it only extract the streams newer than it, and
+ * {@link #getNewWatermark()} gives the watermark to use for the next extraction.
  */
 public abstract class FeedExtractor extends ListExtractor<StreamInfoItem> {
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    @Nullable
+    private String requestETag;
+    @Nullable
+    private String requestLastModified;
+
+    @Nullable
+    private String eTag;
+    @Nullable
+    private String lastModified;
+    private boolean notModified = false;
+
+    @Nullable
+    private FeedWatermark watermark;
+    @Nullable
+    private FeedWatermark newWatermark;
+
     public FeedExtractor(final StreamingService service, final ListLinkHandler listLinkHandler) {
         super(service, listLinkHandler);
     }
+
+    /**
+     * Get the URL of the feed downloaded by this extractor, which may differ from the URL of the
+     * list, e.g. the feed of a channel may be downloaded from another host than the one of the
+     * channel. It is known before fetching the page.
+     *
+     * @return the URL of the feed, which is the URL of the list by default
+     */
+    @Nonnull
+    public String getFeedUrl() {
+        return getLinkHandler().getUrl();
+    }
+
+    /**
+     * Set the validators returned by a previous download of this feed, so that the feed is only
+     * downloaded again if it changed. This must be called before fetching the page.
+     *
+     * @param previousETag         the {@code ETag} header of the previous download, if any
+     * @param previousLastModified the {@code Last-Modified} header of the previous download, if
+     *                             any
+     */
+    public void setValidators(@Nullable final String previousETag,
+                              @Nullable final String previousLastModified) {
+        this.requestETag = previousETag;
+        this.requestLastModified = previousLastModified;
+    }
+
+    /**
+     * @return whether the feed did not change since the download of the validators given with
+     * {@link #setValidators(String, String)}, in which case the extractor has no item
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    /**
+     * @return the {@code ETag} header of the download of the feed, if the service returned one
+     */
+    @Nullable
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the {@code Last-Modified} header of the download of the feed, if the service
+     * returned one
+     */
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set the watermark of a previous extraction of this feed, so that only the streams newer
+     * than it are extracted. This must be called before fetching the page.
+     *
+     * @param previousWatermark the watermark of the previous extraction, if any
+     */
+    public void setWatermark(@Nullable final FeedWatermark previousWatermark) {
+        this.watermark = previousWatermark;
+    }
+
+    /**
+     * @return the watermark given with {@link #setWatermark(FeedWatermark)}, if any
+     */
+    @Nullable
+    public FeedWatermark getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * @return the watermark of the newest stream of the feed, which is the one given with
+     * {@link #setWatermark(FeedWatermark)} if the feed has no newer stream, or if the service
+     * does not support incremental extraction, in which case all the streams are extracted
+     */
+    @Nullable
+    public FeedWatermark getNewWatermark() {
+        return newWatermark != null ? newWatermark : watermark;
+    }
+
+    /**
+     * Set the watermark returned by {@link #getNewWatermark()}, which services supporting
+     * incremental extraction must call when fetching a page with a stream newer than the
+     * watermark given with {@link #setWatermark(FeedWatermark)}.
+     *
+     * @param newestWatermark the watermark of the newest stream of the feed
+     */
+    protected void setNewWatermark(@Nonnull final FeedWatermark newestWatermark) {
+        this.newWatermark = newestWatermark;
+    }
+
+    /**
+     * Download a feed with the validators given with {@link #setValidators(String, String)}, and
+     * keep the validators of the response.
+     *
+     * @param downloader the downloader to use
+     * @param url        the URL of the feed
+     * @return the response, or {@code null} if the feed was not modified
+     */
+    @Nullable
+    protected Response getConditionally(@Nonnull final Downloader downloader,
+                                        @Nonnull final String url)
+            throws IOException, ReCaptchaException {
+        final Map<String, List<String>> headers = new HashMap<>();
+        if (requestETag != null) {
+            headers.put("If-None-Match", Collections.singletonList(requestETag));
+        }
+        if (requestLastModified != null) {
+            headers.put("If-Modified-Since", Collections.singletonList(requestLastModified));
+        }
+
+        final Response response = downloader.get(url, headers);
+        if (response.responseCode() == HTTP_NOT_MODIFIED) {
+            notModified = true;
+            // The validators are still valid
+            eTag = requestETag;
+            lastModified = requestLastModified;
+            return null;
+        }
+
+        eTag = response.getHeader("ETag");
+        lastModified = response.getHeader("Last-Modified");
+        return response;
+    }
 }
@@ -0,0 +1,385 @@
+package org.schabi.newpipe.extractor.feed;
+
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.StreamingService;
+import org.schabi.newpipe.extractor.utils.Utils;
+
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Refreshes the feeds of many channels concurrently.
+ *
+ * <p>
+ * At most {@link #getMaxConcurrentRequests()} feeds are downloaded at the same time, and at most
+ * {@link #getMaxRequestsPerHost()} from the same host, the host of a feed being the one of the
+ * URL it is downloaded from, see {@link FeedExtractor#getFeedUrl()}. Feeds whose
+ * {@link FeedRequest} has the validators of a previous refresh are downloaded conditionally, so
+ * that unchanged feeds are not downloaded nor parsed again, see
+ * {@link FeedExtractor#setValidators(String, String)}. Feeds whose {@link FeedRequest} has a
+ * {@link FeedWatermark} are extracted incrementally, see
+ * {@link FeedExtractor#setWatermark(FeedWatermark)}.
+ * </p>
+ *
+ * <p>
+ * Results are given to a consumer as soon as each feed is refreshed, and the refresh of a feed
+ * failing does not stop the refresh of the others.
+ * </p>
+ */
+public final class FeedRefresher {
+    /**
+     * The default maximum number of feeds downloaded at the same time.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 8;
+    /**
+     * The default maximum number of feeds downloaded at the same time from the same host.
+     */
+    public static final int DEFAULT_MAXIMUM_REQUESTS_PER_HOST = 4;
+
+    private final int maxConcurrentRequests;
+    private final int maxRequestsPerHost;
+
+    public FeedRefresher() {
+        this(DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, DEFAULT_MAXIMUM_REQUESTS_PER_HOST);
+    }
+
+    /**
+     * @param maxConcurrentRequests the maximum number of feeds downloaded at the same time, which
+     *                              must be greater than 0
+     * @param maxRequestsPerHost    the maximum number of feeds downloaded at the same time from
+     *                              the same host, which must be greater than 0
+     */
+    public FeedRefresher(final int maxConcurrentRequests, final int maxRequestsPerHost) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException(
+                    "maxConcurrentRequests must be greater than 0: " + maxConcurrentRequests);
+        }
+        if (maxRequestsPerHost <= 0) {
+            throw new IllegalArgumentException(
+                    "maxRequestsPerHost must be greater than 0: " + maxRequestsPerHost);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Refresh feeds, blocking until all of them are refreshed.
+     *
+     * <p>
+     * The consumer is called on the calling thread, in the order in which the feeds are
+     * refreshed, so it does not need to be thread-safe.
+     * </p>
+     *
+     * @param requests the feeds to refresh
+     * @param consumer the consumer of the result of each feed
+     * @throws InterruptedIOException if the calling thread is interrupted, in which case the
+     *                                pending feeds are not refreshed
+     */
+    public void refresh(@Nonnull final Collection<FeedRequest> requests,
+                        @Nonnull final Consumer<FeedResult> consumer)
+            throws InterruptedIOException {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        // The feeds waiting for a download slot on their host
+        final Map<FeedRequest, String> hosts = new IdentityHashMap<>();
+        final Map<String, Queue<FeedTask>> pendingTasks = new HashMap<>();
+        for (final FeedRequest request : requests) {
+            final FeedTask task = new FeedTask(request);
+            hosts.put(request, task.host);
+            pendingTasks.computeIfAbsent(task.host, h -> new ArrayDeque<>()).add(task);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(requests.size(), maxConcurrentRequests));
+        try {
+            final CompletionService<FeedResult> completionService =
+                    new ExecutorCompletionService<>(executor);
+            for (final Queue<FeedTask> hostTasks : pendingTasks.values()) {
+                for (int i = 0; i < maxRequestsPerHost && !hostTasks.isEmpty(); i++) {
+                    completionService.submit(hostTasks.remove()::refresh);
+                }
+            }
+
+            for (int remaining = requests.size(); remaining > 0; remaining--) {
+                final FeedResult result = completionService.take().get();
+
+                // Give the slot of the refreshed feed to the next feed of the same host
+                final Queue<FeedTask> hostTasks =
+                        pendingTasks.get(hosts.get(result.getRequest()));
+                if (!hostTasks.isEmpty()) {
+                    completionService.submit(hostTasks.remove()::refresh);
+                }
+
+                consumer.accept(result);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while refreshing feeds");
+        } catch (final ExecutionException e) {
+            // FeedTask.refresh() catches all exceptions
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The refresh of a feed, with the extractor which downloads it.
+     */
+    private static final class FeedTask {
+        @Nonnull
+        private final FeedRequest request;
+        @Nullable
+        private final FeedExtractor extractor;
+        @Nullable
+        private final Exception error;
+        /**
+         * The host the feed is downloaded from, which may differ from the host of the URL of the
+         * request, e.g. the feeds of YouTube channels are downloaded from {@code www.youtube.com}
+         * whatever the host of the channel URL is.
+         */
+        @Nonnull
+        private final String host;
+
+        FeedTask(@Nonnull final FeedRequest request) {
+            this.request = request;
+
+            FeedExtractor feedExtractor = null;
+            Exception feedError = null;
+            String feedHost = "";
+            try {
+                final StreamingService service = NewPipe.getServiceByUrl(request.getUrl());
+                feedExtractor = service.getFeedExtractor(request.getUrl());
+                if (feedExtractor == null) {
+                    throw new IllegalArgumentException("Service \""
+                            + service.getServiceInfo().getName()
+                            + "\" doesn't support FeedExtractor.");
+                }
+                feedHost = Utils.stringToURL(feedExtractor.getFeedUrl()).getHost()
+                        .toLowerCase(Locale.ROOT);
+            } catch (final MalformedURLException e) {
+                // The download of this feed fails anyway, so its host does not matter
+            } catch (final Exception e) {
+                feedError = e;
+            }
+            extractor = feedExtractor;
+            error = feedError;
+            host = feedHost;
+        }
+
+        @Nonnull
+        FeedResult refresh() {
+            if (error != null) {
+                return new FeedResult(request, null, null, null, request.getWatermark(), error);
+            }
+
+            try {
+                extractor.setValidators(request.getETag(), request.getLastModified());
+                extractor.setWatermark(request.getWatermark());
+                extractor.fetchPage();
+                if (extractor.isNotModified()) {
+                    return new FeedResult(request, null, extractor.getETag(),
+                            extractor.getLastModified(), extractor.getNewWatermark(), null);
+                }
+
+                return new FeedResult(request, FeedInfo.getInfo(extractor),
+                        extractor.getETag(), extractor.getLastModified(),
+                        extractor.getNewWatermark(), null);
+            } catch (final Exception e) {
+                return new FeedResult(request, null, null, null, request.getWatermark(), e);
+            }
+        }
+    }
+
+    /**
+     * A feed to refresh, with the validators and the watermark of its previous refresh if any.
+     */
+    public static final class FeedRequest {
+        @Nonnull
+        private final String url;
+        @Nullable
+        private final String eTag;
+        @Nullable
+        private final String lastModified;
+        @Nullable
+        private final FeedWatermark watermark;
+
+        /**
+         * @param url          the URL of the channel of the feed
+         * @param eTag         the {@code ETag} of the previous refresh of the feed, if any
+         * @param lastModified the {@code Last-Modified} date of the previous refresh of the
+         *                     feed, if any
+         * @param watermark    the watermark of the previous refresh of the feed, if any, to only
+         *                     extract the newer streams
+         */
+        public FeedRequest(@Nonnull final String url,
+                           @Nullable final String eTag,
+                           @Nullable final String lastModified,
+                           @Nullable final FeedWatermark watermark) {
+            this.url = Objects.requireNonNull(url, "url is null");
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.watermark = watermark;
+        }
+
+        /**
+         * @param url          the URL of the channel of the feed
+         * @param eTag         the {@code ETag} of the previous refresh of the feed, if any
+         * @param lastModified the {@code Last-Modified} date of the previous refresh of the
+         *                     feed, if any
+         */
+        public FeedRequest(@Nonnull final String url,
+                           @Nullable final String eTag,
+                           @Nullable final String lastModified) {
+            this(url, eTag, lastModified, null);
+        }
+
+        /**
+         * @param url the URL of the channel of the feed
+         */
+        public FeedRequest(@Nonnull final String url) {
+            this(url, null, null);
+        }
+
+        @Nonnull
+        public String getUrl() {
+            return url;
+        }
+
+        @Nullable
+        public String getETag() {
+            return eTag;
+        }
+
+        @Nullable
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        @Nullable
+        public FeedWatermark getWatermark() {
+            return watermark;
+        }
+    }
+
+    /**
+     * The result of the refresh of a feed, which is either a {@link FeedInfo}, the feed not being
+     * modified since its previous refresh, or an error.
+     */
+    public static final class FeedResult {
+        @Nonnull
+        private final FeedRequest request;
+        @Nullable
+        private final FeedInfo info;
+        @Nullable
+        private final String eTag;
+        @Nullable
+        private final String lastModified;
+        @Nullable
+        private final FeedWatermark watermark;
+        @Nullable
+        private final Exception error;
+
+        FeedResult(@Nonnull final FeedRequest request,
+                   @Nullable final FeedInfo info,
+                   @Nullable final String eTag,
+                   @Nullable final String lastModified,
+                   @Nullable final FeedWatermark watermark,
+                   @Nullable final Exception error) {
+            this.request = request;
+            this.info = info;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.watermark = watermark;
+            this.error = error;
+        }
+
+        @Nonnull
+        public FeedRequest getRequest() {
+            return request;
+        }
+
+        /**
+         * @return the refreshed feed, or {@code null} if it was not modified or could not be
+         * refreshed
+         */
+        @Nullable
+        public FeedInfo getInfo() {
+            return info;
+        }
+
+        /**
+         * @return whether the feed was not modified since its previous refresh
+         */
+        public boolean isNotModified() {
+            return info == null && error == null;
+        }
+
+        /**
+         * @return the exception thrown while refreshing the feed, or {@code null} if it was
+         * refreshed
+         */
+        @Nullable
+        public Exception getError() {
+            return error;
+        }
+
+        @Nullable
+        public String getETag() {
+            return eTag;
+        }
+
+        @Nullable
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * @return the watermark of the newest stream of the feed, which is the one of the
+         * request if the feed has no newer stream or could not be refreshed
+         */
+        @Nullable
+        public FeedWatermark getWatermark() {
+            return watermark;
+        }
+
+        /**
+         * @return the request to use for the next refresh of the feed, with the validators and
+         * the watermark of this refresh, or the ones of the previous refresh if this one failed
+         */
+        @Nonnull
+        public FeedRequest getNextRequest() {
+            if (error != null) {
+                return request;
+            }
+            return new FeedRequest(request.getUrl(), eTag, lastModified, watermark);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.schabi.newpipe.extractor.feed;
+
+import org.schabi.newpipe.extractor.localization.DateWrapper;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The newest stream of a feed known by a client, so that feeds can be refreshed incrementally:
+ * when a watermark is given to a {@link FeedExtractor} with
+ * {@link FeedExtractor#setWatermark(FeedWatermark)}, only the streams newer than it are
+ * extracted.
+ *
+ * <p>
+ * A stream is considered as already known if it is the stream of the watermark, or if it was
+ * uploaded before it. If the watermark has no stream URL, streams uploaded at the same time as
+ * the watermark are also considered as already known.
+ * </p>
+ */
+public final class FeedWatermark implements Serializable {
+    @Nullable
+    private final String streamUrl;
+    @Nullable
+    private final OffsetDateTime uploadDate;
+
+    /**
+     * @param streamUrl  the URL of the newest known stream, if any
+     * @param uploadDate the upload date of the newest known stream, if any
+     */
+    public FeedWatermark(@Nullable final String streamUrl,
+                         @Nullable final OffsetDateTime uploadDate) {
+        if (streamUrl == null && uploadDate == null) {
+            throw new IllegalArgumentException("A watermark needs a stream URL or a date");
+        }
+        this.streamUrl = streamUrl;
+        this.uploadDate = uploadDate;
+    }
+
+    /**
+     * @param item the newest known stream of a feed
+     * @return the watermark of the stream
+     */
+    @Nonnull
+    public static FeedWatermark of(@Nonnull final StreamInfoItem item) {
+        final DateWrapper uploadDate = item.getUploadDate();
+        return new FeedWatermark(item.getUrl(),
+                uploadDate == null ? null : uploadDate.offsetDateTime());
+    }
+
+    @Nullable
+    public String getStreamUrl() {
+        return streamUrl;
+    }
+
+    @Nullable
+    public OffsetDateTime getUploadDate() {
+        return uploadDate;
+    }
+
+    /**
+     * @param url  the URL of a stream, if known
+     * @param date the upload date of the stream, if known
+     * @return whether the stream is already known, i.e. is the stream of this watermark or is
+     * older than it
+     */
+    public boolean isReachedBy(@Nullable final String url, @Nullable final OffsetDateTime date) {
+        if (streamUrl != null && streamUrl.equals(url)) {
+            return true;
+        }
+        if (uploadDate == null || date == null) {
+            return false;
+        }
+        return streamUrl == null ? !date.isAfter(uploadDate) : date.isBefore(uploadDate);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final FeedWatermark that = (FeedWatermark) o;
+        return Objects.equals(streamUrl, that.streamUrl)
+                && Objects.equals(uploadDate, that.uploadDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(streamUrl, uploadDate);
+    }
+
+    @Override
+    public String toString() {
+        return "FeedWatermark{streamUrl=" + streamUrl + ", uploadDate=" + uploadDate + "}";
+    }
+}
@@ -0,0 +1,271 @@
+package org.schabi.newpipe.extractor.localization;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A parser of the counts displayed by services, like {@code 1.2M views}, {@code 12 k abonnés},
+ * {@code 1,2 Mio. Aufrufe}, {@code 1 234 567 vues} or {@code 3.4万 回視聴}.
+ *
+ * <p>
+ * A text is parsed in a single pass, without creating any object: the first number of the text
+ * is read, then the compact suffix following it, if any, is looked up in the suffixes of the
+ * language of the parser.
+ * </p>
+ *
+ * <ul>
+ *     <li>If the number has a suffix, its last {@code .} or {@code ,} is its decimal separator
+ *     ({@code 1,2 Mio.} is 1200000).</li>
+ *     <li>Otherwise, the number is an integer and all its separators are grouping separators
+ *     ({@code 1.234.567} and {@code 1,234,567} are 1234567).</li>
+ * </ul>
+ *
+ * <p>
+ * Parsers are immutable and thread-safe.
+ * </p>
+ */
+public final class CompactNumberParser {
+    private static final long THOUSAND = 1_000L;
+    private static final long TEN_THOUSAND = 10_000L;
+    private static final long MILLION = 1_000_000L;
+    private static final long HUNDRED_MILLION = 100_000_000L;
+    private static final long BILLION = 1_000_000_000L;
+
+    /**
+     * The compact suffixes of each language, with the value they multiply numbers by. Suffixes
+     * are matched ignoring case, and they must not be followed by a letter, except for the ones
+     * of languages without word separators.
+     */
+    private static final Map<String, Map<String, Long>> SUFFIXES = new LinkedHashMap<>();
+
+    static {
+        putSuffixes("en", "K", THOUSAND, "M", MILLION, "B", BILLION);
+        putSuffixes("de", "Tsd", THOUSAND, "Mio", MILLION, "Mrd", BILLION);
+        putSuffixes("fr", "k", THOUSAND, "M", MILLION, "Md", BILLION);
+        putSuffixes("es", "mil", THOUSAND, "M", MILLION, "mil M", BILLION);
+        putSuffixes("pt", "mil", THOUSAND, "mi", MILLION, "bi", BILLION);
+        putSuffixes("it", "mila", THOUSAND, "Mln", MILLION, "Mrd", BILLION);
+        putSuffixes("nl", "K", THOUSAND, "mln", MILLION, "mld", BILLION);
+        putSuffixes("pl", "tys", THOUSAND, "mln", MILLION, "mld", BILLION);
+        putSuffixes("ru", "тыс", THOUSAND, "млн", MILLION, "млрд", BILLION);
+        putSuffixes("uk", "тис", THOUSAND, "млн", MILLION, "млрд", BILLION);
+        putSuffixes("ja", "千", THOUSAND, "万", TEN_THOUSAND, "億", HUNDRED_MILLION);
+        putSuffixes("zh", "千", THOUSAND, "万", TEN_THOUSAND, "萬", TEN_THOUSAND,
+                "亿", HUNDRED_MILLION, "億", HUNDRED_MILLION);
+        putSuffixes("ko", "천", THOUSAND, "만", TEN_THOUSAND, "억", HUNDRED_MILLION);
+        putSuffixes("id", "rb", THOUSAND, "jt", MILLION, "M", BILLION);
+        putSuffixes("tr", "B", THOUSAND, "Mn", MILLION, "Mr", BILLION);
+    }
+
+    /**
+     * A parser knowing the suffixes of all the languages. When a suffix has different values in
+     * several languages, like {@code B} in English and Turkish, the English value is used.
+     */
+    public static final CompactNumberParser DEFAULT = new CompactNumberParser(null);
+
+    private static final Map<String, CompactNumberParser> PARSERS = new ConcurrentHashMap<>();
+
+    /**
+     * The suffixes of this parser, the longest ones first so that {@code Md} is not read as
+     * {@code M}.
+     */
+    @Nonnull
+    private final String[] suffixes;
+    @Nonnull
+    private final long[] multipliers;
+    /**
+     * Whether each suffix can be followed by a letter, which is the case in languages without
+     * word separators.
+     */
+    @Nonnull
+    private final boolean[] attached;
+
+    private CompactNumberParser(final String languageCode) {
+        final Map<String, Long> languageSuffixes = new LinkedHashMap<>();
+        if (languageCode != null && SUFFIXES.containsKey(languageCode)) {
+            putAllIgnoringCase(languageSuffixes, SUFFIXES.get(languageCode));
+        }
+        // English suffixes are used by default, and are still used when content is not localized
+        putAllIgnoringCase(languageSuffixes, SUFFIXES.get("en"));
+        if (languageCode == null) {
+            SUFFIXES.values().forEach(s -> putAllIgnoringCase(languageSuffixes, s));
+        }
+
+        final List<Map.Entry<String, Long>> entries =
+                new ArrayList<>(languageSuffixes.entrySet());
+        entries.sort(Comparator.comparingInt(
+                (Map.Entry<String, Long> e) -> e.getKey().length()).reversed());
+
+        suffixes = new String[entries.size()];
+        multipliers = new long[entries.size()];
+        attached = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            suffixes[i] = entries.get(i).getKey();
+            multipliers[i] = entries.get(i).getValue();
+            attached[i] = isAttachedScript(suffixes[i].charAt(suffixes[i].length() - 1));
+        }
+    }
+
+    /**
+     * Get the parser of the language of a localization, which also knows the English suffixes.
+     *
+     * @param localization the localization of the texts to parse
+     * @return the parser of the language of the localization
+     */
+    @Nonnull
+    public static CompactNumberParser forLocalization(@Nonnull final Localization localization) {
+        return PARSERS.computeIfAbsent(localization.getLanguageCode(), CompactNumberParser::new);
+    }
+
+    /**
+     * Parse the first number of a text, multiplied by its compact suffix if it has one.
+     *
+     * @param text a text containing a count, like {@code 1.2M views}
+     * @return the count
+     * @throws NumberFormatException if the text contains no number, or if the count overflows
+     */
+    public long parse(@Nonnull final String text) throws NumberFormatException {
+        final int start = indexOfNumber(text);
+        if (start == -1) {
+            throw new NumberFormatException("No number in \"" + text + "\"");
+        }
+        return parseFrom(text, start);
+    }
+
+    /**
+     * Parse the first number of a text, multiplied by its compact suffix if it has one, or
+     * return a default value if the text contains no number, like {@code Like}.
+     *
+     * @param text         a text which may contain a count, like {@code 1.2M views}
+     * @param defaultValue the value to return if the text contains no number
+     * @return the count, or the default value
+     * @throws NumberFormatException if the count overflows
+     */
+    public long parse(@Nonnull final String text, final long defaultValue)
+            throws NumberFormatException {
+        final int start = indexOfNumber(text);
+        return start == -1 ? defaultValue : parseFrom(text, start);
+    }
+
+    private static int indexOfNumber(@Nonnull final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isDigit(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long parseFrom(@Nonnull final String text, final int start) {
+        final int length = text.length();
+        int i = start;
+
+        long mantissa = 0;
+        // The number of digits after the last . or , or -1 if there is none
+        int fractionDigits = -1;
+        while (i < length) {
+            final char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (mantissa > (Long.MAX_VALUE - 9) / 10) {
+                    throw new NumberFormatException("Number too large in \"" + text + "\"");
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (isSeparator(c) && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                fractionDigits = c == '.' || c == ',' ? 0 : -1;
+            } else {
+                break;
+            }
+            i++;
+        }
+
+        while (i < length && isSpace(text.charAt(i))) {
+            i++;
+        }
+
+        final long multiplier = getMultiplier(text, i);
+        if (multiplier == 1) {
+            return mantissa;
+        }
+
+        try {
+            final long value = Math.multiplyExact(mantissa, multiplier);
+            if (fractionDigits <= 0) {
+                return value;
+            }
+
+            long divisor = 1;
+            for (int d = 0; d < fractionDigits; d++) {
+                divisor = Math.multiplyExact(divisor, 10L);
+            }
+            return value / divisor;
+        } catch (final ArithmeticException e) {
+            throw new NumberFormatException("Number too large in \"" + text + "\"");
+        }
+    }
+
+    private long getMultiplier(@Nonnull final String text, final int start) {
+        for (int s = 0; s < suffixes.length; s++) {
+            final String suffix = suffixes[s];
+            final int end = start + suffix.length();
+            if (text.regionMatches(true, start, suffix, 0, suffix.length())
+                    && (attached[s] || end == text.length()
+                            || !Character.isLetter(text.charAt(end)))) {
+                return multipliers[s];
+            }
+        }
+        return 1;
+    }
+
+    private static void putSuffixes(@Nonnull final String languageCode,
+                                    @Nonnull final Object... suffixesAndMultipliers) {
+        final Map<String, Long> suffixes = new LinkedHashMap<>();
+        for (int i = 0; i < suffixesAndMultipliers.length; i += 2) {
+            suffixes.put((String) suffixesAndMultipliers[i], (Long) suffixesAndMultipliers[i + 1]);
+        }
+        SUFFIXES.put(languageCode, suffixes);
+    }
+
+    private static void putAllIgnoringCase(@Nonnull final Map<String, Long> target,
+                                           @Nonnull final Map<String, Long> suffixes) {
+        for (final Map.Entry<String, Long> suffix : suffixes.entrySet()) {
+            final boolean alreadyPresent = target.keySet().stream()
+                    .anyMatch(existing -> existing.equalsIgnoreCase(suffix.getKey()));
+            if (!alreadyPresent) {
+                target.put(suffix.getKey(), suffix.getValue());
+            }
+        }
+    }
+
+    private static boolean isAttachedScript(final char c) {
+        final Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(final char c) {
+        return c == ' ' || c == '\t' || c == '\u00A0' || c == '\u202F';
+    }
+
+    /**
+     * Whether a character can separate the digits of a number, as a decimal or as a grouping
+     * separator.
+     */
+    private static boolean isSeparator(final char c) {
+        return c == '.' || c == ',' || c == '\'' || c == '\u2019' || isSpace(c);
+    }
+}
@@ -0,0 +1,233 @@
+package org.schabi.newpipe.extractor.localization;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A parser of the absolute dates returned by services, shared by their parsing helpers.
+ *
+ * <p>
+ * The following layouts are parsed by reading their digits directly, without
+ * {@link java.time.format.DateTimeFormatter}:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code 2020-01-31}, as the start of the day in UTC;</li>
+ *     <li>{@code 2020-01-31T12:34}, {@code 2020-01-31T12:34:56} and
+ *     {@code 2020-01-31T12:34:56.789}, followed by {@code Z} or an offset like
+ *     {@code +01:00};</li>
+ *     <li>{@code 2020/01/31 12:34:56 +0000}, used by SoundCloud.</li>
+ * </ul>
+ *
+ * <p>
+ * Feeds and playlists repeat the same dates a lot, so the most recently used dates are
+ * remembered and returned again for identical texts. This class is thread-safe.
+ * </p>
+ */
+public final class IsoDateParser {
+    /**
+     * The maximum number of dates remembered, after which the least recently used ones are
+     * forgotten, to bound the memory used.
+     */
+    static final int MAXIMUM_PARSED_DATES = 1024;
+
+    private static final Map<String, OffsetDateTime> PARSED_DATES =
+            new LinkedHashMap<String, OffsetDateTime>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<String, OffsetDateTime> eldest) {
+                    return size() > MAXIMUM_PARSED_DATES;
+                }
+            };
+
+    private IsoDateParser() {
+    }
+
+    /**
+     * Parse a date in one of the layouts supported by this class.
+     *
+     * @param text the textual date
+     * @return the date, or {@code null} if the text is not in a supported layout or is not a
+     * valid date, in which case callers may try other layouts
+     */
+    @Nullable
+    public static OffsetDateTime parse(@Nullable final String text) {
+        if (text == null) {
+            return null;
+        }
+
+        synchronized (PARSED_DATES) {
+            final OffsetDateTime parsedDate = PARSED_DATES.get(text);
+            if (parsedDate != null) {
+                return parsedDate;
+            }
+        }
+
+        final OffsetDateTime date = parseUncached(text);
+        if (date == null) {
+            return null;
+        }
+        synchronized (PARSED_DATES) {
+            // Keep the date parsed by a concurrent call, if any, so that dates are shared
+            final OffsetDateTime parsedDate = PARSED_DATES.putIfAbsent(text, date);
+            return parsedDate != null ? parsedDate : date;
+        }
+    }
+
+    @Nullable
+    private static OffsetDateTime parseUncached(@Nonnull final String text) {
+        final int length = text.length();
+        if (length < 10) {
+            return null;
+        }
+
+        final char dateSeparator = text.charAt(4);
+        if ((dateSeparator != '-' && dateSeparator != '/') || text.charAt(7) != dateSeparator) {
+            return null;
+        }
+        final int year = readDigits(text, 0, 4);
+        final int month = readDigits(text, 5, 2);
+        final int day = readDigits(text, 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+
+        try {
+            if (length == 10) {
+                return dateSeparator == '-'
+                        ? OffsetDateTime.of(year, month, day, 0, 0, 0, 0, ZoneOffset.UTC)
+                        : null;
+            }
+
+            // yyyy-MM-ddTHH:mm or yyyy/MM/dd HH:mm
+            if (length < 16 || text.charAt(10) != (dateSeparator == '-' ? 'T' : ' ')
+                    || text.charAt(13) != ':') {
+                return null;
+            }
+            final int hour = readDigits(text, 11, 2);
+            final int minute = readDigits(text, 14, 2);
+            if (hour < 0 || minute < 0) {
+                return null;
+            }
+
+            int position = 16;
+            int second = 0;
+            int nano = 0;
+            if (position < length && text.charAt(position) == ':') {
+                second = readDigits(text, position + 1, 2);
+                if (second < 0) {
+                    return null;
+                }
+                position += 3;
+
+                if (position < length && text.charAt(position) == '.') {
+                    position++;
+                    int fractionDigits = 0;
+                    while (position < length && isDigit(text.charAt(position))) {
+                        if (++fractionDigits > 9) {
+                            return null;
+                        }
+                        nano = nano * 10 + (text.charAt(position) - '0');
+                        position++;
+                    }
+                    if (fractionDigits == 0) {
+                        return null;
+                    }
+                    for (int i = fractionDigits; i < 9; i++) {
+                        nano *= 10;
+                    }
+                }
+            }
+
+            final ZoneOffset offset = dateSeparator == '-'
+                    ? readIsoOffset(text, position)
+                    : readSoundcloudOffset(text, position);
+            if (offset == null) {
+                return null;
+            }
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+        } catch (final DateTimeException e) {
+            // The date has a valid layout, but a field is out of range, like a 13th month
+            return null;
+        }
+    }
+
+    /**
+     * @return the offset {@code Z} or {@code +HH:MM} ending the text at the given position, or
+     * {@code null} if there is none
+     */
+    @Nullable
+    private static ZoneOffset readIsoOffset(@Nonnull final String text, final int position) {
+        final int length = text.length() - position;
+        if (length == 1 && text.charAt(position) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        if (length == 6 && text.charAt(position + 3) == ':') {
+            return readOffset(text, position, position + 4);
+        }
+        return null;
+    }
+
+    /**
+     * @return the offset {@code  +HHMM} ending the text at the given position, or {@code null} if
+     * there is none
+     */
+    @Nullable
+    private static ZoneOffset readSoundcloudOffset(@Nonnull final String text,
+                                                   final int position) {
+        if (text.length() - position == 6 && text.charAt(position) == ' ') {
+            return readOffset(text, position + 1, position + 4);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static ZoneOffset readOffset(@Nonnull final String text,
+                                         final int signPosition,
+                                         final int minutesPosition) {
+        final char sign = text.charAt(signPosition);
+        final int hours = readDigits(text, signPosition + 1, 2);
+        final int minutes = readDigits(text, minutesPosition, 2);
+        if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0) {
+            return null;
+        }
+        if (hours == 0 && minutes == 0) {
+            return ZoneOffset.UTC;
+        }
+        return sign == '+'
+                ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    /**
+     * @return the number written with the given count of digits at the given position of the
+     * text, or -1 if they are not all digits
+     */
+    private static int readDigits(@Nonnull final String text,
+                                  final int position,
+                                  final int count) {
+        if (position + count > text.length()) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
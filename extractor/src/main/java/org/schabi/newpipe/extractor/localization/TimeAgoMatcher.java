@@ -0,0 +1,218 @@
+package org.schabi.newpipe.extractor.localization;
+
+import org.schabi.newpipe.extractor.timeago.PatternsHolder;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The phrases of a {@link PatternsHolder}, compiled into a trie to find the time unit of a
+ * textual date in a single pass, without compiling any regular expression.
+ *
+ * <p>
+ * A phrase matches if it is surrounded by word separators or by the start or the end of the
+ * textual date. When the word separator is a space, any horizontal space and any digit is
+ * considered as a separator, so that strings like {@code 2wk} can be parsed. When there is no
+ * word separator, a phrase matches anywhere in the textual date.
+ * </p>
+ *
+ * <p>
+ * When several phrases match, the first one in the order of the patterns holder wins: special
+ * cases first, then the phrases of each unit, from seconds to years.
+ * </p>
+ *
+ * <p>
+ * Matchers are immutable and thread-safe. The matcher of each localization is compiled once by
+ * {@link TimeAgoPatternsManager} and shared by all the {@link TimeAgoParser}s it creates.
+ * </p>
+ */
+final class TimeAgoMatcher {
+    /**
+     * The amount of matches which are not special cases, and which are parsed from the digits of
+     * the textual date.
+     */
+    static final int NO_AMOUNT = -1;
+    /**
+     * The result of {@link #match(String)} when no phrase is found.
+     */
+    static final int NO_MATCH = -1;
+
+    @Nonnull
+    private final String wordSeparator;
+    @Nonnull
+    private final Node root = new Node();
+    /**
+     * The units of the matches, indexed by their priority.
+     */
+    @Nonnull
+    private final ChronoUnit[] units;
+    /**
+     * The amounts of the matches, indexed by their priority, or {@link #NO_AMOUNT}.
+     */
+    @Nonnull
+    private final int[] amounts;
+
+    /**
+     * Compile the phrases of a patterns holder.
+     *
+     * @param patternsHolder the patterns holder
+     */
+    TimeAgoMatcher(@Nonnull final PatternsHolder patternsHolder) {
+        wordSeparator = patternsHolder.wordSeparator();
+        final List<ChronoUnit> unitList = new ArrayList<>();
+        final List<Integer> amountList = new ArrayList<>();
+
+        for (final Map.Entry<ChronoUnit, Map<String, Integer>> caseUnitEntry
+                : patternsHolder.specialCases().entrySet()) {
+            for (final Map.Entry<String, Integer> caseEntry
+                    : caseUnitEntry.getValue().entrySet()) {
+                insert(caseEntry.getKey(), unitList.size());
+                unitList.add(caseUnitEntry.getKey());
+                amountList.add(caseEntry.getValue());
+            }
+        }
+
+        for (final Map.Entry<ChronoUnit, Collection<String>> unitEntry
+                : patternsHolder.asMap().entrySet()) {
+            for (final String phrase : unitEntry.getValue()) {
+                insert(phrase, unitList.size());
+                unitList.add(unitEntry.getKey());
+                amountList.add(NO_AMOUNT);
+            }
+        }
+
+        units = unitList.toArray(new ChronoUnit[0]);
+        amounts = amountList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void insert(@Nonnull final String phrase, final int priority) {
+        final String lowerCasePhrase = phrase.toLowerCase();
+        Node node = root;
+        for (int i = 0; i < lowerCasePhrase.length(); i++) {
+            node = node.getOrAddChild(lowerCasePhrase.charAt(i));
+        }
+        // Keep the first occurrence of phrases present several times
+        if (node.priority == NO_MATCH) {
+            node.priority = priority;
+        }
+    }
+
+    /**
+     * Find the phrase with the highest priority in a textual date.
+     *
+     * @param textualDate the textual date
+     * @return the priority of the phrase found, to be used with {@link #getUnit(int)} and
+     * {@link #getAmount(int)}, or {@link #NO_MATCH} if no phrase was found
+     */
+    int match(@Nonnull final String textualDate) {
+        final String input = textualDate.toLowerCase();
+        final int length = input.length();
+        int bestPriority = NO_MATCH;
+
+        for (int start = 0; start < length; start++) {
+            if (!isStartBoundary(input, start)) {
+                continue;
+            }
+
+            Node node = root;
+            for (int end = start; end < length; end++) {
+                node = node.getChild(input.charAt(end));
+                if (node == null) {
+                    break;
+                }
+                if (node.priority != NO_MATCH
+                        && (bestPriority == NO_MATCH || node.priority < bestPriority)
+                        && isEndBoundary(input, end + 1)) {
+                    bestPriority = node.priority;
+                }
+            }
+
+            if (bestPriority == 0) {
+                // Nothing can have a higher priority
+                break;
+            }
+        }
+        return bestPriority;
+    }
+
+    @Nonnull
+    ChronoUnit getUnit(final int priority) {
+        return units[priority];
+    }
+
+    /**
+     * @param priority the priority of a match
+     * @return the amount of the special case matched, or {@link #NO_AMOUNT}
+     */
+    int getAmount(final int priority) {
+        return amounts[priority];
+    }
+
+    private boolean isStartBoundary(@Nonnull final String input, final int index) {
+        if (wordSeparator.isEmpty() || index == 0) {
+            return true;
+        } else if (" ".equals(wordSeparator)) {
+            return isSpaceSeparator(input.charAt(index - 1));
+        }
+        return index >= wordSeparator.length()
+                && input.startsWith(wordSeparator, index - wordSeparator.length());
+    }
+
+    private boolean isEndBoundary(@Nonnull final String input, final int index) {
+        if (wordSeparator.isEmpty() || index == input.length()) {
+            return true;
+        } else if (" ".equals(wordSeparator)) {
+            return isSpaceSeparator(input.charAt(index));
+        }
+        return input.startsWith(wordSeparator, index);
+    }
+
+    /**
+     * Whether a character is a horizontal space (non-breaking space, thin space, etc.) or a
+     * digit, which separate words when the word separator is a space.
+     */
+    private static boolean isSpaceSeparator(final char c) {
+        return c == ' ' || c == '\t' || c == '\u00A0' || c == '\u1680'
+                || c == '\u180E' || (c >= '\u2000' && c <= '\u200A')
+                || c == '\u202F' || c == '\u205F' || c == '\u3000'
+                || (c >= '0' && c <= '9');
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int priority = NO_MATCH;
+
+        @Nullable
+        Node getChild(final char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        @Nonnull
+        Node getOrAddChild(final char key) {
+            final Node existingChild = getChild(key);
+            if (existingChild != null) {
+                return existingChild;
+            }
+
+            final Node child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+}
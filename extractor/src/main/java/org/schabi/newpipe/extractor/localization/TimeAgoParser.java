@@ -2,21 +2,33 @@ package org.schabi.newpipe.extractor.localization;
 
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.timeago.PatternsHolder;
-import org.schabi.newpipe.extractor.utils.Parser;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A helper class that is meant to be used by services that need to parse upload dates in the
  * format '2 days ago' or similar.
+ * <p>
+ * The items of a page usually share a handful of textual dates, so each parser remembers the
+ * dates it parsed and returns the same {@link DateWrapper} for identical textual dates. Parsers
+ * are thread-safe.
+ * </p>
  */
 public class TimeAgoParser {
-    private final PatternsHolder patternsHolder;
+    /**
+     * The maximum number of distinct textual dates remembered by a parser, to bound the memory
+     * used by long-lived parsers.
+     */
+    private static final int MAXIMUM_PARSED_DATES = 256;
+
+    private final TimeAgoMatcher matcher;
     private final OffsetDateTime now;
+    private final Map<String, DateWrapper> parsedDates = new ConcurrentHashMap<>();
 
     /**
      * Creates a helper to parse upload dates in the format '2 days ago'.
@@ -28,8 +40,35 @@ public class TimeAgoParser {
      *                       language word separator.
      */
     public TimeAgoParser(final PatternsHolder patternsHolder) {
-        this.patternsHolder = patternsHolder;
-        now = OffsetDateTime.now(ZoneOffset.UTC);
+        this(patternsHolder, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a helper to parse upload dates in the format '2 days ago', relative to the current
+     * time of a clock.
+     * <p>
+     * The clock is read once, so that all the dates parsed by this parser are relative to the same
+     * time.
+     * </p>
+     *
+     * @param patternsHolder An object that holds the "time ago" patterns, special cases, and the
+     *                       language word separator.
+     * @param clock          The clock giving the time the parsed dates are relative to.
+     */
+    public TimeAgoParser(final PatternsHolder patternsHolder, final Clock clock) {
+        this(new TimeAgoMatcher(patternsHolder), clock);
+    }
+
+    TimeAgoParser(final TimeAgoMatcher matcher, final Clock clock) {
+        this.matcher = matcher;
+        now = OffsetDateTime.now(clock).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * @return the time the parsed dates are relative to, in UTC
+     */
+    public OffsetDateTime getReferenceTime() {
+        return now;
     }
 
     /**
@@ -37,72 +76,57 @@ public class TimeAgoParser {
      * wrapped in a {@link DateWrapper} object.
      * <p>
      * Beginning with days ago, the date is considered as an approximation.
+     * <p>
+     * Parsing the same textual date again returns the same {@link DateWrapper}.
      *
      * @param textualDate The original date as provided by the streaming service
      * @return The parsed time (can be approximated)
      * @throws ParsingException if the time unit could not be recognized
      */
     public DateWrapper parse(final String textualDate) throws ParsingException {
-        for (final Map.Entry<ChronoUnit, Map<String, Integer>> caseUnitEntry
-                : patternsHolder.specialCases().entrySet()) {
-            final ChronoUnit chronoUnit = caseUnitEntry.getKey();
-            for (final Map.Entry<String, Integer> caseMapToAmountEntry
-                    : caseUnitEntry.getValue().entrySet()) {
-                final String caseText = caseMapToAmountEntry.getKey();
-                final Integer caseAmount = caseMapToAmountEntry.getValue();
-
-                if (textualDateMatches(textualDate, caseText)) {
-                    return getResultFor(caseAmount, chronoUnit);
-                }
-            }
+        final DateWrapper parsedDate = parsedDates.get(textualDate);
+        if (parsedDate != null) {
+            return parsedDate;
         }
 
-        return getResultFor(parseTimeAgoAmount(textualDate), parseChronoUnit(textualDate));
+        final DateWrapper date = parseUncached(textualDate);
+        if (parsedDates.size() < MAXIMUM_PARSED_DATES) {
+            parsedDates.putIfAbsent(textualDate, date);
+        }
+        return date;
     }
 
-    private int parseTimeAgoAmount(final String textualDate) {
-        try {
-            return Integer.parseInt(textualDate.replaceAll("\\D+", ""));
-        } catch (final NumberFormatException ignored) {
-            // If there is no valid number in the textual date,
-            // assume it is 1 (as in 'a second ago').
-            return 1;
+    private DateWrapper parseUncached(final String textualDate) throws ParsingException {
+        final int match = matcher.match(textualDate);
+        if (match == TimeAgoMatcher.NO_MATCH) {
+            throw new ParsingException("Unable to parse the date: " + textualDate);
         }
-    }
 
-    private ChronoUnit parseChronoUnit(final String textualDate) throws ParsingException {
-        return patternsHolder.asMap().entrySet().stream()
-                .filter(e -> e.getValue().stream()
-                        .anyMatch(agoPhrase -> textualDateMatches(textualDate, agoPhrase)))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElseThrow(() ->
-                        new ParsingException("Unable to parse the date: " + textualDate));
+        final int specialCaseAmount = matcher.getAmount(match);
+        return getResultFor(specialCaseAmount == TimeAgoMatcher.NO_AMOUNT
+                        ? parseTimeAgoAmount(textualDate) : specialCaseAmount,
+                matcher.getUnit(match));
     }
 
-    private boolean textualDateMatches(final String textualDate, final String agoPhrase) {
-        if (textualDate.equals(agoPhrase)) {
-            return true;
-        }
-
-        if (patternsHolder.wordSeparator().isEmpty()) {
-            return textualDate.toLowerCase().contains(agoPhrase.toLowerCase());
+    private static int parseTimeAgoAmount(final String textualDate) {
+        // Concatenate all the digits of the textual date, without creating any string
+        long amount = 0;
+        boolean hasDigit = false;
+        for (int i = 0; i < textualDate.length(); i++) {
+            final char c = textualDate.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+                amount = amount * 10 + (c - '0');
+                if (amount > Integer.MAX_VALUE) {
+                    // Not a valid amount, consider there is no number
+                    return 1;
+                }
+            }
         }
 
-        final String escapedPhrase = Pattern.quote(agoPhrase.toLowerCase());
-        final String escapedSeparator = patternsHolder.wordSeparator().equals(" ")
-                // From JDK8 → \h - Treat horizontal spaces as a normal one
-                // (non-breaking space, thin space, etc.)
-                // Also split the string on numbers to be able to parse strings like "2wk"
-                ? "[ \\t\\xA0\\u1680\\u180e\\u2000-\\u200a\\u202f\\u205f\\u3000\\d]"
-                : Pattern.quote(patternsHolder.wordSeparator());
-
-        // (^|separator)pattern($|separator)
-        // Check if the pattern is surrounded by separators or start/end of the string.
-        final String pattern =
-                "(^|" + escapedSeparator + ")" + escapedPhrase + "($|" + escapedSeparator + ")";
-
-        return Parser.isMatch(pattern, textualDate.toLowerCase());
+        // If there is no valid number in the textual date,
+        // assume it is 1 (as in 'a second ago').
+        return hasDigit ? (int) amount : 1;
     }
 
     private DateWrapper getResultFor(final int timeAgoAmount, final ChronoUnit chronoUnit) {
@@ -3,10 +3,22 @@ package org.schabi.newpipe.extractor.localization;
 import org.schabi.newpipe.extractor.timeago.PatternsHolder;
 import org.schabi.newpipe.extractor.timeago.PatternsManager;
 
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 public final class TimeAgoPatternsManager {
+    /**
+     * The compiled patterns of each localization, or an empty optional if the localization is not
+     * supported, so that {@link PatternsManager} is only looked up once per localization.
+     */
+    private static final Map<Localization, Optional<TimeAgoMatcher>> MATCHERS =
+            new ConcurrentHashMap<>();
+
     private TimeAgoPatternsManager() {
     }
 
@@ -16,14 +28,41 @@ public final class TimeAgoPatternsManager {
                 localization.getCountryCode());
     }
 
+    @Nullable
+    static TimeAgoMatcher getMatcherFor(@Nonnull final Localization localization) {
+        return MATCHERS.computeIfAbsent(localization, l ->
+                Optional.ofNullable(getPatternsFor(l)).map(TimeAgoMatcher::new))
+                .orElse(null);
+    }
+
     @Nullable
     public static TimeAgoParser getTimeAgoParserFor(@Nonnull final Localization localization) {
-        final PatternsHolder holder = getPatternsFor(localization);
+        return getTimeAgoParserFor(localization, Clock.systemUTC());
+    }
+
+    /**
+     * Get a parser for a localization, which parses dates relative to the current time of a
+     * clock.
+     *
+     * <p>
+     * The patterns of each localization are compiled once and shared between parsers, so getting
+     * a parser is cheap.
+     * </p>
+     *
+     * @param localization the localization of the dates to parse
+     * @param clock        the clock giving the time the dates are relative to, read once when
+     *                     creating the parser
+     * @return a parser for the localization, or {@code null} if it is not supported
+     */
+    @Nullable
+    public static TimeAgoParser getTimeAgoParserFor(@Nonnull final Localization localization,
+                                                    @Nonnull final Clock clock) {
+        final TimeAgoMatcher matcher = getMatcherFor(localization);
 
-        if (holder == null) {
+        if (matcher == null) {
             return null;
         }
 
-        return new TimeAgoParser(holder);
+        return new TimeAgoParser(matcher, clock);
     }
 }
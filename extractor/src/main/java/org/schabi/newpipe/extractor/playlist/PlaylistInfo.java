@@ -15,6 +15,7 @@ import org.schabi.newpipe.extractor.utils.ExtractorHelper;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public final class PlaylistInfo extends ListInfo<StreamInfoItem> {
 
@@ -70,6 +71,29 @@ public final class PlaylistInfo extends ListInfo<StreamInfoItem> {
         return getInfo(extractor);
     }
 
+    /**
+     * Get the info of a playlist, with at most {@code maxItems} items.
+     *
+     * <p>
+     * If the maximum number of items is reached, the info has no next page.
+     * </p>
+     *
+     * @param service  the service of the playlist
+     * @param url      the URL of the playlist
+     * @param maxItems the maximum number of items of the info, e.g. to display a preview
+     * @return the info of the playlist
+     * @see org.schabi.newpipe.extractor.ListExtractor#setMaxItems(int)
+     */
+    public static PlaylistInfo getInfo(final StreamingService service,
+                                       final String url,
+                                       final int maxItems)
+            throws IOException, ExtractionException {
+        final PlaylistExtractor extractor = service.getPlaylistExtractor(url);
+        extractor.setMaxItems(maxItems);
+        extractor.fetchPage();
+        return getInfo(extractor);
+    }
+
     public static InfoItemsPage<StreamInfoItem> getMoreItems(final StreamingService service,
                                                              final String url,
                                                              final Page page)
@@ -77,6 +101,24 @@ public final class PlaylistInfo extends ListInfo<StreamInfoItem> {
         return service.getPlaylistExtractor(url).getPage(page);
     }
 
+    /**
+     * Get a {@link Stream} over the items of all the pages of a playlist, fetched lazily with a
+     * single extractor.
+     *
+     * @param service the service of the playlist
+     * @param url     the URL of the playlist
+     * @param limit   the maximum number of items of the stream, or a negative value to stream all
+     *                items
+     * @return an ordered stream over the items of the playlist
+     * @see ListInfo#streamAllItems(org.schabi.newpipe.extractor.ListExtractor, long)
+     */
+    public static Stream<StreamInfoItem> streamAllItems(final StreamingService service,
+                                                     final String url,
+                                                     final long limit)
+            throws ExtractionException {
+        return streamAllItems(service.getPlaylistExtractor(url), limit);
+    }
+
     /**
      * Get PlaylistInfo from PlaylistExtractor
      *
@@ -37,6 +37,29 @@ public class SearchInfo extends ListInfo<InfoItem> {
         return getInfo(extractor);
     }
 
+    /**
+     * Get the info of a search, with at most {@code maxItems} items.
+     *
+     * <p>
+     * If the maximum number of items is reached, the info has no next page.
+     * </p>
+     *
+     * @param service     the service of the search
+     * @param searchQuery the search query
+     * @param maxItems    the maximum number of items of the info, e.g. to display a preview
+     * @return the info of the search
+     * @see org.schabi.newpipe.extractor.ListExtractor#setMaxItems(int)
+     */
+    public static SearchInfo getInfo(final StreamingService service,
+                                     final SearchQueryHandler searchQuery,
+                                     final int maxItems)
+            throws ExtractionException, IOException {
+        final SearchExtractor extractor = service.getSearchExtractor(searchQuery);
+        extractor.setMaxItems(maxItems);
+        extractor.fetchPage();
+        return getInfo(extractor);
+    }
+
     public static SearchInfo getInfo(final SearchExtractor extractor)
             throws ExtractionException, IOException {
         final SearchInfo info = new SearchInfo(
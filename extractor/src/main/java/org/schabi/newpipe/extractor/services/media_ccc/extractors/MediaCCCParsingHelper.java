@@ -7,6 +7,7 @@ import org.schabi.newpipe.extractor.downloader.Downloader;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.exceptions.ReCaptchaException;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.localization.Localization;
 
 import java.io.IOException;
@@ -23,6 +24,11 @@ public final class MediaCCCParsingHelper {
 
     public static OffsetDateTime parseDateFrom(final String textualUploadDate)
             throws ParsingException {
+        final OffsetDateTime date = IsoDateParser.parse(textualUploadDate);
+        if (date != null) {
+            return date;
+        }
+
         try {
             return OffsetDateTime.parse(textualUploadDate);
         } catch (final DateTimeParseException e) {
@@ -3,23 +3,35 @@ package org.schabi.newpipe.extractor.services.peertube;
 import com.grack.nanojson.JsonArray;
 import com.grack.nanojson.JsonObject;
 
+import org.schabi.newpipe.extractor.InfoItem;
 import org.schabi.newpipe.extractor.InfoItemExtractor;
 import org.schabi.newpipe.extractor.InfoItemsCollector;
+import org.schabi.newpipe.extractor.ListExtractor;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
 import org.schabi.newpipe.extractor.Page;
 import org.schabi.newpipe.extractor.exceptions.ContentNotAvailableException;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.services.peertube.extractors.PeertubeChannelInfoItemExtractor;
 import org.schabi.newpipe.extractor.services.peertube.extractors.PeertubePlaylistInfoItemExtractor;
 import org.schabi.newpipe.extractor.services.peertube.extractors.PeertubeSepiaStreamInfoItemExtractor;
 import org.schabi.newpipe.extractor.services.peertube.extractors.PeertubeStreamInfoItemExtractor;
+import org.schabi.newpipe.extractor.utils.ConcurrentPageFetcher;
 import org.schabi.newpipe.extractor.utils.JsonUtils;
 import org.schabi.newpipe.extractor.utils.Parser;
 import org.schabi.newpipe.extractor.utils.Utils;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public final class PeertubeParsingHelper {
     public static final String START_KEY = "start";
@@ -39,6 +51,11 @@ public final class PeertubeParsingHelper {
 
     public static OffsetDateTime parseDateFrom(final String textualUploadDate)
             throws ParsingException {
+        final OffsetDateTime date = IsoDateParser.parse(textualUploadDate);
+        if (date != null) {
+            return date.withOffsetSameInstant(ZoneOffset.UTC);
+        }
+
         try {
             return OffsetDateTime.ofInstant(Instant.parse(textualUploadDate), ZoneOffset.UTC);
         } catch (final DateTimeParseException e) {
@@ -67,8 +84,84 @@ public final class PeertubeParsingHelper {
         if (nextStart >= total) {
             return null;
         } else {
+            // The total is stored as the id of the page, so that the following pages can be
+            // computed without fetching this one, see getPageRange
             return new Page(prevPageUrl.replace(
-                    START_KEY + "=" + prevStart, START_KEY + "=" + nextStart));
+                    START_KEY + "=" + prevStart, START_KEY + "=" + nextStart),
+                    String.valueOf(total));
+        }
+    }
+
+    /**
+     * Get the items of the pages starting at the given one, fetching these pages concurrently.
+     *
+     * <p>
+     * As PeerTube pages are only defined by their start index and as the total number of items
+     * is known from the previous page, all the pages to fetch can be computed from the given one.
+     * If the given page has not been returned by {@link #getNextPage(String, long)}, it is fetched
+     * first in order to get the total number of items.
+     * </p>
+     *
+     * <p>
+     * This works with the pages of all PeerTube lists of videos whose pages are returned by
+     * {@link #getNextPage(String, long)}, i.e. the ones of accounts, channels and playlists.
+     * </p>
+     *
+     * @param extractor             the extractor of the list, whose
+     *                              {@link ListExtractor#getPage(Page)} method will be called
+     *                              concurrently
+     * @param page                  the first page to fetch
+     * @param maxItems              the number of items to get; as whole pages are fetched, more
+     *                              items may be returned
+     * @param maxConcurrentRequests the maximum number of pages fetched at the same time
+     * @return a page containing the items of all the pages fetched, in order, whose next page is
+     * the page following the last page fetched
+     */
+    @Nonnull
+    public static <T extends InfoItem> InfoItemsPage<T> getPageRange(
+            @Nonnull final ListExtractor<T> extractor,
+            @Nonnull final Page page,
+            final long maxItems,
+            final int maxConcurrentRequests) throws IOException, ExtractionException {
+        final List<InfoItemsPage<T>> fetchedPages = new ArrayList<>();
+        Page firstPage = page;
+        long total = parseTotal(page);
+        if (total < 0) {
+            final InfoItemsPage<T> fetchedPage = extractor.getPage(page);
+            fetchedPages.add(fetchedPage);
+            if (!fetchedPage.hasNextPage() || fetchedPage.getItems().size() >= maxItems) {
+                return ConcurrentPageFetcher.mergePages(fetchedPages,
+                        fetchedPage.getNextPage());
+            }
+            firstPage = fetchedPage.getNextPage();
+            total = parseTotal(firstPage);
+        }
+
+        final long firstStart = Long.parseLong(Parser.matchGroup1(START_PATTERN,
+                firstPage.getUrl()));
+        final long endStart = Math.min(total, firstStart + maxItems
+                - (fetchedPages.isEmpty() ? 0 : fetchedPages.get(0).getItems().size()));
+        final List<Page> pagesToFetch = new ArrayList<>();
+        Page nextPage = firstPage;
+        for (long start = firstStart; start < endStart && nextPage != null;
+                start += ITEMS_PER_PAGE) {
+            pagesToFetch.add(nextPage);
+            nextPage = getNextPage(nextPage.getUrl(), total);
+        }
+
+        fetchedPages.addAll(ConcurrentPageFetcher.fetchPages(pagesToFetch, extractor::getPage,
+                maxConcurrentRequests));
+        return ConcurrentPageFetcher.mergePages(fetchedPages, nextPage);
+    }
+
+    private static long parseTotal(@Nullable final Page page) {
+        if (page == null || Utils.isBlank(page.getId())) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(page.getId());
+        } catch (final NumberFormatException e) {
+            return -1;
         }
     }
 
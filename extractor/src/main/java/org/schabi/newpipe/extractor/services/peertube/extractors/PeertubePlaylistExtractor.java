@@ -134,6 +134,26 @@ public class PeertubePlaylistExtractor extends PlaylistExtractor {
         }
     }
 
+    /**
+     * Get the items of the pages starting at the given one, fetching these pages concurrently.
+     *
+     * @param page                  the first page to fetch, usually the next page of the
+     *                              initial page
+     * @param maxItems              the number of items to get; as whole pages are fetched, more
+     *                              items may be returned
+     * @param maxConcurrentRequests the maximum number of pages fetched at the same time
+     * @return a page containing the items of all the pages fetched, in order
+     * @see PeertubeParsingHelper#getPageRange(org.schabi.newpipe.extractor.ListExtractor, Page,
+     * long, int)
+     */
+    @Nonnull
+    public InfoItemsPage<StreamInfoItem> getPageRange(@Nonnull final Page page,
+                                                      final long maxItems,
+                                                      final int maxConcurrentRequests)
+            throws IOException, ExtractionException {
+        return PeertubeParsingHelper.getPageRange(this, page, maxItems, maxConcurrentRequests);
+    }
+
     @Override
     public void onFetchPage(@Nonnull final Downloader downloader)
             throws IOException, ExtractionException {
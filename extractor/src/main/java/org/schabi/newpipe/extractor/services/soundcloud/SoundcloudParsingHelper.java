@@ -15,6 +15,7 @@ import org.schabi.newpipe.extractor.downloader.Response;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.exceptions.ReCaptchaException;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.services.soundcloud.extractors.SoundcloudChannelInfoItemExtractor;
 import org.schabi.newpipe.extractor.services.soundcloud.extractors.SoundcloudStreamInfoItemExtractor;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
@@ -84,6 +85,11 @@ public final class SoundcloudParsingHelper {
 
     public static OffsetDateTime parseDateFrom(final String textualUploadDate)
             throws ParsingException {
+        final OffsetDateTime date = IsoDateParser.parse(textualUploadDate);
+        if (date != null) {
+            return date;
+        }
+
         try {
             return OffsetDateTime.parse(textualUploadDate);
         } catch (final DateTimeParseException e1) {
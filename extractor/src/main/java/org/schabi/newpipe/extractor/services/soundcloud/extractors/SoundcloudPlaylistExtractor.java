@@ -16,13 +16,19 @@ import org.schabi.newpipe.extractor.services.soundcloud.SoundcloudParsingHelper;
 import org.schabi.newpipe.extractor.stream.Description;
 import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
+import org.schabi.newpipe.extractor.utils.ConcurrentPageFetcher;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import static org.schabi.newpipe.extractor.services.soundcloud.SoundcloudParsingHelper.SOUNDCLOUD_API_V2_URL;
 import static org.schabi.newpipe.extractor.utils.Utils.isNullOrEmpty;
@@ -30,6 +36,11 @@ import static org.schabi.newpipe.extractor.utils.Utils.isNullOrEmpty;
 public class SoundcloudPlaylistExtractor extends PlaylistExtractor {
     private static final int STREAMS_PER_REQUESTED_PAGE = 15;
 
+    /**
+     * Cache of the IDs of the tracks of playlists, used to get the tracks of next pages.
+     */
+    private static final TrackIdsCache TRACK_IDS_CACHE = new TrackIdsCache();
+
     private String playlistId;
     private JsonObject playlist;
 
@@ -134,34 +145,122 @@ public class SoundcloudPlaylistExtractor extends PlaylistExtractor {
     public InfoItemsPage<StreamInfoItem> getInitialPage() {
         final StreamInfoItemsCollector streamInfoItemsCollector =
                 new StreamInfoItemsCollector(getServiceId());
-        final List<String> ids = new ArrayList<>();
-
-        playlist.getArray("tracks")
-                .stream()
-                .filter(JsonObject.class::isInstance)
-                .map(JsonObject.class::cast)
-                .forEachOrdered(track -> {
-                    // i.e. if full info is available
-                    if (track.has("title")) {
-                        streamInfoItemsCollector.commit(
-                                new SoundcloudStreamInfoItemExtractor(track));
-                    } else {
-                        // %09d would be enough, but a 0 before the number does not create
-                        // problems, so let's be sure
-                        ids.add(String.format("%010d", track.getInt("id")));
-                    }
-                });
+        final long[] trackIds = collectTracks(playlist, streamInfoItemsCollector);
 
-        return new InfoItemsPage<>(streamInfoItemsCollector, new Page(ids));
+        final String playlistUrl = getPlaylistApiUrl(playlistId);
+        TRACK_IDS_CACHE.put(playlistUrl, trackIds);
+        return new InfoItemsPage<>(streamInfoItemsCollector,
+                getCursorPage(playlistUrl, 0, trackIds));
     }
 
+    /**
+     * Get a page of tracks.
+     *
+     * <p>
+     * Next pages returned by this extractor are cursors containing the API URL of the playlist
+     * as their URL, and the index and the ID of the first track of the page, among the tracks
+     * whose information is not returned with the playlist, as their ID. The IDs of these tracks
+     * are cached, and fetched again if they are not in the cache anymore. If the playlist changed
+     * since the page was created, the page starts at the new index of its first track, so that
+     * no track is skipped or returned twice, and a {@link ParsingException} is thrown if this
+     * track is not in the playlist anymore.
+     * </p>
+     *
+     * <p>
+     * Pages containing the IDs of all the remaining tracks, returned by previous versions of
+     * this extractor, are still supported.
+     * </p>
+     */
     @Override
     public InfoItemsPage<StreamInfoItem> getPage(final Page page) throws IOException,
             ExtractionException {
-        if (page == null || isNullOrEmpty(page.getIds())) {
-            throw new IllegalArgumentException("Page doesn't contain IDs");
+        if (page != null && !isNullOrEmpty(page.getIds())) {
+            return getPageFromIds(page);
+        }
+        if (page == null || isNullOrEmpty(page.getUrl()) || isNullOrEmpty(page.getId())) {
+            throw new IllegalArgumentException("Page doesn't contain a playlist URL and an index");
+        }
+
+        final long[] trackIds = getCursorTrackIds(page);
+        final int start = findCursorStart(page, trackIds);
+        final int end = Math.min(start + STREAMS_PER_REQUESTED_PAGE, trackIds.length);
+        final List<String> currentIds = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            currentIds.add(formatTrackId(trackIds[i]));
         }
 
+        return new InfoItemsPage<>(getTracks(currentIds),
+                getCursorPage(page.getUrl(), end, trackIds));
+    }
+
+    /**
+     * Get the items of the pages starting at the given one, fetching these pages concurrently.
+     *
+     * <p>
+     * As the IDs of all the remaining tracks are known, the requests of all the pages are
+     * computed from the given page.
+     * </p>
+     *
+     * @param page                  the first page to fetch, usually the next page of the
+     *                              initial page
+     * @param maxItems              the number of tracks to get; as whole pages are fetched, more
+     *                              tracks may be returned
+     * @param maxConcurrentRequests the maximum number of pages fetched at the same time
+     * @return a page containing the tracks of all the pages fetched, in order, whose next page
+     * is the one following the last page fetched
+     */
+    @Nonnull
+    public InfoItemsPage<StreamInfoItem> getPageRange(@Nonnull final Page page,
+                                                      final long maxItems,
+                                                      final int maxConcurrentRequests)
+            throws IOException, ExtractionException {
+        final long[] trackIds;
+        final int trackCount;
+        final int firstIndex;
+        if (!isNullOrEmpty(page.getIds())) {
+            trackIds = null;
+            trackCount = page.getIds().size();
+            firstIndex = 0;
+        } else if (!isNullOrEmpty(page.getUrl()) && !isNullOrEmpty(page.getId())) {
+            trackIds = getCursorTrackIds(page);
+            trackCount = trackIds.length;
+            firstIndex = findCursorStart(page, trackIds);
+        } else {
+            throw new IllegalArgumentException("Page doesn't contain a playlist URL and an index");
+        }
+
+        final int end = (int) Math.min(trackCount, firstIndex + Math.max(maxItems, 1));
+        final List<Page> pagesToFetch = new ArrayList<>();
+        int start = firstIndex;
+        while (start < end) {
+            final int pageEnd = Math.min(start + STREAMS_PER_REQUESTED_PAGE, trackCount);
+            pagesToFetch.add(trackIds != null
+                    ? getCursorPage(page.getUrl(), start, trackIds)
+                    : new Page(page.getIds().subList(start, pageEnd)));
+            start = pageEnd;
+        }
+
+        final Page nextPage;
+        if (trackIds != null) {
+            nextPage = getCursorPage(page.getUrl(), start, trackIds);
+        } else {
+            nextPage = new Page(start < trackCount ? page.getIds().subList(start, trackCount)
+                    : null);
+        }
+        return ConcurrentPageFetcher.mergePages(ConcurrentPageFetcher.fetchPages(pagesToFetch,
+                this::getPage, maxConcurrentRequests), nextPage);
+    }
+
+    /**
+     * Clear the cache of the IDs of the tracks of playlists, so that they are fetched again.
+     */
+    static void clearTrackIdsCache() {
+        TRACK_IDS_CACHE.clear();
+    }
+
+    @Nonnull
+    private InfoItemsPage<StreamInfoItem> getPageFromIds(@Nonnull final Page page)
+            throws IOException, ExtractionException {
         final List<String> currentIds;
         final List<String> nextIds;
         if (page.getIds().size() <= STREAMS_PER_REQUESTED_PAGE) {
@@ -173,6 +272,12 @@ public class SoundcloudPlaylistExtractor extends PlaylistExtractor {
             nextIds = page.getIds().subList(STREAMS_PER_REQUESTED_PAGE, page.getIds().size());
         }
 
+        return new InfoItemsPage<>(getTracks(currentIds), new Page(nextIds));
+    }
+
+    @Nonnull
+    private StreamInfoItemsCollector getTracks(@Nonnull final List<String> currentIds)
+            throws IOException, ExtractionException {
         final String currentPageUrl = SOUNDCLOUD_API_V2_URL + "tracks?client_id="
                 + SoundcloudParsingHelper.clientId() + "&ids=" + String.join(",", currentIds);
 
@@ -208,6 +313,178 @@ public class SoundcloudPlaylistExtractor extends PlaylistExtractor {
             throw new ParsingException("Could not parse json response", e);
         }
 
-        return new InfoItemsPage<>(collector, new Page(nextIds));
+        return collector;
+    }
+
+    /**
+     * Commit the tracks of a playlist whose information is returned with the playlist and get
+     * the IDs of the other ones.
+     *
+     * @param playlistJson the playlist, from which tracks are collected
+     * @param collector    the collector in which the tracks with information will be committed,
+     *                     or {@code null} to only get the IDs of the other tracks
+     * @return the IDs of the tracks whose information is not returned with the playlist, in order
+     */
+    @Nonnull
+    private static long[] collectTracks(@Nonnull final JsonObject playlistJson,
+                                        @Nullable final StreamInfoItemsCollector collector) {
+        final JsonArray tracks = playlistJson.getArray("tracks");
+        final long[] trackIds = new long[tracks.size()];
+        int trackIdCount = 0;
+        for (final Object track : tracks) {
+            if (!(track instanceof JsonObject)) {
+                continue;
+            }
+            final JsonObject trackObject = (JsonObject) track;
+            // i.e. if full info is available
+            if (trackObject.has("title")) {
+                if (collector != null) {
+                    collector.commit(new SoundcloudStreamInfoItemExtractor(trackObject));
+                }
+            } else {
+                trackIds[trackIdCount++] = trackObject.getLong("id");
+            }
+        }
+        return Arrays.copyOf(trackIds, trackIdCount);
+    }
+
+    /**
+     * Get the IDs of the tracks of the playlist of a cursor page, from the cache if they contain
+     * the first track of the page, or from the playlist otherwise.
+     */
+    @Nonnull
+    private long[] getCursorTrackIds(@Nonnull final Page page)
+            throws IOException, ExtractionException {
+        final long[] cachedTrackIds = TRACK_IDS_CACHE.get(page.getUrl());
+        if (cachedTrackIds != null && findCursorStart(page, cachedTrackIds) != -1) {
+            return cachedTrackIds;
+        }
+
+        final long[] trackIds = fetchTrackIds(page.getUrl());
+        if (findCursorStart(page, trackIds) == -1) {
+            throw new ParsingException("The first track of the page is not in the playlist "
+                    + "anymore: " + page.getId());
+        }
+        return trackIds;
+    }
+
+    @Nonnull
+    private long[] fetchTrackIds(@Nonnull final String playlistUrl)
+            throws IOException, ExtractionException {
+        final String response = NewPipe.getDownloader().get(playlistUrl + "&client_id="
+                + SoundcloudParsingHelper.clientId(), getExtractorLocalization()).responseBody();
+        final long[] trackIds;
+        try {
+            trackIds = collectTracks(JsonParser.object().from(response), null);
+        } catch (final JsonParserException e) {
+            throw new ParsingException("Could not parse json response", e);
+        }
+        TRACK_IDS_CACHE.put(playlistUrl, trackIds);
+        return trackIds;
+    }
+
+    @Nonnull
+    private static String getPlaylistApiUrl(@Nonnull final String playlistId) {
+        return SOUNDCLOUD_API_V2_URL + "playlists/" + playlistId + "?representation=compact";
+    }
+
+    /**
+     * @return a cursor page starting at the given index, whose ID is the index and the ID of the
+     * track at this index, or {@code null} if there is no track at this index
+     */
+    @Nullable
+    private static Page getCursorPage(@Nonnull final String playlistUrl,
+                                      final int index,
+                                      @Nonnull final long[] trackIds) {
+        return index < trackIds.length
+                ? new Page(playlistUrl, index + ":" + trackIds[index]) : null;
+    }
+
+    /**
+     * @return the index of the first track of a cursor page in the given track IDs, which is the
+     * index of the page if the track is still at this index, or the new index of the track
+     * otherwise, or -1 if the track is not in the track IDs
+     */
+    private static int findCursorStart(@Nonnull final Page page,
+                                       @Nonnull final long[] trackIds) {
+        final String cursor = page.getId();
+        final int separator = cursor.indexOf(':');
+        final int index;
+        final long trackId;
+        try {
+            index = Integer.parseInt(cursor.substring(0, Math.max(separator, 0)));
+            trackId = Long.parseLong(cursor.substring(separator + 1));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Page doesn't contain a valid index: " + cursor, e);
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException("Page doesn't contain a valid index: " + cursor);
+        }
+
+        if (index < trackIds.length && trackIds[index] == trackId) {
+            return index;
+        }
+        for (int i = 0; i < trackIds.length; i++) {
+            if (trackIds[i] == trackId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Nonnull
+    private static String formatTrackId(final long trackId) {
+        // %09d would be enough, but a 0 before the number does not create problems, so let's be
+        // sure
+        return String.format("%010d", trackId);
+    }
+
+    /**
+     * A cache of the IDs of the tracks of the least recently used playlists, which expire after
+     * some time.
+     */
+    private static final class TrackIdsCache {
+        private static final int MAXIMUM_SIZE = 50;
+        private static final long TIME_TO_LIVE = TimeUnit.HOURS.toNanos(1);
+
+        private final Map<String, TrackIds> trackIdsByUrl =
+                new LinkedHashMap<String, TrackIds>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(
+                            final Map.Entry<String, TrackIds> eldest) {
+                        return size() > MAXIMUM_SIZE;
+                    }
+                };
+
+        @Nullable
+        synchronized long[] get(@Nonnull final String playlistUrl) {
+            final TrackIds trackIds = trackIdsByUrl.get(playlistUrl);
+            if (trackIds == null) {
+                return null;
+            }
+            if (System.nanoTime() - trackIds.creationTime > TIME_TO_LIVE) {
+                trackIdsByUrl.remove(playlistUrl);
+                return null;
+            }
+            return trackIds.ids;
+        }
+
+        synchronized void put(@Nonnull final String playlistUrl, @Nonnull final long[] ids) {
+            trackIdsByUrl.put(playlistUrl, new TrackIds(ids, System.nanoTime()));
+        }
+
+        synchronized void clear() {
+            trackIdsByUrl.clear();
+        }
+    }
+
+    private static final class TrackIds {
+        private final long[] ids;
+        private final long creationTime;
+
+        TrackIds(@Nonnull final long[] ids, final long creationTime) {
+            this.ids = ids;
+            this.creationTime = creationTime;
+        }
     }
 }
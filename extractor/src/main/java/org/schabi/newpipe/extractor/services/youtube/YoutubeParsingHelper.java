@@ -42,6 +42,7 @@ import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.exceptions.ReCaptchaException;
 import org.schabi.newpipe.extractor.localization.ContentCountry;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.localization.Localization;
 import org.schabi.newpipe.extractor.playlist.PlaylistInfo;
 import org.schabi.newpipe.extractor.stream.AudioTrackType;
@@ -434,6 +435,11 @@ public final class YoutubeParsingHelper {
 
     public static OffsetDateTime parseDateFrom(final String textualUploadDate)
             throws ParsingException {
+        final OffsetDateTime date = IsoDateParser.parse(textualUploadDate);
+        if (date != null) {
+            return date;
+        }
+
         try {
             return OffsetDateTime.parse(textualUploadDate);
         } catch (final DateTimeParseException e) {
@@ -0,0 +1,277 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A minimal streaming XML writer used by YouTube DASH manifest creators.
+ *
+ * <p>
+ * Elements are written directly into a {@link StringBuilder}, without building a DOM tree or
+ * looking up any XML factory. The output is byte-identical to what a {@link
+ * javax.xml.transform.Transformer} produced from the {@link org.w3c.dom.Document} previously
+ * built by manifest creators:
+ * </p>
+ *
+ * <ul>
+ *     <li>the XML declaration is {@code <?xml version="1.0" encoding="UTF-8"
+ *     standalone="no"?>}, with no line break after it;</li>
+ *     <li>attributes of an element are written with namespace declarations ({@code xmlns} and
+ *     {@code xmlns:*}) first, then all other attributes, each group being sorted by name;</li>
+ *     <li>elements without children are written as empty-element tags ({@code <S d="1"/>});</li>
+ *     <li>characters are escaped the same way as the JDK serializer does.</li>
+ * </ul>
+ *
+ * <p>
+ * Attributes of an element can be added in any order until a child element, text content or the
+ * end of the element is written.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class DashManifestWriter {
+
+    private static final String XML_DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+    private static final int INITIAL_ATTRIBUTES_CAPACITY = 8;
+    private static final int INITIAL_DEPTH_CAPACITY = 8;
+
+    @Nonnull
+    private final StringBuilder output;
+
+    private String[] openElements = new String[INITIAL_DEPTH_CAPACITY];
+    private int depth;
+
+    // Attributes of the element whose start tag has not been closed yet
+    private String[] attributeNames = new String[INITIAL_ATTRIBUTES_CAPACITY];
+    private String[] attributeValues = new String[INITIAL_ATTRIBUTES_CAPACITY];
+    private int attributeCount;
+    private boolean startTagOpen;
+
+    /**
+     * Create a new {@link DashManifestWriter} and write the XML declaration.
+     *
+     * @param capacityHint the expected length of the manifest, used to size the internal buffer
+     */
+    public DashManifestWriter(final int capacityHint) {
+        output = new StringBuilder(Math.max(capacityHint, XML_DECLARATION.length()));
+        output.append(XML_DECLARATION);
+    }
+
+    /**
+     * Create a new {@link DashManifestWriter} with a buffer sized for a typical manifest.
+     */
+    public DashManifestWriter() {
+        this(1024);
+    }
+
+    /**
+     * Start a new element, as a child of the current one.
+     *
+     * @param name the name of the element
+     * @return this writer
+     */
+    @Nonnull
+    public DashManifestWriter startElement(@Nonnull final String name) {
+        closeStartTag();
+        if (depth == openElements.length) {
+            openElements = Arrays.copyOf(openElements, depth * 2);
+        }
+        openElements[depth++] = name;
+        output.append('<').append(name);
+        startTagOpen = true;
+        return this;
+    }
+
+    /**
+     * Add an attribute to the element which has just been started.
+     *
+     * @param name  the name of the attribute
+     * @param value the value of the attribute, which will be escaped
+     * @return this writer
+     */
+    @Nonnull
+    public DashManifestWriter attribute(@Nonnull final String name,
+                                        @Nonnull final String value) {
+        if (!startTagOpen) {
+            throw new IllegalStateException("Cannot add attribute " + name
+                    + " after the content of an element has been written");
+        }
+        if (attributeCount == attributeNames.length) {
+            attributeNames = Arrays.copyOf(attributeNames, attributeCount * 2);
+            attributeValues = Arrays.copyOf(attributeValues, attributeCount * 2);
+        }
+        attributeNames[attributeCount] = name;
+        attributeValues[attributeCount] = value;
+        attributeCount++;
+        return this;
+    }
+
+    /**
+     * Add an integer attribute to the element which has just been started.
+     *
+     * @param name  the name of the attribute
+     * @param value the value of the attribute
+     * @return this writer
+     */
+    @Nonnull
+    public DashManifestWriter attribute(@Nonnull final String name, final long value) {
+        return attribute(name, String.valueOf(value));
+    }
+
+    /**
+     * Write text content in the current element.
+     *
+     * @param content the text to write, which will be escaped
+     * @return this writer
+     */
+    @Nonnull
+    public DashManifestWriter text(@Nonnull final String content) {
+        if (depth == 0) {
+            throw new IllegalStateException("Cannot write text outside of an element");
+        }
+        closeStartTag();
+        appendEscaped(content, false);
+        return this;
+    }
+
+    /**
+     * End the current element.
+     *
+     * @return this writer
+     */
+    @Nonnull
+    public DashManifestWriter endElement() {
+        if (depth == 0) {
+            throw new IllegalStateException("No element to end");
+        }
+        final String name = openElements[--depth];
+        openElements[depth] = null;
+        if (startTagOpen) {
+            writeAttributes();
+            output.append("/>");
+            startTagOpen = false;
+        } else {
+            output.append("</").append(name).append('>');
+        }
+        return this;
+    }
+
+    /**
+     * @return the name of the element currently open, or {@code null} if there is none
+     */
+    public String getCurrentElement() {
+        return depth == 0 ? null : openElements[depth - 1];
+    }
+
+    /**
+     * End all elements which are still open and return the manifest.
+     *
+     * @return the XML manifest written
+     */
+    @Nonnull
+    public String build() {
+        while (depth > 0) {
+            endElement();
+        }
+        return output.toString();
+    }
+
+    private void closeStartTag() {
+        if (startTagOpen) {
+            writeAttributes();
+            output.append('>');
+            startTagOpen = false;
+        }
+    }
+
+    private void writeAttributes() {
+        sortAttributes();
+        for (int i = 0; i < attributeCount; i++) {
+            output.append(' ').append(attributeNames[i]).append("=\"");
+            appendEscaped(attributeValues[i], true);
+            output.append('"');
+            attributeNames[i] = null;
+            attributeValues[i] = null;
+        }
+        attributeCount = 0;
+    }
+
+    /**
+     * Sort attributes of the pending start tag like the JDK serializer does. Elements of DASH
+     * manifests only have a few attributes, so an insertion sort is enough.
+     */
+    private void sortAttributes() {
+        for (int i = 1; i < attributeCount; i++) {
+            final String name = attributeNames[i];
+            final String value = attributeValues[i];
+            int j = i - 1;
+            while (j >= 0 && compareAttributeNames(attributeNames[j], name) > 0) {
+                attributeNames[j + 1] = attributeNames[j];
+                attributeValues[j + 1] = attributeValues[j];
+                j--;
+            }
+            attributeNames[j + 1] = name;
+            attributeValues[j + 1] = value;
+        }
+    }
+
+    private static int compareAttributeNames(@Nonnull final String first,
+                                             @Nonnull final String second) {
+        final boolean firstIsNamespace = isNamespaceDeclaration(first);
+        if (firstIsNamespace != isNamespaceDeclaration(second)) {
+            return firstIsNamespace ? -1 : 1;
+        }
+        return first.compareTo(second);
+    }
+
+    private static boolean isNamespaceDeclaration(@Nonnull final String attributeName) {
+        return attributeName.equals("xmlns") || attributeName.startsWith("xmlns:");
+    }
+
+    private void appendEscaped(@Nonnull final String value, final boolean inAttribute) {
+        final int length = value.length();
+        int i = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    output.append("&amp;");
+                    break;
+                case '<':
+                    output.append("&lt;");
+                    break;
+                case '>':
+                    output.append("&gt;");
+                    break;
+                case '"':
+                    output.append(inAttribute ? "&quot;" : "\"");
+                    break;
+                case '\n':
+                case '\t':
+                    if (inAttribute) {
+                        output.append("&#").append((int) c).append(';');
+                    } else {
+                        output.append(c);
+                    }
+                    break;
+                default:
+                    if (c < 0x20) {
+                        output.append("&#").append((int) c).append(';');
+                    } else if (Character.isHighSurrogate(c) && i + 1 < length
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        output.append("&#").append(Character.toCodePoint(c, value.charAt(i + 1)))
+                                .append(';');
+                        i++;
+                    } else {
+                        output.append(c);
+                    }
+                    break;
+            }
+            i++;
+        }
+    }
+}
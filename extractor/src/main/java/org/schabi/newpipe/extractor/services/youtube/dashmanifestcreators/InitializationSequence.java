@@ -0,0 +1,40 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import org.schabi.newpipe.extractor.downloader.Response;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The response to a request of the initialization sequence of a stream and the segment durations
+ * parsed from it, if any.
+ */
+final class InitializationSequence {
+    @Nonnull
+    private final Response response;
+    @Nullable
+    private final OtfSegmentDurations segmentDurations;
+
+    InitializationSequence(@Nonnull final Response response,
+                           @Nullable final OtfSegmentDurations segmentDurations) {
+        this.response = response;
+        this.segmentDurations = segmentDurations;
+    }
+
+    /**
+     * @return the last response got when requesting the initialization sequence
+     */
+    @Nonnull
+    Response getResponse() {
+        return response;
+    }
+
+    /**
+     * @return the segment durations parsed from the initialization sequence of an OTF stream, or
+     * {@code null} if they have not been parsed
+     */
+    @Nullable
+    OtfSegmentDurations getSegmentDurations() {
+        return segmentDurations;
+    }
+}
@@ -0,0 +1,182 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Segment durations of a YouTube {@link
+ * org.schabi.newpipe.extractor.services.youtube.DeliveryType#OTF OTF} stream.
+ *
+ * <p>
+ * They are parsed from the {@code Segment-Durations-Ms} line of the initialization sequence of
+ * the stream, which has the following format:
+ * <br>
+ * {@code Segment-Durations-Ms: length(r=repeat_count),length,...}
+ * </p>
+ *
+ * <p>
+ * The line is parsed in a single pass over the response body, without splitting it into strings.
+ * </p>
+ */
+final class OtfSegmentDurations {
+
+    static final String SEGMENT_DURATIONS_HEADER = "Segment-Durations-Ms: ";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The length of each segment duration and the number of times it is repeated after its
+    // first occurrence, or -1 if no repeat count was specified
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] repeatCounts = new int[INITIAL_CAPACITY];
+    private int count;
+    private boolean complete;
+
+    private OtfSegmentDurations() {
+    }
+
+    /**
+     * Parse the segment durations of an OTF stream from the body of its initialization sequence.
+     *
+     * <p>
+     * The body may be only the beginning of the initialization sequence: if the line of segment
+     * durations is not terminated by a line break in it, {@link #isComplete()} returns
+     * {@code false}.
+     * </p>
+     *
+     * @param responseBody the (beginning of the) body of the initialization sequence
+     * @return the parsed segment durations
+     * @throws CreationException if there is no segment duration in the body or if a segment
+     * duration is invalid
+     */
+    @Nonnull
+    static OtfSegmentDurations parse(@Nonnull final String responseBody)
+            throws CreationException {
+        final int headerIndex = responseBody.indexOf(SEGMENT_DURATIONS_HEADER);
+        if (headerIndex == -1) {
+            throw new CreationException("Could not get segment durations: no "
+                    + SEGMENT_DURATIONS_HEADER.trim() + " line found");
+        }
+
+        final OtfSegmentDurations durations = new OtfSegmentDurations();
+        final int length = responseBody.length();
+        int i = headerIndex + SEGMENT_DURATIONS_HEADER.length();
+        while (i < length) {
+            final char c = responseBody.charAt(i);
+            if (c == '\n') {
+                durations.complete = true;
+                break;
+            } else if (Character.isWhitespace(c) || c == ',') {
+                i++;
+                continue;
+            }
+
+            // Segment length
+            final int lengthStart = i;
+            long segmentLength = 0;
+            while (i < length && isAsciiDigit(responseBody.charAt(i))) {
+                segmentLength = segmentLength * 10 + (responseBody.charAt(i) - '0');
+                if (segmentLength > Integer.MAX_VALUE) {
+                    throw new CreationException("Could not get segment durations: segment length "
+                            + "is too big");
+                }
+                i++;
+            }
+            if (i == lengthStart) {
+                throw new CreationException("Could not get segment durations: invalid character "
+                        + "at index " + i);
+            }
+
+            // Optional repeat count, in the "(r=repeat_count)" format
+            long repeatCount = -1;
+            while (i < length && responseBody.charAt(i) != ','
+                    && responseBody.charAt(i) != '\n') {
+                final char repeatChar = responseBody.charAt(i);
+                if (isAsciiDigit(repeatChar)) {
+                    repeatCount = Math.max(repeatCount, 0) * 10 + (repeatChar - '0');
+                    if (repeatCount > Integer.MAX_VALUE) {
+                        throw new CreationException("Could not get segment durations: segment "
+                                + "repeat count is too big");
+                    }
+                }
+                i++;
+            }
+
+            durations.add((int) segmentLength, (int) repeatCount);
+        }
+
+        if (durations.count == 0) {
+            throw new CreationException("Could not get segment durations: no segment duration "
+                    + "found");
+        }
+        return durations;
+    }
+
+    /**
+     * @return whether the whole line of segment durations has been parsed, i.e. whether it was
+     * terminated by a line break in the body parsed
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Get the duration of the OTF stream.
+     *
+     * <p>
+     * The duration of OTF streams is not returned into the player response and needs to be
+     * calculated by adding the duration of each segment.
+     * </p>
+     *
+     * @return the duration of the OTF stream, in milliseconds
+     */
+    long getStreamDurationMs() {
+        long streamLengthMs = 0;
+        for (int i = 0; i < count; i++) {
+            streamLengthMs += (Math.max(repeatCounts[i], 0) + 1L) * lengths[i];
+        }
+        return streamLengthMs;
+    }
+
+    /**
+     * Write segment ({@code <S>}) elements for each segment duration.
+     *
+     * <p>
+     * The following element is written for each duration repeated X times:
+     * <br>
+     * {@code <S d="segmentDuration" r="durationRepetition" />}
+     * </p>
+     *
+     * <p>
+     * If there is no repetition of the duration between two segments, the {@code r} attribute is
+     * not added to the {@code S} element, as it is not needed.
+     * </p>
+     *
+     * @param writer the {@link DashManifestWriter} in which the {@code <S>} elements will be
+     *               written, as children of the {@code <SegmentTimeline>} element
+     */
+    void writeSegmentElements(@Nonnull final DashManifestWriter writer) {
+        for (int i = 0; i < count; i++) {
+            writer.startElement("S")
+                    .attribute("d", lengths[i]);
+            if (repeatCounts[i] != -1) {
+                writer.attribute("r", repeatCounts[i]);
+            }
+            writer.endElement();
+        }
+    }
+
+    private void add(final int segmentLength, final int repeatCount) {
+        if (count == lengths.length) {
+            lengths = Arrays.copyOf(lengths, count * 2);
+            repeatCounts = Arrays.copyOf(repeatCounts, count * 2);
+        }
+        lengths[count] = segmentLength;
+        repeatCounts[count] = repeatCount;
+        count++;
+    }
+
+    private static boolean isAsciiDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,449 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.HEADERS_PROBE_LENGTH;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.HTTP_PARTIAL_CONTENT;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.PERIOD;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.buildAndCacheResult;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getAudioLanguage;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getStreamingUrlFromResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.probeInitializationResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.requireMimeType;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.startAdaptationSetElement;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.startMpdElement;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.startRepresentationElement;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.writeAudioChannelConfigurationElement;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.writeRoleElement;
+
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
+import org.schabi.newpipe.extractor.services.youtube.ItagItem;
+import org.schabi.newpipe.extractor.utils.ManifestCreatorCache;
+import org.schabi.newpipe.extractor.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Class which generates DASH manifests of all the YouTube streams of a video at once.
+ *
+ * <p>
+ * The streams of a video share most of the parameters needed to generate their manifests: their
+ * duration, and their segment timeline for {@link DeliveryType#OTF OTF} and post-live-DVR
+ * streams. Instead of probing each stream independently like
+ * {@link YoutubeOtfDashManifestCreator}, {@link YoutubePostLiveStreamDvrDashManifestCreator} and
+ * {@link YoutubeProgressiveDashManifestCreator} do, this class:
+ * <ul>
+ *     <li>fetches the shared information from the initialization sequence of one stream only
+ *     (the first one which needs to be probed);</li>
+ *     <li>requests concurrently only the first byte of the initialization sequence of the other
+ *     streams, in order to get their URLs without redirections;</li>
+ *     <li>writes either one manifest per stream (which are also stored in the cache of the
+ *     corresponding creator) or a single manifest containing all the streams.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * All the streams given to the methods of this class must come from the same video and must be
+ * delivered with the same {@link DeliveryType}, where {@link DeliveryType#LIVE} stands for
+ * post-live-DVR streams.
+ * </p>
+ */
+public final class YoutubeBatchDashManifestCreator {
+
+    /**
+     * The maximum number of initialization sequences requested at the same time when no
+     * {@link Executor} is given.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_PROBES = 4;
+
+    private YoutubeBatchDashManifestCreator() {
+    }
+
+    /**
+     * Create one DASH manifest per stream of a video.
+     *
+     * <p>
+     * The initialization sequences of streams are requested with a thread pool of at most
+     * {@link #DEFAULT_MAXIMUM_CONCURRENT_PROBES} threads, created for this call.
+     * </p>
+     *
+     * @param streams                 the base URLs of the streams and their {@link ItagItem}s,
+     *                                which must not be null
+     * @param deliveryType            the {@link DeliveryType} of all the streams
+     * @param durationSecondsFallback the duration of the video, which will be used if the
+     *                                duration could not be extracted
+     * @return the manifests generated, in the same order as the streams given
+     * @see #createManifests(List, DeliveryType, long, Executor)
+     */
+    @Nonnull
+    public static List<String> createManifests(
+            @Nonnull final List<Pair<String, ItagItem>> streams,
+            @Nonnull final DeliveryType deliveryType,
+            final long durationSecondsFallback) throws CreationException {
+        final ExecutorService executor = createDefaultExecutor(streams.size());
+        try {
+            return createManifests(streams, deliveryType, durationSecondsFallback, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create one DASH manifest per stream of a video.
+     *
+     * <p>
+     * The manifests generated are the same as the ones generated by the creator of the
+     * {@link DeliveryType} given, except that the segment timeline and the duration of OTF and
+     * post-live-DVR streams are the ones of the first stream probed. They are stored in the cache
+     * of this creator, and streams which have already a manifest in it are not probed again.
+     * </p>
+     *
+     * <p>
+     * For post-live-DVR streams, the target duration of segments is got with
+     * {@link ItagItem#getTargetDurationSec()}.
+     * </p>
+     *
+     * @param streams                 the base URLs of the streams and their {@link ItagItem}s,
+     *                                which must not be null
+     * @param deliveryType            the {@link DeliveryType} of all the streams
+     * @param durationSecondsFallback the duration of the video, which will be used if the
+     *                                duration could not be extracted
+     * @param executor                the {@link Executor} on which the initialization sequences
+     *                                of the streams will be requested
+     * @return the manifests generated, in the same order as the streams given
+     */
+    @Nonnull
+    public static List<String> createManifests(
+            @Nonnull final List<Pair<String, ItagItem>> streams,
+            @Nonnull final DeliveryType deliveryType,
+            final long durationSecondsFallback,
+            @Nonnull final Executor executor) throws CreationException {
+        final ManifestCreatorCache<String, String> cache = getCache(deliveryType);
+        final String[] manifests = new String[streams.size()];
+        final List<Pair<String, ItagItem>> streamsToProbe = new ArrayList<>();
+        final List<Integer> indexesToProbe = new ArrayList<>();
+        for (int i = 0; i < streams.size(); i++) {
+            final Pair<Integer, String> cachedManifest = cache.get(streams.get(i).getFirst());
+            if (cachedManifest == null) {
+                streamsToProbe.add(streams.get(i));
+                indexesToProbe.add(i);
+            } else {
+                manifests[i] = cachedManifest.getSecond();
+            }
+        }
+
+        if (!streamsToProbe.isEmpty()) {
+            final ProbeResult probeResult = probeStreams(streamsToProbe, deliveryType,
+                    durationSecondsFallback, executor);
+            for (int i = 0; i < streamsToProbe.size(); i++) {
+                final ItagItem itagItem = streamsToProbe.get(i).getSecond();
+                final long streamDuration = deliveryType == DeliveryType.PROGRESSIVE
+                        ? YoutubeProgressiveDashManifestCreator.getStreamDuration(itagItem,
+                                durationSecondsFallback)
+                        : probeResult.streamDuration;
+
+                final DashManifestWriter writer = new DashManifestWriter();
+                startMpdElement(writer, streamDuration);
+                writer.startElement(PERIOD);
+                startAdaptationSetElement(writer, itagItem);
+                writeRoleElement(writer, itagItem);
+                writeRepresentationElement(writer, itagItem,
+                        probeResult.streamingUrls.get(i), deliveryType, probeResult);
+
+                manifests[indexesToProbe.get(i)] = buildAndCacheResult(
+                        streamsToProbe.get(i).getFirst(), writer, cache);
+            }
+        }
+
+        final List<String> result = new ArrayList<>(manifests.length);
+        Collections.addAll(result, manifests);
+        return result;
+    }
+
+    /**
+     * Create a single DASH manifest containing all the streams of a video.
+     *
+     * <p>
+     * The initialization sequences of streams are requested with a thread pool of at most
+     * {@link #DEFAULT_MAXIMUM_CONCURRENT_PROBES} threads, created for this call.
+     * </p>
+     *
+     * @param streams                 the base URLs of the streams and their {@link ItagItem}s,
+     *                                which must not be null or empty
+     * @param deliveryType            the {@link DeliveryType} of all the streams
+     * @param durationSecondsFallback the duration of the video, which will be used if the
+     *                                duration could not be extracted
+     * @return the manifest generated
+     * @see #createMultiRepresentationManifest(List, DeliveryType, long, Executor)
+     */
+    @Nonnull
+    public static String createMultiRepresentationManifest(
+            @Nonnull final List<Pair<String, ItagItem>> streams,
+            @Nonnull final DeliveryType deliveryType,
+            final long durationSecondsFallback) throws CreationException {
+        final ExecutorService executor = createDefaultExecutor(streams.size());
+        try {
+            return createMultiRepresentationManifest(streams, deliveryType,
+                    durationSecondsFallback, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create a single DASH manifest containing all the streams of a video.
+     *
+     * <p>
+     * Streams are grouped in adaptation sets by mime type, audio track and audio language, in the
+     * order in which they are given; each stream is written as a {@code <Representation>} element
+     * of its adaptation set. The duration of the manifest is the one of the first stream probed
+     * for OTF and post-live-DVR streams, and the longest duration of all streams for progressive
+     * ones.
+     * </p>
+     *
+     * <p>
+     * The manifest generated is not cached.
+     * </p>
+     *
+     * @param streams                 the base URLs of the streams and their {@link ItagItem}s,
+     *                                which must not be null or empty
+     * @param deliveryType            the {@link DeliveryType} of all the streams
+     * @param durationSecondsFallback the duration of the video, which will be used if the
+     *                                duration could not be extracted
+     * @param executor                the {@link Executor} on which the initialization sequences
+     *                                of the streams will be requested
+     * @return the manifest generated
+     */
+    @Nonnull
+    public static String createMultiRepresentationManifest(
+            @Nonnull final List<Pair<String, ItagItem>> streams,
+            @Nonnull final DeliveryType deliveryType,
+            final long durationSecondsFallback,
+            @Nonnull final Executor executor) throws CreationException {
+        if (streams.isEmpty()) {
+            throw new CreationException("Could not create a manifest without streams");
+        }
+
+        final ProbeResult probeResult = probeStreams(streams, deliveryType,
+                durationSecondsFallback, executor);
+
+        long streamDuration = probeResult.streamDuration;
+        if (deliveryType == DeliveryType.PROGRESSIVE) {
+            for (final Pair<String, ItagItem> stream : streams) {
+                streamDuration = Math.max(streamDuration, YoutubeProgressiveDashManifestCreator
+                        .getStreamDuration(stream.getSecond(), durationSecondsFallback));
+            }
+        }
+
+        // Group streams by adaptation set, keeping the order in which they are given
+        final Map<String, List<Integer>> adaptationSets = new LinkedHashMap<>();
+        for (int i = 0; i < streams.size(); i++) {
+            adaptationSets.computeIfAbsent(getAdaptationSetKey(streams.get(i).getSecond()),
+                    key -> new ArrayList<>()).add(i);
+        }
+
+        final DashManifestWriter writer = new DashManifestWriter();
+        startMpdElement(writer, streamDuration);
+        writer.startElement(PERIOD);
+
+        int adaptationSetId = 0;
+        for (final List<Integer> streamIndexes : adaptationSets.values()) {
+            final ItagItem firstItagItem = streams.get(streamIndexes.get(0)).getSecond();
+            startAdaptationSetElement(writer, firstItagItem, adaptationSetId);
+            writeRoleElement(writer, firstItagItem);
+            for (final int streamIndex : streamIndexes) {
+                writeRepresentationElement(writer, streams.get(streamIndex).getSecond(),
+                        probeResult.streamingUrls.get(streamIndex), deliveryType, probeResult);
+            }
+            writer.endElement();
+            adaptationSetId++;
+        }
+
+        return writer.build();
+    }
+
+    /**
+     * Write a {@code <Representation>} element and its children.
+     */
+    private static void writeRepresentationElement(@Nonnull final DashManifestWriter writer,
+                                                   @Nonnull final ItagItem itagItem,
+                                                   @Nonnull final String streamingUrl,
+                                                   @Nonnull final DeliveryType deliveryType,
+                                                   @Nonnull final ProbeResult probeResult)
+            throws CreationException {
+        startRepresentationElement(writer, itagItem);
+        if (itagItem.itagType == ItagItem.ItagType.AUDIO) {
+            writeAudioChannelConfigurationElement(writer, itagItem);
+        }
+
+        switch (deliveryType) {
+            case OTF:
+                YoutubeOtfDashManifestCreator.writeSegmentTemplateElement(writer, streamingUrl,
+                        probeResult.segmentDurations);
+                break;
+            case LIVE:
+                final int targetDurationSec = itagItem.getTargetDurationSec();
+                if (targetDurationSec <= 0) {
+                    throw new CreationException("targetDurationSec value is <= 0: "
+                            + targetDurationSec);
+                }
+                YoutubePostLiveStreamDvrDashManifestCreator.writeSegmentTemplateElement(writer,
+                        streamingUrl, targetDurationSec, probeResult.segmentCount);
+                break;
+            default:
+                YoutubeProgressiveDashManifestCreator.generateBaseUrlElement(writer,
+                        streamingUrl);
+                YoutubeProgressiveDashManifestCreator.generateSegmentBaseElement(writer,
+                        itagItem);
+                break;
+        }
+
+        writer.endElement();
+    }
+
+    /**
+     * Get the information needed to write the manifests of streams.
+     *
+     * <p>
+     * For OTF and post-live-DVR streams, the initialization sequence of the first stream is
+     * requested in order to get the shared information, while only the first byte of the
+     * initialization sequence of the other streams is requested, concurrently, in order to get
+     * their URLs without redirections. Progressive streams are not probed.
+     * </p>
+     */
+    @Nonnull
+    private static ProbeResult probeStreams(@Nonnull final List<Pair<String, ItagItem>> streams,
+                                            @Nonnull final DeliveryType deliveryType,
+                                            final long durationSecondsFallback,
+                                            @Nonnull final Executor executor)
+            throws CreationException {
+        final ProbeResult probeResult = new ProbeResult();
+        if (deliveryType == DeliveryType.PROGRESSIVE) {
+            for (final Pair<String, ItagItem> stream : streams) {
+                probeResult.streamingUrls.add(stream.getFirst());
+            }
+            return probeResult;
+        }
+
+        final List<FutureTask<Response>> tasks = new ArrayList<>(streams.size());
+        try {
+            final FutureTask<InitializationSequence> firstStreamTask =
+                    new FutureTask<>(() -> probeFirstStream(streams.get(0), deliveryType));
+            executor.execute(firstStreamTask);
+
+            for (int i = 1; i < streams.size(); i++) {
+                final Pair<String, ItagItem> stream = streams.get(i);
+                final FutureTask<Response> task = new FutureTask<>(() ->
+                        probeStreamingUrl(stream, deliveryType));
+                tasks.add(task);
+                executor.execute(task);
+            }
+
+            final InitializationSequence firstStream = firstStreamTask.get();
+            probeResult.streamingUrls.add(getStreamingUrlFromResponse(firstStream.getResponse()));
+            if (deliveryType == DeliveryType.OTF) {
+                probeResult.segmentDurations = firstStream.getSegmentDurations();
+                probeResult.streamDuration = probeResult.segmentDurations.getStreamDurationMs();
+                if (probeResult.streamDuration <= 0) {
+                    probeResult.streamDuration = durationSecondsFallback * 1000;
+                }
+            } else {
+                probeResult.segmentCount = YoutubePostLiveStreamDvrDashManifestCreator
+                        .getSegmentCount(firstStream.getResponse());
+                probeResult.streamDuration = YoutubePostLiveStreamDvrDashManifestCreator
+                        .getStreamDuration(firstStream.getResponse(), durationSecondsFallback);
+            }
+
+            for (final FutureTask<Response> task : tasks) {
+                probeResult.streamingUrls.add(getStreamingUrlFromResponse(task.get()));
+            }
+            return probeResult;
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CreationException) {
+                throw (CreationException) e.getCause();
+            }
+            throw new CreationException("Could not probe the streams", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreationException("Interrupted while probing the streams", e);
+        } finally {
+            for (final FutureTask<Response> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    @Nonnull
+    private static InitializationSequence probeFirstStream(
+            @Nonnull final Pair<String, ItagItem> stream,
+            @Nonnull final DeliveryType deliveryType) throws CreationException {
+        if (deliveryType == DeliveryType.OTF) {
+            return YoutubeOtfDashManifestCreator.fetchSegmentDurations(stream.getFirst(),
+                    stream.getSecond());
+        }
+        return new InitializationSequence(probeStreamingUrl(stream, deliveryType), null);
+    }
+
+    @Nonnull
+    private static Response probeStreamingUrl(@Nonnull final Pair<String, ItagItem> stream,
+                                              @Nonnull final DeliveryType deliveryType)
+            throws CreationException {
+        final Response response = probeInitializationResponse(stream.getFirst(),
+                stream.getSecond(), deliveryType, HEADERS_PROBE_LENGTH);
+        final int responseCode = response.responseCode();
+        if (responseCode != 200 && responseCode != HTTP_PARTIAL_CONTENT) {
+            throw new CreationException("Could not get the initialization sequence: response "
+                    + "code " + responseCode);
+        }
+        return response;
+    }
+
+    @Nonnull
+    private static String getAdaptationSetKey(@Nonnull final ItagItem itagItem)
+            throws CreationException {
+        return requireMimeType(itagItem) + '\n' + getAudioLanguage(itagItem) + '\n'
+                + itagItem.getAudioTrackId() + '\n' + itagItem.getAudioTrackType();
+    }
+
+    @Nonnull
+    private static ManifestCreatorCache<String, String> getCache(
+            @Nonnull final DeliveryType deliveryType) {
+        switch (deliveryType) {
+            case OTF:
+                return YoutubeOtfDashManifestCreator.getCache();
+            case LIVE:
+                return YoutubePostLiveStreamDvrDashManifestCreator.getCache();
+            default:
+                return YoutubeProgressiveDashManifestCreator.getCache();
+        }
+    }
+
+    @Nonnull
+    private static ExecutorService createDefaultExecutor(final int streamCount) {
+        return Executors.newFixedThreadPool(Math.max(1,
+                Math.min(streamCount, DEFAULT_MAXIMUM_CONCURRENT_PROBES)));
+    }
+
+    /**
+     * The information shared by the streams of a video and their URLs without redirections.
+     */
+    private static final class ProbeResult {
+        private final List<String> streamingUrls = new ArrayList<>();
+        private long streamDuration;
+        @Nullable
+        private OtfSegmentDurations segmentDurations;
+        @Nullable
+        private String segmentCount;
+    }
+}
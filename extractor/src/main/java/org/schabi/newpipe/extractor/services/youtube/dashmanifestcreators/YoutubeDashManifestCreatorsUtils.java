@@ -27,6 +27,7 @@ import org.w3c.dom.Element;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -53,8 +54,10 @@ import javax.xml.transform.stream.StreamResult;
  * </p>
  *
  * <p>
- * Generation of DASH documents and their conversion as a string is done using external classes
- * from {@link org.w3c.dom} and {@link javax.xml} packages.
+ * Manifests are written as strings with a {@link DashManifestWriter}, without building a DOM
+ * tree. The methods working on {@link Document}s, which use external classes from
+ * {@link org.w3c.dom} and {@link javax.xml} packages, produce the same manifests and are kept for
+ * compatibility.
  * </p>
  */
 public final class YoutubeDashManifestCreatorsUtils {
@@ -84,6 +87,34 @@ public final class YoutubeDashManifestCreatorsUtils {
      */
     public static final String ALR_YES = "&alr=yes";
 
+    /**
+     * The number of bytes requested first when probing the initialization sequence of a stream
+     * with {@link #probeInitializationResponse(String, ItagItem, DeliveryType, int)}.
+     *
+     * <p>
+     * It is large enough to contain the redirection URLs returned to HTML5 clients and the
+     * segment durations of most OTF streams.
+     * </p>
+     */
+    public static final int INITIALIZATION_PROBE_LENGTH = 64 * 1024;
+
+    /**
+     * The number of bytes requested when probing the initialization sequence of a stream only to
+     * get the headers and the URL without redirections of its response, i.e. {@code bytes=0-0}.
+     */
+    public static final int HEADERS_PROBE_LENGTH = 1;
+
+    /**
+     * The maximum number of bytes requested when probing the initialization sequence of a stream,
+     * after which the whole sequence is requested.
+     */
+    public static final int MAXIMUM_INITIALIZATION_PROBE_LENGTH = 4 * 1024 * 1024;
+
+    /**
+     * HTTP status code of responses to requests which only got a range of the resource.
+     */
+    public static final int HTTP_PARTIAL_CONTENT = 206;
+
     // XML elements of DASH MPD manifests
     // see https://www.brendanlong.com/the-structure-of-an-mpeg-dash-mpd.html
     public static final String MPD = "MPD";
@@ -98,6 +129,330 @@ public final class YoutubeDashManifestCreatorsUtils {
     public static final String SEGMENT_BASE = "SegmentBase";
     public static final String INITIALIZATION = "Initialization";
 
+    /**
+     * Create a {@link DashManifestWriter} and write the common manifest creator elements in it.
+     *
+     * <p>
+     * Those are:
+     * <ul>
+     *     <li>{@code MPD} (using {@link #startMpdElement(DashManifestWriter, long)});</li>
+     *     <li>{@code Period};</li>
+     *     <li>{@code AdaptationSet} (using {@link #startAdaptationSetElement(DashManifestWriter,
+     *     ItagItem)});</li>
+     *     <li>{@code Role} (using {@link #writeRoleElement(DashManifestWriter, ItagItem)});</li>
+     *     <li>{@code Representation} (using {@link #startRepresentationElement(
+     *     DashManifestWriter, ItagItem)});</li>
+     *     <li>and, for audio streams, {@code AudioChannelConfiguration} (using
+     *     {@link #writeAudioChannelConfigurationElement(DashManifestWriter, ItagItem)}).</li>
+     * </ul>
+     * </p>
+     *
+     * <p>
+     * The {@code <Representation>} element is left open, so that creators can write their
+     * specific elements in it.
+     * </p>
+     *
+     * @param itagItem the {@link ItagItem} associated to the stream, which must not be null
+     * @param streamDuration the duration of the stream, in milliseconds
+     * @return a {@link DashManifestWriter} with the common elements written in it
+     */
+    @Nonnull
+    public static DashManifestWriter generateWriterAndDoCommonElementsGeneration(
+            @Nonnull final ItagItem itagItem,
+            final long streamDuration) throws CreationException {
+        final DashManifestWriter writer = new DashManifestWriter();
+
+        startMpdElement(writer, streamDuration);
+        writer.startElement(PERIOD);
+        startAdaptationSetElement(writer, itagItem);
+        writeRoleElement(writer, itagItem);
+        startRepresentationElement(writer, itagItem);
+        if (itagItem.itagType == ItagItem.ItagType.AUDIO) {
+            writeAudioChannelConfigurationElement(writer, itagItem);
+        }
+
+        return writer;
+    }
+
+    /**
+     * Start the {@code <MPD>} element of the manifest.
+     *
+     * <p>
+     * The element looks like the one of the manifest returned into the player response of videos,
+     * with {@code mediaPresentationDuration="PT$duration$S"} (where {@code $duration$} represents
+     * the duration in seconds, with 3 digits after the decimal point).
+     * </p>
+     *
+     * @param writer   the {@link DashManifestWriter} in which the element will be started
+     * @param duration the duration of the stream, in milliseconds
+     */
+    public static void startMpdElement(@Nonnull final DashManifestWriter writer,
+                                       final long duration) {
+        writer.startElement(MPD)
+                .attribute("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance")
+                .attribute("xmlns", "urn:mpeg:DASH:schema:MPD:2011")
+                .attribute("xsi:schemaLocation", "urn:mpeg:DASH:schema:MPD:2011 DASH-MPD.xsd")
+                .attribute("minBufferTime", "PT1.500S")
+                .attribute("profiles", "urn:mpeg:dash:profile:full:2011")
+                .attribute("type", "static")
+                .attribute("mediaPresentationDuration", formatMediaPresentationDuration(duration));
+    }
+
+    /**
+     * Start the {@code <AdaptationSet>} element, as a child of the {@code <Period>} element.
+     *
+     * @param writer   the {@link DashManifestWriter} in which the element will be started
+     * @param itagItem the {@link ItagItem} corresponding to the stream, which must not be null
+     */
+    public static void startAdaptationSetElement(@Nonnull final DashManifestWriter writer,
+                                                 @Nonnull final ItagItem itagItem)
+            throws CreationException {
+        startAdaptationSetElement(writer, itagItem, 0);
+    }
+
+    /**
+     * Start an {@code <AdaptationSet>} element with the given identifier, as a child of the
+     * {@code <Period>} element.
+     *
+     * <p>
+     * This is used to write manifests containing multiple adaptation sets, see
+     * {@link YoutubeBatchDashManifestCreator}.
+     * </p>
+     *
+     * @param writer          the {@link DashManifestWriter} in which the element will be started
+     * @param itagItem        the {@link ItagItem} corresponding to the streams of the adaptation
+     *                        set, which must not be null
+     * @param adaptationSetId the identifier of the adaptation set in the manifest
+     */
+    public static void startAdaptationSetElement(@Nonnull final DashManifestWriter writer,
+                                                 @Nonnull final ItagItem itagItem,
+                                                 final int adaptationSetId)
+            throws CreationException {
+        final String mimeType = requireMimeType(itagItem);
+
+        writer.startElement(ADAPTATION_SET)
+                .attribute("id", adaptationSetId);
+        final String audioLanguage = getAudioLanguage(itagItem);
+        if (audioLanguage != null) {
+            writer.attribute("lang", audioLanguage);
+        }
+        writer.attribute("mimeType", mimeType)
+                .attribute("subsegmentAlignment", "true");
+    }
+
+    /**
+     * Write the {@code <Role>} element, as a child of the {@code <AdaptationSet>} element.
+     *
+     * <p>
+     * The element written is {@code <Role schemeIdUri="urn:mpeg:DASH:role:2011" value="VALUE"/>},
+     * where {@code VALUE} depends on the {@link AudioTrackType} of the stream.
+     * </p>
+     *
+     * @param writer   the {@link DashManifestWriter} in which the element will be written
+     * @param itagItem the {@link ItagItem} corresponding to the stream, which must not be null
+     */
+    public static void writeRoleElement(@Nonnull final DashManifestWriter writer,
+                                        @Nonnull final ItagItem itagItem) {
+        writer.startElement(ROLE)
+                .attribute("schemeIdUri", "urn:mpeg:DASH:role:2011")
+                .attribute("value", getRoleValue(itagItem.getAudioTrackType()))
+                .endElement();
+    }
+
+    /**
+     * Start the {@code <Representation>} element, as a child of the {@code <AdaptationSet>}
+     * element.
+     *
+     * @param writer   the {@link DashManifestWriter} in which the element will be started
+     * @param itagItem the {@link ItagItem} to use, which must not be null
+     */
+    public static void startRepresentationElement(@Nonnull final DashManifestWriter writer,
+                                                  @Nonnull final ItagItem itagItem)
+            throws CreationException {
+        checkRepresentation(itagItem);
+
+        writer.startElement(REPRESENTATION)
+                .attribute("id", itagItem.id)
+                .attribute("codecs", itagItem.getCodec())
+                .attribute("startWithSAP", "1")
+                .attribute("maxPlayoutRate", "1")
+                .attribute("bandwidth", itagItem.getBitrate());
+
+        if (itagItem.itagType == ItagItem.ItagType.VIDEO
+                || itagItem.itagType == ItagItem.ItagType.VIDEO_ONLY) {
+            final int width = itagItem.getWidth();
+            if (width > 0) {
+                writer.attribute("width", width);
+            }
+            writer.attribute("height", itagItem.getHeight());
+
+            final int fps = itagItem.getFps();
+            if (fps > 0) {
+                writer.attribute("frameRate", fps);
+            }
+        }
+    }
+
+    /**
+     * Write the {@code <AudioChannelConfiguration>} element, as a child of the
+     * {@code <Representation>} element.
+     *
+     * <p>
+     * This method is only used when generating DASH manifests of audio streams.
+     * </p>
+     *
+     * @param writer   the {@link DashManifestWriter} in which the element will be written
+     * @param itagItem the {@link ItagItem} to use, which must not be null
+     */
+    public static void writeAudioChannelConfigurationElement(
+            @Nonnull final DashManifestWriter writer,
+            @Nonnull final ItagItem itagItem) throws CreationException {
+        checkAudioChannels(itagItem);
+
+        writer.startElement(AUDIO_CHANNEL_CONFIGURATION)
+                .attribute("schemeIdUri", "urn:mpeg:dash:23003:3:audio_channel_configuration:2011")
+                .attribute("value", itagItem.getAudioChannels())
+                .endElement();
+    }
+
+    /**
+     * Start the {@code <SegmentTemplate>} element, as a child of the {@code <Representation>}
+     * element.
+     *
+     * <p>
+     * The {@code initialization} attribute is only written for OTF streams, as post-live-DVR
+     * streams don't require an initialization sequence.
+     * </p>
+     *
+     * @param writer       the {@link DashManifestWriter} in which the element will be started
+     * @param baseUrl      the base URL of the OTF/post-live-DVR stream
+     * @param deliveryType the stream {@link DeliveryType delivery type}, which must be either
+     * {@link DeliveryType#OTF OTF} or {@link DeliveryType#LIVE LIVE}
+     */
+    public static void startSegmentTemplateElement(@Nonnull final DashManifestWriter writer,
+                                                   @Nonnull final String baseUrl,
+                                                   final DeliveryType deliveryType)
+            throws CreationException {
+        checkSegmentTemplateDeliveryType(deliveryType);
+
+        // The first sequence of post DVR streams is the beginning of the video stream and not
+        // an initialization segment
+        writer.startElement(SEGMENT_TEMPLATE)
+                .attribute("startNumber", deliveryType == DeliveryType.LIVE ? "0" : "1")
+                .attribute("timescale", "1000");
+
+        // Post-live-DVR/ended livestreams streams don't require an initialization sequence
+        if (deliveryType != DeliveryType.LIVE) {
+            writer.attribute("initialization", baseUrl + SQ_0);
+        }
+
+        writer.attribute("media", baseUrl + "&sq=$Number$");
+    }
+
+    /**
+     * End all elements of a {@link DashManifestWriter}, get the manifest and cache it.
+     *
+     * @param originalBaseStreamingUrl the original base URL of the stream
+     * @param writer                   the writer in which the manifest has been written
+     * @param manifestCreatorCache     the {@link ManifestCreatorCache} on which store the string
+     *                                 generated
+     * @return the DASH manifest written
+     */
+    @Nonnull
+    public static String buildAndCacheResult(
+            @Nonnull final String originalBaseStreamingUrl,
+            @Nonnull final DashManifestWriter writer,
+            @Nonnull final ManifestCreatorCache<String, String> manifestCreatorCache) {
+        final String manifest = writer.build();
+        manifestCreatorCache.put(originalBaseStreamingUrl, manifest);
+        return manifest;
+    }
+
+    /**
+     * Get the streaming URL of a stream from a response to a request of its initialization
+     * sequence.
+     *
+     * <p>
+     * The last URL of the response is used, in order to avoid redirects when streaming the
+     * content, and the parameters added to request the initialization sequence are removed from
+     * it.
+     * </p>
+     *
+     * @param response a response got with {@link #getInitializationResponse(String, ItagItem,
+     *                 DeliveryType)} or {@link #probeInitializationResponse(String, ItagItem,
+     *                 DeliveryType, int)}
+     * @return the streaming URL of the stream, without redirections
+     */
+    @Nonnull
+    public static String getStreamingUrlFromResponse(@Nonnull final Response response) {
+        return response.latestUrl().replace(SQ_0, "").replace(RN_0, "").replace(ALR_YES, "");
+    }
+
+    @Nonnull
+    private static String formatMediaPresentationDuration(final long duration) {
+        return String.format(Locale.ENGLISH, "PT%.3fS", duration / 1000.0);
+    }
+
+    @Nonnull
+    static String requireMimeType(@Nonnull final ItagItem itagItem)
+            throws CreationException {
+        final MediaFormat mediaFormat = itagItem.getMediaFormat();
+        if (mediaFormat == null || isNullOrEmpty(mediaFormat.getMimeType())) {
+            throw CreationException.couldNotAddElement(ADAPTATION_SET,
+                    "the MediaFormat or its mime type is null or empty");
+        }
+        return mediaFormat.getMimeType();
+    }
+
+    @Nullable
+    static String getAudioLanguage(@Nonnull final ItagItem itagItem) {
+        if (itagItem.itagType == ItagItem.ItagType.AUDIO) {
+            final Locale audioLocale = itagItem.getAudioLocale();
+            if (audioLocale != null && !audioLocale.getLanguage().isEmpty()) {
+                return audioLocale.getLanguage();
+            }
+        }
+        return null;
+    }
+
+    private static void checkRepresentation(@Nonnull final ItagItem itagItem)
+            throws CreationException {
+        if (itagItem.id <= 0) {
+            throw CreationException.couldNotAddElement(REPRESENTATION,
+                    "the id of the ItagItem is <= 0");
+        }
+        if (isNullOrEmpty(itagItem.getCodec())) {
+            throw CreationException.couldNotAddElement(ADAPTATION_SET,
+                    "the codec value of the ItagItem is null or empty");
+        }
+        if (itagItem.getBitrate() <= 0) {
+            throw CreationException.couldNotAddElement(REPRESENTATION,
+                    "the bitrate of the ItagItem is <= 0");
+        }
+        if ((itagItem.itagType == ItagItem.ItagType.VIDEO
+                || itagItem.itagType == ItagItem.ItagType.VIDEO_ONLY)
+                && itagItem.getHeight() <= 0 && itagItem.getWidth() <= 0) {
+            throw CreationException.couldNotAddElement(REPRESENTATION,
+                    "both width and height of the ItagItem are <= 0");
+        }
+    }
+
+    private static void checkAudioChannels(@Nonnull final ItagItem itagItem)
+            throws CreationException {
+        if (itagItem.getAudioChannels() <= 0) {
+            throw new CreationException("the number of audioChannels in the ItagItem is <= 0: "
+                    + itagItem.getAudioChannels());
+        }
+    }
+
+    private static void checkSegmentTemplateDeliveryType(final DeliveryType deliveryType)
+            throws CreationException {
+        if (deliveryType != DeliveryType.OTF && deliveryType != DeliveryType.LIVE) {
+            throw CreationException.couldNotAddElement(SEGMENT_TEMPLATE, "invalid delivery type: "
+                    + deliveryType);
+        }
+    }
+
     /**
      * Create an attribute with {@link Document#createAttribute(String)}, assign to it the provided
      * name and value, then add it to the provided element using {@link
@@ -107,7 +462,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param doc     document to use to create the attribute
      * @param name    name of the attribute
      * @param value   value of the attribute, will be set using {@link Attr#setValue(String)}
+     * @deprecated Use {@link DashManifestWriter#attribute(String, String)} instead.
      */
+    @Deprecated
     public static void setAttribute(final Element element,
                                     final Document doc,
                                     final String name,
@@ -138,7 +495,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param itagItem the {@link ItagItem} associated to the stream, which must not be null
      * @param streamDuration the duration of the stream, in milliseconds
      * @return a {@link Document} with the common elements added in it
+     * @deprecated Use {@link #generateWriterAndDoCommonElementsGeneration(ItagItem, long)} instead.
      */
+    @Deprecated
     @Nonnull
     public static Document generateDocumentAndDoCommonElementsGeneration(
             @Nonnull final ItagItem itagItem,
@@ -176,7 +535,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      *
      * @param duration the duration of the stream, in milliseconds
      * @return a {@link Document} instance which contains a {@code <MPD>} element
+     * @deprecated Use {@link #startMpdElement(DashManifestWriter, long)} instead.
      */
+    @Deprecated
     @Nonnull
     public static Document generateDocumentAndMpdElement(final long duration)
             throws CreationException {
@@ -212,7 +573,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      * </p>
      *
      * @param doc the {@link Document} on which the {@code <Period>} element will be appended
+     * @deprecated Use {@link DashManifestWriter#startElement(String)} instead.
      */
+    @Deprecated
     public static void generatePeriodElement(@Nonnull final Document doc)
             throws CreationException {
         try {
@@ -235,7 +598,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      *
      * @param doc the {@link Document} on which the {@code <Period>} element will be appended
      * @param itagItem the {@link ItagItem} corresponding to the stream, which must not be null
+     * @deprecated Use {@link #startAdaptationSetElement(DashManifestWriter, ItagItem)} instead.
      */
+    @Deprecated
     public static void generateAdaptationSetElement(@Nonnull final Document doc,
                                                     @Nonnull final ItagItem itagItem)
             throws CreationException {
@@ -292,7 +657,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      *
      * @param doc      the {@link Document} on which the {@code <Role>} element will be appended
      * @param itagItem the {@link ItagItem} corresponding to the stream, which must not be null
+     * @deprecated Use {@link #writeRoleElement(DashManifestWriter, ItagItem)} instead.
      */
+    @Deprecated
     public static void generateRoleElement(@Nonnull final Document doc,
                                            @Nonnull final ItagItem itagItem)
             throws CreationException {
@@ -344,7 +711,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param doc the {@link Document} on which the {@code <SegmentTimeline>} element will be
      *            appended
      * @param itagItem the {@link ItagItem} to use, which must not be null
+     * @deprecated Use {@link #startRepresentationElement(DashManifestWriter, ItagItem)} instead.
      */
+    @Deprecated
     public static void generateRepresentationElement(@Nonnull final Document doc,
                                                      @Nonnull final ItagItem itagItem)
             throws CreationException {
@@ -436,7 +805,10 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param doc the {@link Document} on which the {@code <AudioChannelConfiguration>} element will
      *            be appended
      * @param itagItem the {@link ItagItem} to use, which must not be null
+     * @deprecated Use {@link #writeAudioChannelConfigurationElement(DashManifestWriter, ItagItem)}
+     * instead.
      */
+    @Deprecated
     public static void generateAudioChannelConfigurationElement(
             @Nonnull final Document doc,
             @Nonnull final ItagItem itagItem) throws CreationException {
@@ -470,7 +842,10 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param manifestCreatorCache     the {@link ManifestCreatorCache} on which store the string
      *                                 generated
      * @return the DASH manifest {@link Document doc} converted to a string
+     * @deprecated Use {@link #buildAndCacheResult(String, DashManifestWriter, ManifestCreatorCache)}
+     * instead.
      */
+    @Deprecated
     public static String buildAndCacheResult(
             @Nonnull final String originalBaseStreamingUrl,
             @Nonnull final Document doc,
@@ -518,7 +893,10 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param baseUrl      the base URL of the OTF/post-live-DVR stream
      * @param deliveryType the stream {@link DeliveryType delivery type}, which must be either
      * {@link DeliveryType#OTF OTF} or {@link DeliveryType#LIVE LIVE}
+     * @deprecated Use {@link #startSegmentTemplateElement(DashManifestWriter, String, DeliveryType)}
+     * instead.
      */
+    @Deprecated
     public static void generateSegmentTemplateElement(@Nonnull final Document doc,
                                                       @Nonnull final String baseUrl,
                                                       final DeliveryType deliveryType)
@@ -563,7 +941,9 @@ public final class YoutubeDashManifestCreatorsUtils {
      *
      * @param doc the {@link Document} on which the {@code <SegmentTimeline>} element will be
      *            appended
+     * @deprecated Use {@link DashManifestWriter#startElement(String)} instead.
      */
+    @Deprecated
     public static void generateSegmentTimelineElement(@Nonnull final Document doc)
             throws CreationException {
         try {
@@ -597,12 +977,95 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @return the "initialization" response, without redirections on the network on which the
      * request(s) is/are made
      */
-    @SuppressWarnings("checkstyle:FinalParameters")
     @Nonnull
-    public static Response getInitializationResponse(@Nonnull String baseStreamingUrl,
+    public static Response getInitializationResponse(@Nonnull final String baseStreamingUrl,
                                                      @Nonnull final ItagItem itagItem,
                                                      final DeliveryType deliveryType)
             throws CreationException {
+        return fetchInitializationResponse(baseStreamingUrl, itagItem, deliveryType, null);
+    }
+
+    /**
+     * Get the beginning of the "initialization" {@link Response response} of a stream.
+     *
+     * <p>
+     * This method makes the same requests as {@link #getInitializationResponse(String, ItagItem,
+     * DeliveryType)}, but with a {@code Range} header asking for the first {@code probeLength}
+     * bytes of the response body only. This is enough to get the response headers and the
+     * beginning of the first sequence, without downloading a whole media segment.
+     * </p>
+     *
+     * <p>
+     * Video servers may ignore the {@code Range} header: the response code of the response
+     * returned is either {@code 200} or {@link #HTTP_PARTIAL_CONTENT 206}. Use
+     * {@link #isPartialResponse(Response)} to know if only a part of the body has been returned.
+     * </p>
+     *
+     * @param baseStreamingUrl the base URL of the stream, which must not be null
+     * @param itagItem         the {@link ItagItem} of stream, which must not be null
+     * @param deliveryType     the {@link DeliveryType} of the stream
+     * @param probeLength      the number of bytes to request, which must be greater than 0
+     * @return the beginning of the "initialization" response, without redirections on the
+     * network on which the request(s) is/are made
+     */
+    @Nonnull
+    public static Response probeInitializationResponse(@Nonnull final String baseStreamingUrl,
+                                                       @Nonnull final ItagItem itagItem,
+                                                       final DeliveryType deliveryType,
+                                                       final int probeLength)
+            throws CreationException {
+        if (probeLength <= 0) {
+            throw new CreationException("Invalid probe length: " + probeLength);
+        }
+        return fetchInitializationResponse(baseStreamingUrl, itagItem, deliveryType,
+                "bytes=0-" + (probeLength - 1));
+    }
+
+    /**
+     * Check whether a response to a request made with a {@code Range} header contains only a
+     * part of the resource requested.
+     *
+     * <p>
+     * This is the case when the response code is {@link #HTTP_PARTIAL_CONTENT 206} and the
+     * {@code Content-Range} header shows that the range returned ends before the end of the
+     * resource, or when this header is missing or invalid.
+     * </p>
+     *
+     * @param response the response to check
+     * @return whether the response body is only a part of the resource
+     */
+    public static boolean isPartialResponse(@Nonnull final Response response) {
+        if (response.responseCode() != HTTP_PARTIAL_CONTENT) {
+            return false;
+        }
+
+        // Format: bytes start-end/total, total being * if unknown
+        final String contentRange = response.getHeader("Content-Range");
+        if (contentRange == null) {
+            return true;
+        }
+        final int dashIndex = contentRange.indexOf('-');
+        final int slashIndex = contentRange.indexOf('/');
+        if (dashIndex == -1 || slashIndex < dashIndex) {
+            return true;
+        }
+        try {
+            final long end = Long.parseLong(contentRange.substring(dashIndex + 1, slashIndex)
+                    .trim());
+            final long total = Long.parseLong(contentRange.substring(slashIndex + 1).trim());
+            return end + 1 < total;
+        } catch (final NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:FinalParameters")
+    @Nonnull
+    private static Response fetchInitializationResponse(@Nonnull String baseStreamingUrl,
+                                                        @Nonnull final ItagItem itagItem,
+                                                        final DeliveryType deliveryType,
+                                                        @Nullable final String range)
+            throws CreationException {
         final boolean isHtml5StreamingUrl = isWebStreamingUrl(baseStreamingUrl)
                 || isTvHtml5SimplyEmbeddedPlayerStreamingUrl(baseStreamingUrl);
         final boolean isAndroidStreamingUrl = isAndroidStreamingUrl(baseStreamingUrl);
@@ -617,13 +1080,14 @@ public final class YoutubeDashManifestCreatorsUtils {
             final String mimeTypeExpected = itagItem.getMediaFormat().getMimeType();
             if (!isNullOrEmpty(mimeTypeExpected)) {
                 return getStreamingWebUrlWithoutRedirects(downloader, baseStreamingUrl,
-                        mimeTypeExpected);
+                        mimeTypeExpected, range);
             }
         } else if (isAndroidStreamingUrl || isIosStreamingUrl) {
             try {
-                final Map<String, List<String>> headers = Collections.singletonMap("User-Agent",
-                        Collections.singletonList(isAndroidStreamingUrl
-                            ? getAndroidUserAgent(null) : getIosUserAgent(null)));
+                final Map<String, List<String>> headers = new HashMap<>();
+                headers.put("User-Agent", Collections.singletonList(isAndroidStreamingUrl
+                        ? getAndroidUserAgent(null) : getIosUserAgent(null)));
+                addRangeHeader(headers, range);
                 final byte[] emptyBody = "".getBytes(UTF_8);
                 return downloader.post(baseStreamingUrl, headers, emptyBody);
             } catch (final IOException | ExtractionException e) {
@@ -633,12 +1097,21 @@ public final class YoutubeDashManifestCreatorsUtils {
         }
 
         try {
-            return downloader.get(baseStreamingUrl);
+            final Map<String, List<String>> headers = new HashMap<>();
+            addRangeHeader(headers, range);
+            return downloader.get(baseStreamingUrl, headers);
         } catch (final IOException | ExtractionException e) {
             throw new CreationException("Could not get the streaming URL response", e);
         }
     }
 
+    private static void addRangeHeader(@Nonnull final Map<String, List<String>> headers,
+                                       @Nullable final String range) {
+        if (range != null) {
+            headers.put("Range", Collections.singletonList(range));
+        }
+    }
+
     /**
      * Generate a new {@link DocumentBuilder} secured from XXE attacks, on platforms which
      * support setting {@link XMLConstants#ACCESS_EXTERNAL_DTD} and
@@ -733,6 +1206,8 @@ public final class YoutubeDashManifestCreatorsUtils {
      * @param streamingUrl             the streaming URL which we are trying to get a streaming URL
      *                                 without any redirection on the network and/or IP used
      * @param responseMimeTypeExpected the response mime type expected from Google video servers
+     * @param range                    the value of the {@code Range} header to send, or
+     *                                 {@code null} to request the whole response body
      * @return the {@link Response} of the stream, which should have no redirections
      */
     @SuppressWarnings("checkstyle:FinalParameters")
@@ -740,10 +1215,12 @@ public final class YoutubeDashManifestCreatorsUtils {
     private static Response getStreamingWebUrlWithoutRedirects(
             @Nonnull final Downloader downloader,
             @Nonnull String streamingUrl,
-            @Nonnull final String responseMimeTypeExpected)
+            @Nonnull final String responseMimeTypeExpected,
+            @Nullable final String range)
             throws CreationException {
         try {
             final Map<String, List<String>> headers = getClientInfoHeaders();
+            addRangeHeader(headers, range);
 
             String responseMimeType = "";
 
@@ -753,7 +1230,8 @@ public final class YoutubeDashManifestCreatorsUtils {
                 final Response response = downloader.get(streamingUrl, headers);
 
                 final int responseCode = response.responseCode();
-                if (responseCode != 200) {
+                if (responseCode != 200
+                        && (range == null || responseCode != HTTP_PARTIAL_CONTENT)) {
                     throw new CreationException(
                             "Could not get the initialization URL: HTTP response code "
                                     + responseCode);
@@ -766,7 +1244,16 @@ public final class YoutubeDashManifestCreatorsUtils {
 
                 // The response body is the redirection URL
                 if (responseMimeType.equals("text/plain")) {
-                    streamingUrl = response.responseBody();
+                    if (isPartialResponse(response)) {
+                        // The range requested was too small to contain the whole redirection
+                        // URL, request it again without range
+                        final Map<String, List<String>> headersWithoutRange =
+                                getClientInfoHeaders();
+                        streamingUrl = downloader.get(streamingUrl, headersWithoutRange)
+                                .responseBody();
+                    } else {
+                        streamingUrl = response.responseBody();
+                    }
                     redirectsCount++;
                 } else {
                     return response;
@@ -1,28 +1,22 @@
 package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
 
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.ALR_YES;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.RN_0;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.HTTP_PARTIAL_CONTENT;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.INITIALIZATION_PROBE_LENGTH;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.MAXIMUM_INITIALIZATION_PROBE_LENGTH;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SEGMENT_TIMELINE;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SQ_0;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.buildAndCacheResult;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateDocumentAndDoCommonElementsGeneration;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateSegmentTemplateElement;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateSegmentTimelineElement;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateWriterAndDoCommonElementsGeneration;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getInitializationResponse;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.setAttribute;
-import static org.schabi.newpipe.extractor.utils.Utils.isBlank;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getStreamingUrlFromResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.isPartialResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.probeInitializationResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.startSegmentTemplateElement;
 
 import org.schabi.newpipe.extractor.downloader.Response;
 import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
 import org.schabi.newpipe.extractor.services.youtube.ItagItem;
 import org.schabi.newpipe.extractor.utils.ManifestCreatorCache;
-import org.schabi.newpipe.extractor.utils.Utils;
-import org.w3c.dom.DOMException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import java.util.Arrays;
-import java.util.Objects;
+import org.schabi.newpipe.extractor.utils.Pair;
 
 import javax.annotation.Nonnull;
 
@@ -75,11 +69,15 @@ public final class YoutubeOtfDashManifestCreator {
      *
      * <p>In order to generate the DASH manifest, this method will:
      *      <ul>
-     *          <li>request the first sequence of the stream (the base URL on which the first
-     *          sequence parameter is appended (see {@link YoutubeDashManifestCreatorsUtils#SQ_0}))
-     *          with a {@code POST} or {@code GET} request (depending of the client on which the
-     *          streaming URL comes from is a mobile one ({@code POST}) or not ({@code GET}));</li>
+     *          <li>request the beginning of the first sequence of the stream (the base URL on
+     *          which the first sequence parameter is appended (see
+     *          {@link YoutubeDashManifestCreatorsUtils#SQ_0})) with a {@code POST} or {@code GET}
+     *          request (depending of the client on which the streaming URL comes from is a mobile
+     *          one ({@code POST}) or not ({@code GET})), using a {@code Range} header (see
+     *          {@link YoutubeDashManifestCreatorsUtils#INITIALIZATION_PROBE_LENGTH});</li>
      *          <li>follow its redirection(s), if any;</li>
+     *          <li>parse the segment durations, requesting a bigger range of the sequence if they
+     *          don't fit in the one requested;</li>
      *          <li>save the last URL, remove the first sequence parameter;</li>
      *          <li>use the information provided in the {@link ItagItem} to generate all
      *          elements of the DASH manifest.</li>
@@ -103,59 +101,31 @@ public final class YoutubeOtfDashManifestCreator {
             @Nonnull final String otfBaseStreamingUrl,
             @Nonnull final ItagItem itagItem,
             final long durationSecondsFallback) throws CreationException {
-        if (OTF_STREAMS_CACHE.containsKey(otfBaseStreamingUrl)) {
-            return Objects.requireNonNull(OTF_STREAMS_CACHE.get(otfBaseStreamingUrl)).getSecond();
+        final Pair<Integer, String> cachedManifest = OTF_STREAMS_CACHE.get(otfBaseStreamingUrl);
+        if (cachedManifest != null) {
+            return cachedManifest.getSecond();
         }
 
-        String realOtfBaseStreamingUrl = otfBaseStreamingUrl;
+        final InitializationSequence initializationSequence =
+                fetchSegmentDurations(otfBaseStreamingUrl, itagItem);
+        final OtfSegmentDurations segmentDurations =
+                initializationSequence.getSegmentDurations();
+
         // Try to avoid redirects when streaming the content by saving the last URL we get
         // from video servers.
-        final Response response = getInitializationResponse(realOtfBaseStreamingUrl,
-                itagItem, DeliveryType.OTF);
-        realOtfBaseStreamingUrl = response.latestUrl().replace(SQ_0, "")
-                .replace(RN_0, "").replace(ALR_YES, "");
-
-        final int responseCode = response.responseCode();
-        if (responseCode != 200) {
-            throw new CreationException("Could not get the initialization URL: response code "
-                    + responseCode);
-        }
-
-        final String[] segmentDuration;
+        final String realOtfBaseStreamingUrl =
+                getStreamingUrlFromResponse(initializationSequence.getResponse());
 
-        try {
-            final String[] segmentsAndDurationsResponseSplit = response.responseBody()
-                    // Get the lines with the durations and the following
-                    .split("Segment-Durations-Ms: ")[1]
-                    // Remove the other lines
-                    .split("\n")[0]
-                    // Get all durations and repetitions which are separated by a comma
-                    .split(",");
-            final int lastIndex = segmentsAndDurationsResponseSplit.length - 1;
-            if (isBlank(segmentsAndDurationsResponseSplit[lastIndex])) {
-                segmentDuration = Arrays.copyOf(segmentsAndDurationsResponseSplit, lastIndex);
-            } else {
-                segmentDuration = segmentsAndDurationsResponseSplit;
-            }
-        } catch (final Exception e) {
-            throw new CreationException("Could not get segment durations", e);
-        }
-
-        long streamDuration;
-        try {
-            streamDuration = getStreamDuration(segmentDuration);
-        } catch (final CreationException e) {
+        long streamDuration = segmentDurations.getStreamDurationMs();
+        if (streamDuration <= 0) {
             streamDuration = durationSecondsFallback * 1000;
         }
 
-        final Document doc = generateDocumentAndDoCommonElementsGeneration(itagItem,
+        final DashManifestWriter writer = generateWriterAndDoCommonElementsGeneration(itagItem,
                 streamDuration);
+        writeSegmentTemplateElement(writer, realOtfBaseStreamingUrl, segmentDurations);
 
-        generateSegmentTemplateElement(doc, realOtfBaseStreamingUrl, DeliveryType.OTF);
-        generateSegmentTimelineElement(doc);
-        generateSegmentElementsForOtfStreams(segmentDuration, doc);
-
-        return buildAndCacheResult(otfBaseStreamingUrl, doc, OTF_STREAMS_CACHE);
+        return buildAndCacheResult(otfBaseStreamingUrl, writer, OTF_STREAMS_CACHE);
     }
 
     /**
@@ -167,99 +137,65 @@ public final class YoutubeOtfDashManifestCreator {
     }
 
     /**
-     * Generate segment elements for OTF streams.
-     *
-     * <p>
-     * By parsing by the first media sequence, we know how many durations and repetitions there are
-     * so we just have to loop into segment durations to generate the following elements for each
-     * duration repeated X times:
-     * </p>
-     *
-     * <p>
-     * {@code <S d="segmentDuration" r="durationRepetition" />}
-     * </p>
-     *
-     * <p>
-     * If there is no repetition of the duration between two segments, the {@code r} attribute is
-     * not added to the {@code S} element, as it is not needed.
-     * </p>
+     * Fetch the beginning of the initialization sequence of an OTF stream and parse its segment
+     * durations.
      *
      * <p>
-     * These elements will be appended as children of the {@code <SegmentTimeline>} element, which
-     * needs to be generated before these elements with
-     * {@link YoutubeDashManifestCreatorsUtils#generateSegmentTimelineElement(Document)}.
+     * Only the beginning of the initialization sequence, which contains the segment durations, is
+     * requested; a bigger range is requested only if they don't fit in the first one.
      * </p>
      *
-     * @param segmentDurations the sequences "length" or "length(r=repeat_count" extracted with the
-     *                         regular expressions
-     * @param doc              the {@link Document} on which the {@code <S>} elements will be
-     *                         appended
+     * @param otfBaseStreamingUrl the base URL of the OTF stream, which must not be null
+     * @param itagItem            the {@link ItagItem} corresponding to the stream, which must not
+     *                            be null
+     * @return the last response got and the segment durations parsed from it, which are not
+     * null
      */
-    private static void generateSegmentElementsForOtfStreams(
-            @Nonnull final String[] segmentDurations,
-            @Nonnull final Document doc) throws CreationException {
-        try {
-            final Element segmentTimelineElement = (Element) doc.getElementsByTagName(
-                    SEGMENT_TIMELINE).item(0);
-
-            for (final String segmentDuration : segmentDurations) {
-                final Element sElement = doc.createElement("S");
-
-                final String[] segmentLengthRepeat = segmentDuration.split("\\(r=");
-                // make sure segmentLengthRepeat[0], which is the length, is convertible to int
-                Integer.parseInt(segmentLengthRepeat[0]);
-
-                // There are repetitions of a segment duration in other segments
-                if (segmentLengthRepeat.length > 1) {
-                    final int segmentRepeatCount = Integer.parseInt(
-                            Utils.removeNonDigitCharacters(segmentLengthRepeat[1]));
-                    setAttribute(sElement, doc, "r", String.valueOf(segmentRepeatCount));
-                }
-                setAttribute(sElement, doc, "d", segmentLengthRepeat[0]);
-
-                segmentTimelineElement.appendChild(sElement);
+    @Nonnull
+    static InitializationSequence fetchSegmentDurations(
+            @Nonnull final String otfBaseStreamingUrl,
+            @Nonnull final ItagItem itagItem) throws CreationException {
+        int probeLength = INITIALIZATION_PROBE_LENGTH;
+        while (true) {
+            final Response response = probeInitializationResponse(otfBaseStreamingUrl, itagItem,
+                    DeliveryType.OTF, probeLength);
+            final int responseCode = response.responseCode();
+            if (responseCode != 200 && responseCode != HTTP_PARTIAL_CONTENT) {
+                throw new CreationException("Could not get the initialization URL: response code "
+                        + responseCode);
             }
 
-        } catch (final DOMException | IllegalStateException | IndexOutOfBoundsException
-                       | NumberFormatException e) {
-            throw CreationException.couldNotAddElement("segment (S)", e);
+            final OtfSegmentDurations segmentDurations =
+                    OtfSegmentDurations.parse(response.responseBody());
+            if (segmentDurations.isComplete() || !isPartialResponse(response)) {
+                return new InitializationSequence(response, segmentDurations);
+            }
+            if (probeLength >= MAXIMUM_INITIALIZATION_PROBE_LENGTH) {
+                final Response fullResponse = getInitializationResponse(otfBaseStreamingUrl,
+                        itagItem, DeliveryType.OTF);
+                return new InitializationSequence(fullResponse,
+                        OtfSegmentDurations.parse(fullResponse.responseBody()));
+            }
+            probeLength *= 4;
         }
     }
 
     /**
-     * Get the duration of an OTF stream.
+     * Write the {@code <SegmentTemplate>} element of an OTF stream and its
+     * {@code <SegmentTimeline>} child, as a child of the {@code <Representation>} element.
      *
-     * <p>
-     * The duration of OTF streams is not returned into the player response and needs to be
-     * calculated by adding the duration of each segment.
-     * </p>
-     *
-     * @param segmentDuration the segment duration object extracted from the initialization
-     *                        sequence of the stream
-     * @return the duration of the OTF stream, in milliseconds
+     * @param writer           the {@link DashManifestWriter} in which the elements will be
+     *                         written
+     * @param baseStreamingUrl the base URL of the OTF stream, without redirections
+     * @param segmentDurations the segment durations of the stream
      */
-    private static long getStreamDuration(@Nonnull final String[] segmentDuration)
-            throws CreationException {
-        try {
-            long streamLengthMs = 0;
-
-            for (final String segDuration : segmentDuration) {
-                final String[] segmentLengthRepeat = segDuration.split("\\(r=");
-                long segmentRepeatCount = 0;
-
-                // There are repetitions of a segment duration in other segments
-                if (segmentLengthRepeat.length > 1) {
-                    segmentRepeatCount = Long.parseLong(Utils.removeNonDigitCharacters(
-                            segmentLengthRepeat[1]));
-                }
-
-                final long segmentLength = Integer.parseInt(segmentLengthRepeat[0]);
-                streamLengthMs += segmentLength + segmentRepeatCount * segmentLength;
-            }
-
-            return streamLengthMs;
-        } catch (final NumberFormatException e) {
-            throw new CreationException("Could not get stream length from sequences list", e);
-        }
+    static void writeSegmentTemplateElement(@Nonnull final DashManifestWriter writer,
+                                            @Nonnull final String baseStreamingUrl,
+                                            @Nonnull final OtfSegmentDurations segmentDurations) {
+        startSegmentTemplateElement(writer, baseStreamingUrl, DeliveryType.OTF);
+        writer.startElement(SEGMENT_TIMELINE);
+        segmentDurations.writeSegmentElements(writer);
+        writer.endElement()
+                .endElement();
     }
 }
@@ -1,28 +1,20 @@
 package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
 
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.ALR_YES;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.RN_0;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.HEADERS_PROBE_LENGTH;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.HTTP_PARTIAL_CONTENT;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SEGMENT_TIMELINE;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SQ_0;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.buildAndCacheResult;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateDocumentAndDoCommonElementsGeneration;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateSegmentTemplateElement;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateSegmentTimelineElement;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getInitializationResponse;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.setAttribute;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateWriterAndDoCommonElementsGeneration;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.getStreamingUrlFromResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.probeInitializationResponse;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.startSegmentTemplateElement;
 import static org.schabi.newpipe.extractor.utils.Utils.isNullOrEmpty;
 
 import org.schabi.newpipe.extractor.downloader.Response;
 import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
 import org.schabi.newpipe.extractor.services.youtube.ItagItem;
 import org.schabi.newpipe.extractor.utils.ManifestCreatorCache;
-import org.w3c.dom.DOMException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import org.schabi.newpipe.extractor.utils.Pair;
 
 import javax.annotation.Nonnull;
 
@@ -78,10 +70,12 @@ public final class YoutubePostLiveStreamDvrDashManifestCreator {
      *
      * <p>In order to generate the DASH manifest, this method will:
      *      <ul>
-     *          <li>request the first sequence of the stream (the base URL on which the first
-     *          sequence parameter is appended (see {@link YoutubeDashManifestCreatorsUtils#SQ_0}))
-     *          with a {@code POST} or {@code GET} request (depending of the client on which the
-     *          streaming URL comes from is a mobile one ({@code POST}) or not ({@code GET}));</li>
+     *          <li>request the beginning of the first sequence of the stream (the base URL on
+     *          which the first sequence parameter is appended (see
+     *          {@link YoutubeDashManifestCreatorsUtils#SQ_0})) with a {@code POST} or {@code GET}
+     *          request (depending of the client on which the streaming URL comes from is a mobile
+     *          one ({@code POST}) or not ({@code GET})), using a {@code Range} header, as only
+     *          the response headers are needed;</li>
      *          <li>follow its redirection(s), if any;</li>
      *          <li>save the last URL, remove the first sequence parameters;</li>
      *          <li>use the information provided in the {@link ItagItem} to generate all elements
@@ -112,62 +106,37 @@ public final class YoutubePostLiveStreamDvrDashManifestCreator {
             @Nonnull final ItagItem itagItem,
             final int targetDurationSec,
             final long durationSecondsFallback) throws CreationException {
-        if (POST_LIVE_DVR_STREAMS_CACHE.containsKey(postLiveStreamDvrStreamingUrl)) {
-            return Objects.requireNonNull(
-                    POST_LIVE_DVR_STREAMS_CACHE.get(postLiveStreamDvrStreamingUrl)).getSecond();
+        final Pair<Integer, String> cachedManifest =
+                POST_LIVE_DVR_STREAMS_CACHE.get(postLiveStreamDvrStreamingUrl);
+        if (cachedManifest != null) {
+            return cachedManifest.getSecond();
         }
 
-        String realPostLiveStreamDvrStreamingUrl = postLiveStreamDvrStreamingUrl;
-        final String streamDurationString;
-        final String segmentCount;
-
         if (targetDurationSec <= 0) {
             throw new CreationException("targetDurationSec value is <= 0: " + targetDurationSec);
         }
 
-        try {
-            // Try to avoid redirects when streaming the content by saving the latest URL we get
-            // from video servers.
-            final Response response = getInitializationResponse(realPostLiveStreamDvrStreamingUrl,
-                    itagItem, DeliveryType.LIVE);
-            realPostLiveStreamDvrStreamingUrl = response.latestUrl().replace(SQ_0, "")
-                    .replace(RN_0, "").replace(ALR_YES, "");
-
-            final int responseCode = response.responseCode();
-            if (responseCode != 200) {
-                throw new CreationException(
-                        "Could not get the initialization sequence: response code " + responseCode);
-            }
-
-            final Map<String, List<String>> responseHeaders = response.responseHeaders();
-            streamDurationString = responseHeaders.get("X-Head-Time-Millis").get(0);
-            segmentCount = responseHeaders.get("X-Head-Seqnum").get(0);
-        } catch (final IndexOutOfBoundsException e) {
+        // Only the headers of the response are needed, so only request its first byte
+        final Response response = probeInitializationResponse(postLiveStreamDvrStreamingUrl,
+                itagItem, DeliveryType.LIVE, HEADERS_PROBE_LENGTH);
+        final int responseCode = response.responseCode();
+        if (responseCode != 200 && responseCode != HTTP_PARTIAL_CONTENT) {
             throw new CreationException(
-                    "Could not get the value of the X-Head-Time-Millis or the X-Head-Seqnum header",
-                    e);
-        }
-
-        if (isNullOrEmpty(segmentCount)) {
-            throw new CreationException("Could not get the number of segments");
+                    "Could not get the initialization sequence: response code " + responseCode);
         }
 
-        long streamDuration;
-        try {
-            streamDuration = Long.parseLong(streamDurationString);
-        } catch (final NumberFormatException e) {
-            streamDuration = durationSecondsFallback;
-        }
+        // Try to avoid redirects when streaming the content by saving the latest URL we get
+        // from video servers.
+        final String realPostLiveStreamDvrStreamingUrl = getStreamingUrlFromResponse(response);
+        final String segmentCount = getSegmentCount(response);
+        final long streamDuration = getStreamDuration(response, durationSecondsFallback);
 
-        final Document doc = generateDocumentAndDoCommonElementsGeneration(itagItem,
+        final DashManifestWriter writer = generateWriterAndDoCommonElementsGeneration(itagItem,
                 streamDuration);
+        writeSegmentTemplateElement(writer, realPostLiveStreamDvrStreamingUrl, targetDurationSec,
+                segmentCount);
 
-        generateSegmentTemplateElement(doc, realPostLiveStreamDvrStreamingUrl,
-                DeliveryType.LIVE);
-        generateSegmentTimelineElement(doc);
-        generateSegmentElementForPostLiveDvrStreams(doc, targetDurationSec, segmentCount);
-
-        return buildAndCacheResult(postLiveStreamDvrStreamingUrl, doc,
+        return buildAndCacheResult(postLiveStreamDvrStreamingUrl, writer,
                 POST_LIVE_DVR_STREAMS_CACHE);
     }
 
@@ -179,6 +148,65 @@ public final class YoutubePostLiveStreamDvrDashManifestCreator {
         return POST_LIVE_DVR_STREAMS_CACHE;
     }
 
+    /**
+     * Get the number of segments of a post-live-DVR stream from the {@code X-Head-Seqnum} header
+     * of a response to a request of its initialization sequence.
+     *
+     * @param response the response to a request of the initialization sequence of the stream
+     * @return the number of segments of the stream
+     */
+    @Nonnull
+    static String getSegmentCount(@Nonnull final Response response) throws CreationException {
+        final String segmentCount = response.getHeader("X-Head-Seqnum");
+        if (isNullOrEmpty(segmentCount)) {
+            throw new CreationException("Could not get the number of segments");
+        }
+        return segmentCount;
+    }
+
+    /**
+     * Get the duration of a post-live-DVR stream from the {@code X-Head-Time-Millis} header of a
+     * response to a request of its initialization sequence.
+     *
+     * @param response                the response to a request of the initialization sequence of
+     *                                the stream
+     * @param durationSecondsFallback the value to return if the header is missing or invalid
+     * @return the duration of the stream, in milliseconds
+     */
+    static long getStreamDuration(@Nonnull final Response response,
+                                  final long durationSecondsFallback) {
+        final String streamDurationString = response.getHeader("X-Head-Time-Millis");
+        if (streamDurationString == null) {
+            return durationSecondsFallback;
+        }
+        try {
+            return Long.parseLong(streamDurationString);
+        } catch (final NumberFormatException e) {
+            return durationSecondsFallback;
+        }
+    }
+
+    /**
+     * Write the {@code <SegmentTemplate>} element of a post-live-DVR stream and its
+     * {@code <SegmentTimeline>} child, as a child of the {@code <Representation>} element.
+     *
+     * @param writer            the {@link DashManifestWriter} in which the elements will be
+     *                          written
+     * @param baseStreamingUrl  the base URL of the stream, without redirections
+     * @param targetDurationSec the target duration of each sequence, in seconds
+     * @param segmentCount      the number of segments of the stream
+     */
+    static void writeSegmentTemplateElement(@Nonnull final DashManifestWriter writer,
+                                            @Nonnull final String baseStreamingUrl,
+                                            final int targetDurationSec,
+                                            @Nonnull final String segmentCount) {
+        startSegmentTemplateElement(writer, baseStreamingUrl, DeliveryType.LIVE);
+        writer.startElement(SEGMENT_TIMELINE);
+        generateSegmentElementForPostLiveDvrStreams(writer, targetDurationSec, segmentCount);
+        writer.endElement()
+                .endElement();
+    }
+
     /**
      * Generate the segment ({@code <S>}) element.
      *
@@ -190,28 +218,20 @@ public final class YoutubePostLiveStreamDvrDashManifestCreator {
      * {@code <S d="targetDurationSecValue" r="segmentCount" />}
      * </p>
      *
-     * @param doc                   the {@link Document} on which the {@code <S>} element will
-     *                              be appended
+     * @param writer                the {@link DashManifestWriter} in which the {@code <S>}
+     *                              element will be written
      * @param targetDurationSeconds the {@code targetDurationSec} value from YouTube player
      *                              response's stream
      * @param segmentCount          the number of segments, extracted by {@link
-     *                              #fromPostLiveStreamDvrStreamingUrl(String, ItagItem, int, long)}
+     *                              #getSegmentCount(Response)}
      */
     private static void generateSegmentElementForPostLiveDvrStreams(
-            @Nonnull final Document doc,
+            @Nonnull final DashManifestWriter writer,
             final int targetDurationSeconds,
-            @Nonnull final String segmentCount) throws CreationException {
-        try {
-            final Element segmentTimelineElement = (Element) doc.getElementsByTagName(
-                    SEGMENT_TIMELINE).item(0);
-            final Element sElement = doc.createElement("S");
-
-            setAttribute(sElement, doc, "d", String.valueOf(targetDurationSeconds * 1000));
-            setAttribute(sElement, doc, "r", segmentCount);
-
-            segmentTimelineElement.appendChild(sElement);
-        } catch (final DOMException e) {
-            throw CreationException.couldNotAddElement("segment (S)", e);
-        }
+            @Nonnull final String segmentCount) {
+        writer.startElement("S")
+                .attribute("d", targetDurationSeconds * 1000)
+                .attribute("r", segmentCount)
+                .endElement();
     }
 }
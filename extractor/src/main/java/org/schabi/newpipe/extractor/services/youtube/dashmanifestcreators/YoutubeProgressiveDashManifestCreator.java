@@ -3,21 +3,16 @@ package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
 import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
 import org.schabi.newpipe.extractor.services.youtube.ItagItem;
 import org.schabi.newpipe.extractor.utils.ManifestCreatorCache;
-import org.w3c.dom.DOMException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import org.schabi.newpipe.extractor.utils.Pair;
 
 import javax.annotation.Nonnull;
-import java.util.Objects;
 
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.BASE_URL;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.INITIALIZATION;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.MPD;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.REPRESENTATION;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SEGMENT_BASE;
 import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.buildAndCacheResult;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateDocumentAndDoCommonElementsGeneration;
-import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.setAttribute;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.generateWriterAndDoCommonElementsGeneration;
 
 /**
  * Class which generates DASH manifests of {@link DeliveryType#PROGRESSIVE YouTube progressive}
@@ -82,32 +77,21 @@ public final class YoutubeProgressiveDashManifestCreator {
             @Nonnull final String progressiveStreamingBaseUrl,
             @Nonnull final ItagItem itagItem,
             final long durationSecondsFallback) throws CreationException {
-        if (PROGRESSIVE_STREAMS_CACHE.containsKey(progressiveStreamingBaseUrl)) {
-            return Objects.requireNonNull(
-                    PROGRESSIVE_STREAMS_CACHE.get(progressiveStreamingBaseUrl)).getSecond();
+        final Pair<Integer, String> cachedManifest =
+                PROGRESSIVE_STREAMS_CACHE.get(progressiveStreamingBaseUrl);
+        if (cachedManifest != null) {
+            return cachedManifest.getSecond();
         }
 
-        final long itagItemDuration = itagItem.getApproxDurationMs();
-        final long streamDuration;
-        if (itagItemDuration != -1) {
-            streamDuration = itagItemDuration;
-        } else {
-            if (durationSecondsFallback > 0) {
-                streamDuration = durationSecondsFallback * 1000;
-            } else {
-                throw CreationException.couldNotAddElement(MPD, "the duration of the stream "
-                        + "could not be determined and durationSecondsFallback is <= 0");
-            }
-        }
+        final long streamDuration = getStreamDuration(itagItem, durationSecondsFallback);
 
-        final Document doc = generateDocumentAndDoCommonElementsGeneration(itagItem,
+        final DashManifestWriter writer = generateWriterAndDoCommonElementsGeneration(itagItem,
                 streamDuration);
 
-        generateBaseUrlElement(doc, progressiveStreamingBaseUrl);
-        generateSegmentBaseElement(doc, itagItem);
-        generateInitializationElement(doc, itagItem);
+        generateBaseUrlElement(writer, progressiveStreamingBaseUrl);
+        generateSegmentBaseElement(writer, itagItem);
 
-        return buildAndCacheResult(progressiveStreamingBaseUrl, doc,
+        return buildAndCacheResult(progressiveStreamingBaseUrl, writer,
                 PROGRESSIVE_STREAMS_CACHE);
     }
 
@@ -120,116 +104,90 @@ public final class YoutubeProgressiveDashManifestCreator {
     }
 
     /**
-     * Generate the {@code <BaseURL>} element, appended as a child of the
-     * {@code <Representation>} element.
+     * Get the duration of a progressive stream.
      *
-     * <p>
-     * The {@code <Representation>} element needs to be generated before this element with
-     * {@link YoutubeDashManifestCreatorsUtils#generateRepresentationElement(Document, ItagItem)}).
-     * </p>
-     *
-     * @param doc the {@link Document} on which the {@code <BaseURL>} element will be appended
-     * @param baseUrl  the base URL of the stream, which must not be null and will be set as the
-     *                 content of the {@code <BaseURL>} element
+     * @param itagItem                the {@link ItagItem} corresponding to the stream, which must
+     *                                not be null
+     * @param durationSecondsFallback the duration of the video, which will be used if the
+     *                                approximate duration of the stream is unknown
+     * @return the duration of the stream, in milliseconds
      */
-    private static void generateBaseUrlElement(@Nonnull final Document doc,
-                                               @Nonnull final String baseUrl)
-            throws CreationException {
-        try {
-            final Element representationElement = (Element) doc.getElementsByTagName(
-                    REPRESENTATION).item(0);
-            final Element baseURLElement = doc.createElement(BASE_URL);
-            baseURLElement.setTextContent(baseUrl);
-            representationElement.appendChild(baseURLElement);
-        } catch (final DOMException e) {
-            throw CreationException.couldNotAddElement(BASE_URL, e);
+    static long getStreamDuration(@Nonnull final ItagItem itagItem,
+                                  final long durationSecondsFallback) throws CreationException {
+        final long itagItemDuration = itagItem.getApproxDurationMs();
+        if (itagItemDuration != -1) {
+            return itagItemDuration;
+        } else if (durationSecondsFallback > 0) {
+            return durationSecondsFallback * 1000;
+        } else {
+            throw CreationException.couldNotAddElement(MPD, "the duration of the stream "
+                    + "could not be determined and durationSecondsFallback is <= 0");
         }
     }
 
     /**
-     * Generate the {@code <SegmentBase>} element, appended as a child of the
-     * {@code <Representation>} element.
+     * Write the {@code <BaseURL>} element, as a child of the {@code <Representation>} element.
      *
      * <p>
-     * It generates the following element:
-     * <br>
-     * {@code <SegmentBase indexRange="indexStart-indexEnd" />}
-     * <br>
-     * (where {@code indexStart} and {@code indexEnd} are gotten from the {@link ItagItem} passed
-     * as the second parameter)
-     * </p>
-     *
-     * <p>
-     * The {@code <Representation>} element needs to be generated before this element with
-     * {@link YoutubeDashManifestCreatorsUtils#generateRepresentationElement(Document, ItagItem)}),
-     * and the {@code BaseURL} element with {@link #generateBaseUrlElement(Document, String)}
-     * should be generated too.
+     * The {@code <Representation>} element needs to be started before this element with
+     * {@link YoutubeDashManifestCreatorsUtils#startRepresentationElement(DashManifestWriter,
+     * ItagItem)}.
      * </p>
      *
-     * @param doc the {@link Document} on which the {@code <SegmentBase>} element will be appended
-     * @param itagItem the {@link ItagItem} to use, which must not be null
+     * @param writer  the {@link DashManifestWriter} in which the {@code <BaseURL>} element will be
+     *                written
+     * @param baseUrl the base URL of the stream, which must not be null and will be set as the
+     *                content of the {@code <BaseURL>} element
      */
-    private static void generateSegmentBaseElement(@Nonnull final Document doc,
-                                                   @Nonnull final ItagItem itagItem)
-            throws CreationException {
-        try {
-            final Element representationElement = (Element) doc.getElementsByTagName(
-                    REPRESENTATION).item(0);
-            final Element segmentBaseElement = doc.createElement(SEGMENT_BASE);
-
-            final String range = itagItem.getIndexStart() + "-" + itagItem.getIndexEnd();
-            if (itagItem.getIndexStart() < 0 || itagItem.getIndexEnd() < 0) {
-                throw CreationException.couldNotAddElement(SEGMENT_BASE,
-                        "ItagItem's indexStart or " + "indexEnd are < 0: " + range);
-            }
-            setAttribute(segmentBaseElement, doc, "indexRange", range);
-
-            representationElement.appendChild(segmentBaseElement);
-        } catch (final DOMException e) {
-            throw CreationException.couldNotAddElement(SEGMENT_BASE, e);
-        }
+    static void generateBaseUrlElement(@Nonnull final DashManifestWriter writer,
+                                       @Nonnull final String baseUrl) {
+        writer.startElement(BASE_URL)
+                .text(baseUrl)
+                .endElement();
     }
 
     /**
-     * Generate the {@code <Initialization>} element, appended as a child of the
-     * {@code <SegmentBase>} element.
+     * Write the {@code <SegmentBase>} element and its {@code <Initialization>} child, as a child
+     * of the {@code <Representation>} element.
      *
      * <p>
-     * It generates the following element:
+     * It generates the following elements:
      * <br>
+     * {@code <SegmentBase indexRange="indexStart-indexEnd">}, containing
      * {@code <Initialization range="initStart-initEnd"/>}
      * <br>
-     * (where {@code indexStart} and {@code indexEnd} are gotten from the {@link ItagItem} passed
-     * as the second parameter)
+     * (where {@code indexStart}, {@code indexEnd}, {@code initStart} and {@code initEnd} are
+     * gotten from the {@link ItagItem} passed as the second parameter)
      * </p>
      *
      * <p>
-     * The {@code <SegmentBase>} element needs to be generated before this element with
-     * {@link #generateSegmentBaseElement(Document, ItagItem)}).
+     * The {@code <BaseURL>} element should be written before these elements with
+     * {@link #generateBaseUrlElement(DashManifestWriter, String)}.
      * </p>
      *
-     * @param doc the {@link Document} on which the {@code <Initialization>} element will be
-     *            appended
+     * @param writer   the {@link DashManifestWriter} in which the elements will be written
      * @param itagItem the {@link ItagItem} to use, which must not be null
      */
-    private static void generateInitializationElement(@Nonnull final Document doc,
-                                                      @Nonnull final ItagItem itagItem)
+    static void generateSegmentBaseElement(@Nonnull final DashManifestWriter writer,
+                                           @Nonnull final ItagItem itagItem)
             throws CreationException {
-        try {
-            final Element segmentBaseElement = (Element) doc.getElementsByTagName(
-                    SEGMENT_BASE).item(0);
-            final Element initializationElement = doc.createElement(INITIALIZATION);
-
-            final String range = itagItem.getInitStart() + "-" + itagItem.getInitEnd();
-            if (itagItem.getInitStart() < 0 || itagItem.getInitEnd() < 0) {
-                throw CreationException.couldNotAddElement(INITIALIZATION,
-                        "ItagItem's initStart and/or " + "initEnd are/is < 0: " + range);
-            }
-            setAttribute(initializationElement, doc, "range", range);
-
-            segmentBaseElement.appendChild(initializationElement);
-        } catch (final DOMException e) {
-            throw CreationException.couldNotAddElement(INITIALIZATION, e);
+        final String indexRange = itagItem.getIndexStart() + "-" + itagItem.getIndexEnd();
+        if (itagItem.getIndexStart() < 0 || itagItem.getIndexEnd() < 0) {
+            throw CreationException.couldNotAddElement(SEGMENT_BASE,
+                    "ItagItem's indexStart or " + "indexEnd are < 0: " + indexRange);
         }
+
+        final String initRange = itagItem.getInitStart() + "-" + itagItem.getInitEnd();
+        if (itagItem.getInitStart() < 0 || itagItem.getInitEnd() < 0) {
+            throw CreationException.couldNotAddElement(INITIALIZATION,
+                    "ItagItem's initStart and/or " + "initEnd are/is < 0: " + initRange);
+        }
+
+        writer.startElement(SEGMENT_BASE)
+                .attribute("indexRange", indexRange)
+                .startElement(INITIALIZATION)
+                .attribute("range", initRange)
+                .endElement()
+                .endElement();
     }
 }
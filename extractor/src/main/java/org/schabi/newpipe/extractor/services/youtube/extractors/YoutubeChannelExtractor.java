@@ -22,18 +22,22 @@ import org.schabi.newpipe.extractor.exceptions.ContentNotSupportedException;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper;
 import org.schabi.newpipe.extractor.services.youtube.linkHandler.YoutubeChannelLinkHandlerFactory;
 import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
-import org.schabi.newpipe.extractor.utils.Utils;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -59,6 +63,33 @@ import javax.annotation.Nullable;
  */
 
 public class YoutubeChannelExtractor extends ChannelExtractor {
+
+    /**
+     * The maximum number of channel IDs in the {@link #getResolvedChannelIds() resolved channel
+     * IDs cache}, from which the least recently used ones are removed.
+     */
+    public static final int RESOLVED_CHANNEL_IDS_CACHE_SIZE = 500;
+
+    /**
+     * The time after which channel IDs of the {@link #getResolvedChannelIds() resolved channel IDs
+     * cache} are resolved again, in milliseconds.
+     */
+    public static final long RESOLVED_CHANNEL_IDS_TIME_TO_LIVE = TimeUnit.DAYS.toMillis(7);
+
+    /**
+     * Cache of the channel IDs of channel paths which are not {@code /channel} paths, such as
+     * {@code @handle}, {@code c/name} or {@code user/name}, used to avoid resolving them with the
+     * {@code navigation/resolve_url} endpoint for each channel request.
+     */
+    private static final Map<String, ResolvedChannelId> RESOLVED_CHANNEL_IDS =
+            new LinkedHashMap<String, ResolvedChannelId>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<String, ResolvedChannelId> eldest) {
+                    return size() > RESOLVED_CHANNEL_IDS_CACHE_SIZE;
+                }
+            };
+
     private JsonObject initialData;
     private Optional<JsonObject> channelHeader;
     private boolean isCarouselHeader = false;
@@ -93,35 +124,12 @@ public class YoutubeChannelExtractor extends ChannelExtractor {
         if (channelId[0].startsWith("UC")) {
             id = channelId[0];
         } else {
-            final byte[] body = JsonWriter.string(prepareDesktopJsonBuilder(
-                            getExtractorLocalization(), getExtractorContentCountry())
-                            .value("url", "https://www.youtube.com/" + channelPath)
-                            .done())
-                    .getBytes(UTF_8);
-
-            final JsonObject jsonResponse = getJsonPostResponse("navigation/resolve_url",
-                    body, getExtractorLocalization());
-
-            checkIfChannelResponseIsValid(jsonResponse);
-
-            final JsonObject endpoint = jsonResponse.getObject("endpoint");
-
-            final String webPageType = endpoint.getObject("commandMetadata")
-                    .getObject("webCommandMetadata")
-                    .getString("webPageType", "");
-
-            final JsonObject browseEndpoint = endpoint.getObject("browseEndpoint");
-            final String browseId = browseEndpoint.getString("browseId", "");
-
-            if (webPageType.equalsIgnoreCase("WEB_PAGE_TYPE_BROWSE")
-                    || webPageType.equalsIgnoreCase("WEB_PAGE_TYPE_CHANNEL")
-                    && !browseId.isEmpty()) {
-                if (!browseId.startsWith("UC")) {
-                    throw new ExtractionException("Redirected id is not pointing to a channel");
-                }
-
-                id = browseId;
-                redirectedChannelId = browseId;
+            final String cachedChannelId = getCachedChannelId(channelPath);
+            if (cachedChannelId != null) {
+                id = cachedChannelId;
+                redirectedChannelId = id;
+            } else {
+                id = resolveChannelId(channelPath);
             }
         }
         JsonObject ajaxJson = null;
@@ -176,6 +184,152 @@ public class YoutubeChannelExtractor extends ChannelExtractor {
         YoutubeParsingHelper.defaultAlertsCheck(initialData);
     }
 
+    /**
+     * Resolve the channel ID of a channel path which is not a {@code /channel} path, with the
+     * {@code navigation/resolve_url} endpoint, and put it in the
+     * {@link #getResolvedChannelIds() resolved channel IDs cache}.
+     *
+     * @param channelPath the channel path to resolve
+     * @return the channel ID of the channel path, or an empty string if it doesn't point to a
+     * channel page
+     */
+    @Nonnull
+    private String resolveChannelId(@Nonnull final String channelPath)
+            throws IOException, ExtractionException {
+        final byte[] body = JsonWriter.string(prepareDesktopJsonBuilder(
+                        getExtractorLocalization(), getExtractorContentCountry())
+                        .value("url", "https://www.youtube.com/" + channelPath)
+                        .done())
+                .getBytes(UTF_8);
+
+        final JsonObject jsonResponse = getJsonPostResponse("navigation/resolve_url",
+                body, getExtractorLocalization());
+
+        checkIfChannelResponseIsValid(jsonResponse);
+
+        final JsonObject endpoint = jsonResponse.getObject("endpoint");
+
+        final String webPageType = endpoint.getObject("commandMetadata")
+                .getObject("webCommandMetadata")
+                .getString("webPageType", "");
+
+        final JsonObject browseEndpoint = endpoint.getObject("browseEndpoint");
+        final String browseId = browseEndpoint.getString("browseId", "");
+
+        if (webPageType.equalsIgnoreCase("WEB_PAGE_TYPE_BROWSE")
+                || webPageType.equalsIgnoreCase("WEB_PAGE_TYPE_CHANNEL")
+                && !browseId.isEmpty()) {
+            if (!browseId.startsWith("UC")) {
+                throw new ExtractionException("Redirected id is not pointing to a channel");
+            }
+
+            redirectedChannelId = browseId;
+            synchronized (RESOLVED_CHANNEL_IDS) {
+                RESOLVED_CHANNEL_IDS.put(channelPath,
+                        new ResolvedChannelId(browseId, System.currentTimeMillis()));
+            }
+            return browseId;
+        }
+        return "";
+    }
+
+    @Nullable
+    private static String getCachedChannelId(@Nonnull final String channelPath) {
+        synchronized (RESOLVED_CHANNEL_IDS) {
+            final ResolvedChannelId resolvedChannelId = RESOLVED_CHANNEL_IDS.get(channelPath);
+            if (resolvedChannelId == null) {
+                return null;
+            }
+            if (resolvedChannelId.isExpired()) {
+                RESOLVED_CHANNEL_IDS.remove(channelPath);
+                return null;
+            }
+            return resolvedChannelId.getChannelId();
+        }
+    }
+
+    /**
+     * Get the channel IDs of channel paths which are not {@code /channel} paths, such as
+     * {@code @handle}, {@code c/name} or {@code user/name}, which have been resolved and are not
+     * expired, with the time they have been resolved, e.g. to persist them and
+     * {@link #setResolvedChannelIds(Map) restore} them later.
+     *
+     * @return a copy of the resolved channel IDs, by channel path, from the least to the most
+     * recently used
+     */
+    @Nonnull
+    public static Map<String, ResolvedChannelId> getResolvedChannelIds() {
+        final Map<String, ResolvedChannelId> resolvedChannelIds = new LinkedHashMap<>();
+        synchronized (RESOLVED_CHANNEL_IDS) {
+            RESOLVED_CHANNEL_IDS.forEach((channelPath, resolvedChannelId) -> {
+                if (!resolvedChannelId.isExpired()) {
+                    resolvedChannelIds.put(channelPath, resolvedChannelId);
+                }
+            });
+        }
+        return resolvedChannelIds;
+    }
+
+    /**
+     * Replace the resolved channel IDs of channel paths which are not {@code /channel} paths, e.g.
+     * to restore the ones returned by {@link #getResolvedChannelIds()}.
+     *
+     * <p>
+     * The channel IDs given keep the time they have been resolved, so they are resolved again
+     * {@link #RESOLVED_CHANNEL_IDS_TIME_TO_LIVE} milliseconds after this time. The ones which are
+     * already expired are ignored.
+     * </p>
+     *
+     * @param resolvedChannelIds the channel IDs, by channel path, from the least to the most
+     *                           recently used, or an empty map to clear the cache
+     */
+    public static void setResolvedChannelIds(
+            @Nonnull final Map<String, ResolvedChannelId> resolvedChannelIds) {
+        synchronized (RESOLVED_CHANNEL_IDS) {
+            RESOLVED_CHANNEL_IDS.clear();
+            resolvedChannelIds.forEach((channelPath, resolvedChannelId) -> {
+                if (!resolvedChannelId.isExpired()) {
+                    RESOLVED_CHANNEL_IDS.put(channelPath, resolvedChannelId);
+                }
+            });
+        }
+    }
+
+    /**
+     * A channel ID resolved from a channel path, with the time it has been resolved.
+     */
+    public static final class ResolvedChannelId implements Serializable {
+        private final String channelId;
+        private final long resolutionTime;
+
+        /**
+         * @param channelId      the channel ID
+         * @param resolutionTime the time the channel ID has been resolved, in milliseconds since
+         *                       the epoch
+         */
+        public ResolvedChannelId(@Nonnull final String channelId, final long resolutionTime) {
+            this.channelId = channelId;
+            this.resolutionTime = resolutionTime;
+        }
+
+        @Nonnull
+        public String getChannelId() {
+            return channelId;
+        }
+
+        /**
+         * @return the time the channel ID has been resolved, in milliseconds since the epoch
+         */
+        public long getResolutionTime() {
+            return resolutionTime;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - resolutionTime
+                    > RESOLVED_CHANNEL_IDS_TIME_TO_LIVE;
+        }
+    }
+
     private void checkIfChannelResponseIsValid(@Nonnull final JsonObject jsonResponse)
             throws ContentNotAvailableException {
         if (!isNullOrEmpty(jsonResponse.getObject("error"))) {
@@ -319,8 +473,13 @@ public class YoutubeChannelExtractor extends ChannelExtractor {
             }
 
             if (textObject != null) {
+                final String subscriberCountText = getTextFromObject(textObject);
+                if (isNullOrEmpty(subscriberCountText)) {
+                    throw new ParsingException("Could not get subscriber count text");
+                }
                 try {
-                    return Utils.mixedNumberWordToLong(getTextFromObject(textObject));
+                    return CompactNumberParser.forLocalization(getExtractorLocalization())
+                            .parse(subscriberCountText);
                 } catch (final NumberFormatException e) {
                     throw new ParsingException("Could not get subscriber count", e);
                 }
@@ -373,6 +532,7 @@ public class YoutubeChannelExtractor extends ChannelExtractor {
     @Override
     public InfoItemsPage<StreamInfoItem> getInitialPage() throws IOException, ExtractionException {
         final StreamInfoItemsCollector collector = new StreamInfoItemsCollector(getServiceId());
+        collector.setMaxItems(getMaxItems());
 
         Page nextPage = null;
 
@@ -392,7 +552,9 @@ public class YoutubeChannelExtractor extends ChannelExtractor {
             channelIds.add(getUrl());
             final JsonObject continuation = collectStreamsFrom(collector, items, channelIds);
 
-            nextPage = getNextPageFrom(continuation, channelIds);
+            if (!collector.isFull()) {
+                nextPage = getNextPageFrom(continuation, channelIds);
+            }
         }
 
         return new InfoItemsPage<>(collector, nextPage);
@@ -5,9 +5,9 @@ import com.grack.nanojson.JsonObject;
 import org.schabi.newpipe.extractor.ListExtractor;
 import org.schabi.newpipe.extractor.channel.ChannelInfoItemExtractor;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper;
 import org.schabi.newpipe.extractor.services.youtube.linkHandler.YoutubeChannelLinkHandlerFactory;
-import org.schabi.newpipe.extractor.utils.Utils;
 
 import static org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper.fixThumbnailUrl;
 import static org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper.getTextFromObject;
@@ -94,14 +94,14 @@ public class YoutubeChannelInfoItemExtractor implements ChannelInfoItemExtractor
 
             if (withHandle) {
                 if (channelInfoItem.has("videoCountText")) {
-                    return Utils.mixedNumberWordToLong(getTextFromObject(
+                    return CompactNumberParser.DEFAULT.parse(getTextFromObject(
                             channelInfoItem.getObject("videoCountText")));
                 } else {
                     return -1;
                 }
             }
 
-            return Utils.mixedNumberWordToLong(getTextFromObject(
+            return CompactNumberParser.DEFAULT.parse(getTextFromObject(
                     channelInfoItem.getObject("subscriberCountText")));
         } catch (final Exception e) {
             throw new ParsingException("Could not get subscriber count", e);
@@ -117,8 +117,8 @@ public class YoutubeChannelInfoItemExtractor implements ChannelInfoItemExtractor
                 return ListExtractor.ITEM_COUNT_UNKNOWN;
             }
 
-            return Long.parseLong(Utils.removeNonDigitCharacters(getTextFromObject(
-                    channelInfoItem.getObject("videoCountText"))));
+            return CompactNumberParser.DEFAULT.parse(getTextFromObject(
+                    channelInfoItem.getObject("videoCountText")));
         } catch (final Exception e) {
             throw new ParsingException("Could not get stream count", e);
         }
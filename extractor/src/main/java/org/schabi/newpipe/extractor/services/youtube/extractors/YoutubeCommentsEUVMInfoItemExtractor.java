@@ -4,6 +4,7 @@ import com.grack.nanojson.JsonObject;
 import org.schabi.newpipe.extractor.Page;
 import org.schabi.newpipe.extractor.comments.CommentsInfoItemExtractor;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.localization.DateWrapper;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.stream.Description;
@@ -77,7 +78,7 @@ class YoutubeCommentsEUVMInfoItemExtractor implements CommentsInfoItemExtractor
                 return 0;
             }
 
-            return (int) Utils.mixedNumberWordToLong(textualLikeCount);
+            return (int) CompactNumberParser.DEFAULT.parse(textualLikeCount);
         } catch (final Exception e) {
             throw new ParsingException(
                     "Unexpected error while converting textual like count to like count", e);
@@ -190,7 +191,11 @@ class YoutubeCommentsEUVMInfoItemExtractor implements CommentsInfoItemExtractor
         if (isNullOrEmpty(replyCountString)) {
             return 0;
         }
-        return (int) Utils.mixedNumberWordToLong(replyCountString);
+        try {
+            return (int) CompactNumberParser.DEFAULT.parse(replyCountString);
+        } catch (final NumberFormatException e) {
+            throw new ParsingException("Could not get reply count", e);
+        }
     }
 
     @Nullable
@@ -12,10 +12,10 @@ import org.schabi.newpipe.extractor.downloader.Downloader;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.localization.Localization;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.utils.JsonUtils;
-import org.schabi.newpipe.extractor.utils.Utils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -392,9 +392,8 @@ public class YoutubeCommentsExtractor extends CommentsExtractor {
                 .getObject("countText");
 
         try {
-            return Integer.parseInt(
-                    Utils.removeNonDigitCharacters(getTextFromObject(countText))
-            );
+            return Math.toIntExact(CompactNumberParser.forLocalization(getExtractorLocalization())
+                    .parse(getTextFromObject(countText)));
         } catch (final Exception e) {
             throw new ExtractionException("Unable to get comments count", e);
         }
@@ -5,6 +5,7 @@ import com.grack.nanojson.JsonObject;
 import org.schabi.newpipe.extractor.Page;
 import org.schabi.newpipe.extractor.comments.CommentsInfoItemExtractor;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.localization.DateWrapper;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.stream.Description;
@@ -105,9 +106,9 @@ public class YoutubeCommentsInfoItemExtractor implements CommentsInfoItemExtract
         // Try first to get the exact like count by using the accessibility data
         final String likeCount;
         try {
-            likeCount = Utils.removeNonDigitCharacters(JsonUtils.getString(commentRenderer,
+            likeCount = JsonUtils.getString(commentRenderer,
                     "actionButtons.commentActionButtonsRenderer.likeButton.toggleButtonRenderer"
-                            + ".accessibilityData.accessibilityData.label"));
+                            + ".accessibilityData.accessibilityData.label");
         } catch (final Exception e) {
             // Use the approximate like count returned into the voteCount object
             // This may return a language dependent version, e.g. in German: 3,3 Mio
@@ -117,7 +118,7 @@ public class YoutubeCommentsInfoItemExtractor implements CommentsInfoItemExtract
                     return 0;
                 }
 
-                return (int) Utils.mixedNumberWordToLong(textualLikeCount);
+                return (int) CompactNumberParser.DEFAULT.parse(textualLikeCount);
             } catch (final Exception i) {
                 throw new ParsingException(
                         "Unexpected error while converting textual like count to like count", i);
@@ -125,11 +126,8 @@ public class YoutubeCommentsInfoItemExtractor implements CommentsInfoItemExtract
         }
 
         try {
-            if (Utils.isBlank(likeCount)) {
-                return 0;
-            }
-
-            return Integer.parseInt(likeCount);
+            // The label has no number when the comment has no like
+            return Math.toIntExact(CompactNumberParser.DEFAULT.parse(likeCount, 0));
         } catch (final Exception e) {
             throw new ParsingException("Unexpected error while parsing like count as Integer", e);
         }
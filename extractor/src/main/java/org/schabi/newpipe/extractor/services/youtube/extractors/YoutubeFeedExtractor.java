@@ -1,9 +1,5 @@
 package org.schabi.newpipe.extractor.services.youtube.extractors;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.schabi.newpipe.extractor.ListExtractor;
 import org.schabi.newpipe.extractor.Page;
 import org.schabi.newpipe.extractor.StreamingService;
@@ -12,12 +8,16 @@ import org.schabi.newpipe.extractor.downloader.Response;
 import org.schabi.newpipe.extractor.exceptions.ContentNotAvailableException;
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.feed.FeedExtractor;
+import org.schabi.newpipe.extractor.feed.FeedWatermark;
 import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper;
 import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 
 import javax.annotation.Nonnull;
 
@@ -28,29 +28,52 @@ public class YoutubeFeedExtractor extends FeedExtractor {
         super(service, linkHandler);
     }
 
-    private Document document;
+    private YoutubeFeedParser.Feed feed;
 
     @Override
     public void onFetchPage(@Nonnull final Downloader downloader)
             throws IOException, ExtractionException {
-        final String channelIdOrUser = getLinkHandler().getId();
-        final String feedUrl = YoutubeParsingHelper.getFeedUrlFrom(channelIdOrUser);
-
-        final Response response = downloader.get(feedUrl);
+        final Response response = getConditionally(downloader, getFeedUrl());
+        if (response == null) {
+            // The feed did not change, so it has no item
+            feed = new YoutubeFeedParser.Feed(null, null, null, Collections.emptyList());
+            return;
+        }
         if (response.responseCode() == 404) {
             throw new ContentNotAvailableException("Could not get feed: 404 - not found");
         }
-        document = Jsoup.parse(response.responseBody());
+
+        final FeedWatermark watermark = getWatermark();
+        if (watermark == null) {
+            feed = YoutubeFeedParser.parse(response.responseBody());
+        } else {
+            // Entries are sorted from the newest to the oldest, so stop at the first known one
+            feed = YoutubeFeedParser.parse(response.responseBody(), entry ->
+                    watermark.isReachedBy(entry.link, IsoDateParser.parse(entry.published)));
+        }
+
+        if (!feed.getEntries().isEmpty()) {
+            final YoutubeFeedParser.Entry newestEntry = feed.getEntries().get(0);
+            final OffsetDateTime newestDate = IsoDateParser.parse(newestEntry.published);
+            if (newestEntry.link != null || newestDate != null) {
+                setNewWatermark(new FeedWatermark(newestEntry.link, newestDate));
+            }
+        }
+    }
+
+    @Nonnull
+    @Override
+    public String getFeedUrl() {
+        return YoutubeParsingHelper.getFeedUrlFrom(getLinkHandler().getId());
     }
 
     @Nonnull
     @Override
     public ListExtractor.InfoItemsPage<StreamInfoItem> getInitialPage() {
-        final Elements entries = document.select("feed > entry");
         final StreamInfoItemsCollector collector = new StreamInfoItemsCollector(getServiceId());
 
-        for (final Element entryElement : entries) {
-            collector.commit(new YoutubeFeedInfoItemExtractor(entryElement));
+        for (final YoutubeFeedParser.Entry entry : feed.getEntries()) {
+            collector.commit(new YoutubeFeedInfoItemExtractor(entry));
         }
 
         return new InfoItemsPage<>(collector, null);
@@ -65,19 +88,14 @@ public class YoutubeFeedExtractor extends FeedExtractor {
     @Nonnull
     @Override
     public String getUrl() {
-        final Element authorUriElement = document.select("feed > author > uri")
-                .first();
-        if (authorUriElement != null) {
-            final String authorUriElementText = authorUriElement.text();
-            if (!authorUriElementText.equals("")) {
-                return authorUriElementText;
-            }
+        final String authorUri = feed.getAuthorUri();
+        if (authorUri != null && !authorUri.isEmpty()) {
+            return authorUri;
         }
 
-        final Element linkElement = document.select("feed > link[rel*=alternate]")
-                .first();
-        if (linkElement != null) {
-            return linkElement.attr("href");
+        final String alternateLink = feed.getAlternateLink();
+        if (alternateLink != null) {
+            return alternateLink;
         }
 
         return "";
@@ -86,13 +104,8 @@ public class YoutubeFeedExtractor extends FeedExtractor {
     @Nonnull
     @Override
     public String getName() {
-        final Element nameElement = document.select("feed > author > name")
-                .first();
-        if (nameElement == null) {
-            return "";
-        }
-
-        return nameElement.text();
+        final String authorName = feed.getAuthorName();
+        return authorName == null ? "" : authorName;
     }
 
     @Override
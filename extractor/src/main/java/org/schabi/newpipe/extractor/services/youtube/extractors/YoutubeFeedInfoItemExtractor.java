@@ -3,18 +3,59 @@ package org.schabi.newpipe.extractor.services.youtube.extractors;
 import org.jsoup.nodes.Element;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
 import org.schabi.newpipe.extractor.localization.DateWrapper;
+import org.schabi.newpipe.extractor.localization.IsoDateParser;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemExtractor;
 import org.schabi.newpipe.extractor.stream.StreamType;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 
 public class YoutubeFeedInfoItemExtractor implements StreamInfoItemExtractor {
-    private final Element entryElement;
+    @Nonnull
+    private final YoutubeFeedParser.Entry entry;
+
+    /**
+     * @param entryElement an {@code entry} element of a feed parsed with Jsoup
+     * @deprecated {@link YoutubeFeedExtractor} parses feeds without Jsoup, use it instead.
+     */
+    @Deprecated
+    public YoutubeFeedInfoItemExtractor(@Nonnull final Element entryElement) {
+        this.entry = new YoutubeFeedParser.Entry();
+        entry.title = getText(entryElement.getElementsByTag("title").first());
+        entry.link = getAttribute(entryElement.getElementsByTag("link").first(), "href");
+        entry.authorName = getText(entryElement.select("author > name").first());
+        entry.authorUri = getText(entryElement.select("author > uri").first());
+        entry.published = getText(entryElement.getElementsByTag("published").first());
+        entry.thumbnailUrl = getAttribute(
+                entryElement.getElementsByTag("media:thumbnail").first(), "url");
+        entry.views = getAttribute(
+                entryElement.getElementsByTag("media:statistics").first(), "views");
+    }
+
+    YoutubeFeedInfoItemExtractor(@Nonnull final YoutubeFeedParser.Entry entry) {
+        this.entry = entry;
+    }
+
+    @Nullable
+    private static String getText(@Nullable final Element element) {
+        return element == null ? null : element.text();
+    }
+
+    @Nullable
+    private static String getAttribute(@Nullable final Element element,
+                                       @Nonnull final String attributeKey) {
+        return element == null ? null : element.attr(attributeKey);
+    }
 
-    public YoutubeFeedInfoItemExtractor(final Element entryElement) {
-        this.entryElement = entryElement;
+    @Nonnull
+    private static String require(@Nullable final String value, @Nonnull final String name)
+            throws ParsingException {
+        if (value == null) {
+            throw new ParsingException("Could not get " + name);
+        }
+        return value;
     }
 
     @Override
@@ -36,19 +77,22 @@ public class YoutubeFeedInfoItemExtractor implements StreamInfoItemExtractor {
     }
 
     @Override
-    public long getViewCount() {
-        return Long.parseLong(entryElement.getElementsByTag("media:statistics").first()
-                .attr("views"));
+    public long getViewCount() throws ParsingException {
+        try {
+            return Long.parseLong(require(entry.views, "view count"));
+        } catch (final NumberFormatException e) {
+            throw new ParsingException("Could not parse view count", e);
+        }
     }
 
     @Override
-    public String getUploaderName() {
-        return entryElement.select("author > name").first().text();
+    public String getUploaderName() throws ParsingException {
+        return require(entry.authorName, "uploader name");
     }
 
     @Override
-    public String getUploaderUrl() {
-        return entryElement.select("author > uri").first().text();
+    public String getUploaderUrl() throws ParsingException {
+        return require(entry.authorUri, "uploader url");
     }
 
     @Nullable
@@ -64,13 +108,18 @@ public class YoutubeFeedInfoItemExtractor implements StreamInfoItemExtractor {
 
     @Nullable
     @Override
-    public String getTextualUploadDate() {
-        return entryElement.getElementsByTag("published").first().text();
+    public String getTextualUploadDate() throws ParsingException {
+        return require(entry.published, "upload date");
     }
 
     @Nullable
     @Override
     public DateWrapper getUploadDate() throws ParsingException {
+        final OffsetDateTime date = IsoDateParser.parse(getTextualUploadDate());
+        if (date != null) {
+            return new DateWrapper(date);
+        }
+
         try {
             return new DateWrapper(OffsetDateTime.parse(getTextualUploadDate()));
         } catch (final DateTimeParseException e) {
@@ -80,21 +129,21 @@ public class YoutubeFeedInfoItemExtractor implements StreamInfoItemExtractor {
     }
 
     @Override
-    public String getName() {
-        return entryElement.getElementsByTag("title").first().text();
+    public String getName() throws ParsingException {
+        return require(entry.title, "name");
     }
 
     @Override
-    public String getUrl() {
-        return entryElement.getElementsByTag("link").first().attr("href");
+    public String getUrl() throws ParsingException {
+        return require(entry.link, "url");
     }
 
     @Override
-    public String getThumbnailUrl() {
+    public String getThumbnailUrl() throws ParsingException {
         // The hqdefault thumbnail has some black bars at the top and at the bottom, while the
         // mqdefault doesn't, so return the mqdefault one. It should always exist, according to
         // https://stackoverflow.com/a/20542029/9481500.
-        return entryElement.getElementsByTag("media:thumbnail").first().attr("url")
+        return require(entry.thumbnailUrl, "thumbnail url")
                 .replace("hqdefault", "mqdefault");
     }
 }
@@ -0,0 +1,528 @@
+package org.schabi.newpipe.extractor.services.youtube.extractors;
+
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A minimal streaming parser of the Atom feeds of YouTube channels.
+ *
+ * <p>
+ * The feed is read in a single pass, without building a DOM tree or looking up any XML factory
+ * (which is not available on all platforms), and only the values used by
+ * {@link YoutubeFeedExtractor} and {@link YoutubeFeedInfoItemExtractor} are kept. It supports
+ * the subset of XML used by feeds: elements, attributes, text, character and entity references,
+ * comments, CDATA sections and processing instructions, but no document type declaration.
+ * </p>
+ *
+ * <p>
+ * Texts are returned like {@link org.jsoup.nodes.Element#text()} did with the Jsoup documents
+ * previously used: trimmed, with whitespace runs normalized to a single space.
+ * </p>
+ *
+ * <p>
+ * As feeds list the newest entries first, parsing can stop at the first entry already known by
+ * the caller, as soon as its link or its publication date is read.
+ * </p>
+ */
+final class YoutubeFeedParser {
+    @Nonnull
+    private final String xml;
+    @Nullable
+    private final Predicate<Entry> isKnownEntry;
+    private int position = 0;
+    private boolean stopped = false;
+
+    /**
+     * The names of the open elements, the innermost one last.
+     */
+    private final List<String> openElements = new ArrayList<>();
+
+    // The text being read, and the depth of the element which contains it
+    @Nullable
+    private StringBuilder text;
+    private int textDepth = -1;
+    @Nullable
+    private String textElement;
+
+    @Nullable
+    private String authorName;
+    @Nullable
+    private String authorUri;
+    @Nullable
+    private String alternateLink;
+    @Nonnull
+    private final List<Entry> entries = new ArrayList<>();
+    @Nullable
+    private Entry entry;
+
+    private YoutubeFeedParser(@Nonnull final String xml,
+                              @Nullable final Predicate<Entry> isKnownEntry) {
+        this.xml = xml;
+        this.isKnownEntry = isKnownEntry;
+    }
+
+    /**
+     * Parse an Atom feed of a YouTube channel.
+     *
+     * @param xml the XML of the feed
+     * @return the parsed feed
+     * @throws ParsingException if the XML is malformed
+     */
+    @Nonnull
+    static Feed parse(@Nonnull final String xml) throws ParsingException {
+        return parse(xml, null);
+    }
+
+    /**
+     * Parse the entries of an Atom feed of a YouTube channel until the first known one.
+     *
+     * @param xml          the XML of the feed
+     * @param isKnownEntry the predicate telling whether an entry is known, which is tested when
+     *                     the link and when the publication date of an entry are read; the
+     *                     rest of the feed is not parsed once it returns {@code true}
+     * @return the parsed feed, with the entries before the first known one
+     * @throws ParsingException if the parsed part of the XML is malformed
+     */
+    @Nonnull
+    static Feed parse(@Nonnull final String xml,
+                      @Nullable final Predicate<Entry> isKnownEntry) throws ParsingException {
+        final YoutubeFeedParser parser = new YoutubeFeedParser(xml, isKnownEntry);
+        parser.parse();
+        return new Feed(parser.authorName, parser.authorUri, parser.alternateLink,
+                Collections.unmodifiableList(parser.entries));
+    }
+
+    private void parse() throws ParsingException {
+        final int length = xml.length();
+        while (position < length && !stopped) {
+            final int tagStart = xml.indexOf('<', position);
+            if (tagStart == -1) {
+                appendText(position, length);
+                break;
+            }
+            appendText(position, tagStart);
+
+            if (xml.startsWith("<!--", tagStart)) {
+                position = indexAfter("-->", tagStart + 4);
+            } else if (xml.startsWith("<![CDATA[", tagStart)) {
+                final int end = indexAfter("]]>", tagStart + 9);
+                if (text != null) {
+                    appendNormalized(xml.substring(tagStart + 9, end - 3));
+                }
+                position = end;
+            } else if (xml.startsWith("<?", tagStart)) {
+                position = indexAfter("?>", tagStart + 2);
+            } else if (xml.startsWith("<!", tagStart)) {
+                throw new ParsingException("Document type declarations are not supported");
+            } else if (xml.startsWith("</", tagStart)) {
+                readEndTag(tagStart + 2);
+            } else {
+                readStartTag(tagStart + 1);
+            }
+        }
+
+        if (!stopped && !openElements.isEmpty()) {
+            throw new ParsingException("Unclosed element in feed: " + getOpenElement());
+        }
+    }
+
+    private void readStartTag(final int nameStart) throws ParsingException {
+        final int nameEnd = skipName(nameStart);
+        if (nameEnd == nameStart) {
+            throw new ParsingException("Invalid element at position " + nameStart);
+        }
+        final String name = xml.substring(nameStart, nameEnd);
+
+        // Read the attributes used by this parser, and skip the other ones
+        String href = null;
+        String rel = null;
+        String url = null;
+        String views = null;
+        int i = skipWhitespace(nameEnd);
+        while (i < xml.length() && xml.charAt(i) != '>' && xml.charAt(i) != '/') {
+            final int attributeNameEnd = skipName(i);
+            final String attributeName = xml.substring(i, attributeNameEnd);
+            i = skipWhitespace(attributeNameEnd);
+            if (attributeName.isEmpty() || i >= xml.length() || xml.charAt(i) != '=') {
+                throw new ParsingException("Invalid attribute " + attributeName + " of " + name);
+            }
+            i = skipWhitespace(i + 1);
+            if (i >= xml.length() || (xml.charAt(i) != '"' && xml.charAt(i) != '\'')) {
+                throw new ParsingException("Unquoted attribute " + attributeName + " of " + name);
+            }
+            final int valueEnd = xml.indexOf(xml.charAt(i), i + 1);
+            if (valueEnd == -1) {
+                throw new ParsingException("Unclosed attribute " + attributeName + " of " + name);
+            }
+            final String value = decode(xml, i + 1, valueEnd);
+            switch (attributeName) {
+                case "href":
+                    href = value;
+                    break;
+                case "rel":
+                    rel = value;
+                    break;
+                case "url":
+                    url = value;
+                    break;
+                case "views":
+                    views = value;
+                    break;
+                default:
+                    break;
+            }
+            i = skipWhitespace(valueEnd + 1);
+        }
+
+        final boolean selfClosing = xml.startsWith("/>", i);
+        if (!selfClosing && !xml.startsWith(">", i)) {
+            throw new ParsingException("Unclosed start tag " + name);
+        }
+        position = i + (selfClosing ? 2 : 1);
+
+        startElement(name, href, rel, url, views);
+        if (selfClosing) {
+            endElement(name);
+        }
+    }
+
+    private void readEndTag(final int nameStart) throws ParsingException {
+        final int nameEnd = skipName(nameStart);
+        final String name = xml.substring(nameStart, nameEnd);
+        final int end = skipWhitespace(nameEnd);
+        if (!xml.startsWith(">", end)) {
+            throw new ParsingException("Unclosed end tag " + name);
+        }
+        if (!name.equals(getOpenElement())) {
+            throw new ParsingException("Unexpected end tag " + name + ", expected "
+                    + getOpenElement());
+        }
+        position = end + 1;
+        endElement(name);
+    }
+
+    private void startElement(@Nonnull final String name,
+                              @Nullable final String href,
+                              @Nullable final String rel,
+                              @Nullable final String url,
+                              @Nullable final String views) {
+        final String parent = getOpenElement();
+        final int depth = openElements.size();
+        openElements.add(name);
+        if (text != null) {
+            // Texts include the ones of the children of their element
+            return;
+        }
+
+        if (entry == null) {
+            if (depth == 1 && "entry".equals(name)) {
+                entry = new Entry();
+            } else if (depth == 1 && "link".equals(name) && alternateLink == null
+                    && rel != null && rel.contains("alternate")) {
+                alternateLink = href == null ? "" : href;
+            } else if (depth == 2 && "author".equals(parent)
+                    && (("name".equals(name) && authorName == null)
+                    || ("uri".equals(name) && authorUri == null))) {
+                startText(name);
+            }
+            return;
+        }
+
+        // Like Element.getElementsByTag(name).first(), the first descendant of an entry is used
+        switch (name) {
+            case "title":
+                if (entry.title == null) {
+                    startText(name);
+                }
+                break;
+            case "published":
+                if (entry.published == null) {
+                    startText(name);
+                }
+                break;
+            case "name":
+                if ("author".equals(parent) && entry.authorName == null) {
+                    startText(name);
+                }
+                break;
+            case "uri":
+                if ("author".equals(parent) && entry.authorUri == null) {
+                    startText(name);
+                }
+                break;
+            case "link":
+                if (entry.link == null) {
+                    entry.link = href == null ? "" : href;
+                    checkKnownEntry();
+                }
+                break;
+            case "media:thumbnail":
+                if (entry.thumbnailUrl == null) {
+                    entry.thumbnailUrl = url == null ? "" : url;
+                }
+                break;
+            case "media:statistics":
+                if (entry.views == null) {
+                    entry.views = views == null ? "" : views;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void endElement(@Nonnull final String name) {
+        openElements.remove(openElements.size() - 1);
+
+        if (text != null && openElements.size() == textDepth) {
+            final String value = text.toString().trim();
+            setText(textElement, value);
+            text = null;
+            textElement = null;
+            textDepth = -1;
+        } else if (entry != null && openElements.size() == 1 && "entry".equals(name)) {
+            entries.add(entry);
+            entry = null;
+        }
+    }
+
+    private void startText(@Nonnull final String element) {
+        text = new StringBuilder();
+        textElement = element;
+        textDepth = openElements.size() - 1;
+    }
+
+    private void setText(@Nonnull final String element, @Nonnull final String value) {
+        if (entry == null) {
+            if ("name".equals(element)) {
+                authorName = value;
+            } else {
+                authorUri = value;
+            }
+            return;
+        }
+
+        switch (element) {
+            case "title":
+                entry.title = value;
+                break;
+            case "published":
+                entry.published = value;
+                checkKnownEntry();
+                break;
+            case "name":
+                entry.authorName = value;
+                break;
+            default:
+                entry.authorUri = value;
+                break;
+        }
+    }
+
+    private void checkKnownEntry() {
+        if (isKnownEntry != null && isKnownEntry.test(entry)) {
+            stopped = true;
+            entry = null;
+        }
+    }
+
+    private void appendText(final int start, final int end) throws ParsingException {
+        if (text != null && start < end) {
+            appendNormalized(decode(xml, start, end));
+        }
+    }
+
+    private void appendNormalized(@Nonnull final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                if (text.length() > 0 && text.charAt(text.length() - 1) != ' ') {
+                    text.append(' ');
+                }
+            } else {
+                text.append(c);
+            }
+        }
+    }
+
+    @Nullable
+    private String getOpenElement() {
+        return openElements.isEmpty() ? null : openElements.get(openElements.size() - 1);
+    }
+
+    private int indexAfter(@Nonnull final String end, final int from) throws ParsingException {
+        final int index = xml.indexOf(end, from);
+        if (index == -1) {
+            throw new ParsingException("Missing " + end + " in feed");
+        }
+        return index + end.length();
+    }
+
+    private int skipName(final int start) {
+        int i = start;
+        while (i < xml.length()) {
+            final char c = xml.charAt(i);
+            if (isWhitespace(c) || c == '>' || c == '/' || c == '=') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private int skipWhitespace(final int start) {
+        int i = start;
+        while (i < xml.length() && isWhitespace(xml.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Decode the character and entity references of a part of a text.
+     */
+    @Nonnull
+    static String decode(@Nonnull final String value, final int start, final int end)
+            throws ParsingException {
+        int ampersand = value.indexOf('&', start);
+        if (ampersand == -1 || ampersand >= end) {
+            return value.substring(start, end);
+        }
+
+        final StringBuilder decoded = new StringBuilder(end - start);
+        int i = start;
+        while (ampersand != -1 && ampersand < end) {
+            decoded.append(value, i, ampersand);
+            final int semicolon = value.indexOf(';', ampersand);
+            if (semicolon == -1 || semicolon >= end) {
+                throw new ParsingException("Unterminated reference in feed");
+            }
+
+            final String reference = value.substring(ampersand + 1, semicolon);
+            switch (reference) {
+                case "amp":
+                    decoded.append('&');
+                    break;
+                case "lt":
+                    decoded.append('<');
+                    break;
+                case "gt":
+                    decoded.append('>');
+                    break;
+                case "quot":
+                    decoded.append('"');
+                    break;
+                case "apos":
+                    decoded.append('\'');
+                    break;
+                default:
+                    decoded.appendCodePoint(decodeCharacterReference(reference));
+                    break;
+            }
+
+            i = semicolon + 1;
+            ampersand = value.indexOf('&', i);
+        }
+        decoded.append(value, i, end);
+        return decoded.toString();
+    }
+
+    private static int decodeCharacterReference(@Nonnull final String reference)
+            throws ParsingException {
+        try {
+            if (reference.startsWith("#x")) {
+                return Integer.parseInt(reference.substring(2), 16);
+            } else if (reference.startsWith("#")) {
+                return Integer.parseInt(reference.substring(1));
+            }
+        } catch (final NumberFormatException e) {
+            throw new ParsingException("Invalid character reference &" + reference + ";", e);
+        }
+        throw new ParsingException("Unknown entity &" + reference + ";");
+    }
+
+    /**
+     * The values of a feed.
+     */
+    static final class Feed {
+        @Nullable
+        private final String authorName;
+        @Nullable
+        private final String authorUri;
+        @Nullable
+        private final String alternateLink;
+        @Nonnull
+        private final List<Entry> entries;
+
+        Feed(@Nullable final String authorName,
+             @Nullable final String authorUri,
+             @Nullable final String alternateLink,
+             @Nonnull final List<Entry> entries) {
+            this.authorName = authorName;
+            this.authorUri = authorUri;
+            this.alternateLink = alternateLink;
+            this.entries = entries;
+        }
+
+        /**
+         * @return the text of {@code feed > author > name}, or {@code null} if there is none
+         */
+        @Nullable
+        String getAuthorName() {
+            return authorName;
+        }
+
+        /**
+         * @return the text of {@code feed > author > uri}, or {@code null} if there is none
+         */
+        @Nullable
+        String getAuthorUri() {
+            return authorUri;
+        }
+
+        /**
+         * @return the {@code href} of the first {@code feed > link} whose {@code rel} contains
+         * {@code alternate}, or {@code null} if there is none
+         */
+        @Nullable
+        String getAlternateLink() {
+            return alternateLink;
+        }
+
+        @Nonnull
+        List<Entry> getEntries() {
+            return entries;
+        }
+    }
+
+    /**
+     * The values of an entry of a feed, which are {@code null} if the entry does not have them.
+     */
+    static final class Entry {
+        @Nullable
+        String title;
+        @Nullable
+        String link;
+        @Nullable
+        String authorName;
+        @Nullable
+        String authorUri;
+        @Nullable
+        String published;
+        @Nullable
+        String thumbnailUrl;
+        @Nullable
+        String views;
+    }
+}
@@ -36,13 +36,14 @@ import org.schabi.newpipe.extractor.stream.Description;
 import org.schabi.newpipe.extractor.stream.StreamInfoItem;
 import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
 import org.schabi.newpipe.extractor.utils.JsonUtils;
+import org.schabi.newpipe.extractor.utils.LongHashSet;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -60,6 +61,22 @@ public class YoutubeMixPlaylistExtractor extends PlaylistExtractor {
      */
     public static final String COOKIE_NAME = "VISITOR_INFO1_LIVE";
 
+    /**
+     * The number of consecutive pages without new streams after which a mix is considered
+     * exhausted, i.e. no next page is returned anymore.
+     */
+    public static final int MAXIMUM_PAGES_WITHOUT_NEW_STREAMS = 2;
+
+    /**
+     * The maximum number of IDs of streams already returned kept in next pages, to deduplicate
+     * the streams of these pages. Only the most recent ones are kept, so that pages stay small.
+     */
+    public static final int MAXIMUM_SEEN_VIDEO_IDS = 500;
+
+    private static final String BASE64_URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final int VIDEO_ID_LENGTH = 11;
+
     private JsonObject initialData;
     private JsonObject playlistData;
     private String cookieValue;
@@ -181,17 +198,23 @@ public class YoutubeMixPlaylistExtractor extends PlaylistExtractor {
     public InfoItemsPage<StreamInfoItem> getInitialPage()
             throws IOException, ExtractionException {
         final StreamInfoItemsCollector collector = new StreamInfoItemsCollector(getServiceId());
-        collectStreamsFrom(collector, playlistData.getArray("contents"));
+        final LongHashSet seenVideoIdHashSet = new LongHashSet();
+        final long[] seenVideoIdHashes = collectStreamsFrom(collector,
+                playlistData.getArray("contents"), seenVideoIdHashSet);
 
         final Map<String, String> cookies = new HashMap<>();
         cookies.put(COOKIE_NAME, cookieValue);
 
-        return new InfoItemsPage<>(collector, getNextPageFrom(playlistData, cookies));
+        return new InfoItemsPage<>(collector, getNextPageFrom(playlistData, cookies,
+                seenVideoIdHashes, seenVideoIdHashSet, 0));
     }
 
     @Nonnull
-    private Page getNextPageFrom(@Nonnull final JsonObject playlistJson,
-                                 final Map<String, String> cookies)
+    private MixPage getNextPageFrom(@Nonnull final JsonObject playlistJson,
+                                    final Map<String, String> cookies,
+                                    @Nonnull final long[] seenVideoIdHashes,
+                                    @Nonnull final LongHashSet seenVideoIdHashSet,
+                                    final int pagesWithoutNewStreams)
             throws IOException, ExtractionException {
         final JsonObject lastStream = ((JsonObject) playlistJson.getArray("contents")
                 .get(playlistJson.getArray("contents").size() - 1));
@@ -214,9 +237,26 @@ public class YoutubeMixPlaylistExtractor extends PlaylistExtractor {
                 .done())
                 .getBytes(UTF_8);
 
-        return new Page(YOUTUBEI_V1_URL + "next?key=" + getKey(), null, null, cookies, body);
+        return new MixPage(YOUTUBEI_V1_URL + "next?key=" + getKey(), cookies, body,
+                seenVideoIdHashes, seenVideoIdHashSet, pagesWithoutNewStreams);
     }
 
+    /**
+     * Get a next page of the mix.
+     *
+     * <p>
+     * As YouTube returns streams already returned in previous pages, the streams already
+     * returned by the previous pages are removed from the page. If no new streams have been
+     * returned by {@link #MAXIMUM_PAGES_WITHOUT_NEW_STREAMS} consecutive pages, the mix is
+     * considered exhausted and the page returned has no next page.
+     * </p>
+     *
+     * <p>
+     * The state needed for this is carried by the pages, so streams are deduplicated even if
+     * pages are fetched with different extractor instances. Pages without this state are
+     * considered to be the first next page.
+     * </p>
+     */
     @Override
     public InfoItemsPage<StreamInfoItem> getPage(final Page page) throws IOException,
             ExtractionException {
@@ -242,25 +282,129 @@ public class YoutubeMixPlaylistExtractor extends PlaylistExtractor {
         final List<Object> newStreams =
                 allStreams.subList(playlistJson.getInt("currentIndex") + 1, allStreams.size());
 
-        collectStreamsFrom(collector, newStreams);
-        return new InfoItemsPage<>(collector, getNextPageFrom(playlistJson, page.getCookies()));
+        final long[] previousVideoIdHashes;
+        final LongHashSet seenVideoIdHashSet;
+        int pagesWithoutNewStreams;
+        if (page instanceof MixPage) {
+            final MixPage mixPage = (MixPage) page;
+            previousVideoIdHashes = mixPage.getSeenVideoIdHashes();
+            seenVideoIdHashSet = mixPage.copySeenVideoIdHashSet();
+            pagesWithoutNewStreams = mixPage.getPagesWithoutNewStreams();
+        } else {
+            previousVideoIdHashes = new long[0];
+            seenVideoIdHashSet = new LongHashSet();
+            pagesWithoutNewStreams = 0;
+        }
+
+        final long[] newVideoIdHashes =
+                collectStreamsFrom(collector, newStreams, seenVideoIdHashSet);
+        if (newVideoIdHashes.length > 0) {
+            pagesWithoutNewStreams = 0;
+        } else {
+            pagesWithoutNewStreams++;
+        }
+        if (pagesWithoutNewStreams >= MAXIMUM_PAGES_WITHOUT_NEW_STREAMS) {
+            return new InfoItemsPage<>(collector, null);
+        }
+        return new InfoItemsPage<>(collector, getNextPageFrom(playlistJson, page.getCookies(),
+                appendVideoIdHashes(previousVideoIdHashes, newVideoIdHashes),
+                seenVideoIdHashSet, pagesWithoutNewStreams));
+    }
+
+    /**
+     * Append hashes of video IDs to hashes of video IDs, keeping only the
+     * {@link #MAXIMUM_SEEN_VIDEO_IDS} most recent ones.
+     */
+    @Nonnull
+    static long[] appendVideoIdHashes(@Nonnull final long[] hashes,
+                                      @Nonnull final long[] newHashes) {
+        final int length = Math.min(hashes.length + newHashes.length, MAXIMUM_SEEN_VIDEO_IDS);
+        final int keptNewHashes = Math.min(newHashes.length, length);
+        final int keptHashes = length - keptNewHashes;
+
+        final long[] result = new long[length];
+        System.arraycopy(hashes, hashes.length - keptHashes, result, 0, keptHashes);
+        System.arraycopy(newHashes, newHashes.length - keptNewHashes, result, keptHashes,
+                keptNewHashes);
+        return result;
     }
 
-    private void collectStreamsFrom(@Nonnull final StreamInfoItemsCollector collector,
-                                    @Nullable final List<Object> streams) {
+    /**
+     * Commit the streams which have not been returned yet, and add the hashes of their video IDs
+     * to the hashes of the video IDs of the streams already returned. Streams without video ID
+     * can't be deduplicated, so they are always committed.
+     *
+     * @param seenVideoIdHashSet the hashes of the video IDs of the streams already returned
+     * @return the hashes of the video IDs of the streams not returned yet, in their order
+     */
+    @Nonnull
+    private long[] collectStreamsFrom(@Nonnull final StreamInfoItemsCollector collector,
+                                      @Nullable final List<Object> streams,
+                                      @Nonnull final LongHashSet seenVideoIdHashSet) {
         if (streams == null) {
-            return;
+            return new long[0];
         }
 
         final TimeAgoParser timeAgoParser = getTimeAgoParser();
+        final long[] newVideoIdHashes = new long[streams.size()];
+        int newVideoIdCount = 0;
+        for (final Object stream : streams) {
+            if (!(stream instanceof JsonObject)) {
+                continue;
+            }
+            final JsonObject streamInfo =
+                    ((JsonObject) stream).getObject("playlistPanelVideoRenderer");
+            if (streamInfo == null) {
+                continue;
+            }
+
+            final String videoId = streamInfo.getString("videoId");
+            if (isNullOrEmpty(videoId)) {
+                collector.commit(new YoutubeStreamInfoItemExtractor(streamInfo, timeAgoParser));
+                continue;
+            }
+            final long videoIdHash = hashVideoId(videoId);
+            if (seenVideoIdHashSet.add(videoIdHash)) {
+                newVideoIdHashes[newVideoIdCount++] = videoIdHash;
+                collector.commit(new YoutubeStreamInfoItemExtractor(streamInfo, timeAgoParser));
+            }
+        }
+        return Arrays.copyOf(newVideoIdHashes, newVideoIdCount);
+    }
+
+    /**
+     * Get a 64-bit hash of a video ID.
+     *
+     * <p>
+     * Video IDs are 11 characters of the URL-safe base64 alphabet encoding 64 bits, so their
+     * hash is the value they encode, which is unique. Other IDs are hashed with FNV-1a.
+     * </p>
+     *
+     * @param videoId a video ID
+     * @return the hash of the video ID
+     */
+    static long hashVideoId(@Nonnull final String videoId) {
+        if (videoId.length() == VIDEO_ID_LENGTH) {
+            long value = 0;
+            boolean isBase64 = true;
+            for (int i = 0; i < VIDEO_ID_LENGTH - 1 && isBase64; i++) {
+                final int digit = BASE64_URL_ALPHABET.indexOf(videoId.charAt(i));
+                isBase64 = digit >= 0;
+                value = (value << 6) | digit;
+            }
+            // The two lowest bits of the last character are always 0
+            final int lastDigit = BASE64_URL_ALPHABET.indexOf(videoId.charAt(VIDEO_ID_LENGTH - 1));
+            if (isBase64 && lastDigit >= 0 && (lastDigit & 3) == 0) {
+                return (value << 4) | (lastDigit >> 2);
+            }
+        }
 
-        streams.stream()
-                .filter(JsonObject.class::isInstance)
-                .map(JsonObject.class::cast)
-                .map(stream -> stream.getObject("playlistPanelVideoRenderer"))
-                .filter(Objects::nonNull)
-                .map(streamInfo -> new YoutubeStreamInfoItemExtractor(streamInfo, timeAgoParser))
-                .forEachOrdered(collector::commit);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < videoId.length(); i++) {
+            hash ^= videoId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
     @Nonnull
@@ -279,4 +423,74 @@ public class YoutubeMixPlaylistExtractor extends PlaylistExtractor {
     public PlaylistInfo.PlaylistType getPlaylistType() throws ParsingException {
         return extractPlaylistTypeFromPlaylistId(playlistData.getString("playlistId"));
     }
+
+    /**
+     * A next page of a mix, which carries the state needed to deduplicate the streams of the
+     * next pages.
+     *
+     * <p>
+     * The hashes of the video IDs already returned are kept in a {@link LongHashSet}, which is
+     * copied by the next page and is only built from the hashes carried by the page when the
+     * page has been deserialized, or when the set contains too many hashes.
+     * </p>
+     */
+    static final class MixPage extends Page {
+        private static final long serialVersionUID = 1L;
+
+        @Nonnull
+        private final long[] seenVideoIdHashes;
+        private final int pagesWithoutNewStreams;
+
+        @Nullable
+        private transient volatile LongHashSet seenVideoIdHashSet;
+
+        MixPage(final String url,
+                final Map<String, String> cookies,
+                @Nonnull final byte[] body,
+                @Nonnull final long[] seenVideoIdHashes,
+                @Nonnull final LongHashSet seenVideoIdHashSet,
+                final int pagesWithoutNewStreams) {
+            super(url, null, null, cookies, body);
+            this.seenVideoIdHashes = seenVideoIdHashes;
+            this.pagesWithoutNewStreams = pagesWithoutNewStreams;
+            // The set also contains the hashes which are not carried anymore; they are dropped
+            // once the set has become too large
+            if (seenVideoIdHashSet.size() <= 2 * MAXIMUM_SEEN_VIDEO_IDS) {
+                this.seenVideoIdHashSet = seenVideoIdHashSet;
+            }
+        }
+
+        /**
+         * @return the hashes of the video IDs of the streams already returned, from the oldest
+         * to the most recent one
+         */
+        @Nonnull
+        long[] getSeenVideoIdHashes() {
+            return seenVideoIdHashes;
+        }
+
+        /**
+         * @return the number of consecutive pages without new streams before this page
+         */
+        int getPagesWithoutNewStreams() {
+            return pagesWithoutNewStreams;
+        }
+
+        /**
+         * @return a copy of the set of the hashes of the video IDs of the streams already
+         * returned, which can be modified
+         */
+        @Nonnull
+        LongHashSet copySeenVideoIdHashSet() {
+            LongHashSet set = seenVideoIdHashSet;
+            if (set == null) {
+                set = new LongHashSet(seenVideoIdHashes.length);
+                for (final long hash : seenVideoIdHashes) {
+                    set.add(hash);
+                }
+                seenVideoIdHashSet = set;
+            }
+            return new LongHashSet(set);
+        }
+    }
 }
@@ -33,6 +33,7 @@ import org.schabi.newpipe.extractor.stream.StreamInfoItemsCollector;
 import org.schabi.newpipe.extractor.utils.Utils;
 
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -310,6 +311,8 @@ public class YoutubePlaylistExtractor extends PlaylistExtractor {
     @Override
     public InfoItemsPage<StreamInfoItem> getInitialPage() throws IOException, ExtractionException {
         final StreamInfoItemsCollector collector = new StreamInfoItemsCollector(getServiceId());
+        collector.setMaxItems(getMaxItems());
+        collector.setCommitPool(getCommitPool());
         Page nextPage = null;
 
         final JsonArray contents = browseResponse.getObject("contents")
@@ -340,7 +343,9 @@ public class YoutubePlaylistExtractor extends PlaylistExtractor {
                     .getArray("contents");
             collectStreamsFrom(collector, videosArray);
 
-            nextPage = getNextPageFrom(videosArray);
+            if (!collector.isFull()) {
+                nextPage = getNextPageFrom(videosArray);
+            }
         }
 
         return new InfoItemsPage<>(collector, nextPage);
@@ -354,6 +359,7 @@ public class YoutubePlaylistExtractor extends PlaylistExtractor {
         }
 
         final StreamInfoItemsCollector collector = new StreamInfoItemsCollector(getServiceId());
+        collector.setCommitPool(getCommitPool());
 
         final JsonObject ajaxJson = getJsonPostResponse("browse", page.getBody(),
                 getExtractorLocalization());
@@ -400,13 +406,15 @@ public class YoutubePlaylistExtractor extends PlaylistExtractor {
                                     @Nonnull final JsonArray videos) {
         final TimeAgoParser timeAgoParser = getTimeAgoParser();
 
-        videos.stream()
+        // Pages contain up to 100 videos, which are extracted in parallel if a commit pool was
+        // given to this extractor
+        collector.commitAll(videos.stream()
                 .filter(JsonObject.class::isInstance)
                 .map(JsonObject.class::cast)
                 .filter(video -> video.has(PLAYLIST_VIDEO_RENDERER))
                 .map(video -> new YoutubeStreamInfoItemExtractor(
                         video.getObject(PLAYLIST_VIDEO_RENDERER), timeAgoParser))
-                .forEachOrdered(collector::commit);
+                .collect(Collectors.toList()));
     }
 
     @Nonnull
@@ -150,6 +150,7 @@ public class YoutubeSearchExtractor extends SearchExtractor {
     @Override
     public InfoItemsPage<InfoItem> getInitialPage() throws IOException, ExtractionException {
         final MultiInfoItemsCollector collector = new MultiInfoItemsCollector(getServiceId());
+        collector.setMaxItems(getMaxItems());
 
         final JsonArray sections = initialData.getObject("contents")
                 .getObject("twoColumnSearchResultsRenderer")
@@ -172,7 +173,7 @@ public class YoutubeSearchExtractor extends SearchExtractor {
             }
         }
 
-        return new InfoItemsPage<>(collector, nextPage);
+        return new InfoItemsPage<>(collector, collector.isFull() ? null : nextPage);
     }
 
     @Override
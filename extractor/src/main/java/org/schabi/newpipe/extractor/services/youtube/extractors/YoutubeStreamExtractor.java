@@ -1317,21 +1317,12 @@ public class YoutubeStreamExtractor extends StreamExtractor {
                 final int totalCount = Integer.parseInt(parts[2]);
                 final int framesPerPageX = Integer.parseInt(parts[3]);
                 final int framesPerPageY = Integer.parseInt(parts[4]);
-                final String baseUrl = url.replace("$L", String.valueOf(i - 1))
+                // Page URLs are computed by the Frameset from this template, in which
+                // Frameset.PAGE_NUMBER_PLACEHOLDER ($M) is replaced by the page number
+                final String urlTemplate = url.replace("$L", String.valueOf(i - 1))
                         .replace("$N", parts[6]) + "&sigh=" + parts[7];
-                final List<String> urls;
-                if (baseUrl.contains("$M")) {
-                    final int totalPages = (int) Math.ceil(totalCount / (double)
-                            (framesPerPageX * framesPerPageY));
-                    urls = new ArrayList<>(totalPages);
-                    for (int j = 0; j < totalPages; j++) {
-                        urls.add(baseUrl.replace("$M", String.valueOf(j)));
-                    }
-                } else {
-                    urls = Collections.singletonList(baseUrl);
-                }
                 result.add(new Frameset(
-                        urls,
+                        urlTemplate,
                         /*frameWidth=*/Integer.parseInt(parts[0]),
                         /*frameHeight=*/Integer.parseInt(parts[1]),
                         totalCount,
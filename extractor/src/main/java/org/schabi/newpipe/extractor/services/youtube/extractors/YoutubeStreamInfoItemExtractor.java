@@ -3,6 +3,7 @@ package org.schabi.newpipe.extractor.services.youtube.extractors;
 import com.grack.nanojson.JsonArray;
 import com.grack.nanojson.JsonObject;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
 import org.schabi.newpipe.extractor.localization.DateWrapper;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.services.youtube.YoutubeParsingHelper;
@@ -11,7 +12,6 @@ import org.schabi.newpipe.extractor.stream.StreamInfoItemExtractor;
 import org.schabi.newpipe.extractor.stream.StreamType;
 import org.schabi.newpipe.extractor.utils.JsonUtils;
 import org.schabi.newpipe.extractor.utils.Parser;
-import org.schabi.newpipe.extractor.utils.Utils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -297,7 +297,7 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
         final String viewCountText = getTextFromObject(videoInfo.getObject("viewCountText"));
         if (!isNullOrEmpty(viewCountText)) {
             try {
-                return getViewCountFromViewCountText(viewCountText, false);
+                return getViewCountFromViewCountText(viewCountText);
             } catch (final Exception ignored) {
             }
         }
@@ -319,7 +319,7 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
                 return getViewCountFromViewCountText(videoInfo.getObject("videoInfo")
                         .getArray("runs")
                         .getObject(0)
-                        .getString("text", ""), true);
+                        .getString("text", ""));
             } catch (final Exception ignored) {
             }
         }
@@ -330,7 +330,7 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
                 final String shortViewCountText =
                         getTextFromObject(videoInfo.getObject("shortViewCountText"));
                 if (!isNullOrEmpty(shortViewCountText)) {
-                    return getViewCountFromViewCountText(shortViewCountText, true);
+                    return getViewCountFromViewCountText(shortViewCountText);
                 }
             } catch (final Exception ignored) {
             }
@@ -340,9 +340,8 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
         return -1;
     }
 
-    private long getViewCountFromViewCountText(@Nonnull final String viewCountText,
-                                               final boolean isMixedNumber)
-            throws NumberFormatException, ParsingException {
+    private long getViewCountFromViewCountText(@Nonnull final String viewCountText)
+            throws NumberFormatException {
         // These approaches are language dependent
         if (viewCountText.toLowerCase().contains(NO_VIEWS_LOWERCASE)) {
             return 0;
@@ -350,8 +349,8 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
             return -1;
         }
 
-        return isMixedNumber ? Utils.mixedNumberWordToLong(viewCountText)
-                : Long.parseLong(Utils.removeNonDigitCharacters(viewCountText));
+        // Full and short view counts, like 1,234,567 views and 1.2M views
+        return CompactNumberParser.DEFAULT.parse(viewCountText);
     }
 
     private long getViewCountFromAccessibilityData()
@@ -366,9 +365,8 @@ public class YoutubeStreamInfoItemExtractor implements StreamInfoItemExtractor {
             return 0;
         }
 
-        return Long.parseLong(Utils.removeNonDigitCharacters(
-                Parser.matchGroup1(ACCESSIBILITY_DATA_VIEW_COUNT_REGEX,
-                        videoInfoTitleAccessibilityData)));
+        return CompactNumberParser.DEFAULT.parse(Parser.matchGroup1(
+                ACCESSIBILITY_DATA_VIEW_COUNT_REGEX, videoInfoTitleAccessibilityData));
     }
 
     @Override
@@ -1,34 +1,38 @@
 package org.schabi.newpipe.extractor.services.youtube.extractors;
 
-import com.grack.nanojson.JsonArray;
-import com.grack.nanojson.JsonObject;
-import com.grack.nanojson.JsonParser;
 import com.grack.nanojson.JsonParserException;
+import com.grack.nanojson.JsonReader;
 
 import org.schabi.newpipe.extractor.exceptions.ExtractionException;
 import org.schabi.newpipe.extractor.services.youtube.YoutubeService;
 import org.schabi.newpipe.extractor.subscription.SubscriptionExtractor;
 import org.schabi.newpipe.extractor.subscription.SubscriptionItem;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import static org.schabi.newpipe.extractor.subscription.SubscriptionExtractor.ContentSource.INPUT_STREAM;
+import static org.schabi.newpipe.extractor.utils.Utils.UTF_8;
 
 /**
  * Extract subscriptions from a Google takeout export
  */
 public class YoutubeSubscriptionExtractor extends SubscriptionExtractor {
     private static final String BASE_CHANNEL_URL = "https://www.youtube.com/channel/";
+    private static final String HTTP_BASE_CHANNEL_URL = "http://www.youtube.com/channel/";
+    private static final int CSV_BUFFER_SIZE = 8192;
 
     public YoutubeSubscriptionExtractor(final YoutubeService youtubeService) {
         super(youtubeService, Collections.singletonList(INPUT_STREAM));
@@ -65,57 +69,201 @@ public class YoutubeSubscriptionExtractor extends SubscriptionExtractor {
         }
     }
 
+    /**
+     * Parse subscriptions from a stream, giving each one to a consumer as soon as it is parsed.
+     *
+     * @param contentInputStream the stream to read the subscriptions from
+     * @param contentType        the type of the content of the stream, like {@code json},
+     *                           {@code csv} or {@code zip}
+     * @param consumer           the consumer of the parsed subscriptions
+     * @return the number of subscriptions given to the consumer
+     */
+    @Override
+    public int fromInputStream(@Nonnull final InputStream contentInputStream,
+                               @Nonnull final String contentType,
+                               @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
+        switch (contentType) {
+            case "json":
+            case "application/json":
+                return fromJsonInputStream(contentInputStream, consumer);
+            case "csv":
+            case "text/csv":
+            case "text/comma-separated-values":
+                return fromCsvInputStream(contentInputStream, consumer);
+            case "zip":
+            case "application/zip":
+                return fromZipInputStream(contentInputStream, consumer);
+            default:
+                throw new InvalidSourceException("Unsupported content type: " + contentType);
+        }
+    }
+
     public List<SubscriptionItem> fromJsonInputStream(@Nonnull final InputStream contentInputStream)
             throws ExtractionException {
-        final JsonArray subscriptions;
+        final List<SubscriptionItem> subscriptionItems = new ArrayList<>();
+        fromJsonInputStream(contentInputStream, subscriptionItems::add);
+        return subscriptionItems;
+    }
+
+    /**
+     * Parse the subscriptions of a JSON takeout export, reading it as a stream instead of
+     * building its whole JSON tree.
+     *
+     * @param contentInputStream the stream of the JSON export
+     * @param consumer           the consumer of the parsed subscriptions
+     * @return the number of subscriptions given to the consumer
+     */
+    public int fromJsonInputStream(@Nonnull final InputStream contentInputStream,
+                                   @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
+        boolean foundInvalidSubscription = false;
+        int subscriptionCount = 0;
         try {
-            subscriptions = JsonParser.array().from(contentInputStream);
+            final JsonReader reader = JsonReader.from(contentInputStream);
+            reader.array();
+            while (reader.next()) {
+                final SubscriptionItem subscriptionItem = readJsonSubscription(reader);
+                if (subscriptionItem == null) {
+                    foundInvalidSubscription = true;
+                    continue;
+                }
+
+                consumer.accept(subscriptionItem);
+                subscriptionCount++;
+            }
         } catch (final JsonParserException e) {
             throw new InvalidSourceException("Invalid json input stream", e);
         }
 
-        boolean foundInvalidSubscription = false;
-        final List<SubscriptionItem> subscriptionItems = new ArrayList<>();
-        for (final Object subscriptionObject : subscriptions) {
-            if (!(subscriptionObject instanceof JsonObject)) {
-                foundInvalidSubscription = true;
+        if (foundInvalidSubscription && subscriptionCount == 0) {
+            throw new InvalidSourceException("Found only invalid channel ids");
+        }
+        return subscriptionCount;
+    }
+
+    /**
+     * Read a subscription of a JSON export, like
+     * {@code {"snippet": {"resourceId": {"channelId": "UC..."}, "title": "..."}}}.
+     *
+     * @return the subscription, or {@code null} if it is invalid
+     */
+    @Nullable
+    private SubscriptionItem readJsonSubscription(@Nonnull final JsonReader reader)
+            throws JsonParserException {
+        if (reader.current() != JsonReader.Type.OBJECT) {
+            skipJsonValue(reader);
+            return null;
+        }
+
+        String id = "";
+        String title = "";
+        reader.object();
+        while (reader.next()) {
+            if (!"snippet".equals(reader.key()) || reader.current() != JsonReader.Type.OBJECT) {
+                skipJsonValue(reader);
                 continue;
             }
 
-            final JsonObject subscription = ((JsonObject) subscriptionObject).getObject("snippet");
-            final String id = subscription.getObject("resourceId").getString("channelId", "");
-            if (id.length() != 24) { // e.g. UCsXVk37bltHxD1rDPwtNM8Q
-                foundInvalidSubscription = true;
-                continue;
+            reader.object();
+            while (reader.next()) {
+                final String key = reader.key();
+                if ("title".equals(key) && reader.current() == JsonReader.Type.STRING) {
+                    title = reader.string();
+                } else if ("resourceId".equals(key)
+                        && reader.current() == JsonReader.Type.OBJECT) {
+                    reader.object();
+                    while (reader.next()) {
+                        if ("channelId".equals(reader.key())
+                                && reader.current() == JsonReader.Type.STRING) {
+                            id = reader.string();
+                        } else {
+                            skipJsonValue(reader);
+                        }
+                    }
+                } else {
+                    skipJsonValue(reader);
+                }
             }
+        }
 
-            subscriptionItems.add(new SubscriptionItem(service.getServiceId(),
-                    BASE_CHANNEL_URL + id, subscription.getString("title", "")));
+        if (id.length() != 24) { // e.g. UCsXVk37bltHxD1rDPwtNM8Q
+            return null;
         }
+        return new SubscriptionItem(service.getServiceId(), BASE_CHANNEL_URL + id, title);
+    }
 
-        if (foundInvalidSubscription && subscriptionItems.isEmpty()) {
-            throw new InvalidSourceException("Found only invalid channel ids");
+    /**
+     * Skip the current value of a reader, without building it.
+     */
+    private static void skipJsonValue(@Nonnull final JsonReader reader)
+            throws JsonParserException {
+        switch (reader.current()) {
+            case OBJECT:
+                reader.object();
+                while (reader.next()) {
+                    reader.key();
+                    skipJsonValue(reader);
+                }
+                break;
+            case ARRAY:
+                reader.array();
+                while (reader.next()) {
+                    skipJsonValue(reader);
+                }
+                break;
+            default:
+                reader.value();
+                break;
         }
-        return subscriptionItems;
     }
 
     public List<SubscriptionItem> fromZipInputStream(@Nonnull final InputStream contentInputStream)
             throws ExtractionException {
+        final List<SubscriptionItem> subscriptionItems = new ArrayList<>();
+        fromZipInputStream(contentInputStream, subscriptionItems::add);
+        return subscriptionItems;
+    }
+
+    /**
+     * Parse the subscriptions of the first CSV file of a ZIP takeout export which has some,
+     * reading the file directly from the ZIP stream.
+     *
+     * <p>
+     * Subscriptions are given to the consumer as soon as they are parsed, so if a CSV file with
+     * subscriptions cannot be read entirely, an exception is thrown instead of trying the next
+     * files.
+     * </p>
+     *
+     * @param contentInputStream the stream of the ZIP export
+     * @param consumer           the consumer of the parsed subscriptions
+     * @return the number of subscriptions given to the consumer
+     */
+    public int fromZipInputStream(@Nonnull final InputStream contentInputStream,
+                                  @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
         try (ZipInputStream zipInputStream = new ZipInputStream(contentInputStream)) {
             ZipEntry zipEntry;
             while ((zipEntry = zipInputStream.getNextEntry()) != null) {
                 if (zipEntry.getName().toLowerCase().endsWith(".csv")) {
+                    final int[] csvItemCount = {0};
                     try {
-                        final List<SubscriptionItem> csvItems = fromCsvInputStream(zipInputStream);
-
-                        // Return it only if it has items (it exits early if it's the wrong file
-                        // format), otherwise try the next file
-                        if (csvItems.size() > 0) {
-                            return csvItems;
-                        }
+                        readCsv(new InputStreamReader(zipInputStream, UTF_8), item -> {
+                            consumer.accept(item);
+                            csvItemCount[0]++;
+                        });
                     } catch (final ExtractionException e) {
+                        if (csvItemCount[0] > 0) {
+                            throw e;
+                        }
                         // Ignore error and go to next file
                     }
+
+                    // Return it only if it has items (it exits early if it's the wrong file
+                    // format), otherwise try the next file
+                    if (csvItemCount[0] > 0) {
+                        return csvItemCount[0];
+                    }
                 }
             }
         } catch (final IOException e) {
@@ -128,6 +276,39 @@ public class YoutubeSubscriptionExtractor extends SubscriptionExtractor {
 
     public List<SubscriptionItem> fromCsvInputStream(@Nonnull final InputStream contentInputStream)
             throws ExtractionException {
+        final List<SubscriptionItem> subscriptionItems = new ArrayList<>();
+        fromCsvInputStream(contentInputStream, subscriptionItems::add);
+        return subscriptionItems;
+    }
+
+    /**
+     * Parse the subscriptions of a CSV takeout export.
+     *
+     * @param contentInputStream the stream of the CSV export, which is closed
+     * @param consumer           the consumer of the parsed subscriptions
+     * @return the number of subscriptions given to the consumer
+     */
+    public int fromCsvInputStream(@Nonnull final InputStream contentInputStream,
+                                  @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
+        try (Reader reader = new InputStreamReader(contentInputStream, UTF_8)) {
+            return readCsv(reader, consumer);
+        } catch (final IOException e) {
+            throw new InvalidSourceException("Error reading CSV file", e);
+        }
+    }
+
+    /**
+     * Read the subscriptions of a CSV export, without closing the reader.
+     *
+     * <p>
+     * Characters are read in chunks into a reused line buffer, and only the strings of the
+     * subscriptions are created.
+     * </p>
+     */
+    private int readCsv(@Nonnull final Reader reader,
+                        @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
         // Expected format of CSV file:
         // Channel Id,Channel Url,Channel Title
         //UC1JTQBa5QxZCpXrFSkMxmPw,http://www.youtube.com/channel/UC1JTQBa5QxZCpXrFSkMxmPw,Raycevick
@@ -139,68 +320,144 @@ public class YoutubeSubscriptionExtractor extends SubscriptionExtractor {
         //      Header names are different based on the locale
         //      Fortunately the data is always the same order no matter what locale
 
+        final char[] buffer = new char[CSV_BUFFER_SIZE];
+        char[] line = new char[CSV_BUFFER_SIZE];
+        int lineLength = 0;
         int currentLine = 0;
-        String line = "";
+        int subscriptionCount = 0;
 
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(contentInputStream))) {
-            final List<SubscriptionItem> subscriptionItems = new ArrayList<>();
+        try {
+            int read;
+            boolean endOfStream = false;
+            while (!endOfStream) {
+                read = reader.read(buffer);
+                endOfStream = read == -1;
+                final int end = endOfStream ? 0 : read;
 
-            // ignore header and skip first line
-            currentLine = 1;
-            line = br.readLine();
+                for (int i = 0; i <= end; i++) {
+                    final boolean endOfLine;
+                    if (i == end) {
+                        // Read the last line, which may not end with a line break
+                        endOfLine = endOfStream && lineLength > 0;
+                    } else {
+                        endOfLine = buffer[i] == '\n';
+                    }
 
-            while ((line = br.readLine()) != null) {
-                currentLine++;
+                    if (!endOfLine) {
+                        if (i < end) {
+                            if (lineLength == line.length) {
+                                line = Arrays.copyOf(line, line.length * 2);
+                            }
+                            line[lineLength++] = buffer[i];
+                        }
+                        continue;
+                    }
 
-                // Exit early if we've read the first few lines and we haven't added any items
-                // It's likely we're in the wrong file
-                if (currentLine > 5 && subscriptionItems.size() == 0) {
-                    break;
-                }
+                    currentLine++;
+                    if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                        lineLength--;
+                    }
 
-                // First comma
-                final int i1 = line.indexOf(",");
-                if (i1 == -1) {
-                    continue;
-                }
+                    // Exit early if we've read the first few lines and we haven't added any
+                    // items. It's likely we're in the wrong file
+                    if (currentLine > 5 && subscriptionCount == 0) {
+                        return 0;
+                    }
 
-                // Second comma
-                final int i2 = line.indexOf(",", i1 + 1);
-                if (i2 == -1) {
-                    continue;
+                    // Ignore the header
+                    if (currentLine > 1) {
+                        final SubscriptionItem subscriptionItem =
+                                readCsvSubscription(line, lineLength);
+                        if (subscriptionItem != null) {
+                            consumer.accept(subscriptionItem);
+                            subscriptionCount++;
+                        }
+                    }
+                    lineLength = 0;
                 }
+            }
+            return subscriptionCount;
+        } catch (final IOException e) {
+            String lineStart = new String(line, 0, Math.min(lineLength, 10));
+            if (lineLength > 10) {
+                lineStart += "...";
+            }
+            throw new InvalidSourceException("Error reading CSV file on line = \"" + lineStart
+                    + "\", line number = " + (currentLine + 1), e);
+        }
+    }
 
-                // Third comma or line length
-                int i3 = line.indexOf(",", i2 + 1);
-                if (i3 == -1) {
-                    i3 = line.length();
-                }
+    /**
+     * Read a subscription from a line of a CSV export.
+     *
+     * @return the subscription, or {@code null} if the line is not a valid subscription
+     */
+    @Nullable
+    private SubscriptionItem readCsvSubscription(@Nonnull final char[] line,
+                                                 final int lineLength) {
+        // First comma
+        final int i1 = indexOf(line, lineLength, ',', 0);
+        if (i1 == -1) {
+            return null;
+        }
 
-                // Channel URL from second entry
-                final String channelUrl = line
-                        .substring(i1 + 1, i2)
-                        .replace("http://", "https://");
-                if (!channelUrl.startsWith(BASE_CHANNEL_URL)) {
-                    continue;
-                }
+        // Second comma
+        final int i2 = indexOf(line, lineLength, ',', i1 + 1);
+        if (i2 == -1) {
+            return null;
+        }
+
+        // Third comma or line length
+        int i3 = indexOf(line, lineLength, ',', i2 + 1);
+        if (i3 == -1) {
+            i3 = lineLength;
+        }
+
+        // Channel URL from second entry, which may use http instead of https
+        final int channelPathStart;
+        if (regionMatches(line, i1 + 1, i2, BASE_CHANNEL_URL)) {
+            channelPathStart = i1 + 1 + BASE_CHANNEL_URL.length();
+        } else if (regionMatches(line, i1 + 1, i2, HTTP_BASE_CHANNEL_URL)) {
+            channelPathStart = i1 + 1 + HTTP_BASE_CHANNEL_URL.length();
+        } else {
+            return null;
+        }
+        final String channelUrl = BASE_CHANNEL_URL
+                + new String(line, channelPathStart, i2 - channelPathStart);
 
-                // Channel title from third entry
-                final String channelTitle = line.substring(i2 + 1, i3);
+        // Channel title from third entry
+        final String channelTitle = new String(line, i2 + 1, i3 - i2 - 1);
 
-                final SubscriptionItem newItem
-                        = new SubscriptionItem(service.getServiceId(), channelUrl, channelTitle);
-                subscriptionItems.add(newItem);
+        return new SubscriptionItem(service.getServiceId(), channelUrl, channelTitle);
+    }
+
+    private static int indexOf(@Nonnull final char[] chars,
+                               final int length,
+                               final char c,
+                               final int from) {
+        for (int i = from; i < length; i++) {
+            if (chars[i] == c) {
+                return i;
             }
+        }
+        return -1;
+    }
 
-            return subscriptionItems;
-        } catch (final IOException e) {
-            if (line == null) {
-                line = "<null>";
-            } else if (line.length() > 10) {
-                line = line.substring(0, 10) + "...";
+    /**
+     * @return whether the characters between start and end start with the prefix
+     */
+    private static boolean regionMatches(@Nonnull final char[] chars,
+                                         final int start,
+                                         final int end,
+                                         @Nonnull final String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (chars[start + i] != prefix.charAt(i)) {
+                return false;
             }
-            throw new InvalidSourceException("Error reading CSV file on line = \"" + line
-                    + "\", line number = " + currentLine, e);
         }
+        return true;
     }
 }
@@ -1,11 +1,26 @@
 package org.schabi.newpipe.extractor.stream;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.List;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 public final class Frameset implements Serializable {
 
+    /**
+     * The placeholder of the page number in URL templates, see
+     * {@link #Frameset(String, int, int, int, int, int, int)}.
+     */
+    public static final String PAGE_NUMBER_PLACEHOLDER = "$M";
+
+    // Only one of these two fields is set, depending on the constructor used
+    @Nullable
     private final List<String> urls;
+    @Nullable
+    private final String urlTemplate;
+    private final int pageCount;
     private final int frameWidth;
     private final int frameHeight;
     private final int totalCount;
@@ -23,6 +38,43 @@ public final class Frameset implements Serializable {
             final int framesPerPageY) {
 
         this.urls = urls;
+        this.urlTemplate = null;
+        this.pageCount = urls.size();
+        this.totalCount = totalCount;
+        this.durationPerFrame = durationPerFrame;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.framesPerPageX = framesPerPageX;
+        this.framesPerPageY = framesPerPageY;
+    }
+
+    /**
+     * Create a {@code Frameset} whose page URLs are computed on demand from a template.
+     *
+     * <p>
+     * If the template contains {@link #PAGE_NUMBER_PLACEHOLDER}, there is one page per
+     * {@code framesPerPageX * framesPerPageY} frames, and the URL of each page is the template in
+     * which the placeholder is replaced by the page number, starting at 0. Otherwise, there is
+     * only one page, whose URL is the template.
+     * </p>
+     */
+    public Frameset(
+            @Nonnull final String urlTemplate,
+            final int frameWidth,
+            final int frameHeight,
+            final int totalCount,
+            final int durationPerFrame,
+            final int framesPerPageX,
+            final int framesPerPageY) {
+
+        this.urls = null;
+        this.urlTemplate = urlTemplate;
+        if (urlTemplate.contains(PAGE_NUMBER_PLACEHOLDER)) {
+            final int framesPerPage = Math.max(1, framesPerPageX * framesPerPageY);
+            this.pageCount = (totalCount + framesPerPage - 1) / framesPerPage;
+        } else {
+            this.pageCount = 1;
+        }
         this.totalCount = totalCount;
         this.durationPerFrame = durationPerFrame;
         this.frameWidth = frameWidth;
@@ -32,10 +84,51 @@ public final class Frameset implements Serializable {
     }
 
     /**
-     * @return list of urls to images with frames
+     * @return list of urls to images with frames; if this {@code Frameset} has been created from
+     * a URL template, the URLs are computed when accessed
      */
     public List<String> getUrls() {
-        return urls;
+        if (urls != null) {
+            return urls;
+        }
+        return new AbstractList<String>() {
+            @Override
+            public String get(final int index) {
+                return getUrlForPage(index);
+            }
+
+            @Override
+            public int size() {
+                return pageCount;
+            }
+        };
+    }
+
+    /**
+     * @return count of pages, i.e. of images with frames
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Get the URL of the image containing the frames of a page.
+     *
+     * @param page the index of the page, e.g. the first element returned by
+     *             {@link #getFrameBoundsAt(long)}
+     * @return the URL of the image of the page
+     * @throws IndexOutOfBoundsException if the page is not between 0 and
+     * {@link #getPageCount()} (exclusive)
+     */
+    public String getUrlForPage(final int page) {
+        if (page < 0 || page >= pageCount) {
+            throw new IndexOutOfBoundsException("Page " + page + " is out of bounds: "
+                    + pageCount + " pages");
+        }
+        if (urls != null) {
+            return urls.get(page);
+        }
+        return urlTemplate.replace(PAGE_NUMBER_PLACEHOLDER, String.valueOf(page));
     }
 
     /**
@@ -88,7 +181,7 @@ public final class Frameset implements Serializable {
      * specified as follows:
      *
      * <ul>
-     *     <li><code>0</code>: Index of the URL</li>
+     *     <li><code>0</code>: Index of the URL, see {@link #getUrlForPage(int)}</li>
      *     <li><code>1</code>: Left bound</li>
      *     <li><code>2</code>: Top bound</li>
      *     <li><code>3</code>: Right bound</li>
@@ -109,6 +109,9 @@ public class StreamInfoItemsCollector
 
     @Override
     public void commit(final StreamInfoItemExtractor extractor) {
+        if (isFull()) {
+            return;
+        }
         try {
             addItem(extract(extractor));
         } catch (final FoundAdException ae) {
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class SubscriptionExtractor {
 
@@ -96,4 +97,31 @@ public abstract class SubscriptionExtractor {
         throw new UnsupportedOperationException("Service " + service.getServiceInfo().getName()
                 + " doesn't support extracting from an InputStream");
     }
+
+    /**
+     * Reads and parse {@link SubscriptionItem}s from the given InputStream, giving each one to a
+     * consumer.
+     *
+     * <p>
+     * Services supporting it give the items to the consumer as soon as they are parsed, without
+     * keeping them in memory, so that huge exports can be read in constant memory. Otherwise,
+     * all the items are parsed with {@link #fromInputStream(InputStream, String)} first.
+     * </p>
+     *
+     * @param contentInputStream the stream to read the subscriptions from
+     * @param contentType        the type of the content of the stream
+     * @param consumer           the consumer of the parsed subscriptions
+     * @return the number of subscriptions given to the consumer
+     * @throws InvalidSourceException when the content read from the InputStream is invalid and can
+     *                                not be parsed
+     */
+    public int fromInputStream(@Nonnull final InputStream contentInputStream,
+                               @Nonnull final String contentType,
+                               @Nonnull final Consumer<SubscriptionItem> consumer)
+            throws ExtractionException {
+        final List<SubscriptionItem> subscriptionItems =
+                fromInputStream(contentInputStream, contentType);
+        subscriptionItems.forEach(consumer);
+        return subscriptionItems.size();
+    }
 }
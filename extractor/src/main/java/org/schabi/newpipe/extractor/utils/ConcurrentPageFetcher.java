@@ -0,0 +1,126 @@
+package org.schabi.newpipe.extractor.utils;
+
+import org.schabi.newpipe.extractor.InfoItem;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.Page;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Utility class to fetch several pages of a list concurrently, when all their {@link Page}s are
+ * known before fetching them.
+ */
+public final class ConcurrentPageFetcher {
+
+    /**
+     * The default maximum number of pages fetched at the same time.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 4;
+
+    /**
+     * Fetches a page, usually with {@link org.schabi.newpipe.extractor.ListExtractor#getPage(Page)}.
+     *
+     * @param <T> the info item type of the page
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T extends InfoItem> {
+        InfoItemsPage<T> getPage(Page page) throws IOException, ExtractionException;
+    }
+
+    private ConcurrentPageFetcher() {
+    }
+
+    /**
+     * Fetch pages concurrently.
+     *
+     * <p>
+     * The fetcher is called from several threads at the same time, so it must be thread-safe.
+     * If a page could not be fetched, the fetching of the other pages is cancelled and the
+     * exception thrown by the fetcher is thrown.
+     * </p>
+     *
+     * @param pages                 the pages to fetch
+     * @param fetcher               the function fetching a page
+     * @param maxConcurrentRequests the maximum number of pages fetched at the same time, which
+     *                              must be greater than 0
+     * @return the pages fetched, in the same order as the given ones
+     */
+    @Nonnull
+    public static <T extends InfoItem> List<InfoItemsPage<T>> fetchPages(
+            @Nonnull final List<Page> pages,
+            @Nonnull final PageFetcher<T> fetcher,
+            final int maxConcurrentRequests) throws IOException, ExtractionException {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException(
+                    "maxConcurrentRequests must be greater than 0: " + maxConcurrentRequests);
+        }
+
+        final List<InfoItemsPage<T>> fetchedPages = new ArrayList<>(pages.size());
+        if (pages.isEmpty()) {
+            return fetchedPages;
+        } else if (pages.size() == 1) {
+            // No need to create threads for a single page
+            fetchedPages.add(fetcher.getPage(pages.get(0)));
+            return fetchedPages;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(pages.size(), maxConcurrentRequests));
+        try {
+            final List<Future<InfoItemsPage<T>>> futures = new ArrayList<>(pages.size());
+            for (final Page page : pages) {
+                futures.add(executor.submit(() -> fetcher.getPage(page)));
+            }
+            for (final Future<InfoItemsPage<T>> future : futures) {
+                fetchedPages.add(future.get());
+            }
+            return fetchedPages;
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof ExtractionException) {
+                throw (ExtractionException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ExtractionException(cause);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching pages");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Merge pages into a single one.
+     *
+     * @param pages    the pages to merge
+     * @param nextPage the next page of the merged page
+     * @return a page containing the items and the errors of all the pages, in order
+     */
+    @Nonnull
+    public static <T extends InfoItem> InfoItemsPage<T> mergePages(
+            @Nonnull final List<InfoItemsPage<T>> pages,
+            @Nullable final Page nextPage) {
+        final List<T> items = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        for (final InfoItemsPage<T> page : pages) {
+            items.addAll(page.getItems());
+            errors.addAll(page.getErrors());
+        }
+        return new InfoItemsPage<>(items, nextPage, errors);
+    }
+}
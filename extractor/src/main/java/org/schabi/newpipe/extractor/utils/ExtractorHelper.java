@@ -21,6 +21,14 @@ public final class ExtractorHelper {
             final InfoItemsPage<T> page = extractor.getInitialPage();
             info.addAllErrors(page.getErrors());
 
+            final int maxItems = extractor.getMaxItems();
+            if (maxItems != InfoItemsCollector.NO_MAX_ITEMS
+                    && page.getItems().size() >= maxItems) {
+                // The items after the maximum number of items are not needed, and would be
+                // skipped by the next page
+                return new InfoItemsPage<>(page.getItems().subList(0, maxItems), null,
+                        page.getErrors());
+            }
             return page;
         } catch (final Exception e) {
             info.addError(e);
@@ -0,0 +1,166 @@
+package org.schabi.newpipe.extractor.utils;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A set of {@code long}s, stored in a primitive array with open addressing.
+ *
+ * <p>
+ * This set is intended to remember a large number of values, like hashes of IDs, with a small
+ * memory footprint: it uses between 16 and 32 bytes per value and doesn't create an object per
+ * value.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class LongHashSet {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /**
+     * The value of empty slots of {@link #table}, which is stored with {@link #containsZero}.
+     */
+    private static final long EMPTY = 0;
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Create an empty set.
+     */
+    public LongHashSet() {
+        this(DEFAULT_INITIAL_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty set which doesn't need to grow until it contains the given number of
+     * values.
+     *
+     * @param expectedSize the expected number of values of the set
+     */
+    public LongHashSet(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: "
+                    + expectedSize);
+        }
+        // The table is kept at most half full
+        table = new long[Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1)
+                << 1)];
+    }
+
+    /**
+     * Create a set containing the values of another set.
+     *
+     * @param other the set whose values are copied
+     */
+    public LongHashSet(@Nonnull final LongHashSet other) {
+        table = other.table.clone();
+        size = other.size;
+        containsZero = other.containsZero;
+    }
+
+    /**
+     * Add a value to the set.
+     *
+     * @param value the value to add
+     * @return whether the value was not already in the set
+     */
+    public boolean add(final long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value, table.length);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & (table.length - 1);
+        }
+        table[index] = value;
+        size++;
+
+        if (size * 2 > table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @param value the value to look for
+     * @return whether the value is in the set
+     */
+    public boolean contains(final long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int index = indexOf(value, table.length);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & (table.length - 1);
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of values in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the set contains no value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all the values of the set, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    private void grow() {
+        final long[] oldTable = table;
+        table = new long[oldTable.length * 2];
+        for (final long value : oldTable) {
+            if (value != EMPTY) {
+                int index = indexOf(value, table.length);
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & (table.length - 1);
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    private static int indexOf(final long value, final int tableLength) {
+        // Mix the bits of the value, so that values differing only in their high bits are spread
+        // over the table (finalizer of MurmurHash3)
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & (tableLength - 1);
+    }
+}
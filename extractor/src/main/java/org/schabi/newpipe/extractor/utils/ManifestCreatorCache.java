@@ -3,16 +3,30 @@ package org.schabi.newpipe.extractor.utils;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link Serializable serializable} cache class used by the extractor to cache manifests
  * generated with extractor's manifests generators.
  *
  * <p>
- * It relies internally on a {@link ConcurrentHashMap} to allow concurrent access to the cache.
+ * It relies internally on a {@link LinkedHashMap} in access order, guarded by the cache instance
+ * monitor, to allow concurrent access to the cache. The least recently used entries are evicted
+ * first when the maximum size is reached, without scanning the whole cache.
+ * </p>
+ *
+ * <p>
+ * Entries can expire, either after a fixed {@link #setTimeToLive(long) time to live}, or when
+ * the {@code expire} parameter of a streaming URL used as a key is reached (see
+ * {@link #setExpireParameterUsed(boolean)}). Expired entries are removed lazily, when they are
+ * accessed or when they are the least recently used ones.
+ * </p>
+ *
+ * <p>
+ * Hits, misses and evictions are counted, see {@link #getHitCount()}, {@link #getMissCount()}
+ * and {@link #getEvictionCount()}.
  * </p>
  *
  * @param <K> the type of cache keys, which must be {@link Serializable serializable}
@@ -33,9 +47,17 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
     public static final double DEFAULT_CLEAR_FACTOR = 0.75;
 
     /**
-     * The {@link ConcurrentHashMap} used internally as the cache of manifests.
+     * The value of {@link #getTimeToLive()} when entries don't expire after a fixed time.
      */
-    private final ConcurrentHashMap<K, Pair<Integer, V>> concurrentHashMap;
+    public static final long NO_TIME_TO_LIVE = -1;
+
+    private static final String EXPIRE_PARAMETER = "expire=";
+
+    /**
+     * The {@link LinkedHashMap} used internally as the cache of manifests, in access order: its
+     * first entry is the least recently used one.
+     */
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
 
     /**
      * The maximum size of the cache.
@@ -55,41 +77,99 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
      */
     private double clearFactor = DEFAULT_CLEAR_FACTOR;
 
+    /**
+     * The time to live of entries, in milliseconds, or {@link #NO_TIME_TO_LIVE}.
+     */
+    private long timeToLive = NO_TIME_TO_LIVE;
+
+    /**
+     * Whether the {@code expire} parameter of keys which are streaming URLs is used to expire
+     * entries.
+     */
+    private boolean expireParameterUsed = true;
+
+    /**
+     * The number of entries put in the cache, used as the first element of cached pairs, capped
+     * to {@link Integer#MAX_VALUE} as these elements are integers. It is a {@code long} so that it
+     * doesn't overflow in long-running processes.
+     */
+    private long insertionCount;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
     /**
      * Creates a new {@link ManifestCreatorCache}.
      */
     public ManifestCreatorCache() {
-        concurrentHashMap = new ConcurrentHashMap<>();
+        entries = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     /**
      * Tests if the specified key is in the cache.
      *
+     * <p>
+     * This method doesn't change the cache statistics, but the entry becomes the most recently
+     * used one of the cache.
+     * </p>
+     *
      * @param key the key to test its presence in the cache
-     * @return {@code true} if the key is in the cache, {@code false} otherwise.
+     * @return {@code true} if the key is in the cache and has not expired, {@code false}
+     * otherwise.
      */
-    public boolean containsKey(final K key) {
-        return concurrentHashMap.containsKey(key);
+    public synchronized boolean containsKey(final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            evictionCount++;
+            return false;
+        }
+        return true;
     }
 
     /**
      * Returns the value to which the specified key is mapped, or {@code null} if the cache
-     * contains no mapping for the key.
+     * contains no mapping for the key or if the mapping has expired.
+     *
+     * <p>
+     * The entry becomes the most recently used one of the cache.
+     * </p>
+     *
+     * <p>
+     * Callers should use this method instead of {@link #containsKey(Serializable)} followed by this
+     * method, as the entry may be evicted between the two calls.
+     * </p>
      *
      * @param key the key to which getting its value
      * @return the value to which the specified key is mapped, or {@code null}
      */
     @Nullable
-    public Pair<Integer, V> get(final K key) {
-        return concurrentHashMap.get(key);
+    public synchronized Pair<Integer, V> get(final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            evictionCount++;
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.pair;
     }
 
     /**
      * Adds a new element to the cache.
      *
      * <p>
-     * If the cache limit is reached, oldest elements will be cleared first using the load factor
-     * and the maximum size.
+     * If the cache limit is reached, least recently used elements will be cleared first using
+     * the clear factor and the maximum size.
      * </p>
      *
      * @param key   the key to put
@@ -100,15 +180,17 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
      * {@code null} with the key).
      */
     @Nullable
-    public V put(final K key, final V value) {
-        if (!concurrentHashMap.containsKey(key) && concurrentHashMap.size() == maximumSize) {
+    public synchronized V put(final K key, final V value) {
+        if (!entries.containsKey(key) && entries.size() >= maximumSize) {
             final int newCacheSize = (int) Math.round(maximumSize * clearFactor);
-            keepNewestEntries(newCacheSize != 0 ? newCacheSize : 1);
+            evictLeastRecentlyUsedEntries(newCacheSize != 0 ? newCacheSize : 1);
         }
 
-        final Pair<Integer, V> returnValue = concurrentHashMap.put(key,
-                new Pair<>(concurrentHashMap.size(), value));
-        return returnValue == null ? null : returnValue.getSecond();
+        final long now = System.currentTimeMillis();
+        final CacheEntry<V> previousEntry = entries.put(key, new CacheEntry<>(
+                new Pair<>((int) Math.min(insertionCount++, Integer.MAX_VALUE), value),
+                getExpirationTime(key, now)));
+        return previousEntry == null ? null : previousEntry.pair.getSecond();
     }
 
     /**
@@ -118,39 +200,46 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
      * The cache will be empty after this method is called.
      * </p>
      */
-    public void clear() {
-        concurrentHashMap.clear();
+    public synchronized void clear() {
+        entries.clear();
+        insertionCount = 0;
     }
 
     /**
      * Resets the cache.
      *
      * <p>
-     * The cache will be empty and the clear factor and the maximum size will be reset to their
+     * The cache will be empty, its statistics will be reset and the clear factor, the maximum
+     * size, the time to live and the use of the {@code expire} parameter will be reset to their
      * default values.
      * </p>
      *
      * @see #clear()
      * @see #resetClearFactor()
      * @see #resetMaximumSize()
+     * @see #resetStatistics()
      */
-    public void reset() {
+    public synchronized void reset() {
         clear();
         resetClearFactor();
         resetMaximumSize();
+        resetStatistics();
+        timeToLive = NO_TIME_TO_LIVE;
+        expireParameterUsed = true;
     }
 
     /**
-     * @return the number of cached manifests in the cache
+     * @return the number of cached manifests in the cache, including expired ones which have not
+     * been removed yet
      */
-    public int size() {
-        return concurrentHashMap.size();
+    public synchronized int size() {
+        return entries.size();
     }
 
     /**
      * @return the maximum size of the cache
      */
-    public long getMaximumSize() {
+    public synchronized long getMaximumSize() {
         return maximumSize;
     }
 
@@ -163,14 +252,14 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
      * @param maximumSize the new maximum size of the cache
      * @throws IllegalArgumentException if {@code maximumSize} is less than or equal to 0
      */
-    public void setMaximumSize(final int maximumSize) {
+    public synchronized void setMaximumSize(final int maximumSize) {
         if (maximumSize <= 0) {
             throw new IllegalArgumentException("Invalid maximum size");
         }
 
-        if (maximumSize < this.maximumSize && !concurrentHashMap.isEmpty()) {
+        if (maximumSize < this.maximumSize && !entries.isEmpty()) {
             final int newCacheSize = (int) Math.round(maximumSize * clearFactor);
-            keepNewestEntries(newCacheSize != 0 ? newCacheSize : 1);
+            evictLeastRecentlyUsedEntries(newCacheSize != 0 ? newCacheSize : 1);
         }
 
         this.maximumSize = maximumSize;
@@ -179,14 +268,14 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
     /**
      * Resets the maximum size of the cache to its {@link #DEFAULT_MAXIMUM_SIZE default value}.
      */
-    public void resetMaximumSize() {
+    public synchronized void resetMaximumSize() {
         this.maximumSize = DEFAULT_MAXIMUM_SIZE;
     }
 
     /**
      * @return the current clear factor of the cache, used when the cache limit size is reached
      */
-    public double getClearFactor() {
+    public synchronized double getClearFactor() {
         return clearFactor;
     }
 
@@ -204,7 +293,7 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
      * @param clearFactor the new clear factor of the cache
      * @throws IllegalArgumentException if the clear factor passed a parameter is invalid
      */
-    public void setClearFactor(final double clearFactor) {
+    public synchronized void setClearFactor(final double clearFactor) {
         if (clearFactor <= 0 || clearFactor >= 1) {
             throw new IllegalArgumentException("Invalid clear factor");
         }
@@ -215,41 +304,199 @@ public final class ManifestCreatorCache<K extends Serializable, V extends Serial
     /**
      * Resets the clear factor to its {@link #DEFAULT_CLEAR_FACTOR default value}.
      */
-    public void resetClearFactor() {
+    public synchronized void resetClearFactor() {
         this.clearFactor = DEFAULT_CLEAR_FACTOR;
     }
 
+    /**
+     * @return the time to live of entries put in the cache, in milliseconds, or
+     * {@link #NO_TIME_TO_LIVE} if they don't expire after a fixed time
+     */
+    public synchronized long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live of entries put in the cache.
+     *
+     * <p>
+     * Note that it will be only applied to entries put after this method is called.
+     * </p>
+     *
+     * @param timeToLive the new time to live, in milliseconds, or {@link #NO_TIME_TO_LIVE}
+     * @throws IllegalArgumentException if {@code timeToLive} is less than or equal to 0 and is
+     * not {@link #NO_TIME_TO_LIVE}
+     */
+    public synchronized void setTimeToLive(final long timeToLive) {
+        if (timeToLive <= 0 && timeToLive != NO_TIME_TO_LIVE) {
+            throw new IllegalArgumentException("Invalid time to live");
+        }
+
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return whether the {@code expire} parameter of keys which are streaming URLs is used to
+     * expire entries
+     */
+    public synchronized boolean isExpireParameterUsed() {
+        return expireParameterUsed;
+    }
+
+    /**
+     * Sets whether the {@code expire} parameter of keys which are streaming URLs is used to expire
+     * entries.
+     *
+     * <p>
+     * When enabled, which is the default, entries whose key is a string containing an
+     * {@code expire} query parameter (a UNIX timestamp in seconds, like in YouTube streaming
+     * URLs) expire at this time, as manifests pointing to these URLs are unusable afterwards.
+     * </p>
+     *
+     * <p>
+     * Note that it will be only applied to entries put after this method is called.
+     * </p>
+     *
+     * @param expireParameterUsed whether the {@code expire} parameter should be used
+     */
+    public synchronized void setExpireParameterUsed(final boolean expireParameterUsed) {
+        this.expireParameterUsed = expireParameterUsed;
+    }
+
+    /**
+     * @return the number of {@link #get(Serializable)} calls which returned a cached value
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of {@link #get(Serializable)} calls which didn't return a value, because
+     * there was no entry for the key or because the entry expired
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries removed from the cache because its size limit was reached or
+     * because they expired
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts of the cache.
+     */
+    public synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
     @Nonnull
     @Override
-    public String toString() {
+    public synchronized String toString() {
         return "ManifestCreatorCache[clearFactor=" + clearFactor + ", maximumSize=" + maximumSize
-                + ", concurrentHashMap=" + concurrentHashMap + "]";
+                + ", timeToLive=" + timeToLive + ", expireParameterUsed=" + expireParameterUsed
+                + ", hitCount=" + hitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + ", entries=" + entries + "]";
     }
 
     /**
-     * Keeps only the newest entries in a cache.
+     * Evicts the least recently used entries of the cache, until its size is {@code newLimit}.
      *
      * <p>
-     * This method will first collect the entries to remove by looping through the concurrent hash
-     * map
+     * Only the evicted entries are visited, so the cost of an eviction is constant for each entry
+     * put in the cache.
      * </p>
      *
      * @param newLimit the new limit of the cache
      */
-    private void keepNewestEntries(final int newLimit) {
-        final int difference = concurrentHashMap.size() - newLimit;
-        final ArrayList<Map.Entry<K, Pair<Integer, V>>> entriesToRemove = new ArrayList<>();
+    private void evictLeastRecentlyUsedEntries(final int newLimit) {
+        final Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > newLimit && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
 
-        concurrentHashMap.entrySet().forEach(entry -> {
-            final Pair<Integer, V> value = entry.getValue();
-            if (value.getFirst() < difference) {
-                entriesToRemove.add(entry);
-            } else {
-                value.setFirst(value.getFirst() - difference);
+    /**
+     * Get the time at which an entry put at {@code now} expires.
+     *
+     * @param key the key of the entry
+     * @param now the current time, in milliseconds since the epoch
+     * @return the expiration time of the entry, in milliseconds since the epoch, or
+     * {@link Long#MAX_VALUE} if it doesn't expire
+     */
+    private long getExpirationTime(final K key, final long now) {
+        long expirationTime = timeToLive == NO_TIME_TO_LIVE ? Long.MAX_VALUE : now + timeToLive;
+        if (expireParameterUsed && key instanceof String) {
+            final long expireParameter = parseExpireParameter((String) key);
+            if (expireParameter != -1) {
+                expirationTime = Math.min(expirationTime, expireParameter * 1000);
             }
-        });
+        }
+        return expirationTime;
+    }
 
-        entriesToRemove.forEach(entry -> concurrentHashMap.remove(entry.getKey(),
-                entry.getValue()));
+    /**
+     * Parse the {@code expire} query parameter of a URL, without decoding the whole query.
+     *
+     * @param url the URL from which the parameter should be parsed
+     * @return the value of the {@code expire} parameter, in seconds since the epoch, or {@code -1}
+     * if it is not present or invalid
+     */
+    static long parseExpireParameter(@Nonnull final String url) {
+        int index = url.indexOf(EXPIRE_PARAMETER);
+        while (index > 0) {
+            final char previousChar = url.charAt(index - 1);
+            if (previousChar == '?' || previousChar == '&') {
+                long value = 0;
+                int i = index + EXPIRE_PARAMETER.length();
+                final int start = i;
+                // 18 digits can't overflow a long
+                // Only ASCII digits, Character.isDigit also accepts other Unicode digits
+                while (i < url.length() && i - start < 18) {
+                    final char c = url.charAt(i);
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    value = value * 10 + (c - '0');
+                    i++;
+                }
+                return i == start ? -1 : value;
+            }
+            index = url.indexOf(EXPIRE_PARAMETER, index + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * An entry of the cache, with its expiration time.
+     *
+     * @param <V> the type of the second element of the cached {@link Pair}
+     */
+    private static final class CacheEntry<V extends Serializable> implements Serializable {
+        @Nonnull
+        private final Pair<Integer, V> pair;
+        private final long expirationTime;
+
+        CacheEntry(@Nonnull final Pair<Integer, V> pair, final long expirationTime) {
+            this.pair = pair;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expirationTime;
+        }
+
+        @Nonnull
+        @Override
+        public String toString() {
+            return pair.toString();
+        }
     }
 }
@@ -1,6 +1,8 @@
 package org.schabi.newpipe.extractor.utils;
 
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.CompactNumberParser;
+import org.schabi.newpipe.extractor.localization.Localization;
 
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
@@ -82,29 +84,27 @@ public final class Utils {
      *     <li>123 -&gt; 123</li>
      *     <li>1.23K -&gt; 1230</li>
      *     <li>1.23M -&gt; 1230000</li>
+     *     <li>1,2 Mio. -&gt; 1200000</li>
      * </ul>
      *
+     * <p>
+     * The suffixes of all the languages known by {@link CompactNumberParser} are supported. Use
+     * {@link CompactNumberParser#forLocalization(Localization)} when the localization of the
+     * number word is known.
+     * </p>
+     *
      * @param numberWord string to be converted to a long
      * @return a long
      */
     public static long mixedNumberWordToLong(final String numberWord)
             throws NumberFormatException, ParsingException {
-        String multiplier = "";
-        try {
-            multiplier = Parser.matchGroup("[\\d]+([\\.,][\\d]+)?([KMBkmb])+", numberWord, 2);
-        } catch (final ParsingException ignored) {
+        if (isNullOrEmpty(numberWord)) {
+            throw new ParsingException("Could not parse number word: " + numberWord);
         }
-        final double count = Double.parseDouble(
-                Parser.matchGroup1("([\\d]+([\\.,][\\d]+)?)", numberWord).replace(",", "."));
-        switch (multiplier.toUpperCase()) {
-            case "K":
-                return (long) (count * 1e3);
-            case "M":
-                return (long) (count * 1e6);
-            case "B":
-                return (long) (count * 1e9);
-            default:
-                return (long) (count);
+        try {
+            return CompactNumberParser.DEFAULT.parse(numberWord);
+        } catch (final NumberFormatException e) {
+            throw new ParsingException("Could not parse number word: " + numberWord, e);
         }
     }
 
@@ -0,0 +1,221 @@
+package org.schabi.newpipe.extractor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.localization.ContentCountry;
+import org.schabi.newpipe.extractor.localization.Localization;
+import org.schabi.newpipe.extractor.playlist.PlaylistExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.schabi.newpipe.extractor.ServiceList.SoundCloud;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+
+class CrawlCursorTest {
+    private static final String PLAYLIST_URL =
+            "https://www.youtube.com/playlist?list=PLRqwX-V7Uu6ZiZxtDDRCi6uhfTH4FilpH";
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testByteArrayRoundTrip() throws Exception {
+        final Map<String, String> cookies = new LinkedHashMap<>();
+        cookies.put("session", "abc");
+        final CrawlCursor cursor = createCursor(new Page("https://example.com/next", "id",
+                Arrays.asList("1", "2"), cookies, new byte[]{1, 2, 3}), 42);
+
+        assertCursorEquals(cursor, CrawlCursor.fromByteArray(cursor.toByteArray()));
+
+        final CrawlCursor endCursor = createCursor(null, 100);
+        final CrawlCursor readEndCursor = CrawlCursor.fromByteArray(endCursor.toByteArray());
+        assertNull(readEndCursor.getNextPage());
+        assertFalse(readEndCursor.hasNextPage());
+        assertEquals(100, readEndCursor.getItemCount());
+    }
+
+    @Test
+    void testJavaSerializationRoundTrip() throws Exception {
+        final CrawlCursor cursor = createCursor(new Page("https://example.com/next"), 7);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cursor);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertCursorEquals(cursor, (CrawlCursor) in.readObject());
+        }
+    }
+
+    @Test
+    void testInvalidBytes() {
+        assertThrows(ExtractionException.class, () -> CrawlCursor.fromByteArray(new byte[0]));
+        assertThrows(ExtractionException.class,
+                () -> CrawlCursor.fromByteArray(new byte[]{1, 0, 0, 0, 0, 0, 0, 0, 127}));
+    }
+
+    @Test
+    void testMissingRequiredFields() throws Exception {
+        assertEquals(PLAYLIST_URL, CrawlCursor.fromByteArray(
+                createCursorBytes("PLAYLIST", PLAYLIST_URL, "en")).getLinkHandler().getUrl());
+
+        assertThrows(ParsingException.class, () -> CrawlCursor.fromByteArray(
+                createCursorBytes(null, PLAYLIST_URL, "en")));
+        assertThrows(ParsingException.class, () -> CrawlCursor.fromByteArray(
+                createCursorBytes("UNKNOWN", PLAYLIST_URL, "en")));
+        assertThrows(ParsingException.class, () -> CrawlCursor.fromByteArray(
+                createCursorBytes("PLAYLIST", null, "en")));
+        assertThrows(ParsingException.class, () -> CrawlCursor.fromByteArray(
+                createCursorBytes("PLAYLIST", PLAYLIST_URL, null)));
+    }
+
+    /**
+     * Write a cursor in the binary form of {@link CrawlCursor#toByteArray()}, with the given
+     * fields, which may be missing.
+     */
+    @Nonnull
+    private static byte[] createCursorBytes(final String listType,
+                                            final String url,
+                                            final String languageCode) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeInt(YouTube.getServiceId());
+            writeString(out, listType);
+            writeString(out, url);
+            writeString(out, url);
+            writeString(out, "id");
+            out.writeInt(-1);
+            writeString(out, "");
+            writeString(out, languageCode);
+            writeString(out, null);
+            writeString(out, "US");
+            out.writeBoolean(false);
+            out.writeLong(0);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(@Nonnull final DataOutputStream out,
+                                    final String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(stringBytes.length);
+            out.write(stringBytes);
+        }
+    }
+
+    @Test
+    void testAdvance() {
+        final CrawlCursor cursor = createCursor(new Page("https://example.com/1"), 10);
+        final CrawlCursor next = cursor.advance(new InfoItemsPage<>(
+                Arrays.asList(item("a"), item("b"), item("c")), new Page("https://example.com/2"),
+                Collections.emptyList()));
+
+        assertEquals("https://example.com/2", next.getNextPage().getUrl());
+        assertEquals(13, next.getItemCount());
+        assertEquals(cursor.getListType(), next.getListType());
+
+        final CrawlCursor last = next.advance(new InfoItemsPage<>(
+                Collections.singletonList(item("d")), null, Collections.emptyList()));
+        assertFalse(last.hasNextPage());
+        assertEquals(14, last.getItemCount());
+        assertThrows(IllegalArgumentException.class, () -> YouTube.resume(last));
+    }
+
+    @Test
+    void testGetListExtractor() throws Exception {
+        final PlaylistExtractor original = YouTube.getPlaylistExtractor(PLAYLIST_URL);
+        original.forceLocalization(new Localization("de", "AT"));
+        original.forceContentCountry(new ContentCountry("AT"));
+        final CrawlCursor cursor = CrawlCursor.of(original, new Page("https://example.com"), 0);
+        assertEquals(CrawlCursor.ListType.PLAYLIST, cursor.getListType());
+
+        final ListExtractor<? extends InfoItem> extractor =
+                YouTube.getListExtractor(CrawlCursor.fromByteArray(cursor.toByteArray()));
+        assertInstanceOf(PlaylistExtractor.class, extractor);
+        assertEquals(original.getUrl(), extractor.getUrl());
+        assertEquals(original.getId(), extractor.getId());
+        assertEquals(new Localization("de", "AT"), extractor.getExtractorLocalization());
+        assertEquals(new ContentCountry("AT"), extractor.getExtractorContentCountry());
+
+        assertThrows(ExtractionException.class, () -> SoundCloud.getListExtractor(cursor));
+    }
+
+    @Nonnull
+    private static CrawlCursor createCursor(final Page nextPage, final long itemCount) {
+        return new CrawlCursor(YouTube.getServiceId(), CrawlCursor.ListType.SEARCH,
+                new ListLinkHandler("https://example.com/search?q=a",
+                        "https://example.com/search?q=a&f=videos", "a",
+                        Collections.singletonList("videos"), "date"),
+                new Localization("fr", "CA"), new ContentCountry("CA"), nextPage, itemCount);
+    }
+
+    @Nonnull
+    private static InfoItem item(final String name) {
+        return new InfoItem(InfoItem.InfoType.STREAM, YouTube.getServiceId(),
+                "https://example.com/" + name, name) { };
+    }
+
+    private static void assertCursorEquals(@Nonnull final CrawlCursor expected,
+                                           @Nonnull final CrawlCursor actual) {
+        assertEquals(expected.getServiceId(), actual.getServiceId());
+        assertEquals(expected.getListType(), actual.getListType());
+        assertEquals(expected.getLinkHandler().getOriginalUrl(),
+                actual.getLinkHandler().getOriginalUrl());
+        assertEquals(expected.getLinkHandler().getUrl(), actual.getLinkHandler().getUrl());
+        assertEquals(expected.getLinkHandler().getId(), actual.getLinkHandler().getId());
+        assertEquals(expected.getLinkHandler().getContentFilters(),
+                actual.getLinkHandler().getContentFilters());
+        assertEquals(expected.getLinkHandler().getSortFilter(),
+                actual.getLinkHandler().getSortFilter());
+        assertEquals(expected.getLocalization(), actual.getLocalization());
+        assertEquals(expected.getContentCountry(), actual.getContentCountry());
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        assertTrue(actual.hasNextPage());
+
+        final Page expectedPage = expected.getNextPage();
+        final Page actualPage = actual.getNextPage();
+        assertEquals(expectedPage.getUrl(), actualPage.getUrl());
+        assertEquals(expectedPage.getId(), actualPage.getId());
+        assertEquals(expectedPage.getIds(), actualPage.getIds());
+        assertEquals(expectedPage.getCookies(), actualPage.getCookies());
+        assertArrayEquals(expectedPage.getBody(), actualPage.getBody());
+    }
+}
@@ -0,0 +1,232 @@
+package org.schabi.newpipe.extractor;
+
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.exceptions.FoundAdException;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InfoItemsCollectorTest {
+
+    @Test
+    void testCommitAllIsSameAsSerialCommit() {
+        final List<FakeItemExtractor> extractors = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            extractors.add(new FakeItemExtractor(i));
+        }
+
+        final FakeCollector serialCollector = new FakeCollector();
+        extractors.forEach(serialCollector::commit);
+
+        final FakeCollector parallelCollector = new FakeCollector();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallelCollector.commitAll(extractors, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(names(serialCollector.getItems()), names(parallelCollector.getItems()));
+        assertEquals(messages(serialCollector.getErrors()),
+                messages(parallelCollector.getErrors()));
+        // Ads are skipped, failing items are reported and optional info errors are kept
+        assertEquals(100 - 10 - 13, parallelCollector.getItems().size());
+        assertEquals(13 + 9, parallelCollector.getErrors().size());
+        assertEquals("1", parallelCollector.getItems().get(0).getName());
+    }
+
+    @Test
+    void testCommitAllIsSerialByDefault() {
+        final List<FakeItemExtractor> extractors = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            extractors.add(new FakeItemExtractor(i));
+        }
+
+        final ThreadRecordingCollector collector = new ThreadRecordingCollector();
+        collector.commitAll(extractors);
+        assertEquals(Set.of(Thread.currentThread()), collector.threads);
+
+        final ThreadRecordingCollector parallelCollector = new ThreadRecordingCollector();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallelCollector.setCommitPool(pool);
+            parallelCollector.commitAll(extractors);
+        } finally {
+            pool.shutdown();
+        }
+        assertFalse(parallelCollector.threads.contains(Thread.currentThread()));
+        assertEquals(names(collector.getItems()), names(parallelCollector.getItems()));
+    }
+
+    @Test
+    void testCommitAllWithNestedCollectors() {
+        final List<FakeItemExtractor> extractors = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            extractors.add(new FakeItemExtractor(i));
+        }
+
+        final NestingCollector serialCollector = new NestingCollector();
+        extractors.forEach(serialCollector::commit);
+
+        final NestingCollector parallelCollector = new NestingCollector();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallelCollector.commitAll(extractors, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(names(serialCollector.getItems()), names(parallelCollector.getItems()));
+        // Errors added to the nested collectors stay in them
+        assertTrue(parallelCollector.getErrors().isEmpty());
+        assertEquals(50, parallelCollector.getItems().size());
+        assertTrue(parallelCollector.getItems().stream()
+                .allMatch(item -> item.getName().endsWith(":1")));
+    }
+
+    @Test
+    void testCommitAllSmallBatch() {
+        final FakeCollector collector = new FakeCollector();
+        final List<FakeItemExtractor> extractors = new ArrayList<>();
+        for (int i = 1; i < 4; i++) {
+            extractors.add(new FakeItemExtractor(i));
+        }
+        collector.commitAll(extractors);
+
+        assertEquals(List.of("1", "2", "3"), names(collector.getItems()));
+    }
+
+    @Test
+    void testMaxItems() {
+        final List<FakeItemExtractor> extractors = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            extractors.add(new FakeItemExtractor(i));
+        }
+
+        final FakeCollector collector = new FakeCollector();
+        collector.setMaxItems(5);
+        collector.commitAll(extractors);
+
+        // Ads and failing items are not counted
+        assertEquals(List.of("1", "2", "3", "4", "5"), names(collector.getItems()));
+        assertTrue(collector.isFull());
+        // Only the errors of the items extracted are collected
+        assertEquals(List.of("No thumbnail for 5"), messages(collector.getErrors()));
+        assertEquals(6, collector.extractedItems);
+
+        collector.commit(new FakeItemExtractor(101));
+        assertEquals(5, collector.getItems().size());
+        assertEquals(6, collector.extractedItems);
+    }
+
+    @Nonnull
+    private static List<String> names(@Nonnull final List<InfoItem> items) {
+        return items.stream().map(InfoItem::getName).collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private static List<String> messages(@Nonnull final List<Throwable> errors) {
+        return errors.stream().map(Throwable::getMessage).collect(Collectors.toList());
+    }
+
+    private static final class FakeItemExtractor implements InfoItemExtractor {
+        private final int index;
+
+        FakeItemExtractor(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return String.valueOf(index);
+        }
+
+        @Override
+        public String getUrl() {
+            return "https://example.com/" + index;
+        }
+
+        @Override
+        public String getThumbnailUrl() throws ParsingException {
+            if (index % 5 == 0) {
+                throw new ParsingException("No thumbnail for " + index);
+            }
+            return "https://example.com/" + index + ".jpg";
+        }
+    }
+
+    private static final class ThreadRecordingCollector
+            extends InfoItemsCollector<InfoItem, FakeItemExtractor> {
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        ThreadRecordingCollector() {
+            super(0);
+        }
+
+        @Override
+        public InfoItem extract(final FakeItemExtractor extractor) {
+            threads.add(Thread.currentThread());
+            return new InfoItem(InfoItem.InfoType.STREAM, getServiceId(), extractor.getUrl(),
+                    extractor.getName()) { };
+        }
+    }
+
+    /**
+     * A collector extracting each item with a nested collector, whose number of errors is
+     * added to the name of the item.
+     */
+    private static final class NestingCollector
+            extends InfoItemsCollector<InfoItem, FakeItemExtractor> {
+        NestingCollector() {
+            super(0);
+        }
+
+        @Override
+        public InfoItem extract(final FakeItemExtractor extractor) {
+            final FakeCollector nestedCollector = new FakeCollector();
+            // Adds an error to the nested collector, as the item has no thumbnail
+            nestedCollector.commit(new FakeItemExtractor(5));
+            return new InfoItem(InfoItem.InfoType.STREAM, getServiceId(), extractor.getUrl(),
+                    extractor.getName() + ":" + nestedCollector.getErrors().size()) { };
+        }
+    }
+
+    private static final class FakeCollector
+            extends InfoItemsCollector<InfoItem, FakeItemExtractor> {
+        private int extractedItems = 0;
+
+        FakeCollector() {
+            super(0);
+        }
+
+        @Override
+        public InfoItem extract(final FakeItemExtractor extractor) throws ParsingException {
+            extractedItems++;
+            if (extractor.index % 10 == 0) {
+                throw new FoundAdException("Found ad " + extractor.index);
+            } else if (extractor.index % 7 == 0) {
+                throw new ParsingException("Could not extract " + extractor.index);
+            }
+
+            final InfoItem item = new InfoItem(InfoItem.InfoType.STREAM, getServiceId(),
+                    extractor.getUrl(), extractor.getName()) { };
+            try {
+                item.setThumbnailUrl(extractor.getThumbnailUrl());
+            } catch (final ParsingException e) {
+                addError(e);
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.schabi.newpipe.extractor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.exceptions.UncheckedExtractionException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+import org.schabi.newpipe.extractor.stream.StreamType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+
+class ListInfoTest {
+    private static final int PAGE_COUNT = 5;
+    private static final int ITEMS_PER_PAGE = 3;
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testStreamAllItems() {
+        final FakeListExtractor extractor = new FakeListExtractor(-1);
+        final List<Throwable> errors = new ArrayList<>();
+
+        final List<String> names = ListInfo.streamAllItems(extractor, -1, errors::add)
+                .map(InfoItem::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(PAGE_COUNT * ITEMS_PER_PAGE, names.size());
+        assertEquals("0-0", names.get(0));
+        assertEquals("4-2", names.get(names.size() - 1));
+        assertEquals(PAGE_COUNT, errors.size());
+        assertTrue(extractor.fetched);
+    }
+
+    @Test
+    void testStreamIsLazy() {
+        final FakeListExtractor extractor = new FakeListExtractor(-1);
+
+        final List<StreamInfoItem> items = ListInfo.streamAllItems(extractor, 4)
+                .collect(Collectors.toList());
+
+        assertEquals(4, items.size());
+        // The limit is reached in the second page, so the third one is never fetched
+        assertEquals(2, extractor.fetchedPages);
+
+        final FakeListExtractor otherExtractor = new FakeListExtractor(-1);
+        ListInfo.streamAllItems(otherExtractor, -1)
+                .takeWhile(item -> !item.getName().startsWith("1-"))
+                .forEach(item -> { });
+        assertEquals(2, otherExtractor.fetchedPages);
+    }
+
+    @Test
+    void testFetchExceptionIsPropagated() {
+        final FakeListExtractor extractor = new FakeListExtractor(2);
+
+        // The first two pages are fetched fine
+        assertEquals(2 * ITEMS_PER_PAGE,
+                ListInfo.streamAllItems(extractor, 2 * ITEMS_PER_PAGE).count());
+
+        final UncheckedExtractionException e = assertThrows(UncheckedExtractionException.class,
+                () -> ListInfo.streamAllItems(new FakeListExtractor(2), -1).count());
+        assertTrue(e.getCause() instanceof ParsingException);
+    }
+
+    private static final class FakeListExtractor extends ListExtractor<StreamInfoItem> {
+        private final int failingPage;
+        private int fetchedPages = 0;
+        private boolean fetched = false;
+
+        FakeListExtractor(final int failingPage) {
+            super(YouTube, new ListLinkHandler("https://example.com", "https://example.com",
+                    "id", Collections.emptyList(), ""));
+            this.failingPage = failingPage;
+        }
+
+        @Override
+        public void onFetchPage(@Nonnull final Downloader downloader) {
+            fetched = true;
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "fake";
+        }
+
+        @Nonnull
+        @Override
+        public InfoItemsPage<StreamInfoItem> getInitialPage() throws ExtractionException {
+            return createPage(0);
+        }
+
+        @Override
+        public InfoItemsPage<StreamInfoItem> getPage(final Page page)
+                throws ExtractionException {
+            return createPage(Integer.parseInt(page.getId()));
+        }
+
+        private InfoItemsPage<StreamInfoItem> createPage(final int index)
+                throws ExtractionException {
+            fetchedPages++;
+            if (index == failingPage) {
+                throw new ParsingException("Could not get page " + index);
+            }
+            final List<StreamInfoItem> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+                items.add(new StreamInfoItem(0, "https://example.com/" + index + "/" + i,
+                        index + "-" + i, StreamType.VIDEO_STREAM));
+            }
+            return new InfoItemsPage<>(items,
+                    index + 1 < PAGE_COUNT ? new Page("https://example.com", String.valueOf(index + 1))
+                            : null,
+                    Collections.singletonList(new ParsingException("item error")));
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package org.schabi.newpipe.extractor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ExtractionException;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.exceptions.UncheckedExtractionException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+import org.schabi.newpipe.extractor.stream.StreamType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+
+class PageIteratorTest {
+    private static final int PAGE_COUNT = 5;
+    private static final int ITEMS_PER_PAGE = 3;
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testIteratesOverAllPages() throws Exception {
+        final FakeListExtractor extractor = new FakeListExtractor(-1);
+        final List<String> names = new ArrayList<>();
+        try (PageIterator<StreamInfoItem> iterator = new PageIterator<>(extractor)) {
+            int pages = 0;
+            while (iterator.hasNextPage()) {
+                final InfoItemsPage<StreamInfoItem> page = iterator.nextPage();
+                assertEquals(1, page.getErrors().size());
+                page.getItems().forEach(item -> names.add(item.getName()));
+                pages++;
+            }
+            assertEquals(PAGE_COUNT, pages);
+        }
+        assertEquals(PAGE_COUNT * ITEMS_PER_PAGE, names.size());
+        assertEquals("0-0", names.get(0));
+        assertEquals("4-2", names.get(names.size() - 1));
+    }
+
+    @Test
+    void testLookaheadIsBounded() throws Exception {
+        final FakeListExtractor extractor = new FakeListExtractor(-1);
+        final AtomicReference<Thread> backgroundThread = new AtomicReference<>();
+        try (PageIterator<StreamInfoItem> iterator =
+                     new PageIterator<>(extractor, null, 2, task -> {
+                         final Thread thread = new Thread(task);
+                         thread.setDaemon(true);
+                         backgroundThread.set(thread);
+                         thread.start();
+                     })) {
+            iterator.nextPage();
+            // The page consumed and 2 pages ahead, after which the background task waits for
+            // pages to be consumed
+            assertTrue(extractor.pageFetches.tryAcquire(3, 5, TimeUnit.SECONDS));
+            awaitWaiting(backgroundThread.get());
+            assertEquals(3, extractor.fetchedPages.get());
+        }
+    }
+
+    @Test
+    void testItemSpliteratorCollectsItemsAndErrors() {
+        final FakeListExtractor extractor = new FakeListExtractor(-1);
+        try (PageIterator<StreamInfoItem> iterator = new PageIterator<>(extractor)) {
+            final List<String> names = StreamSupport.stream(iterator.itemSpliterator(), false)
+                    .map(InfoItem::getName)
+                    .collect(Collectors.toList());
+            assertEquals(PAGE_COUNT * ITEMS_PER_PAGE, names.size());
+            assertEquals(PAGE_COUNT, iterator.getItemErrors().size());
+        }
+    }
+
+    @Test
+    void testFetchExceptionIsPropagated() throws Exception {
+        final FakeListExtractor extractor = new FakeListExtractor(2);
+        try (PageIterator<StreamInfoItem> iterator = new PageIterator<>(extractor)) {
+            iterator.nextPage();
+            iterator.nextPage();
+            assertThrows(ParsingException.class, iterator::nextPage);
+            assertFalse(iterator.hasNextPage());
+        }
+
+        try (PageIterator<StreamInfoItem> iterator =
+                     new PageIterator<>(new FakeListExtractor(2))) {
+            final UncheckedExtractionException e = assertThrows(
+                    UncheckedExtractionException.class, () -> StreamSupport.stream(
+                            iterator.itemSpliterator(), false).count());
+            assertTrue(e.getCause() instanceof ParsingException);
+        }
+    }
+
+    @Test
+    void testCloseWakesUpWaitingConsumer() throws Exception {
+        final CountDownLatch fetchStarted = new CountDownLatch(1);
+        final CountDownLatch fetchAllowed = new CountDownLatch(1);
+        final FakeListExtractor extractor = new FakeListExtractor(-1) {
+            @Nonnull
+            @Override
+            public InfoItemsPage<StreamInfoItem> getInitialPage() throws ExtractionException {
+                fetchStarted.countDown();
+                try {
+                    fetchAllowed.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getInitialPage();
+            }
+        };
+
+        final PageIterator<StreamInfoItem> iterator = new PageIterator<>(extractor);
+        final CompletableFuture<Throwable> consumerResult = new CompletableFuture<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                iterator.nextPage();
+                consumerResult.complete(null);
+            } catch (final Throwable e) {
+                consumerResult.complete(e);
+            }
+        });
+        consumer.start();
+
+        // Wait for the consumer to wait for the page being fetched
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        awaitWaiting(consumer);
+        iterator.close();
+
+        try {
+            assertTrue(consumerResult.get(5, TimeUnit.SECONDS) instanceof CancellationException);
+        } finally {
+            fetchAllowed.countDown();
+        }
+        assertFalse(iterator.hasNextPage());
+        assertThrows(NoSuchElementException.class, iterator::nextPage);
+    }
+
+    @Test
+    void testErrorsEndTheIteration() throws Exception {
+        final FakeListExtractor extractor = new FakeListExtractor(-1) {
+            @Override
+            public InfoItemsPage<StreamInfoItem> getPage(final Page page) {
+                throw new AssertionError("Error in the background task");
+            }
+        };
+        try (PageIterator<StreamInfoItem> iterator = new PageIterator<>(extractor)) {
+            iterator.nextPage();
+            // The consumer gets the error instead of waiting forever for the page
+            final CompletableFuture<Throwable> result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    iterator.nextPage();
+                    return null;
+                } catch (final Throwable e) {
+                    return e;
+                }
+            });
+            assertTrue(result.get(5, TimeUnit.SECONDS) instanceof AssertionError);
+            assertFalse(iterator.hasNextPage());
+        }
+    }
+
+    @Test
+    void testRejectedTaskIsStartedAgain() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final Executor executor = task -> {
+            if (executions.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("Executor busy");
+            }
+            final Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            thread.start();
+        };
+        try (PageIterator<StreamInfoItem> iterator =
+                     new PageIterator<>(new FakeListExtractor(-1), null, 1, executor)) {
+            assertThrows(RejectedExecutionException.class, iterator::nextPage);
+            assertTrue(iterator.hasNextPage());
+            assertEquals("0-0", iterator.nextPage().getItems().get(0).getName());
+            assertEquals(2, executions.get());
+        }
+    }
+
+    /**
+     * Wait for a thread to wait, e.g. for a page or for a lookahead permit, failing after 5
+     * seconds.
+     */
+    private static void awaitWaiting(@Nonnull final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "The thread is not waiting");
+            Thread.sleep(1);
+        }
+    }
+
+    private static class FakeListExtractor extends ListExtractor<StreamInfoItem> {
+        private final int failingPage;
+        private final AtomicInteger fetchedPages = new AtomicInteger();
+        // Released each time a page is fetched
+        private final Semaphore pageFetches = new Semaphore(0);
+
+        FakeListExtractor(final int failingPage) {
+            super(YouTube, new ListLinkHandler("https://example.com", "https://example.com",
+                    "id", Collections.emptyList(), ""));
+            this.failingPage = failingPage;
+        }
+
+        @Override
+        public void onFetchPage(@Nonnull final Downloader downloader) {
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "fake";
+        }
+
+        @Nonnull
+        @Override
+        public InfoItemsPage<StreamInfoItem> getInitialPage() throws ExtractionException {
+            return createPage(0);
+        }
+
+        @Override
+        public InfoItemsPage<StreamInfoItem> getPage(final Page page)
+                throws ExtractionException {
+            return createPage(Integer.parseInt(page.getId()));
+        }
+
+        private InfoItemsPage<StreamInfoItem> createPage(final int index)
+                throws ExtractionException {
+            fetchedPages.incrementAndGet();
+            pageFetches.release();
+            if (index == failingPage) {
+                throw new ParsingException("Could not get page " + index);
+            }
+            final List<StreamInfoItem> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+                items.add(new StreamInfoItem(0, "https://example.com/" + index + "/" + i,
+                        index + "-" + i, StreamType.VIDEO_STREAM));
+            }
+            return new InfoItemsPage<>(items,
+                    index + 1 < PAGE_COUNT ? new Page("https://example.com", String.valueOf(index + 1))
+                            : null,
+                    Collections.singletonList(new ParsingException("item error")));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.schabi.newpipe.extractor.comments;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.InfoItem;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.Page;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.schabi.newpipe.extractor.ServiceList.MediaCCC;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+
+class CommentsExtractorTest {
+    private static final String URL = "https://example.com/comments";
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testGetAllRepliesGroupedPerComment() throws Exception {
+        final FakeCommentsExtractor extractor = new FakeCommentsExtractor();
+        final List<CommentsInfoItem> comments = Arrays.asList(
+                createComment("a", 3), createComment("b", 0), createComment("c", 1),
+                createComment("d", 2));
+
+        final Map<CommentsInfoItem, InfoItemsPage<CommentsInfoItem>> replies =
+                extractor.getAllReplies(comments, 2);
+
+        // Comments without replies are ignored, the order of the other ones is kept
+        assertEquals(Arrays.asList(comments.get(0), comments.get(2), comments.get(3)),
+                new ArrayList<>(replies.keySet()));
+        assertEquals(Arrays.asList("a-0-0", "a-0-1", "a-1-0", "a-1-1", "a-2-0", "a-2-1"),
+                names(replies.get(comments.get(0))));
+        assertEquals(Arrays.asList("c-0-0", "c-0-1"), names(replies.get(comments.get(2))));
+        assertEquals(2, replies.get(comments.get(3)).getErrors().size());
+        assertFalse(replies.get(comments.get(0)).hasNextPage());
+        assertEquals(6, extractor.fetchedPages.get());
+    }
+
+    @Test
+    void testGetAllRepliesPropagatesExceptions() throws Exception {
+        final FakeCommentsExtractor extractor = new FakeCommentsExtractor();
+        final CommentsInfoItem failing = new CommentsInfoItem(YouTube.getServiceId(), URL, "f");
+        failing.setReplies(new Page(URL, "fail"));
+
+        assertThrows(ParsingException.class, () -> extractor.getAllReplies(
+                Arrays.asList(createComment("a", 2), failing)));
+        assertTrue(extractor.getAllReplies(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void testGetAllRepliesOfServiceWithoutComments() throws Exception {
+        // media.ccc.de has no comments extractor
+        final String url = "https://media.ccc.de/v/36c3-10652-bahnmining";
+        assertTrue(CommentsInfo.getAllReplies(MediaCCC, url,
+                Collections.singletonList(createComment("a", 2))).isEmpty());
+        assertEquals(0, CommentsInfo.streamAllItems(MediaCCC, url, -1).count());
+    }
+
+    @Nonnull
+    private static CommentsInfoItem createComment(final String name, final int replyPages) {
+        final CommentsInfoItem comment = new CommentsInfoItem(YouTube.getServiceId(), URL, name);
+        if (replyPages > 0) {
+            comment.setReplies(new Page(URL, name + "/0/" + replyPages));
+        }
+        return comment;
+    }
+
+    @Nonnull
+    private static List<String> names(@Nonnull final InfoItemsPage<CommentsInfoItem> page) {
+        return page.getItems().stream().map(InfoItem::getName).collect(Collectors.toList());
+    }
+
+    private static final class FakeCommentsExtractor extends CommentsExtractor {
+        private final AtomicInteger fetchedPages = new AtomicInteger();
+
+        FakeCommentsExtractor() {
+            super(YouTube, new ListLinkHandler(URL, URL, "id", Collections.emptyList(), ""));
+        }
+
+        @Override
+        public void onFetchPage(@Nonnull final Downloader downloader) {
+        }
+
+        @Nonnull
+        @Override
+        public InfoItemsPage<CommentsInfoItem> getInitialPage() {
+            return InfoItemsPage.emptyPage();
+        }
+
+        @Override
+        public InfoItemsPage<CommentsInfoItem> getPage(final Page page) throws ParsingException {
+            fetchedPages.incrementAndGet();
+            // Page ids are "<parent>/<index>/<page count>"
+            final String[] parts = page.getId().split("/");
+            if (parts.length != 3) {
+                throw new ParsingException("Could not get replies page " + page.getId());
+            }
+            final int index = Integer.parseInt(parts[1]);
+            final int pageCount = Integer.parseInt(parts[2]);
+
+            final List<CommentsInfoItem> items = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                items.add(new CommentsInfoItem(getServiceId(), URL,
+                        parts[0] + "-" + index + "-" + i));
+            }
+            return new InfoItemsPage<>(items,
+                    index + 1 < pageCount
+                            ? new Page(URL, parts[0] + "/" + (index + 1) + "/" + pageCount)
+                            : null,
+                    Collections.singletonList(new ParsingException("item error")));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.schabi.newpipe.extractor.feed;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.feed.FeedRefresher.FeedRequest;
+import org.schabi.newpipe.extractor.feed.FeedRefresher.FeedResult;
+
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedRefresherTest {
+    private static final String CHANNEL_URL = "https://www.youtube.com/channel/";
+    private static final String ETAG = "\"v1\"";
+
+    private static final AtomicInteger CURRENT_DOWNLOADS = new AtomicInteger();
+    private static final AtomicInteger MAXIMUM_CURRENT_DOWNLOADS = new AtomicInteger();
+    private static final Map<String, String> RECEIVED_ETAGS = new ConcurrentHashMap<>();
+    private static final Set<String> DOWNLOADED_HOSTS = ConcurrentHashMap.newKeySet();
+    /**
+     * The latch each download counts down and waits for, so that the tests checking the number
+     * of concurrent downloads make downloads overlap.
+     */
+    private static volatile CountDownLatch downloadsLatch = new CountDownLatch(0);
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) throws InterruptedIOException {
+                final int current = CURRENT_DOWNLOADS.incrementAndGet();
+                MAXIMUM_CURRENT_DOWNLOADS.accumulateAndGet(current, Math::max);
+                try {
+                    DOWNLOADED_HOSTS.add(new URL(request.url()).getHost());
+                    final CountDownLatch latch = downloadsLatch;
+                    latch.countDown();
+                    latch.await(5, TimeUnit.SECONDS);
+
+                    final String channelId = request.url()
+                            .substring(request.url().indexOf("channel_id=") + 11);
+                    final List<String> ifNoneMatch = request.headers().get("If-None-Match");
+                    if (ifNoneMatch != null) {
+                        RECEIVED_ETAGS.put(channelId, ifNoneMatch.get(0));
+                        if (ifNoneMatch.contains(ETAG)) {
+                            return new Response(304, "Not Modified", Collections.emptyMap(),
+                                    "", request.url());
+                        }
+                    }
+
+                    return new Response(200, "OK",
+                            Collections.singletonMap("ETag", Collections.singletonList(ETAG)),
+                            getFeed(channelId), request.url());
+                } catch (final MalformedURLException e) {
+                    throw new IllegalArgumentException(e);
+                } catch (final InterruptedException e) {
+                    throw new InterruptedIOException();
+                } finally {
+                    CURRENT_DOWNLOADS.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    @Nonnull
+    private static String getFeed(@Nonnull final String channelId) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<feed xmlns=\"http://www.w3.org/2005/Atom\">"
+                + "<title>" + channelId + "</title>"
+                + "<author><name>" + channelId + "</name>"
+                + "<uri>" + CHANNEL_URL + channelId + "</uri></author>"
+                + "<entry>"
+                + "<title>Video of " + channelId + "</title>"
+                + "<link rel=\"alternate\" href=\"https://www.youtube.com/watch?v=dQw4w9WgXcQ\"/>"
+                + "<author><name>" + channelId + "</name>"
+                + "<uri>" + CHANNEL_URL + channelId + "</uri></author>"
+                + "<published>2020-01-31T12:34:56+00:00</published>"
+                + "</entry>"
+                + "</feed>";
+    }
+
+    @Nonnull
+    private static List<FeedRequest> getRequests(final int count) {
+        final List<FeedRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new FeedRequest(CHANNEL_URL + "UC" + i));
+        }
+        return requests;
+    }
+
+    @Test
+    void testRefreshesAllFeeds() throws Exception {
+        final List<FeedResult> results = new ArrayList<>();
+        new FeedRefresher().refresh(getRequests(10), results::add);
+
+        assertEquals(10, results.size());
+        for (final FeedResult result : results) {
+            assertNull(result.getError());
+            assertFalse(result.isNotModified());
+            assertNotNull(result.getInfo());
+            assertEquals(1, result.getInfo().getRelatedItems().size());
+            assertEquals(ETAG, result.getETag());
+        }
+    }
+
+    @Test
+    void testNotModifiedFeeds() throws Exception {
+        final List<FeedRequest> requests = new ArrayList<>();
+        new FeedRefresher().refresh(getRequests(4),
+                result -> requests.add(result.getNextRequest()));
+        requests.add(new FeedRequest(CHANNEL_URL + "UCnew", "\"v0\"", null));
+
+        final List<FeedResult> results = new ArrayList<>();
+        new FeedRefresher().refresh(requests, results::add);
+
+        assertEquals(5, results.size());
+        for (final FeedResult result : results) {
+            assertNull(result.getError());
+            if (result.getRequest().getUrl().endsWith("UCnew")) {
+                assertFalse(result.isNotModified());
+                assertNotNull(result.getInfo());
+            } else {
+                assertTrue(result.isNotModified());
+                assertNull(result.getInfo());
+            }
+            assertEquals(ETAG, result.getETag());
+        }
+        assertEquals(ETAG, RECEIVED_ETAGS.get("UC0"));
+        assertEquals("\"v0\"", RECEIVED_ETAGS.get("UCnew"));
+    }
+
+    @Test
+    void testIncrementalRefresh() throws Exception {
+        final List<FeedResult> firstResults = new ArrayList<>();
+        new FeedRefresher().refresh(getRequests(2), firstResults::add);
+
+        final List<FeedRequest> requests = new ArrayList<>();
+        for (final FeedResult result : firstResults) {
+            final FeedWatermark watermark = result.getWatermark();
+            assertNotNull(watermark);
+            assertEquals("https://www.youtube.com/watch?v=dQw4w9WgXcQ", watermark.getStreamUrl());
+            // Download the feed again, but only extract the new streams
+            requests.add(new FeedRequest(result.getRequest().getUrl(), null, null, watermark));
+        }
+
+        final List<FeedResult> results = new ArrayList<>();
+        new FeedRefresher().refresh(requests, results::add);
+
+        assertEquals(2, results.size());
+        for (final FeedResult result : results) {
+            assertNull(result.getError());
+            assertNotNull(result.getInfo());
+            assertTrue(result.getInfo().getRelatedItems().isEmpty());
+            assertEquals(result.getRequest().getWatermark(), result.getWatermark());
+            assertEquals(result.getWatermark(), result.getNextRequest().getWatermark());
+        }
+    }
+
+    @Test
+    void testRequestsPerHostAreLimited() throws Exception {
+        MAXIMUM_CURRENT_DOWNLOADS.set(0);
+        downloadsLatch = new CountDownLatch(2);
+        final AtomicInteger refreshed = new AtomicInteger();
+        try {
+            new FeedRefresher(8, 2).refresh(getRequests(12),
+                    result -> refreshed.incrementAndGet());
+        } finally {
+            downloadsLatch = new CountDownLatch(0);
+        }
+
+        assertEquals(12, refreshed.get());
+        assertEquals(2, MAXIMUM_CURRENT_DOWNLOADS.get());
+    }
+
+    @Test
+    void testRequestsPerHostAreLimitedByFeedHost() throws Exception {
+        // The feeds of these channels are all downloaded from www.youtube.com
+        final String[] channelBaseUrls = {"https://www.youtube.com/channel/",
+                "https://m.youtube.com/channel/", "https://youtube.com/channel/"};
+        final List<FeedRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            requests.add(new FeedRequest(channelBaseUrls[i % channelBaseUrls.length] + "UC" + i));
+        }
+
+        MAXIMUM_CURRENT_DOWNLOADS.set(0);
+        DOWNLOADED_HOSTS.clear();
+        downloadsLatch = new CountDownLatch(2);
+        final List<FeedResult> results = new ArrayList<>();
+        try {
+            new FeedRefresher(8, 2).refresh(requests, results::add);
+        } finally {
+            downloadsLatch = new CountDownLatch(0);
+        }
+
+        assertEquals(12, results.size());
+        results.forEach(result -> assertNull(result.getError()));
+        assertEquals(Set.of("www.youtube.com"), DOWNLOADED_HOSTS);
+        assertEquals(2, MAXIMUM_CURRENT_DOWNLOADS.get());
+    }
+
+    @Test
+    void testErrorsDoNotStopTheRefresh() throws Exception {
+        final List<FeedRequest> requests = getRequests(3);
+        requests.add(new FeedRequest("https://example.com/not-a-service"));
+
+        final List<FeedResult> results = new ArrayList<>();
+        new FeedRefresher().refresh(requests, results::add);
+
+        assertEquals(4, results.size());
+        final FeedResult failed = results.stream()
+                .filter(result -> result.getError() != null)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertEquals("https://example.com/not-a-service", failed.getRequest().getUrl());
+        assertFalse(failed.isNotModified());
+        assertEquals(failed.getRequest(), failed.getNextRequest());
+    }
+
+    @Test
+    void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedRefresher(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FeedRefresher(1, 0));
+    }
+}
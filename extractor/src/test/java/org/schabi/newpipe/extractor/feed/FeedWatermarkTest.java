@@ -0,0 +1,46 @@
+package org.schabi.newpipe.extractor.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedWatermarkTest {
+    private static final String URL = "https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+    private static final OffsetDateTime DATE = OffsetDateTime.parse("2020-01-31T12:00:00Z");
+
+    @Test
+    void testStreamUrlAndDate() {
+        final FeedWatermark watermark = new FeedWatermark(URL, DATE);
+        assertTrue(watermark.isReachedBy(URL, null));
+        assertTrue(watermark.isReachedBy("https://example.com", DATE.minusSeconds(1)));
+        // Another stream uploaded at the same time is not the known one
+        assertFalse(watermark.isReachedBy("https://example.com", DATE));
+        assertFalse(watermark.isReachedBy("https://example.com", DATE.plusSeconds(1)));
+        assertFalse(watermark.isReachedBy("https://example.com", null));
+    }
+
+    @Test
+    void testDateOnly() {
+        final FeedWatermark watermark = new FeedWatermark(null, DATE);
+        assertTrue(watermark.isReachedBy(URL, DATE));
+        assertTrue(watermark.isReachedBy(URL, DATE.minusDays(1)));
+        assertFalse(watermark.isReachedBy(URL, DATE.plusSeconds(1)));
+        assertFalse(watermark.isReachedBy(URL, null));
+    }
+
+    @Test
+    void testStreamUrlOnly() {
+        final FeedWatermark watermark = new FeedWatermark(URL, null);
+        assertTrue(watermark.isReachedBy(URL, DATE));
+        assertFalse(watermark.isReachedBy("https://example.com", DATE.minusYears(10)));
+    }
+
+    @Test
+    void testEmptyWatermark() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedWatermark(null, null));
+    }
+}
@@ -0,0 +1,89 @@
+package org.schabi.newpipe.extractor.localization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactNumberParserTest {
+    private static final CompactNumberParser DEFAULT = CompactNumberParser.DEFAULT;
+
+    @Test
+    void testPlainNumbers() {
+        assertEquals(0, DEFAULT.parse("0 views"));
+        assertEquals(5, DEFAULT.parse("5 Minuten"));
+        assertEquals(1234567, DEFAULT.parse("1,234,567 views"));
+        assertEquals(1234567, DEFAULT.parse("1.234.567 Aufrufe"));
+        assertEquals(1234567, DEFAULT.parse("1 234 567 vues"));
+        assertEquals(1234567, DEFAULT.parse("1\u202F234\u202F567 vues"));
+        assertEquals(1234567, DEFAULT.parse("1'234'567 Aufrufe"));
+    }
+
+    @Test
+    void testCompactNumbers() {
+        assertEquals(1_200_000, DEFAULT.parse("1.2M views"));
+        assertEquals(1_200_000, DEFAULT.parse("1.2M"));
+        assertEquals(12_000, DEFAULT.parse("12K subscribers"));
+        assertEquals(3_500_000_000L, DEFAULT.parse("3.5B views"));
+        assertEquals(1_230, DEFAULT.parse("1.23k"));
+        assertEquals(34_000, DEFAULT.parse("3.4\u4E07 \u56DE\u8996\u8074"));
+    }
+
+    @Test
+    void testLocalizedCompactNumbers() {
+        final CompactNumberParser french = CompactNumberParser.forLocalization(
+                new Localization("fr", "FR"));
+        assertEquals(12_000, french.parse("12 k abonn\u00E9s"));
+        assertEquals(2_500_000_000L, french.parse("2,5 Md de vues"));
+
+        final CompactNumberParser german = CompactNumberParser.forLocalization(
+                new Localization("de"));
+        assertEquals(1_200_000, german.parse("1,2 Mio. Aufrufe"));
+        assertEquals(3_000, german.parse("3 Tsd. Abonnenten"));
+
+        final CompactNumberParser russian = CompactNumberParser.forLocalization(
+                new Localization("ru"));
+        assertEquals(15_000, russian.parse("15 \u0442\u044B\u0441. "
+                + "\u043F\u0440\u043E\u0441\u043C\u043E\u0442\u0440\u043E\u0432"));
+    }
+
+    @Test
+    void testSuffixesOfTheLanguage() {
+        final CompactNumberParser turkish = CompactNumberParser.forLocalization(
+                new Localization("tr"));
+        assertEquals(12_000, turkish.parse("12 B g\u00F6r\u00FCnt\u00FClenme"));
+        assertEquals(12_000_000_000L, DEFAULT.parse("12 B views"));
+        // English suffixes are known by all parsers
+        assertEquals(1_000, CompactNumberParser.forLocalization(new Localization("de"))
+                .parse("1K"));
+    }
+
+    @Test
+    void testSuffixMustEndTheWord() {
+        // "Mio" must not be read from "Minuten", nor "M" from "Mal"
+        assertEquals(5, DEFAULT.parse("5 Minuten"));
+        assertEquals(3, DEFAULT.parse("3 Mal"));
+    }
+
+    @Test
+    void testParsersAreShared() {
+        assertSame(CompactNumberParser.forLocalization(new Localization("fr", "FR")),
+                CompactNumberParser.forLocalization(new Localization("fr", "CA")));
+    }
+
+    @Test
+    void testNoNumber() {
+        assertThrows(NumberFormatException.class, () -> DEFAULT.parse("No views"));
+        assertThrows(NumberFormatException.class, () -> DEFAULT.parse(""));
+        assertEquals(0, DEFAULT.parse("Like", 0));
+        assertEquals(42, DEFAULT.parse("42 likes", 0));
+    }
+
+    @Test
+    void testOverflow() {
+        assertThrows(NumberFormatException.class,
+                () -> DEFAULT.parse("99999999999999999999 views"));
+        assertThrows(NumberFormatException.class, () -> DEFAULT.parse("9999999999999B views"));
+    }
+}
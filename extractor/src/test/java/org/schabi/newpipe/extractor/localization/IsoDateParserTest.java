@@ -0,0 +1,87 @@
+package org.schabi.newpipe.extractor.localization;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IsoDateParserTest {
+
+    @Test
+    void testSameDatesAsJavaTime() {
+        final String[] dates = {
+                "2020-01-31T12:34:56Z",
+                "2020-01-31T12:34:56+00:00",
+                "2020-01-31T12:34:56.789Z",
+                "2020-01-31T12:34:56.7+01:00",
+                "2020-01-31T12:34:56.123456789-07:30",
+                "2020-02-29T00:00:00+14:00",
+                "2020-01-31T12:34Z",
+                "2020-12-31T23:59:59.000Z",
+        };
+        for (final String date : dates) {
+            assertEquals(OffsetDateTime.parse(date), IsoDateParser.parse(date), date);
+        }
+    }
+
+    @Test
+    void testLocalDate() {
+        assertEquals(LocalDate.parse("2020-01-31").atStartOfDay().atOffset(ZoneOffset.UTC),
+                IsoDateParser.parse("2020-01-31"));
+    }
+
+    @Test
+    void testSoundcloudDate() {
+        assertEquals(OffsetDateTime.of(2020, 1, 31, 12, 34, 56, 0, ZoneOffset.UTC),
+                IsoDateParser.parse("2020/01/31 12:34:56 +0000"));
+        assertEquals(OffsetDateTime.of(2020, 1, 31, 12, 34, 56, 0, ZoneOffset.ofHours(-5)),
+                IsoDateParser.parse("2020/01/31 12:34:56 -0500"));
+    }
+
+    @Test
+    void testUnsupportedOrInvalidDates() {
+        assertNull(IsoDateParser.parse(null));
+        assertNull(IsoDateParser.parse(""));
+        assertNull(IsoDateParser.parse("31 Jan 2020"));
+        assertNull(IsoDateParser.parse("2020-01-31T12:34:56"));
+        assertNull(IsoDateParser.parse("2020-01-31 12:34:56Z"));
+        assertNull(IsoDateParser.parse("2020-01-31T12:34:56.Z"));
+        assertNull(IsoDateParser.parse("2020-01-31T12:34:56.1234567890Z"));
+        assertNull(IsoDateParser.parse("2020-13-01T12:34:56Z"));
+        assertNull(IsoDateParser.parse("2019-02-29"));
+        assertNull(IsoDateParser.parse("2020/01/31"));
+        assertNull(IsoDateParser.parse("2020-01-31T12:34:56Zx"));
+    }
+
+    @Test
+    void testIdenticalDatesAreShared() {
+        final String date = "2021-06-15T08:00:00+00:00";
+        assertSame(IsoDateParser.parse(date), IsoDateParser.parse(new String(date)));
+    }
+
+    @Test
+    void testLeastRecentlyUsedDatesAreForgotten() {
+        final String date = "1999-12-31T23:59:59Z";
+        final OffsetDateTime parsedDate = IsoDateParser.parse(date);
+        final String firstDate = "1900-01-01";
+        final OffsetDateTime parsedFirstDate = IsoDateParser.parse(firstDate);
+
+        // Fill the remembered dates, using the date regularly
+        final LocalDate start = LocalDate.parse(firstDate);
+        for (int i = 1; i < IsoDateParser.MAXIMUM_PARSED_DATES; i++) {
+            if (i % 100 == 0) {
+                assertSame(parsedDate, IsoDateParser.parse(date));
+            }
+            IsoDateParser.parse(start.plusDays(i).toString());
+        }
+
+        assertSame(parsedDate, IsoDateParser.parse(date));
+        assertNotSame(parsedFirstDate, IsoDateParser.parse(firstDate));
+    }
+}
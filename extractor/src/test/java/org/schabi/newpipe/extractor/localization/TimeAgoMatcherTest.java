@@ -0,0 +1,147 @@
+package org.schabi.newpipe.extractor.localization;
+
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.timeago.PatternsHolder;
+import org.schabi.newpipe.extractor.timeago.PatternsManager;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeAgoMatcherTest {
+    /**
+     * The names of all the localizations with patterns, which are {@code language[_country]}.
+     */
+    private static final String[] PATTERNS = {
+            "af", "am", "ar", "az", "be", "bg", "bn", "bs", "ca", "cs", "da", "de", "el", "en",
+            "en_GB", "es", "es_419", "es_US", "et", "eu", "fa", "fi", "fil", "fr", "fr_CA", "gl",
+            "gu", "hi", "hr", "hu", "hy", "id", "is", "it", "iw", "ja", "ka", "kk", "km", "kn",
+            "ko", "ky", "lo", "lt", "lv", "mk", "ml", "mn", "mr", "ms", "my", "ne", "nl", "no",
+            "pa", "pl", "pt", "pt_PT", "ro", "ru", "si", "sk", "sl", "sq", "sr", "sr_Latn", "sv",
+            "sw", "ta", "te", "th", "tr", "uk", "ur", "uz", "vi", "zh_CN", "zh_HK", "zh_TW", "zu"
+    };
+
+    @Test
+    void testSameUnitsAsRegularExpressions() {
+        int checkedDates = 0;
+        for (final String patterns : PATTERNS) {
+            final String[] codes = patterns.split("_");
+            final PatternsHolder holder = PatternsManager.getPatterns(codes[0],
+                    codes.length > 1 ? codes[1] : null);
+            assertNotNull(holder, patterns);
+            final TimeAgoMatcher matcher = new TimeAgoMatcher(holder);
+
+            for (final String textualDate : getTextualDates(holder)) {
+                final int match = matcher.match(textualDate);
+                final String expected = matchWithRegularExpressions(holder, textualDate);
+                final String actual = match == TimeAgoMatcher.NO_MATCH ? null
+                        : matcher.getUnit(match) + "/" + matcher.getAmount(match);
+                assertEquals(expected, actual, patterns + ": " + textualDate);
+                checkedDates++;
+            }
+        }
+        assertTrue(checkedDates > 1000);
+    }
+
+    @Test
+    void testSeparators() {
+        final TimeAgoMatcher matcher = new TimeAgoMatcher(
+                PatternsManager.getPatterns("en", null));
+        assertUnit(ChronoUnit.WEEKS, matcher, "2w");
+        assertUnit(ChronoUnit.HOURS, matcher, "3 hours ago");
+        assertUnit(ChronoUnit.DAYS, matcher, "5 DAYS AGO");
+        assertEquals(TimeAgoMatcher.NO_MATCH, matcher.match("secondary school"));
+        assertEquals(TimeAgoMatcher.NO_MATCH, matcher.match(""));
+
+        final TimeAgoMatcher japaneseMatcher = new TimeAgoMatcher(
+                PatternsManager.getPatterns("ja", null));
+        assertNotNull(japaneseMatcher.getUnit(japaneseMatcher.match("3 日前")));
+    }
+
+    @Test
+    void testMatchersAreSharedByLocalization() {
+        assertSame(TimeAgoPatternsManager.getMatcherFor(new Localization("fr")),
+                TimeAgoPatternsManager.getMatcherFor(new Localization("fr")));
+    }
+
+    private static void assertUnit(@Nonnull final ChronoUnit expected,
+                                   @Nonnull final TimeAgoMatcher matcher,
+                                   @Nonnull final String textualDate) {
+        assertEquals(expected, matcher.getUnit(matcher.match(textualDate)), textualDate);
+    }
+
+    @Nonnull
+    private static List<String> getTextualDates(@Nonnull final PatternsHolder holder) {
+        final List<String> phrases = new ArrayList<>();
+        holder.specialCases().values().forEach(cases -> phrases.addAll(cases.keySet()));
+        holder.asMap().values().forEach(phrases::addAll);
+
+        final String separator = holder.wordSeparator();
+        final List<String> textualDates = new ArrayList<>();
+        for (final String phrase : phrases) {
+            textualDates.add(phrase);
+            textualDates.add("3" + separator + phrase);
+            textualDates.add("12" + phrase + separator + "ago");
+            textualDates.add("x" + phrase + separator + "2");
+            textualDates.add(phrase.toUpperCase() + separator + "1");
+        }
+        return textualDates;
+    }
+
+    /**
+     * The regular expression based matching which was used by {@link TimeAgoParser} before the
+     * matcher, with the result formatted as {@code unit/amount}.
+     */
+    @Nullable
+    private static String matchWithRegularExpressions(@Nonnull final PatternsHolder holder,
+                                                      @Nonnull final String textualDate) {
+        for (final Map.Entry<ChronoUnit, Map<String, Integer>> caseUnitEntry
+                : holder.specialCases().entrySet()) {
+            for (final Map.Entry<String, Integer> caseEntry
+                    : caseUnitEntry.getValue().entrySet()) {
+                if (matches(holder, textualDate, caseEntry.getKey())) {
+                    return caseUnitEntry.getKey() + "/" + caseEntry.getValue();
+                }
+            }
+        }
+
+        for (final Map.Entry<ChronoUnit, Collection<String>> unitEntry
+                : holder.asMap().entrySet()) {
+            for (final String phrase : unitEntry.getValue()) {
+                if (matches(holder, textualDate, phrase)) {
+                    return unitEntry.getKey() + "/" + TimeAgoMatcher.NO_AMOUNT;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(@Nonnull final PatternsHolder holder,
+                                   @Nonnull final String textualDate,
+                                   @Nonnull final String agoPhrase) {
+        if (textualDate.equals(agoPhrase)) {
+            return true;
+        }
+        if (holder.wordSeparator().isEmpty()) {
+            return textualDate.toLowerCase().contains(agoPhrase.toLowerCase());
+        }
+
+        final String escapedPhrase = Pattern.quote(agoPhrase.toLowerCase());
+        final String escapedSeparator = holder.wordSeparator().equals(" ")
+                ? "[ \\t\\xA0\\u1680\\u180e\\u2000-\\u200a\\u202f\\u205f\\u3000\\d]"
+                : Pattern.quote(holder.wordSeparator());
+        return Pattern.compile("(^|" + escapedSeparator + ")" + escapedPhrase + "($|"
+                + escapedSeparator + ")").matcher(textualDate.toLowerCase()).find();
+    }
+}
@@ -0,0 +1,120 @@
+package org.schabi.newpipe.extractor.services.peertube;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.InfoItem;
+import org.schabi.newpipe.extractor.ListExtractor;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.Page;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+import org.schabi.newpipe.extractor.stream.StreamType;
+import org.schabi.newpipe.extractor.utils.Parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.schabi.newpipe.extractor.ServiceList.PeerTube;
+import static org.schabi.newpipe.extractor.services.peertube.PeertubeParsingHelper.ITEMS_PER_PAGE;
+
+class PeertubeParsingHelperTest {
+    private static final String BASE_URL = "https://framatube.org/api/v1/video-playlists/id/videos"
+            + "?start=0&count=" + ITEMS_PER_PAGE;
+    private static final int TOTAL = 100;
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testGetPageRangeFromNextPage() throws Exception {
+        final FakeExtractor extractor = new FakeExtractor();
+        final Page secondPage = PeertubeParsingHelper.getNextPage(BASE_URL, TOTAL);
+
+        final ListExtractor.InfoItemsPage<StreamInfoItem> range =
+                PeertubeParsingHelper.getPageRange(extractor, secondPage, 30, 2);
+
+        // 30 items starting at 12 need the pages starting at 12, 24 and 36
+        assertEquals(3 * ITEMS_PER_PAGE, range.getItems().size());
+        assertEquals(rangeOfNames(12, 48), range.getItems().stream().map(InfoItem::getName)
+                .collect(Collectors.toList()));
+        assertEquals(3, range.getErrors().size());
+        assertEquals(String.valueOf(48), Parser.matchGroup1("start=(\\d+)",
+                range.getNextPage().getUrl()));
+    }
+
+    @Test
+    void testGetPageRangeUntilEnd() throws Exception {
+        final FakeExtractor extractor = new FakeExtractor();
+
+        // The total is unknown from a page built from its URL, so the first page is fetched
+        // alone
+        final ListExtractor.InfoItemsPage<StreamInfoItem> range =
+                PeertubeParsingHelper.getPageRange(extractor, new Page(BASE_URL), 1000, 4);
+
+        assertEquals(rangeOfNames(0, TOTAL), range.getItems().stream().map(InfoItem::getName)
+                .collect(Collectors.toList()));
+        assertNull(range.getNextPage());
+    }
+
+    private static List<String> rangeOfNames(final int start, final int end) {
+        final List<String> names = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            names.add(String.valueOf(i));
+        }
+        return names;
+    }
+
+    private static final class FakeExtractor extends ListExtractor<StreamInfoItem> {
+        FakeExtractor() {
+            super(PeerTube, new ListLinkHandler(BASE_URL, BASE_URL, "id",
+                    Collections.emptyList(), ""));
+        }
+
+        @Override
+        public void onFetchPage(@Nonnull final Downloader downloader) {
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "fake";
+        }
+
+        @Nonnull
+        @Override
+        public InfoItemsPage<StreamInfoItem> getInitialPage() throws ParsingException {
+            return getPage(new Page(BASE_URL));
+        }
+
+        @Override
+        public InfoItemsPage<StreamInfoItem> getPage(final Page page) throws ParsingException {
+            final int start = Integer.parseInt(Parser.matchGroup1("start=(\\d+)", page.getUrl()));
+            final List<StreamInfoItem> items = new ArrayList<>();
+            for (int i = start; i < Math.min(start + ITEMS_PER_PAGE, TOTAL); i++) {
+                items.add(new StreamInfoItem(PeerTube.getServiceId(),
+                        "https://framatube.org/w/" + i, String.valueOf(i),
+                        StreamType.VIDEO_STREAM));
+            }
+            return new InfoItemsPage<>(items,
+                    PeertubeParsingHelper.getNextPage(page.getUrl(), TOTAL),
+                    Collections.singletonList(new ParsingException("item error")));
+        }
+    }
+}
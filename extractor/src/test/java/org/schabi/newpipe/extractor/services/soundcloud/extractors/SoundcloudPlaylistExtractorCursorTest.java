@@ -0,0 +1,266 @@
+package org.schabi.newpipe.extractor.services.soundcloud.extractors;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonWriter;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.Page;
+import org.schabi.newpipe.extractor.ServiceList;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.linkhandler.ListLinkHandler;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the pages of {@link SoundcloudPlaylistExtractor} against a fake API, whose playlist
+ * contains a track with information and 40 tracks without.
+ */
+class SoundcloudPlaylistExtractorCursorTest {
+    private static final String PLAYLIST_URL = "https://soundcloud.com/user/sets/playlist";
+    private static final String SCRIPT_URL = "https://a-v2.sndcdn.com/assets/0-test.js";
+
+    private static final AtomicInteger PLAYLIST_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger TRACKS_REQUESTS = new AtomicInteger();
+    private static volatile List<Long> playlistTrackIds;
+
+    @BeforeAll
+    static void setUp() {
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                final String url = request.url();
+                final String body;
+                if (url.equals("https://soundcloud.com")) {
+                    body = "<html><body><script src=\"" + SCRIPT_URL + "\"></script>"
+                            + "</body></html>";
+                } else if (url.equals(SCRIPT_URL)) {
+                    body = "a={},client_id:\"test\",b={}";
+                } else if (url.contains("/playlists/")) {
+                    PLAYLIST_REQUESTS.incrementAndGet();
+                    body = getPlaylist();
+                } else if (url.contains("/tracks?")) {
+                    TRACKS_REQUESTS.incrementAndGet();
+                    body = getTracks(url.substring(url.indexOf("&ids=") + 5));
+                } else {
+                    return new Response(404, "Not Found", Collections.emptyMap(), "", url);
+                }
+                return new Response(200, "OK", Collections.emptyMap(), body, url);
+            }
+        });
+    }
+
+    @BeforeEach
+    void resetPlaylist() {
+        SoundcloudPlaylistExtractor.clearTrackIdsCache();
+        playlistTrackIds = LongStream.rangeClosed(1, 41).boxed().collect(Collectors.toList());
+        PLAYLIST_REQUESTS.set(0);
+        TRACKS_REQUESTS.set(0);
+    }
+
+    @Nonnull
+    private static String getPlaylist() {
+        final JsonArray tracks = new JsonArray();
+        final List<Long> trackIds = playlistTrackIds;
+        for (int i = 0; i < trackIds.size(); i++) {
+            if (i == 0) {
+                tracks.add(getTrack(trackIds.get(i)));
+            } else {
+                final JsonObject track = new JsonObject();
+                track.put("id", trackIds.get(i));
+                tracks.add(track);
+            }
+        }
+
+        final JsonObject playlist = new JsonObject();
+        playlist.put("title", "Playlist");
+        playlist.put("track_count", trackIds.size());
+        playlist.put("tracks", tracks);
+        return JsonWriter.string(playlist);
+    }
+
+    @Nonnull
+    private static String getTracks(@Nonnull final String ids) {
+        final JsonArray tracks = new JsonArray();
+        for (final String id : ids.split(",")) {
+            tracks.add(getTrack(Long.parseLong(id)));
+        }
+        return JsonWriter.string(tracks);
+    }
+
+    @Nonnull
+    private static JsonObject getTrack(final long id) {
+        final JsonObject track = new JsonObject();
+        track.put("id", id);
+        track.put("title", "Track " + id);
+        track.put("permalink_url", "https://soundcloud.com/user/track-" + id);
+        track.put("created_at", "2020/01/01 00:00:00 +0000");
+        return track;
+    }
+
+    @Nonnull
+    private static SoundcloudPlaylistExtractor getExtractor() throws Exception {
+        final SoundcloudPlaylistExtractor extractor =
+                (SoundcloudPlaylistExtractor) ServiceList.SoundCloud.getPlaylistExtractor(
+                        new ListLinkHandler(PLAYLIST_URL, PLAYLIST_URL, "123",
+                                Collections.emptyList(), ""));
+        extractor.fetchPage();
+        return extractor;
+    }
+
+    @Nonnull
+    private static List<String> names(@Nonnull final InfoItemsPage<StreamInfoItem> page) {
+        return page.getItems().stream().map(StreamInfoItem::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private static List<String> trackNames(final long first, final long last) {
+        return LongStream.rangeClosed(first, last).mapToObj(id -> "Track " + id)
+                .collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private static Page serializeAndDeserialize(@Nonnull final Page page) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(page);
+        }
+        try (ObjectInputStream inputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Page) inputStream.readObject();
+        }
+    }
+
+    @Test
+    void testCursorRoundTrip() throws Exception {
+        final InfoItemsPage<StreamInfoItem> initialPage = getExtractor().getInitialPage();
+        assertEquals(List.of("Track 1"), names(initialPage));
+
+        final List<String> names = new ArrayList<>();
+        Page page = initialPage.getNextPage();
+        while (page != null) {
+            // Cursors stay valid when restored and used by another extractor
+            final InfoItemsPage<StreamInfoItem> itemsPage =
+                    getExtractor().getPage(serializeAndDeserialize(page));
+            names.addAll(names(itemsPage));
+            page = itemsPage.getNextPage();
+        }
+
+        assertEquals(trackNames(2, 41), names);
+        // Each extractor fetches the playlist, but the track IDs of the pages come from the cache
+        assertEquals(1 + 3, PLAYLIST_REQUESTS.get());
+    }
+
+    @Test
+    void testCacheMissRefetchesThePlaylist() throws Exception {
+        final Page secondPage = getExtractor().getPage(getExtractor().getInitialPage()
+                .getNextPage()).getNextPage();
+        assertEquals(2, PLAYLIST_REQUESTS.get());
+
+        SoundcloudPlaylistExtractor.clearTrackIdsCache();
+        final InfoItemsPage<StreamInfoItem> page = getExtractor().getPage(secondPage);
+        assertEquals(trackNames(17, 31), names(page));
+        // The extractor fetches the playlist, and the page fetches it again to get the track IDs
+        assertEquals(2 + 2, PLAYLIST_REQUESTS.get());
+    }
+
+    @Test
+    void testChangedPlaylist() throws Exception {
+        final SoundcloudPlaylistExtractor extractor = getExtractor();
+        final Page secondPage = extractor.getPage(extractor.getInitialPage().getNextPage())
+                .getNextPage();
+
+        // Tracks added before the page don't make the page skip or repeat tracks
+        SoundcloudPlaylistExtractor.clearTrackIdsCache();
+        final List<Long> trackIds = new ArrayList<>(playlistTrackIds);
+        trackIds.addAll(3, Arrays.asList(100L, 101L, 102L));
+        playlistTrackIds = trackIds;
+        final InfoItemsPage<StreamInfoItem> page = extractor.getPage(secondPage);
+        assertEquals(trackNames(17, 31), names(page));
+        assertEquals(trackNames(32, 41), names(extractor.getPage(page.getNextPage())));
+
+        // Pages whose first track was removed are rejected instead of returning other tracks
+        SoundcloudPlaylistExtractor.clearTrackIdsCache();
+        playlistTrackIds = LongStream.rangeClosed(1, 16).boxed().collect(Collectors.toList());
+        assertThrows(ParsingException.class, () -> extractor.getPage(secondPage));
+    }
+
+    @Test
+    void testInvalidCursors() throws Exception {
+        final SoundcloudPlaylistExtractor extractor = getExtractor();
+        final String playlistApiUrl = extractor.getInitialPage().getNextPage().getUrl();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> extractor.getPage(new Page(playlistApiUrl, "abc")));
+        assertThrows(IllegalArgumentException.class,
+                () -> extractor.getPage(new Page(playlistApiUrl, "-1:2")));
+        // An index past the end of the playlist is not used
+        assertThrows(ParsingException.class,
+                () -> extractor.getPage(new Page(playlistApiUrl, "100:1000")));
+        final InfoItemsPage<StreamInfoItem> page =
+                extractor.getPage(new Page(playlistApiUrl, "100:40"));
+        assertEquals(List.of("Track 40", "Track 41"), names(page));
+        assertNull(page.getNextPage());
+    }
+
+    @Test
+    void testGetPageRange() throws Exception {
+        final SoundcloudPlaylistExtractor extractor = getExtractor();
+        final Page firstPage = extractor.getInitialPage().getNextPage();
+
+        // Whole pages of 15 tracks are fetched until at least 20 tracks are returned
+        final InfoItemsPage<StreamInfoItem> range = extractor.getPageRange(firstPage, 20, 2);
+        assertEquals(trackNames(2, 31), names(range));
+        assertEquals(2, TRACKS_REQUESTS.get());
+        // The next page is the one following the last page fetched
+        assertEquals(trackNames(32, 41), names(extractor.getPage(range.getNextPage())));
+
+        final InfoItemsPage<StreamInfoItem> allTracks =
+                extractor.getPageRange(firstPage, 1000, 4);
+        assertEquals(trackNames(2, 41), names(allTracks));
+        assertNull(allTracks.getNextPage());
+        assertEquals(1, PLAYLIST_REQUESTS.get());
+    }
+
+    @Test
+    void testLegacyPageWithIds() throws Exception {
+        final List<String> ids = LongStream.rangeClosed(2, 41)
+                .mapToObj(id -> String.format("%010d", id)).collect(Collectors.toList());
+        final SoundcloudPlaylistExtractor extractor = getExtractor();
+
+        final InfoItemsPage<StreamInfoItem> page = extractor.getPage(new Page(ids));
+        assertEquals(trackNames(2, 16), names(page));
+        assertEquals(ids.subList(15, 40), page.getNextPage().getIds());
+
+        final InfoItemsPage<StreamInfoItem> lastPages =
+                extractor.getPageRange(page.getNextPage(), 100, 2);
+        assertEquals(trackNames(17, 41), names(lastPages));
+        assertNull(lastPages.getNextPage().getIds());
+        assertEquals(1, PLAYLIST_REQUESTS.get());
+    }
+}
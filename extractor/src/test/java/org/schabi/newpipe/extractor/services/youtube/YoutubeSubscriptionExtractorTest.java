@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -158,4 +159,66 @@ public class YoutubeSubscriptionExtractorTest {
             assertSubscriptionItems(subscriptionItems);
         }
     }
+
+    @Test
+    public void testStreamedItemsAreTheParsedItems() throws Exception {
+        final List<SubscriptionItem> jsonItems = subscriptionExtractor.fromInputStream(
+                new FileInputStream(resolveTestResource("youtube_takeout_import_test.json")));
+        final List<SubscriptionItem> streamedJsonItems = new ArrayList<>();
+        assertEquals(jsonItems.size(), subscriptionExtractor.fromInputStream(
+                new FileInputStream(resolveTestResource("youtube_takeout_import_test.json")),
+                "json", streamedJsonItems::add));
+        assertSameItems(jsonItems, streamedJsonItems);
+
+        for (final String path : Arrays.asList("youtube_takeout_import_test_1.csv",
+                "youtube_takeout_import_test_2.csv")) {
+            final List<SubscriptionItem> csvItems = subscriptionExtractor.fromCsvInputStream(
+                    new FileInputStream(resolveTestResource(path)));
+            final List<SubscriptionItem> streamedItems = new ArrayList<>();
+            assertEquals(csvItems.size(), subscriptionExtractor.fromInputStream(
+                    new FileInputStream(resolveTestResource(path)), "csv", streamedItems::add));
+            assertSameItems(csvItems, streamedItems);
+        }
+
+        for (final String path : Arrays.asList("youtube_takeout_import_test_1.zip",
+                "youtube_takeout_import_test_2.zip")) {
+            final List<SubscriptionItem> zipItems = subscriptionExtractor.fromZipInputStream(
+                    new FileInputStream(resolveTestResource(path)));
+            final List<SubscriptionItem> streamedItems = new ArrayList<>();
+            assertEquals(zipItems.size(), subscriptionExtractor.fromInputStream(
+                    new FileInputStream(resolveTestResource(path)), "zip", streamedItems::add));
+            assertSameItems(zipItems, streamedItems);
+        }
+    }
+
+    @Test
+    public void testCsvWithCarriageReturnsAndHttpUrls() throws Exception {
+        final String source = "Channel Id,Channel Url,Channel Title\r\n"
+                + "UCEOXxzW2vU0P-0THehuIIeg,http://www.youtube.com/channel/UCEOXxzW2vU0P-0THehuIIeg,"
+                + "name1\r\n"
+                + "UCsXVk37bltHxD1rDPwtNM8Q,https://www.youtube.com/user/kurzgesagt,name2\r\n"
+                + "UCsXVk37bltHxD1rDPwtNM8Q,https://www.youtube.com/channel/UCsXVk37bltHxD1rDPwtNM8Q,"
+                + "name3";
+        final List<SubscriptionItem> items = new ArrayList<>();
+        assertEquals(2, subscriptionExtractor.fromCsvInputStream(
+                new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), items::add));
+
+        assertEquals("https://www.youtube.com/channel/UCEOXxzW2vU0P-0THehuIIeg",
+                items.get(0).getUrl());
+        assertEquals("name1", items.get(0).getName());
+        assertEquals("https://www.youtube.com/channel/UCsXVk37bltHxD1rDPwtNM8Q",
+                items.get(1).getUrl());
+        assertEquals("name3", items.get(1).getName());
+    }
+
+    private static void assertSameItems(final List<SubscriptionItem> expectedItems,
+                                        final List<SubscriptionItem> actualItems)
+            throws Exception {
+        assertSubscriptionItems(actualItems);
+        assertEquals(expectedItems.size(), actualItems.size());
+        for (int i = 0; i < expectedItems.size(); i++) {
+            assertEquals(expectedItems.get(i).getUrl(), actualItems.get(i).getUrl());
+            assertEquals(expectedItems.get(i).getName(), actualItems.get(i).getName());
+        }
+    }
 }
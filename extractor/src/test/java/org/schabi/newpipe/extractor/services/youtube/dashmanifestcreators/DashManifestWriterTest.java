@@ -0,0 +1,96 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
+import org.schabi.newpipe.extractor.services.youtube.ItagItem;
+import org.schabi.newpipe.extractor.stream.AudioTrackType;
+import org.schabi.newpipe.extractor.utils.ManifestCreatorCache;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators.YoutubeDashManifestCreatorsUtils.SEGMENT_TIMELINE;
+
+/**
+ * Test that manifests written with {@link DashManifestWriter} are the same as the ones built
+ * with the {@link Document} based methods of {@link YoutubeDashManifestCreatorsUtils}.
+ */
+@SuppressWarnings("deprecation")
+class DashManifestWriterTest {
+    private static final String BASE_URL = "https://rr1---sn-example.googlevideo.com/videoplayback"
+            + "?expire=1700000000&itag=137&mime=video%2Fmp4&sig=\"a<b>c\"";
+
+    @Test
+    void testVideoOtfManifestIsIdentical() throws Exception {
+        final ItagItem itagItem = ItagItem.getItag(137);
+        itagItem.setCodec("avc1.640028");
+        itagItem.setBitrate(4_500_000);
+        itagItem.setWidth(1920);
+        itagItem.setHeight(1080);
+
+        final Document doc = YoutubeDashManifestCreatorsUtils
+                .generateDocumentAndDoCommonElementsGeneration(itagItem, 634_567);
+        YoutubeDashManifestCreatorsUtils.generateSegmentTemplateElement(doc, BASE_URL,
+                DeliveryType.OTF);
+        YoutubeDashManifestCreatorsUtils.generateSegmentTimelineElement(doc);
+        final Element timeline = (Element) doc.getElementsByTagName(SEGMENT_TIMELINE).item(0);
+        final Element first = doc.createElement("S");
+        first.setAttribute("r", "125");
+        first.setAttribute("d", "5000");
+        timeline.appendChild(first);
+        final Element second = doc.createElement("S");
+        second.setAttribute("d", "4567");
+        timeline.appendChild(second);
+
+        final DashManifestWriter writer = YoutubeDashManifestCreatorsUtils
+                .generateWriterAndDoCommonElementsGeneration(itagItem, 634_567);
+        YoutubeDashManifestCreatorsUtils.startSegmentTemplateElement(writer, BASE_URL,
+                DeliveryType.OTF);
+        writer.startElement(SEGMENT_TIMELINE)
+                .startElement("S").attribute("r", 125).attribute("d", "5000").endElement()
+                .startElement("S").attribute("d", "4567").endElement();
+
+        assertIdentical(doc, writer);
+    }
+
+    @Test
+    void testAudioProgressiveManifestIsIdentical() throws Exception {
+        final ItagItem itagItem = ItagItem.getItag(140);
+        itagItem.setCodec("mp4a.40.2");
+        itagItem.setBitrate(130_000);
+        itagItem.setAudioChannels(2);
+        itagItem.setAudioLocale(Locale.FRENCH);
+        itagItem.setAudioTrackType(AudioTrackType.DUBBED);
+
+        final Document doc = YoutubeDashManifestCreatorsUtils
+                .generateDocumentAndDoCommonElementsGeneration(itagItem, 1000);
+        final Element representation = (Element) doc.getElementsByTagName(
+                YoutubeDashManifestCreatorsUtils.REPRESENTATION).item(0);
+        final Element baseUrl = doc.createElement(YoutubeDashManifestCreatorsUtils.BASE_URL);
+        baseUrl.setTextContent(BASE_URL + "\r\n\té😀");
+        representation.appendChild(baseUrl);
+
+        final DashManifestWriter writer = YoutubeDashManifestCreatorsUtils
+                .generateWriterAndDoCommonElementsGeneration(itagItem, 1000);
+        writer.startElement(YoutubeDashManifestCreatorsUtils.BASE_URL)
+                .text(BASE_URL + "\r\n\té😀");
+
+        assertIdentical(doc, writer);
+    }
+
+    @Test
+    void testAttributeAfterContentThrows() {
+        final DashManifestWriter writer = new DashManifestWriter();
+        writer.startElement("MPD").startElement("Period").endElement();
+        assertThrows(IllegalStateException.class, () -> writer.attribute("id", "0"));
+    }
+
+    private static void assertIdentical(final Document doc, final DashManifestWriter writer) {
+        final ManifestCreatorCache<String, String> cache = new ManifestCreatorCache<>();
+        assertEquals(YoutubeDashManifestCreatorsUtils.buildAndCacheResult(BASE_URL, doc, cache),
+                YoutubeDashManifestCreatorsUtils.buildAndCacheResult(BASE_URL, writer, cache));
+    }
+}
@@ -0,0 +1,74 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.downloader.Response;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OtfSegmentDurationsTest {
+    private static final String BODY_PREFIX = "\u0000\u0001binary data\r\nSequence-Number: 0\r\n";
+
+    @Test
+    void testParseCompleteDurations() throws CreationException {
+        final OtfSegmentDurations durations = OtfSegmentDurations.parse(BODY_PREFIX
+                + "Segment-Durations-Ms: 5000(r=125),4567,\r\nOther-Header: 1\r\n\u0002");
+
+        assertTrue(durations.isComplete());
+        assertEquals(126 * 5000L + 4567L, durations.getStreamDurationMs());
+
+        final DashManifestWriter writer = new DashManifestWriter();
+        writer.startElement("SegmentTimeline");
+        durations.writeSegmentElements(writer);
+        assertTrue(writer.build().endsWith(
+                "<SegmentTimeline><S d=\"5000\" r=\"125\"/><S d=\"4567\"/></SegmentTimeline>"));
+    }
+
+    @Test
+    void testParseTruncatedDurations() throws CreationException {
+        final OtfSegmentDurations durations = OtfSegmentDurations.parse(BODY_PREFIX
+                + "Segment-Durations-Ms: 5000(r=3),5001,50");
+
+        assertFalse(durations.isComplete());
+        assertEquals(4 * 5000L + 5001L + 50L, durations.getStreamDurationMs());
+    }
+
+    @Test
+    void testParseInvalidDurations() {
+        assertThrows(CreationException.class, () -> OtfSegmentDurations.parse(BODY_PREFIX));
+        assertThrows(CreationException.class, () -> OtfSegmentDurations.parse(BODY_PREFIX
+                + "Segment-Durations-Ms: \r\n"));
+        assertThrows(CreationException.class, () -> OtfSegmentDurations.parse(BODY_PREFIX
+                + "Segment-Durations-Ms: 5000,abc\r\n"));
+        assertThrows(CreationException.class, () -> OtfSegmentDurations.parse(BODY_PREFIX
+                + "Segment-Durations-Ms: 99999999999\r\n"));
+    }
+
+    @Test
+    void testIsPartialResponse() {
+        assertFalse(YoutubeDashManifestCreatorsUtils.isPartialResponse(
+                createResponse(200, null)));
+        assertTrue(YoutubeDashManifestCreatorsUtils.isPartialResponse(
+                createResponse(206, "bytes 0-65535/1048576")));
+        assertTrue(YoutubeDashManifestCreatorsUtils.isPartialResponse(
+                createResponse(206, "bytes 0-65535/*")));
+        assertTrue(YoutubeDashManifestCreatorsUtils.isPartialResponse(
+                createResponse(206, null)));
+        assertFalse(YoutubeDashManifestCreatorsUtils.isPartialResponse(
+                createResponse(206, "bytes 0-1023/1024")));
+    }
+
+    private static Response createResponse(final int responseCode, final String contentRange) {
+        final Map<String, List<String>> headers = contentRange == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap("Content-Range",
+                        Collections.singletonList(contentRange));
+        return new Response(responseCode, "", headers, "", "");
+    }
+}
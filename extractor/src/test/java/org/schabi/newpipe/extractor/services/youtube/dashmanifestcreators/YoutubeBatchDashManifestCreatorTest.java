@@ -0,0 +1,137 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.services.youtube.DeliveryType;
+import org.schabi.newpipe.extractor.services.youtube.ItagItem;
+import org.schabi.newpipe.extractor.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YoutubeBatchDashManifestCreatorTest {
+    private static final String VIDEO_URL = "https://rr1---sn-example.googlevideo.com/videoplayback"
+            + "?expire=4102444800&itag=137";
+    private static final String AUDIO_URL = "https://rr1---sn-example.googlevideo.com/videoplayback"
+            + "?expire=4102444800&itag=140";
+    private static final String INITIALIZATION_BODY =
+            "Sequence-Number: 0\r\nSegment-Durations-Ms: 5000(r=3),4000,\r\n";
+
+    private Downloader previousDownloader;
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        previousDownloader = NewPipe.getDownloader();
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                requests.add(request);
+                final Map<String, List<String>> headers = Collections.singletonMap(
+                        "Content-Range", Collections.singletonList("bytes 0-"
+                                + (INITIALIZATION_BODY.length() - 1) + "/"
+                                + INITIALIZATION_BODY.length()));
+                return new Response(206, "", headers, INITIALIZATION_BODY,
+                        request.url() + "&redirected=1");
+            }
+        });
+        YoutubeOtfDashManifestCreator.getCache().clear();
+        YoutubeProgressiveDashManifestCreator.getCache().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        NewPipe.init(previousDownloader);
+        YoutubeOtfDashManifestCreator.getCache().clear();
+        YoutubeProgressiveDashManifestCreator.getCache().clear();
+    }
+
+    @Test
+    void testOtfManifestsShareSegmentDurations() throws Exception {
+        final List<String> manifests = YoutubeBatchDashManifestCreator.createManifests(
+                createStreams(), DeliveryType.OTF, 100);
+
+        assertEquals(2, manifests.size());
+        // Only the first stream needs its segment durations
+        assertEquals(2, requests.size());
+        assertEquals(Collections.singletonList("bytes=0-0"),
+                requests.get(requests.get(0).url().startsWith(VIDEO_URL) ? 1 : 0)
+                        .headers().get("Range"));
+
+        for (final String manifest : manifests) {
+            assertTrue(manifest.contains("mediaPresentationDuration=\"PT24.000S\""));
+            assertTrue(manifest.contains("<S d=\"5000\" r=\"3\"/><S d=\"4000\"/>"));
+        }
+        assertTrue(manifests.get(0).contains("itag=137&amp;redirected=1"));
+        assertTrue(manifests.get(1).contains("itag=140&amp;redirected=1"));
+
+        // The manifests generated are cached and returned by the creator of OTF streams
+        requests.clear();
+        assertEquals(manifests.get(1), YoutubeOtfDashManifestCreator.fromOtfStreamingUrl(
+                AUDIO_URL, createStreams().get(1).getSecond(), 100));
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void testProgressiveManifestsAreSameAsSingleOnes() throws Exception {
+        final List<Pair<String, ItagItem>> streams = createStreams();
+        final List<String> manifests = YoutubeBatchDashManifestCreator.createManifests(
+                streams, DeliveryType.PROGRESSIVE, 100);
+        YoutubeProgressiveDashManifestCreator.getCache().clear();
+
+        for (int i = 0; i < streams.size(); i++) {
+            assertEquals(YoutubeProgressiveDashManifestCreator.fromProgressiveStreamingUrl(
+                    streams.get(i).getFirst(), streams.get(i).getSecond(), 100),
+                    manifests.get(i));
+        }
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void testMultiRepresentationManifest() throws Exception {
+        final String manifest = YoutubeBatchDashManifestCreator.createMultiRepresentationManifest(
+                createStreams(), DeliveryType.OTF, 100);
+
+        assertTrue(manifest.contains("<AdaptationSet id=\"0\" mimeType=\"video/mp4\""));
+        assertTrue(manifest.contains("<AdaptationSet id=\"1\" mimeType=\"audio/mp4\""));
+        assertEquals(2, manifest.split("<Representation ").length - 1);
+        assertEquals(1, manifest.split("<MPD ").length - 1);
+    }
+
+    @Nonnull
+    private static List<Pair<String, ItagItem>> createStreams() throws Exception {
+        final ItagItem video = ItagItem.getItag(137);
+        video.setCodec("avc1.640028");
+        video.setBitrate(4_500_000);
+        video.setWidth(1920);
+        video.setHeight(1080);
+        video.setInitStart(0);
+        video.setInitEnd(740);
+        video.setIndexStart(741);
+        video.setIndexEnd(1200);
+
+        final ItagItem audio = ItagItem.getItag(140);
+        audio.setCodec("mp4a.40.2");
+        audio.setBitrate(130_000);
+        audio.setAudioChannels(2);
+        audio.setInitStart(0);
+        audio.setInitEnd(631);
+        audio.setIndexStart(632);
+        audio.setIndexEnd(1000);
+
+        return Arrays.asList(new Pair<>(VIDEO_URL, video), new Pair<>(AUDIO_URL, audio));
+    }
+}
@@ -0,0 +1,73 @@
+package org.schabi.newpipe.extractor.services.youtube.dashmanifestcreators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.services.youtube.ItagItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YoutubePostLiveStreamDvrDashManifestCreatorTest {
+    private static final String STREAM_URL = "https://rr1---sn-example.googlevideo.com/"
+            + "videoplayback?expire=4102444800&itag=137&source=yt_live_broadcast";
+
+    private Downloader previousDownloader;
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        previousDownloader = NewPipe.getDownloader();
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                requests.add(request);
+                final Map<String, List<String>> headers = new HashMap<>();
+                headers.put("Content-Range", Collections.singletonList("bytes 0-0/1000"));
+                headers.put("X-Head-Seqnum", Collections.singletonList("42"));
+                headers.put("X-Head-Time-Millis", Collections.singletonList("210000"));
+                return new Response(206, "", headers, "\0", request.url() + "&redirected=1");
+            }
+        });
+        YoutubePostLiveStreamDvrDashManifestCreator.getCache().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        NewPipe.init(previousDownloader);
+        YoutubePostLiveStreamDvrDashManifestCreator.getCache().clear();
+    }
+
+    @Test
+    void testOnlyTheFirstByteIsRequested() throws Exception {
+        final ItagItem itagItem = ItagItem.getItag(137);
+        itagItem.setCodec("avc1.640028");
+        itagItem.setBitrate(4_500_000);
+        itagItem.setWidth(1920);
+        itagItem.setHeight(1080);
+
+        final String manifest = YoutubePostLiveStreamDvrDashManifestCreator
+                .fromPostLiveStreamDvrStreamingUrl(STREAM_URL, itagItem, 5, 0);
+
+        // Only the headers of the response are needed
+        assertEquals(1, requests.size());
+        assertEquals(Collections.singletonList("bytes=0-0"),
+                requests.get(0).headers().get("Range"));
+
+        assertTrue(manifest.contains("mediaPresentationDuration=\"PT210.000S\""));
+        assertTrue(manifest.contains("<S d=\"5000\" r=\"42\"/>"));
+        assertTrue(manifest.contains("itag=137&amp;source=yt_live_broadcast&amp;redirected=1"));
+    }
+}
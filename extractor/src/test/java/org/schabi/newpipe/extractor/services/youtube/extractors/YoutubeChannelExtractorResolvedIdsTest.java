@@ -0,0 +1,187 @@
+package org.schabi.newpipe.extractor.services.youtube.extractors;
+
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.grack.nanojson.JsonWriter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.channel.ChannelExtractor;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.services.youtube.YoutubeTestsUtils;
+import org.schabi.newpipe.extractor.services.youtube.extractors.YoutubeChannelExtractor.ResolvedChannelId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+
+/**
+ * Tests the cache of the channel IDs resolved by {@link YoutubeChannelExtractor} against a fake
+ * API, which resolves {@code @handle} to {@link #CHANNEL_ID}.
+ */
+class YoutubeChannelExtractorResolvedIdsTest {
+    private static final String CHANNEL_ID = "UCaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String CHANNEL_URL = "https://www.youtube.com/@handle";
+
+    private static final List<String> RESOLVED_URLS = new CopyOnWriteArrayList<>();
+    private static final List<String> BROWSE_IDS = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        YoutubeTestsUtils.ensureStateless();
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                final String body;
+                if (request.url().equals("https://www.youtube.com/sw.js")) {
+                    body = "{\"INNERTUBE_CONTEXT_CLIENT_VERSION\":\"2.20250101.00.00\","
+                            + "\"INNERTUBE_API_KEY\":\"key\"}";
+                } else if (request.url().contains("/navigation/resolve_url?")) {
+                    RESOLVED_URLS.add(getRequestBody(request).getString("url"));
+                    body = getResolveUrlResponse();
+                } else if (request.url().contains("/browse?")) {
+                    BROWSE_IDS.add(getRequestBody(request).getString("browseId"));
+                    // A channel response without redirect
+                    body = "{\"responseContext\":{\"visitorData\":\"visitor\"},"
+                            + "\"onResponseReceivedActions\":[{\"navigateAction\":{"
+                            + "\"endpoint\":{\"commandMetadata\":{\"webCommandMetadata\":{}},"
+                            + "\"browseEndpoint\":{}}}}],\"header\":{},\"contents\":{}}";
+                } else {
+                    return new Response(404, "Not Found", Collections.emptyMap(), "",
+                            request.url());
+                }
+                return new Response(200, "OK", Collections.emptyMap(), body, request.url());
+            }
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        YoutubeTestsUtils.ensureStateless();
+        YoutubeChannelExtractor.setResolvedChannelIds(Collections.emptyMap());
+    }
+
+    @BeforeEach
+    void clearResolvedChannelIds() {
+        YoutubeChannelExtractor.setResolvedChannelIds(Collections.emptyMap());
+        RESOLVED_URLS.clear();
+        BROWSE_IDS.clear();
+    }
+
+    @Nonnull
+    private static JsonObject getRequestBody(@Nonnull final Request request) {
+        try {
+            return JsonParser.object().from(
+                    new String(request.dataToSend(), StandardCharsets.UTF_8));
+        } catch (final JsonParserException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Nonnull
+    private static String getResolveUrlResponse() {
+        return JsonWriter.string(JsonObject.builder()
+                .object("endpoint")
+                    .object("commandMetadata")
+                        .object("webCommandMetadata")
+                            .value("webPageType", "WEB_PAGE_TYPE_CHANNEL")
+                        .end()
+                    .end()
+                    .object("browseEndpoint")
+                        .value("browseId", CHANNEL_ID)
+                    .end()
+                .end()
+                .done());
+    }
+
+    @Nonnull
+    private static ChannelExtractor fetchChannel() throws Exception {
+        final ChannelExtractor extractor = YouTube.getChannelExtractor(CHANNEL_URL);
+        extractor.fetchPage();
+        return extractor;
+    }
+
+    @Test
+    void testCacheHitSkipsResolveUrl() throws Exception {
+        final long startTime = System.currentTimeMillis();
+        assertEquals(CHANNEL_ID, fetchChannel().getId());
+        assertEquals(List.of("https://www.youtube.com/@handle"), RESOLVED_URLS);
+
+        final Map<String, ResolvedChannelId> resolvedChannelIds =
+                YoutubeChannelExtractor.getResolvedChannelIds();
+        assertEquals(Set.of("@handle"), resolvedChannelIds.keySet());
+        assertEquals(CHANNEL_ID, resolvedChannelIds.get("@handle").getChannelId());
+        assertTrue(resolvedChannelIds.get("@handle").getResolutionTime() >= startTime);
+
+        // The second extractor uses the channel ID resolved by the first one
+        assertEquals(CHANNEL_ID, fetchChannel().getId());
+        assertEquals(1, RESOLVED_URLS.size());
+        assertEquals(List.of(CHANNEL_ID, CHANNEL_ID), BROWSE_IDS);
+    }
+
+    @Test
+    void testRestoredCacheSkipsResolveUrl() throws Exception {
+        fetchChannel();
+        final Map<String, ResolvedChannelId> savedChannelIds =
+                YoutubeChannelExtractor.getResolvedChannelIds();
+        YoutubeChannelExtractor.setResolvedChannelIds(Collections.emptyMap());
+        RESOLVED_URLS.clear();
+        BROWSE_IDS.clear();
+
+        YoutubeChannelExtractor.setResolvedChannelIds(savedChannelIds);
+        assertEquals(CHANNEL_ID, fetchChannel().getId());
+        assertEquals(Collections.emptyList(), RESOLVED_URLS);
+        assertEquals(List.of(CHANNEL_ID), BROWSE_IDS);
+    }
+
+    @Test
+    void testRestoredCacheKeepsResolutionTimes() {
+        final long resolutionTime = System.currentTimeMillis()
+                - YoutubeChannelExtractor.RESOLVED_CHANNEL_IDS_TIME_TO_LIVE / 2;
+        YoutubeChannelExtractor.setResolvedChannelIds(
+                Map.of("@handle", new ResolvedChannelId(CHANNEL_ID, resolutionTime)));
+
+        // Persisting and restoring the cache doesn't extend the lifetime of its channel IDs
+        YoutubeChannelExtractor.setResolvedChannelIds(
+                YoutubeChannelExtractor.getResolvedChannelIds());
+        assertEquals(resolutionTime, YoutubeChannelExtractor.getResolvedChannelIds()
+                .get("@handle").getResolutionTime());
+    }
+
+    @Test
+    void testExpiredRestoredChannelIdsAreDropped() throws Exception {
+        final long resolutionTime = System.currentTimeMillis()
+                - YoutubeChannelExtractor.RESOLVED_CHANNEL_IDS_TIME_TO_LIVE - 1;
+        YoutubeChannelExtractor.setResolvedChannelIds(
+                Map.of("@handle", new ResolvedChannelId("UCbbbbbbbbbbbbbbbbbbbbbb",
+                        resolutionTime)));
+        assertEquals(Collections.emptyMap(), YoutubeChannelExtractor.getResolvedChannelIds());
+
+        assertEquals(CHANNEL_ID, fetchChannel().getId());
+        assertEquals(1, RESOLVED_URLS.size());
+    }
+
+    @Test
+    void testClearedCacheResolvesAgain() throws Exception {
+        fetchChannel();
+        YoutubeChannelExtractor.setResolvedChannelIds(Collections.emptyMap());
+
+        fetchChannel();
+        assertEquals(2, RESOLVED_URLS.size());
+    }
+}
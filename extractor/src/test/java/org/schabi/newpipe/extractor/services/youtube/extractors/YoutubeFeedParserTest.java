@@ -0,0 +1,142 @@
+package org.schabi.newpipe.extractor.services.youtube.extractors;
+
+import com.grack.nanojson.JsonParser;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.downloader.DownloaderFactory;
+import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.feed.FeedWatermark;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YoutubeFeedParserTest {
+    private static final String FEED_MOCK = DownloaderFactory.RESOURCE_PATH
+            + "services/youtube/extractor/feed/generated_mock_0.json";
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testSameValuesAsJsoup() throws Exception {
+        final String xml;
+        try (InputStream inputStream = Files.newInputStream(Paths.get(FEED_MOCK))) {
+            xml = JsonParser.object().from(inputStream).getObject("response")
+                    .getString("responseBody");
+        }
+
+        final Document document = Jsoup.parse(xml);
+        final YoutubeFeedParser.Feed feed = YoutubeFeedParser.parse(xml);
+
+        assertEquals(document.select("feed > author > name").first().text(),
+                feed.getAuthorName());
+        assertEquals(document.select("feed > author > uri").first().text(), feed.getAuthorUri());
+        assertEquals(document.select("feed > link[rel*=alternate]").first().attr("href"),
+                feed.getAlternateLink());
+
+        final Elements entryElements = document.select("feed > entry");
+        final List<YoutubeFeedParser.Entry> entries = feed.getEntries();
+        assertTrue(entries.size() > 1);
+        assertEquals(entryElements.size(), entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            final Element entryElement = entryElements.get(i);
+            final YoutubeFeedInfoItemExtractor expected =
+                    new YoutubeFeedInfoItemExtractor(entryElement);
+            final YoutubeFeedInfoItemExtractor actual =
+                    new YoutubeFeedInfoItemExtractor(entries.get(i));
+
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getUrl(), actual.getUrl());
+            assertEquals(expected.getUploaderName(), actual.getUploaderName());
+            assertEquals(expected.getUploaderUrl(), actual.getUploaderUrl());
+            assertEquals(expected.getTextualUploadDate(), actual.getTextualUploadDate());
+            assertEquals(expected.getUploadDate().offsetDateTime(),
+                    actual.getUploadDate().offsetDateTime());
+            assertEquals(expected.getThumbnailUrl(), actual.getThumbnailUrl());
+            assertEquals(expected.getViewCount(), actual.getViewCount());
+        }
+    }
+
+    @Test
+    void testParsingStopsAtTheFirstKnownEntry() throws Exception {
+        final String xml;
+        try (InputStream inputStream = Files.newInputStream(Paths.get(FEED_MOCK))) {
+            xml = JsonParser.object().from(inputStream).getObject("response")
+                    .getString("responseBody");
+        }
+
+        final List<YoutubeFeedParser.Entry> allEntries = YoutubeFeedParser.parse(xml).getEntries();
+        final String knownLink = allEntries.get(2).link;
+        final List<String> testedLinks = new ArrayList<>();
+        final YoutubeFeedParser.Feed feed = YoutubeFeedParser.parse(xml, entry -> {
+            testedLinks.add(entry.link);
+            return knownLink.equals(entry.link);
+        });
+
+        assertEquals(2, feed.getEntries().size());
+        assertEquals(allEntries.get(0).link, feed.getEntries().get(0).link);
+        assertEquals(allEntries.get(1).link, feed.getEntries().get(1).link);
+        assertEquals(allEntries.get(0).authorName, feed.getAuthorName());
+        // The predicate is tested on the link and on the date of the first entries only
+        assertEquals(5, testedLinks.size());
+        assertEquals(knownLink, testedLinks.get(4));
+
+        final FeedWatermark watermark = new FeedWatermark(null,
+                OffsetDateTime.parse(allEntries.get(1).published));
+        assertEquals(1, YoutubeFeedParser.parse(xml, entry -> watermark.isReachedBy(entry.link,
+                entry.published == null ? null : OffsetDateTime.parse(entry.published)))
+                .getEntries().size());
+    }
+
+    @Test
+    void testTextsAreDecodedAndNormalized() throws ParsingException {
+        final YoutubeFeedParser.Feed feed = YoutubeFeedParser.parse("<?xml version=\"1.0\"?>\n"
+                + "<!-- A comment with <entry> -->\n"
+                + "<feed xmlns=\"http://www.w3.org/2005/Atom\">\n"
+                + "  <author>\n    <name>  Tom &amp; Jerry\n  &#8211; &#x41;</name>\n"
+                + "  </author>\n"
+                + "  <entry>\n"
+                + "    <title><![CDATA[<b>Bold</b>]]> title</title>\n"
+                + "    <link rel='alternate' href='https://www.youtube.com/watch?v=a&amp;b=c'/>\n"
+                + "    <media:group><media:title>Not the title</media:title></media:group>\n"
+                + "  </entry>\n"
+                + "</feed>");
+
+        assertEquals("Tom & Jerry \u2013 A", feed.getAuthorName());
+        assertNull(feed.getAuthorUri());
+        assertNull(feed.getAlternateLink());
+        assertEquals(1, feed.getEntries().size());
+
+        final YoutubeFeedParser.Entry entry = feed.getEntries().get(0);
+        assertEquals("<b>Bold</b> title", entry.title);
+        assertEquals("https://www.youtube.com/watch?v=a&b=c", entry.link);
+        assertNull(entry.views);
+        assertThrows(ParsingException.class,
+                () -> new YoutubeFeedInfoItemExtractor(entry).getViewCount());
+    }
+
+    @Test
+    void testMalformedFeeds() {
+        assertThrows(ParsingException.class, () -> YoutubeFeedParser.parse("<feed><entry>"));
+        assertThrows(ParsingException.class,
+                () -> YoutubeFeedParser.parse("<feed><entry></feed></entry>"));
+        assertThrows(ParsingException.class,
+                () -> YoutubeFeedParser.parse("<feed><link href=x/></feed>"));
+        assertThrows(ParsingException.class,
+                () -> YoutubeFeedParser.parse(
+                        "<feed><author><name>&unknown;</name></author></feed>"));
+        assertThrows(ParsingException.class,
+                () -> YoutubeFeedParser.parse("<!DOCTYPE feed><feed></feed>"));
+    }
+}
@@ -0,0 +1,225 @@
+package org.schabi.newpipe.extractor.services.youtube.extractors;
+
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+import com.grack.nanojson.JsonWriter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.ListExtractor.InfoItemsPage;
+import org.schabi.newpipe.extractor.NewPipe;
+import org.schabi.newpipe.extractor.Page;
+import org.schabi.newpipe.extractor.downloader.Downloader;
+import org.schabi.newpipe.extractor.downloader.Request;
+import org.schabi.newpipe.extractor.downloader.Response;
+import org.schabi.newpipe.extractor.playlist.PlaylistExtractor;
+import org.schabi.newpipe.extractor.playlist.PlaylistInfo;
+import org.schabi.newpipe.extractor.services.youtube.YoutubeTestsUtils;
+import org.schabi.newpipe.extractor.stream.StreamInfoItem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.schabi.newpipe.extractor.ServiceList.YouTube;
+import static org.schabi.newpipe.extractor.services.youtube.extractors.YoutubeMixPlaylistExtractor.hashVideoId;
+
+/**
+ * Tests the deduplication of the streams of {@link YoutubeMixPlaylistExtractor} against a fake
+ * API, whose mix has 25 videos. Each page of the mix returns the first video again, and pages
+ * after the last video only return videos already returned.
+ */
+class YoutubeMixPlaylistExtractorDeduplicationTest {
+    private static final int VIDEO_COUNT = 25;
+    private static final String MIX_URL =
+            "https://www.youtube.com/watch?v=" + videoId(0) + "&list=RD" + videoId(0);
+
+    @BeforeAll
+    static void setUp() {
+        YoutubeTestsUtils.ensureStateless();
+        NewPipe.init(new Downloader() {
+            @Override
+            public Response execute(@Nonnull final Request request) {
+                final String body;
+                if (request.url().equals("https://www.youtube.com/sw.js")) {
+                    body = "{\"INNERTUBE_CONTEXT_CLIENT_VERSION\":\"2.20250101.00.00\","
+                            + "\"INNERTUBE_API_KEY\":\"key\"}";
+                } else if (request.url().contains("/next?")) {
+                    body = getNextResponse(new String(request.dataToSend(),
+                            StandardCharsets.UTF_8));
+                } else {
+                    return new Response(404, "Not Found", Collections.emptyMap(), "",
+                            request.url());
+                }
+                return new Response(200, "OK", Collections.emptyMap(), body, request.url());
+            }
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        YoutubeTestsUtils.ensureStateless();
+    }
+
+    @Nonnull
+    private static String videoId(final int index) {
+        return String.format("video%06d", index);
+    }
+
+    @Nonnull
+    private static String getNextResponse(@Nonnull final String requestBody) {
+        final JsonObject request;
+        try {
+            request = JsonParser.object().from(requestBody);
+        } catch (final JsonParserException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        final List<Integer> videos = new ArrayList<>();
+        final int currentIndex;
+        if (!request.has("playlistIndex")) {
+            // The initial page
+            IntStream.range(0, 5).forEach(videos::add);
+            currentIndex = 0;
+        } else {
+            final int lastVideo = Integer.parseInt(request.getString("videoId").substring(5));
+            if (lastVideo < VIDEO_COUNT - 1) {
+                videos.add(lastVideo);
+                videos.add(0);
+                IntStream.rangeClosed(lastVideo + 1, Math.min(lastVideo + 5, VIDEO_COUNT - 1))
+                        .forEach(videos::add);
+            } else {
+                videos.add(lastVideo);
+                videos.add(1);
+                videos.add(lastVideo);
+            }
+            currentIndex = 0;
+        }
+
+        final JsonArray contents = new JsonArray();
+        for (final int video : videos) {
+            contents.add(JsonObject.builder()
+                    .object("playlistPanelVideoRenderer")
+                        .value("videoId", videoId(video))
+                        .object("title")
+                            .value("simpleText", "Video " + video)
+                        .end()
+                        .array("badges")
+                        .end()
+                        .array("thumbnailOverlays")
+                        .end()
+                        .object("navigationEndpoint")
+                            .object("watchEndpoint")
+                                .value("videoId", videoId(video))
+                                .value("playlistId", "RD" + videoId(0))
+                                .value("index", video)
+                            .end()
+                        .end()
+                    .end()
+                    .done());
+        }
+
+        return JsonWriter.string(JsonObject.builder()
+                .object("contents")
+                    .object("twoColumnWatchNextResults")
+                        .object("playlist")
+                            .object("playlist")
+                                .value("title", "Mix")
+                                .value("playlistId", "RD" + videoId(0))
+                                .value("currentIndex", currentIndex)
+                                .value("contents", contents)
+                            .end()
+                        .end()
+                    .end()
+                .end()
+                .done());
+    }
+
+    @Nonnull
+    private static List<String> names(@Nonnull final InfoItemsPage<StreamInfoItem> page) {
+        return page.getItems().stream().map(StreamInfoItem::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testStreamsAreDeduplicatedAcrossExtractors() throws Exception {
+        final PlaylistExtractor extractor = YouTube.getPlaylistExtractor(MIX_URL);
+        extractor.fetchPage();
+        InfoItemsPage<StreamInfoItem> page = extractor.getInitialPage();
+        final List<String> names = new ArrayList<>(names(page));
+
+        int pageCount = 0;
+        while (page.hasNextPage()) {
+            // Each page is fetched by a new extractor
+            page = PlaylistInfo.getMoreItems(YouTube, MIX_URL, page.getNextPage());
+            names.addAll(names(page));
+            pageCount++;
+        }
+
+        assertEquals(IntStream.range(0, VIDEO_COUNT).mapToObj(video -> "Video " + video)
+                .collect(Collectors.toList()), names);
+        // 4 pages with new streams, then the pages without new streams until the mix is
+        // considered exhausted
+        assertEquals(4 + YoutubeMixPlaylistExtractor.MAXIMUM_PAGES_WITHOUT_NEW_STREAMS,
+                pageCount);
+    }
+
+    @Test
+    void testPagesWithoutState() throws Exception {
+        final PlaylistExtractor extractor = YouTube.getPlaylistExtractor(MIX_URL);
+        extractor.fetchPage();
+        final Page nextPage = extractor.getInitialPage().getNextPage();
+
+        // Pages of previous versions only contain the request of the next page
+        final Page pageWithoutState = new Page(nextPage.getUrl(), null, null,
+                nextPage.getCookies(), nextPage.getBody());
+        final InfoItemsPage<StreamInfoItem> page =
+                PlaylistInfo.getMoreItems(YouTube, MIX_URL, pageWithoutState);
+        // The streams of previous pages are unknown, so only the streams of this page are
+        // deduplicated
+        assertEquals(List.of("Video 0", "Video 5", "Video 6", "Video 7", "Video 8", "Video 9"),
+                names(page));
+
+        final YoutubeMixPlaylistExtractor.MixPage mixPage =
+                (YoutubeMixPlaylistExtractor.MixPage) page.getNextPage();
+        assertArrayEquals(IntStream.of(0, 5, 6, 7, 8, 9)
+                        .mapToLong(video -> hashVideoId(videoId(video))).toArray(),
+                mixPage.getSeenVideoIdHashes());
+        assertEquals(0, mixPage.getPagesWithoutNewStreams());
+    }
+
+    @Test
+    void testDeserializedPagesKeepTheirState() throws Exception {
+        final PlaylistExtractor extractor = YouTube.getPlaylistExtractor(MIX_URL);
+        extractor.fetchPage();
+        final Page nextPage = extractor.getInitialPage().getNextPage();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(nextPage);
+        }
+        final Page deserializedPage;
+        try (ObjectInputStream input =
+                     new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserializedPage = (Page) input.readObject();
+        }
+
+        // The first video, returned by the initial page, is not returned again
+        assertEquals(List.of("Video 5", "Video 6", "Video 7", "Video 8", "Video 9"),
+                names(PlaylistInfo.getMoreItems(YouTube, MIX_URL, deserializedPage)));
+    }
+}
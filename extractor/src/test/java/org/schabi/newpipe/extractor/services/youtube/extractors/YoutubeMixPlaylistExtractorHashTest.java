@@ -0,0 +1,45 @@
+package org.schabi.newpipe.extractor.services.youtube.extractors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.schabi.newpipe.extractor.services.youtube.extractors.YoutubeMixPlaylistExtractor.appendVideoIdHashes;
+import static org.schabi.newpipe.extractor.services.youtube.extractors.YoutubeMixPlaylistExtractor.hashVideoId;
+
+class YoutubeMixPlaylistExtractorHashTest {
+
+    @Test
+    void testVideoIdsAreDecoded() {
+        assertEquals(0L, hashVideoId("AAAAAAAAAAA"));
+        assertEquals(1L, hashVideoId("AAAAAAAAAAE"));
+        assertEquals(16L, hashVideoId("AAAAAAAAABA"));
+        assertEquals(-1L, hashVideoId("__________8"));
+        assertNotEquals(hashVideoId("FAqYW76GLPA"), hashVideoId("F90Cw4l-8NY"));
+    }
+
+    @Test
+    void testOtherIdsAreHashedWithFnv1a() {
+        assertEquals(0xe71fa2190541574bL, hashVideoId("abc"));
+        assertEquals(0xcbf29ce484222325L, hashVideoId(""));
+        // Not base64, or with a last character which does not encode 64 bits
+        assertNotEquals(hashVideoId("AAAAAAAAAAA"), hashVideoId("AAAAAAAAAAB"));
+        assertNotEquals(hashVideoId("AAAAAAAAAAA"), hashVideoId("AAAAAAAAAA="));
+    }
+
+    @Test
+    void testMostRecentHashesAreKept() {
+        final int max = YoutubeMixPlaylistExtractor.MAXIMUM_SEEN_VIDEO_IDS;
+        assertArrayEquals(new long[] {1, 2, 3}, appendVideoIdHashes(new long[] {1, 2},
+                new long[] {3}));
+
+        final long[] full = LongStream.range(0, max).toArray();
+        assertArrayEquals(LongStream.range(2, max + 2).toArray(),
+                appendVideoIdHashes(full, new long[] {max, max + 1}));
+        assertArrayEquals(LongStream.range(max, 2 * max).toArray(),
+                appendVideoIdHashes(new long[] {-1}, LongStream.range(0, 2 * max).toArray()));
+    }
+}
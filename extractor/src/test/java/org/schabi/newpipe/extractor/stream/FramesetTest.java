@@ -0,0 +1,59 @@
+package org.schabi.newpipe.extractor.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FramesetTest {
+    private static final String URL_TEMPLATE = "https://i.ytimg.com/sb/id/storyboard3_L1/M$M.jpg"
+            + "?sqp=abc&sigh=def";
+
+    @Test
+    void testUrlsFromTemplate() {
+        // 25 frames of 5x5 per page, 60 frames: 3 pages
+        final Frameset frameset = new Frameset(URL_TEMPLATE, 80, 45, 60, 2000, 5, 5);
+
+        assertEquals(3, frameset.getPageCount());
+        assertEquals("https://i.ytimg.com/sb/id/storyboard3_L1/M2.jpg?sqp=abc&sigh=def",
+                frameset.getUrlForPage(2));
+        assertEquals(Arrays.asList(
+                "https://i.ytimg.com/sb/id/storyboard3_L1/M0.jpg?sqp=abc&sigh=def",
+                "https://i.ytimg.com/sb/id/storyboard3_L1/M1.jpg?sqp=abc&sigh=def",
+                "https://i.ytimg.com/sb/id/storyboard3_L1/M2.jpg?sqp=abc&sigh=def"),
+                frameset.getUrls());
+        assertThrows(IndexOutOfBoundsException.class, () -> frameset.getUrlForPage(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> frameset.getUrlForPage(-1));
+    }
+
+    @Test
+    void testTemplateWithoutPageNumber() {
+        final Frameset frameset = new Frameset("https://i.ytimg.com/sb/id/default.jpg", 48, 27,
+                100, 1000, 10, 10);
+
+        assertEquals(1, frameset.getPageCount());
+        assertEquals("https://i.ytimg.com/sb/id/default.jpg", frameset.getUrlForPage(0));
+    }
+
+    @Test
+    void testFrameBoundsPageIsUsableWithUrlForPage() {
+        final Frameset frameset = new Frameset(URL_TEMPLATE, 80, 45, 60, 2000, 5, 5);
+
+        final int[] bounds = frameset.getFrameBoundsAt(26 * 2000);
+        assertArrayEquals(new int[] {1, 80, 0, 160, 45}, bounds);
+        assertEquals("https://i.ytimg.com/sb/id/storyboard3_L1/M1.jpg?sqp=abc&sigh=def",
+                frameset.getUrlForPage(bounds[0]));
+    }
+
+    @Test
+    void testUrlsFromList() {
+        final Frameset frameset = new Frameset(Arrays.asList("https://a", "https://b"),
+                80, 45, 50, 2000, 5, 5);
+
+        assertEquals(2, frameset.getPageCount());
+        assertEquals("https://b", frameset.getUrlForPage(1));
+    }
+}
@@ -0,0 +1,81 @@
+package org.schabi.newpipe.extractor.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void testAddAndContains() {
+        final LongHashSet set = new LongHashSet();
+        assertTrue(set.isEmpty());
+
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertTrue(set.add(-1));
+
+        assertEquals(4, set.size());
+        assertTrue(set.contains(42));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(-1));
+        assertFalse(set.contains(43));
+    }
+
+    @Test
+    void testGrowsLikeHashSet() {
+        final LongHashSet set = new LongHashSet(0);
+        final Set<Long> expected = new HashSet<>();
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            // Small values to have duplicates, shifted to have values differing in high bits
+            final long value = ((long) random.nextInt(5_000)) << 40;
+            assertEquals(expected.add(value), set.add(value));
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (final long value : expected) {
+            assertTrue(set.contains(value));
+        }
+    }
+
+    @Test
+    void testClear() {
+        final LongHashSet set = new LongHashSet(4);
+        for (long i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        set.clear();
+
+        assertEquals(0, set.size());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(50));
+        assertTrue(set.add(50));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        final LongHashSet set = new LongHashSet();
+        set.add(0);
+        set.add(1);
+
+        final LongHashSet copy = new LongHashSet(set);
+        assertTrue(copy.add(2));
+        assertFalse(copy.add(0));
+
+        assertEquals(3, copy.size());
+        assertEquals(2, set.size());
+        assertFalse(set.contains(2));
+    }
+}
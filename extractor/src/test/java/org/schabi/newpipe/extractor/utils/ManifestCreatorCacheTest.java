@@ -3,6 +3,10 @@ package org.schabi.newpipe.extractor.utils;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ManifestCreatorCacheTest {
     @Test
@@ -53,6 +57,83 @@ class ManifestCreatorCacheTest {
                         + "call");
     }
 
+    @Test
+    void leastRecentlyUsedEntriesEvictedFirstTest() {
+        final ManifestCreatorCache<String, String> cache = new ManifestCreatorCache<>();
+        cache.setMaximumSize(4);
+        cache.setClearFactor(0.5);
+        cache.put("a", "V");
+        cache.put("b", "V");
+        cache.put("c", "V");
+        cache.put("d", "V");
+
+        // "a" and "c" become the most recently used entries, so "b" and "d" are evicted
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        cache.put("e", "V");
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c"));
+        assertTrue(cache.containsKey("e"));
+        assertFalse(cache.containsKey("b"));
+        assertFalse(cache.containsKey("d"));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void statisticsTest() {
+        final ManifestCreatorCache<String, String> cache = new ManifestCreatorCache<>();
+        cache.put("a", "V");
+
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void expireParameterTest() {
+        final ManifestCreatorCache<String, String> cache = new ManifestCreatorCache<>();
+        final long now = System.currentTimeMillis() / 1000;
+        final String expiredUrl = "https://example.com/videoplayback?expire=" + (now - 60)
+                + "&itag=18";
+        final String validUrl = "https://example.com/videoplayback?itag=18&expire="
+                + (now + 3600);
+        cache.put(expiredUrl, "V");
+        cache.put(validUrl, "V");
+
+        assertNull(cache.get(expiredUrl));
+        assertNotNull(cache.get(validUrl));
+        assertEquals(1, cache.size());
+
+        cache.setExpireParameterUsed(false);
+        cache.put(expiredUrl, "V");
+        assertNotNull(cache.get(expiredUrl));
+    }
+
+    @Test
+    void parseExpireParameterTest() {
+        assertEquals(1700000000, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?expire=1700000000&ei=abc"));
+        assertEquals(1700000000, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?noexpire=1&expire=1700000000"));
+        assertEquals(-1, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?noexpire=1"));
+        assertEquals(-1, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?expire=&itag=18"));
+        // Only ASCII digits are part of the value, not Arabic-Indic ones for instance
+        assertEquals(-1, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?expire=\u0661\u0662"));
+        assertEquals(12, ManifestCreatorCache.parseExpireParameter(
+                "https://example.com/videoplayback?expire=12\u0663"));
+    }
+
     /**
      * Adds sample strings to the provided manifest creator cache, in order to test clear factor and
      * maximum size.
@@ -2,16 +2,21 @@ package org.schabi.newpipe.extractor.utils;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.schabi.newpipe.extractor.ServiceList;
 import org.schabi.newpipe.extractor.exceptions.ParsingException;
+import org.schabi.newpipe.extractor.localization.DateWrapper;
 import org.schabi.newpipe.extractor.localization.Localization;
 import org.schabi.newpipe.extractor.localization.TimeAgoParser;
 import org.schabi.newpipe.extractor.localization.TimeAgoPatternsManager;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TimeagoTest {
@@ -147,6 +152,37 @@ public class TimeagoTest {
         );
     }
 
+    @Test
+    void parseTimeagoWithClock() throws ParsingException {
+        final OffsetDateTime reference = OffsetDateTime.of(2020, 2, 29, 12, 30, 15, 0,
+                ZoneOffset.ofHours(2));
+        final Clock clock = Clock.fixed(reference.toInstant(), ZoneOffset.ofHours(2));
+        final TimeAgoParser parser =
+                TimeAgoPatternsManager.getTimeAgoParserFor(Localization.DEFAULT, clock);
+
+        assertEquals(reference.withOffsetSameInstant(ZoneOffset.UTC),
+                parser.getReferenceTime());
+        assertEquals(OffsetDateTime.of(2020, 2, 29, 10, 25, 15, 0, ZoneOffset.UTC),
+                parser.parse("5 minutes ago").offsetDateTime());
+        assertEquals(OffsetDateTime.of(2019, 2, 27, 10, 0, 0, 0, ZoneOffset.UTC),
+                parser.parse("1 year ago").offsetDateTime());
+        assertEquals(OffsetDateTime.of(2020, 2, 29, 10, 25, 15, 0, ZoneOffset.UTC),
+                ServiceList.YouTube.getTimeAgoParser(new Localization("en", "XX"), clock)
+                        .parse("5 minutes ago").offsetDateTime());
+    }
+
+    @Test
+    void parseTimeagoSharesIdenticalDates() throws ParsingException {
+        final TimeAgoParser parser = TimeAgoPatternsManager.getTimeAgoParserFor(Localization.DEFAULT);
+
+        final DateWrapper date = parser.parse("2 weeks ago");
+        assertSame(date, parser.parse("2 weeks ago"));
+        assertNotSame(date, parser.parse("3 weeks ago"));
+        assertEquals(date.offsetDateTime(), TimeAgoPatternsManager.getTimeAgoParserFor(
+                Localization.DEFAULT, Clock.fixed(parser.getReferenceTime().toInstant(),
+                        ZoneOffset.UTC)).parse("2 weeks ago").offsetDateTime());
+    }
+
     void assertTimeWithin1s(final OffsetDateTime expected, final OffsetDateTime actual) {
         final long delta = Math.abs(expected.toEpochSecond() - actual.toEpochSecond());
         assertTrue(delta <= 1, String.format("Expected: %s\nActual:   %s", expected, actual));
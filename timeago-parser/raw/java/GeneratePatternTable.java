@@ -0,0 +1,135 @@
+import com.grack.nanojson.JsonArray;
+import com.grack.nanojson.JsonObject;
+import com.grack.nanojson.JsonParser;
+import com.grack.nanojson.JsonParserException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compiles "unique_patterns.json" into the binary table read by {@code PatternsTable}, see its
+ * documentation for the format. Run it from the root directory of the project.
+ */
+public class GeneratePatternTable {
+    private static final String OUTPUT_FILE =
+            "timeago-parser/src/main/resources/org/schabi/newpipe/extractor/timeago/patterns.bin";
+    private static final int MAGIC = 0x4E505054; // "NPPT"
+    private static final int VERSION = 1;
+    private static final List<String> UNITS =
+            Arrays.asList("seconds", "minutes", "hours", "days", "weeks", "months", "years");
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+    public static void main(String[] args) throws IOException, JsonParserException {
+        final JsonObject from;
+        try (InputStream inputStream = new FileInputStream("timeago-parser/raw/unique_patterns.json")) {
+            from = JsonParser.object().from(inputStream);
+        }
+
+        // Sort by the names used by PatternsManager, e.g. "es_419" for "es-419"
+        final TreeMap<String, Object> localizations = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : from.entrySet()) {
+            localizations.put(entry.getKey().replace('-', '_'), entry.getValue());
+        }
+
+        final byte[] table = new GeneratePatternTable().generate(localizations);
+        new File(OUTPUT_FILE).getParentFile().mkdirs();
+        try (OutputStream outputStream = new FileOutputStream(OUTPUT_FILE)) {
+            outputStream.write(table);
+        }
+        System.out.println("Generated \"" + OUTPUT_FILE + "\" (" + table.length + " bytes)");
+    }
+
+    private byte[] generate(TreeMap<String, Object> localizations) throws IOException {
+        // Records are written first to know their size, with the strings they reference
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        final DataOutputStream recordsOut = new DataOutputStream(records);
+        final Map<String, Integer> recordOffsets = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : localizations.entrySet()) {
+            final String localizationName = entry.getKey();
+            final JsonObject units = (JsonObject) entry.getValue();
+            System.out.println("Compiling \"" + localizationName + "\" patterns...");
+
+            indexOf(localizationName);
+            recordOffsets.put(localizationName, records.size());
+            recordsOut.writeInt(indexOf(units.getString("word_separator")));
+
+            final List<int[]> specialCases = new ArrayList<>();
+            for (int unit = 0; unit < UNITS.size(); unit++) {
+                final List<String> phrases = new ArrayList<>();
+                for (Object phrase : (JsonArray) units.get(UNITS.get(unit))) {
+                    if (phrase instanceof JsonObject) {
+                        for (Map.Entry<String, Object> caseEntry : ((JsonObject) phrase).entrySet()) {
+                            specialCases.add(new int[]{unit, indexOf((String) caseEntry.getValue()),
+                                    Integer.parseInt(caseEntry.getKey())});
+                        }
+                    } else {
+                        phrases.add((String) phrase);
+                    }
+                }
+
+                recordsOut.writeShort(phrases.size());
+                for (String phrase : phrases) {
+                    recordsOut.writeInt(indexOf(phrase));
+                }
+            }
+
+            recordsOut.writeShort(specialCases.size());
+            for (int[] specialCase : specialCases) {
+                recordsOut.writeByte(specialCase[0]);
+                recordsOut.writeInt(specialCase[1]);
+                recordsOut.writeInt(specialCase[2]);
+            }
+        }
+        recordsOut.flush();
+
+        final List<byte[]> encodedStrings = new ArrayList<>();
+        for (String string : strings) {
+            encodedStrings.add(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        final int stringsOffset = 4 + 1 + 4 + 4 * (strings.size() + 1);
+        int stringsEnd = stringsOffset;
+        for (byte[] encodedString : encodedStrings) {
+            stringsEnd += encodedString.length;
+        }
+        final int recordsOffset = stringsEnd + 4 + 8 * recordOffsets.size();
+
+        final ByteArrayOutputStream table = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(table);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+
+        out.writeInt(strings.size());
+        int stringOffset = stringsOffset;
+        for (byte[] encodedString : encodedStrings) {
+            out.writeInt(stringOffset);
+            stringOffset += encodedString.length;
+        }
+        out.writeInt(stringOffset);
+        for (byte[] encodedString : encodedStrings) {
+            out.write(encodedString);
+        }
+
+        // The keys of the TreeMap are already sorted, as PatternsTable expects
+        out.writeInt(recordOffsets.size());
+        for (Map.Entry<String, Integer> recordOffset : recordOffsets.entrySet()) {
+            out.writeInt(indexOf(recordOffset.getKey()));
+            out.writeInt(recordsOffset + recordOffset.getValue());
+        }
+
+        records.writeTo(out);
+        out.flush();
+        return table.toByteArray();
+    }
+
+    private int indexOf(String string) {
+        return stringIndexes.computeIfAbsent(string, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+}
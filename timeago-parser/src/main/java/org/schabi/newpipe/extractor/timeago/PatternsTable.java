@@ -0,0 +1,195 @@
+package org.schabi.newpipe.extractor.timeago;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The patterns of all the supported localizations, read from the prebuilt binary table
+ * {@value #RESOURCE_NAME}, which is generated from {@code raw/unique_patterns.json} by
+ * {@code raw/java/GeneratePatternTable.java}.
+ *
+ * <p>
+ * The table is only read when patterns are requested for the first time, and the patterns of a
+ * localization are only decoded when they are requested. All the values of the table are
+ * big-endian and all the offsets are relative to the start of the table, so it can be read from
+ * any {@link ByteBuffer}, including a memory-mapped file:
+ * </p>
+ *
+ * <pre>
+ * int   magic ({@value #MAGIC}), byte version ({@value #VERSION})
+ * int   string count (n), int[n + 1] string offsets, bytes of the UTF-8 strings
+ * int   localization count (m), m * (int name string, int record offset), sorted by name
+ * records, each one being:
+ *     int   word separator string
+ *     7 * (short phrase count (p), int[p] phrase strings), from seconds to years
+ *     short special case count (s), s * (byte unit, int text string, int amount)
+ * </pre>
+ */
+final class PatternsTable {
+    static final String RESOURCE_NAME = "/org/schabi/newpipe/extractor/timeago/patterns.bin";
+    static final int MAGIC = 0x4E505054; // "NPPT"
+    static final int VERSION = 1;
+
+    /**
+     * The units of the table, in the order of the phrase lists of each record.
+     */
+    static final ChronoUnit[] UNITS = {ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS,
+            ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS, ChronoUnit.YEARS};
+
+    private final ByteBuffer buffer;
+    /**
+     * The offset of each string in the buffer, with the end of the strings as last value.
+     */
+    private final int[] stringOffsets;
+    private final String[] localizationNames;
+    private final int[] recordOffsets;
+    private final AtomicReferenceArray<PatternsHolder> holders;
+
+    PatternsTable(@Nonnull ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+
+        if (this.buffer.getInt(0) != MAGIC || this.buffer.get(4) != VERSION) {
+            throw new IllegalArgumentException("Not a patterns table of version " + VERSION);
+        }
+
+        int position = 5;
+        final int stringCount = this.buffer.getInt(position);
+        position += Integer.BYTES;
+        stringOffsets = new int[stringCount + 1];
+        for (int i = 0; i <= stringCount; i++) {
+            stringOffsets[i] = this.buffer.getInt(position);
+            position += Integer.BYTES;
+        }
+
+        position = stringOffsets[stringCount];
+        final int localizationCount = this.buffer.getInt(position);
+        position += Integer.BYTES;
+        localizationNames = new String[localizationCount];
+        recordOffsets = new int[localizationCount];
+        for (int i = 0; i < localizationCount; i++) {
+            localizationNames[i] = getString(this.buffer.getInt(position));
+            recordOffsets[i] = this.buffer.getInt(position + Integer.BYTES);
+            position += 2 * Integer.BYTES;
+        }
+
+        holders = new AtomicReferenceArray<>(localizationCount);
+    }
+
+    /**
+     * @return the table bundled with this library, read the first time this method is called
+     */
+    @Nonnull
+    static PatternsTable getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * @param localizationName the name of a localization, i.e. {@code language[_country]}
+     * @return the patterns of the localization, or {@code null} if it is not in the table
+     */
+    @Nullable
+    PatternsHolder getPatterns(@Nonnull String localizationName) {
+        final int index = Arrays.binarySearch(localizationNames, localizationName);
+        if (index < 0) {
+            return null;
+        }
+
+        final PatternsHolder holder = holders.get(index);
+        if (holder != null) {
+            return holder;
+        }
+        // Concurrent callers may decode the record twice, but only one holder is kept
+        holders.compareAndSet(index, null, readRecord(recordOffsets[index]));
+        return holders.get(index);
+    }
+
+    /**
+     * @return the names of the localizations of the table, sorted
+     */
+    @Nonnull
+    String[] getLocalizationNames() {
+        return localizationNames.clone();
+    }
+
+    @Nonnull
+    private PatternsHolder readRecord(int offset) {
+        int position = offset;
+        final String wordSeparator = getString(buffer.getInt(position));
+        position += Integer.BYTES;
+
+        final String[][] phrases = new String[UNITS.length][];
+        for (int unit = 0; unit < UNITS.length; unit++) {
+            final int phraseCount = buffer.getShort(position);
+            position += Short.BYTES;
+            phrases[unit] = new String[phraseCount];
+            for (int i = 0; i < phraseCount; i++) {
+                phrases[unit][i] = getString(buffer.getInt(position));
+                position += Integer.BYTES;
+            }
+        }
+
+        final TablePatternsHolder holder = new TablePatternsHolder(wordSeparator, phrases);
+
+        final int specialCaseCount = buffer.getShort(position);
+        position += Short.BYTES;
+        for (int i = 0; i < specialCaseCount; i++) {
+            final ChronoUnit unit = UNITS[buffer.get(position)];
+            final String caseText = getString(buffer.getInt(position + 1));
+            final int caseAmount = buffer.getInt(position + 1 + Integer.BYTES);
+            holder.putSpecialCase(unit, caseText, caseAmount);
+            position += 1 + 2 * Integer.BYTES;
+        }
+        return holder;
+    }
+
+    @Nonnull
+    private String getString(int index) {
+        final int start = stringOffsets[index];
+        final byte[] bytes = new byte[stringOffsets[index + 1] - start];
+        // Absolute reads, as ByteBuffer.position(int) only returns a ByteBuffer since Java 9
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Nonnull
+    private static PatternsTable load() {
+        try (InputStream inputStream = PatternsTable.class.getResourceAsStream(RESOURCE_NAME)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing resource " + RESOURCE_NAME);
+            }
+
+            // InputStream.readAllBytes() is only available since Java 9
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] readBuffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(readBuffer)) != -1) {
+                outputStream.write(readBuffer, 0, read);
+            }
+            return new PatternsTable(ByteBuffer.wrap(outputStream.toByteArray()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE_NAME, e);
+        }
+    }
+
+    private static final class InstanceHolder {
+        private static final PatternsTable INSTANCE = load();
+    }
+
+    private static final class TablePatternsHolder extends PatternsHolder {
+        TablePatternsHolder(String wordSeparator, String[][] phrases) {
+            super(wordSeparator, phrases[0], phrases[1], phrases[2], phrases[3], phrases[4],
+                    phrases[5], phrases[6]);
+        }
+    }
+}
@@ -1,29 +0,0 @@
-/**/// DO NOT MODIFY THIS FILE MANUALLY
-/**/// This class was automatically generated by "GeneratePatternClasses.java",
-/**/// modify the "unique_patterns.json" and re-generate instead.
-
-package org.schabi.newpipe.extractor.timeago.patterns;
-
-import org.schabi.newpipe.extractor.timeago.PatternsHolder;
-
-public class en_GB extends PatternsHolder {
-    private static final String WORD_SEPARATOR = " ";
-    private static final String[]
-            SECONDS  /**/ = {"second", "seconds", "sec"},
-            MINUTES  /**/ = {"minute", "minutes", "min"},
-            HOURS    /**/ = {"hour", "hours", "hr"},
-            DAYS     /**/ = {"day", "days"},
-            WEEKS    /**/ = {"week", "weeks", "wk"},
-            MONTHS   /**/ = {"month", "months", "mo"},
-            YEARS    /**/ = {"year", "years", "yr"};
-
-    private static final en_GB INSTANCE = new en_GB();
-
-    public static en_GB getInstance() {
-        return INSTANCE;
-    }
-
-    private en_GB() {
-        super(WORD_SEPARATOR, SECONDS, MINUTES, HOURS, DAYS, WEEKS, MONTHS, YEARS);
-    }
-}
\ No newline at end of file
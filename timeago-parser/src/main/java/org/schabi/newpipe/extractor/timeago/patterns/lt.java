@@ -1,29 +0,0 @@
-/**/// DO NOT MODIFY THIS FILE MANUALLY
-/**/// This class was automatically generated by "GeneratePatternClasses.java",
-/**/// modify the "unique_patterns.json" and re-generate instead.
-
-package org.schabi.newpipe.extractor.timeago.patterns;
-
-import org.schabi.newpipe.extractor.timeago.PatternsHolder;
-
-public class lt extends PatternsHolder {
-    private static final String WORD_SEPARATOR = " ";
-    private static final String[]
-            SECONDS  /**/ = {"sekundes", "sekundę", "sekundžių"},
-            MINUTES  /**/ = {"minutes", "minutę", "minučių"},
-            HOURS    /**/ = {"valandas", "valandą", "valandų"},
-            DAYS     /**/ = {"dienas", "dieną"},
-            WEEKS    /**/ = {"savaites", "savaitę"},
-            MONTHS   /**/ = {"mėnesius", "mėnesių", "mėnesį"},
-            YEARS    /**/ = {"metus", "metų"};
-
-    private static final lt INSTANCE = new lt();
-
-    public static lt getInstance() {
-        return INSTANCE;
-    }
-
-    private lt() {
-        super(WORD_SEPARATOR, SECONDS, MINUTES, HOURS, DAYS, WEEKS, MONTHS, YEARS);
-    }
-}
\ No newline at end of file
@@ -1,29 +0,0 @@
-/**/// DO NOT MODIFY THIS FILE MANUALLY
-/**/// This class was automatically generated by "GeneratePatternClasses.java",
-/**/// modify the "unique_patterns.json" and re-generate instead.
-
-package org.schabi.newpipe.extractor.timeago.patterns;
-
-import org.schabi.newpipe.extractor.timeago.PatternsHolder;
-
-public class ml extends PatternsHolder {
-    private static final String WORD_SEPARATOR = "";
-    private static final String[]
-            SECONDS  /**/ = {"സെക്കന്റ്", "സെക്കൻഡ്"},
-            MINUTES  /**/ = {"മിനിറ്റ്"},
-            HOURS    /**/ = {"മണിക്കൂർ"},
-            DAYS     /**/ = {"ദിവസം"},
-            WEEKS    /**/ = {"ആഴ്ച", "ആഴ്‌ച"},
-            MONTHS   /**/ = {"മാസം"},
-            YEARS    /**/ = {"വർഷം"};
-
-    private static final ml INSTANCE = new ml();
-
-    public static ml getInstance() {
-        return INSTANCE;
-    }
-
-    private ml() {
-        super(WORD_SEPARATOR, SECONDS, MINUTES, HOURS, DAYS, WEEKS, MONTHS, YEARS);
-    }
-}
\ No newline at end of file
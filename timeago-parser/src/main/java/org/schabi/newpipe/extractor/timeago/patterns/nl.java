@@ -1,29 +0,0 @@
-/**/// DO NOT MODIFY THIS FILE MANUALLY
-/**/// This class was automatically generated by "GeneratePatternClasses.java",
-/**/// modify the "unique_patterns.json" and re-generate instead.
-
-package org.schabi.newpipe.extractor.timeago.patterns;
-
-import org.schabi.newpipe.extractor.timeago.PatternsHolder;
-
-public class nl extends PatternsHolder {
-    private static final String WORD_SEPARATOR = " ";
-    private static final String[]
-            SECONDS  /**/ = {"seconde", "seconden"},
-            MINUTES  /**/ = {"minuten", "minuut"},
-            HOURS    /**/ = {"uur"},
-            DAYS     /**/ = {"dag", "dagen"},
-            WEEKS    /**/ = {"week", "weken"},
-            MONTHS   /**/ = {"maand", "maanden"},
-            YEARS    /**/ = {"jaar"};
-
-    private static final nl INSTANCE = new nl();
-
-    public static nl getInstance() {
-        return INSTANCE;
-    }
-
-    private nl() {
-        super(WORD_SEPARATOR, SECONDS, MINUTES, HOURS, DAYS, WEEKS, MONTHS, YEARS);
-    }
-}
\ No newline at end of file